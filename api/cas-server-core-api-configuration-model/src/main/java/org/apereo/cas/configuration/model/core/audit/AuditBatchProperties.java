@@ -0,0 +1,88 @@
+package org.apereo.cas.configuration.model.core.audit;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link AuditBatchProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@RequiresModule(name = "cas-server-core-audit", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class AuditBatchProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -4716295087152948822L;
+
+    /**
+     * Whether audit records that are recorded asynchronously should be
+     * queued and written to the audit store in batches. Batches are only
+     * supported by audit stores that can write multiple records at once,
+     * such as JDBC, MongoDb and DynamoDb.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of audit records that can be waiting in the queue
+     * to be written to the audit store. Once the queue is full,
+     * new audit records are handled according to the overflow policy.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Maximum number of audit records written to the audit store in a single batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum amount of time to wait for a batch to fill up
+     * before audit records that are queued are written to the audit store.
+     */
+    @DurationCapable
+    private String flushInterval = "PT0.05S";
+
+    /**
+     * Number of threads that drain the queue and write batches to the audit store.
+     */
+    private int drainers = 1;
+
+    /**
+     * Determine how audit records are handled when the queue is full.
+     */
+    private AuditBatchOverflowPolicies overflowPolicy = AuditBatchOverflowPolicies.BLOCK;
+
+    /**
+     * Directory where audit records are written when the queue is full and the overflow
+     * policy is set to spill records to disk. If left undefined, the temporary directory is used.
+     */
+    private String spillDirectory;
+
+    /**
+     * Policies that handle audit records when the queue is full.
+     */
+    public enum AuditBatchOverflowPolicies {
+        /**
+         * Block the caller until there is room in the queue.
+         */
+        BLOCK,
+        /**
+         * Discard the audit record and count it as dropped.
+         */
+        DROP,
+        /**
+         * Write the audit record to a local file as JSON.
+         */
+        SPILL
+    }
+}
@@ -6,6 +6,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -115,6 +116,13 @@ public class AuditEngineProperties implements Serializable {
      */
     private int abbreviationLength = 100;
 
+    /**
+     * Control how audit records that are recorded asynchronously
+     * are queued and written to the audit store in batches.
+     */
+    @NestedConfigurationProperty
+    private AuditBatchProperties batch = new AuditBatchProperties();
+
     /**
      * The audit format types.
      */
@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.core.authentication;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -36,4 +37,35 @@ public class AuthenticationEngineProperties implements Serializable {
     @NestedConfigurationProperty
     private GroovyAuthenticationEngineProcessorProperties groovyPostProcessor = new GroovyAuthenticationEngineProcessorProperties();
 
+    /**
+     * Control how authentication handlers that support the same credential are invoked.
+     * When handlers are invoked concurrently, all of them are started at once and their results
+     * are still examined in the order of their priority; the first successful result that satisfies
+     * the authentication policy ends the transaction, and handlers that are still running are cancelled.
+     * This should only be used if authentication handlers are independent of one another, since
+     * handlers may be invoked even if an earlier handler would have already concluded the transaction.
+     */
+    private AuthenticationHandlerExecutionModes handlerExecutionMode = AuthenticationHandlerExecutionModes.SEQUENTIAL;
+
+    /**
+     * When authentication handlers are invoked concurrently, the maximum amount of time
+     * the authentication transaction would wait for authentication handlers to produce a result.
+     * Handlers that do not complete in time are recorded as failures.
+     */
+    @DurationCapable
+    private String handlerExecutionTimeout = "PT10S";
+
+    /**
+     * Authentication handler execution modes.
+     */
+    public enum AuthenticationHandlerExecutionModes {
+        /**
+         * Invoke authentication handlers one after another.
+         */
+        SEQUENTIAL,
+        /**
+         * Invoke authentication handlers concurrently.
+         */
+        CONCURRENT
+    }
 }
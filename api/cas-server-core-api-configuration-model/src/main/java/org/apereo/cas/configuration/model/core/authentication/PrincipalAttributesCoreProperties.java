@@ -46,6 +46,15 @@ public class PrincipalAttributesCoreProperties implements Serializable {
      */
     private int maximumCacheSize = 10000;
 
+    /**
+     * Indicates the approximate amount of memory, in bytes, that may be used
+     * to cache attributes for registered services whose attribute release policies
+     * are configured with a caching principal attribute repository.
+     * The budget is shared by all services, and entries are evicted
+     * once their estimated size exceeds this threshold.
+     */
+    private long maximumCacheMemory = 64L * 1024 * 1024;
+
     /**
      * Recover from LDAP exceptions and continue with partial results. Otherwise,
      * die and do not allow to log in.
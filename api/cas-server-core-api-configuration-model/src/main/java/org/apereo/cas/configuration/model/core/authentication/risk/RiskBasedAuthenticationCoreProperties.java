@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.core.authentication.risk;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiredProperty;
 import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
@@ -34,4 +35,21 @@ public class RiskBasedAuthenticationCoreProperties implements Serializable {
      * in order to locate authentication events.
      */
     private long daysInRecentHistory = 30;
+
+    /**
+     * Maximum number of principal risk profiles to keep in memory.
+     * A risk profile summarizes the authentication history of a principal
+     * and is updated as new authentication events are recorded. Profiles evicted
+     * from memory are rebuilt from the authentication history when needed.
+     */
+    private long maximumProfiles = 10_000;
+
+    /**
+     * Amount of time a principal risk profile is kept in memory once it is built
+     * from the authentication history. Recording new authentication events does not extend it.
+     * Once expired, the profile is rebuilt from the authentication history when needed,
+     * which picks up authentication events recorded by other CAS nodes.
+     */
+    @DurationCapable
+    private String profileExpiration = "PT1H";
 }
@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.core.services;
 
 import org.apereo.cas.configuration.model.support.services.json.JsonServiceRegistryProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -63,4 +64,32 @@ public class ServiceRegistryCoreProperties implements Serializable {
      * The indexes allow CAS to execute a direct query on loaded service objects to find the relevant definition.
      */
     private boolean indexServices = true;
+
+    /**
+     * When set to true, CAS builds a matching engine from the cached service definitions
+     * whenever the cache changes. Service definitions that use the default full regex matching
+     * strategy are precompiled and indexed by the literal prefix (i.e. scheme, host and path) of
+     * their service id pattern, so that looking up a service definition for an incoming request
+     * only evaluates candidates whose prefix fits the requested service, instead of scanning and
+     * sorting every cached service definition on each request.
+     */
+    private boolean indexServiceMatching = true;
+
+    /**
+     * When set to true, the services manager asks the service registry for service definitions
+     * that are added, modified or removed since the previous load, and merges only those changes
+     * into its cache, instead of reading every service definition from the registry on each load.
+     * Service registries that are unable to track changes to service definitions
+     * always fall back to loading all service definitions. Since unchanged service definitions
+     * are not reloaded, cached service definitions do not expire while incremental loading is enabled.
+     */
+    private boolean incrementalLoad;
+
+    /**
+     * When incremental loading is enabled, controls how often the services manager
+     * should still load all service definitions from the service registry, so that the cache
+     * is periodically brought back in sync with the registry.
+     */
+    @DurationCapable
+    private String fullLoadInterval = "PT1H";
 }
@@ -0,0 +1,67 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link SingleLogoutDispatcherProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class SingleLogoutDispatcherProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -1786457183712853468L;
+
+    /**
+     * Whether single logout requests for all services linked to a ticket-granting ticket
+     * should be processed concurrently. When enabled, back-channel logout messages are
+     * sent and awaited on virtual threads, bounded by the overall {@link #timeout},
+     * instead of being handed over to the HTTP client in a fire-and-forget fashion.
+     */
+    private boolean enabled;
+
+    /**
+     * Overall deadline for processing single logout requests for all services.
+     * Requests that do not complete in time are cancelled and recorded as failures.
+     */
+    @DurationCapable
+    private String timeout = "PT10S";
+
+    /**
+     * Maximum number of back-channel logout messages that may be sent
+     * to the same host at the same time.
+     */
+    private int maxConcurrentRequestsPerHost = 10;
+
+    /**
+     * Directory used as a durable outbox for back-channel logout messages
+     * that could not be delivered. Messages kept in the outbox are retried
+     * periodically. Leaving this blank disables the outbox.
+     */
+    private String outboxDirectory;
+
+    /**
+     * How often messages kept in the outbox should be retried.
+     */
+    @DurationCapable
+    private String retryInterval = "PT1M";
+
+    /**
+     * Maximum number of times a message kept in the outbox is retried
+     * before it is discarded.
+     */
+    private int maxRetryAttempts = 5;
+}
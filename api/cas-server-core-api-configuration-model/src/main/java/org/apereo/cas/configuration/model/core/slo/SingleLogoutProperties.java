@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -41,6 +42,12 @@ public class SingleLogoutProperties implements Serializable {
      */
     private LogoutPropagationTypes logoutPropagationType = LogoutPropagationTypes.AJAX;
 
+    /**
+     * Control how back-channel logout messages are dispatched to applications.
+     */
+    @NestedConfigurationProperty
+    private SingleLogoutDispatcherProperties dispatcher = new SingleLogoutDispatcherProperties();
+
     /**
      * The Logout propagation types.
      */
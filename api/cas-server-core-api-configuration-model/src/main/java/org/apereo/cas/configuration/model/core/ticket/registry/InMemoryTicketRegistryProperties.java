@@ -43,6 +43,15 @@ public class InMemoryTicketRegistryProperties implements Serializable {
      */
     private int concurrency = 20;
 
+    /**
+     * Whether secondary indexes should be maintained for tickets in the registry.
+     * Indexes map principals, services, ticket prefixes and authentication attributes
+     * to matching tickets and are kept in step as tickets are added, updated and removed.
+     * This allows session queries and counts for a given principal, service or set of attributes
+     * to be answered without scanning the entire registry, at the cost of additional memory.
+     */
+    private boolean indexTickets;
+
     /**
      * Crypto settings for the registry.
      */
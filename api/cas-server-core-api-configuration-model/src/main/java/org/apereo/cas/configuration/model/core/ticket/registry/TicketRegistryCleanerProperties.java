@@ -0,0 +1,71 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+
+/**
+ * This is {@link TicketRegistryCleanerProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class TicketRegistryCleanerProperties extends ScheduledJobProperties {
+    @Serial
+    private static final long serialVersionUID = 2136414553258414290L;
+
+    /**
+     * Decide how the cleaner should find expired tickets.
+     */
+    private TicketRegistryCleanerModes mode = TicketRegistryCleanerModes.DEFAULT;
+
+    /**
+     * When the cleaner operates in {@link TicketRegistryCleanerModes#EXPIRATION_ORDERED} mode,
+     * expiration instants are grouped into buckets of this size. Larger buckets
+     * use less memory at the cost of tickets being cleaned up slightly later.
+     */
+    @DurationCapable
+    private String bucketSize = "PT5S";
+
+    /**
+     * When the cleaner operates in {@link TicketRegistryCleanerModes#EXPIRATION_ORDERED} mode,
+     * the maximum number of due tickets that are processed in a single batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * When the cleaner operates in {@link TicketRegistryCleanerModes#EXPIRATION_ORDERED} mode,
+     * the delay after which a ticket with no known maximum expiration time is checked again.
+     */
+    @DurationCapable
+    private String recheckInterval = "PT1M";
+
+    /**
+     * Cleaner modes.
+     */
+    public enum TicketRegistryCleanerModes {
+        /**
+         * Scan the entire ticket registry on every run and
+         * remove tickets that are found to be expired.
+         */
+        DEFAULT,
+        /**
+         * Keep track of ticket expiration instants as tickets are added and updated,
+         * and only visit tickets that are due for expiration on every run. Every node
+         * tracks and removes the tickets it adds or updates; tickets that are found in the
+         * registry when the cleaner runs for the first time are tracked by scanning the registry
+         * once on the node that runs the cleaner.
+         */
+        EXPIRATION_ORDERED
+    }
+}
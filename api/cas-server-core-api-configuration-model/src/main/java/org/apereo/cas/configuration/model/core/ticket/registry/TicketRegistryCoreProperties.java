@@ -42,4 +42,26 @@ public class TicketRegistryCoreProperties implements Serializable {
      * and kept in memory.
      */
     private String queueIdentifier;
+
+    /**
+     * Format used to serialize tickets when they are stored in the ticket registry.
+     * Regardless of this setting, tickets are always read in either format, which allows
+     * CAS server nodes to switch formats in a rolling upgrade without losing tickets.
+     */
+    private TicketSerializationFormats serializationFormat = TicketSerializationFormats.JSON;
+
+    /**
+     * Ticket serialization formats.
+     */
+    public enum TicketSerializationFormats {
+        /**
+         * Serialize tickets as JSON documents.
+         */
+        JSON,
+        /**
+         * Serialize tickets using a compact binary encoding
+         * of the same ticket structure.
+         */
+        BINARY
+    }
 }
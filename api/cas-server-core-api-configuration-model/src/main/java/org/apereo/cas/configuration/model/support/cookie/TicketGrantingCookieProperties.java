@@ -39,6 +39,20 @@ public class TicketGrantingCookieProperties extends PinnableCookieProperties {
      */
     private boolean autoConfigureCookiePath = true;
 
+    /**
+     * Duration for which decrypted and verified cookie values are remembered,
+     * so that requests carrying the same cookie within this window are not
+     * decrypted and verified again. Client information pinned to the cookie
+     * is still checked on every request. A zero duration disables this cache.
+     */
+    @DurationCapable
+    private String decodedValueCacheExpiration = "PT30S";
+
+    /**
+     * Maximum number of decrypted and verified cookie values to remember.
+     */
+    private long decodedValueCacheMaximumSize = 50_000;
+
     /**
      * Crypto settings that determine how the cookie should be signed and encrypted.
      */
@@ -0,0 +1,75 @@
+package org.apereo.cas.configuration.model.support.jpa.ticketregistry;
+
+import org.apereo.cas.configuration.model.core.cache.ExpiringSimpleCacheProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+
+/**
+ * This is {@link JpaTicketRegistryCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@RequiresModule(name = "cas-server-support-jpa-ticket-registry")
+@Getter
+@Setter
+@Accessors(chain = true)
+public class JpaTicketRegistryCacheProperties extends ExpiringSimpleCacheProperties {
+    @Serial
+    private static final long serialVersionUID = 3261563478136474862L;
+
+    /**
+     * Whether ticket-granting tickets should be kept in a local in-memory cache
+     * once they are read from the database. The cache is only used if the
+     * ticket lock type is set to {@code NONE}. The cache duration puts an upper bound
+     * on how long a cached ticket may be used before it is read again from the database,
+     * should an invalidation notice from other nodes be missed.
+     */
+    private boolean enabled;
+
+    /**
+     * Decide how other CAS nodes are told to drop cached tickets
+     * when a ticket is updated or removed.
+     */
+    private InvalidationTypes invalidation = InvalidationTypes.DATABASE;
+
+    /**
+     * When invalidation notices are recorded in the database, indicates
+     * how often each node should check for new invalidation notices.
+     */
+    @DurationCapable
+    private String invalidationInterval = "PT2S";
+
+    /**
+     * When invalidation notices are recorded in the database, indicates
+     * how long invalidation notices should be kept before they are removed.
+     */
+    @DurationCapable
+    private String invalidationRetention = "PT10M";
+
+    public JpaTicketRegistryCacheProperties() {
+        setDuration("PT30S");
+    }
+
+    /**
+     * Invalidation types.
+     */
+    public enum InvalidationTypes {
+        /**
+         * Record invalidation notices in a dedicated table
+         * that is periodically checked by all nodes.
+         */
+        DATABASE,
+        /**
+         * Publish invalidation notices using the ticket registry message queue
+         * publisher, i.e. AMQP, Kafka, etc.
+         */
+        MESSAGE_QUEUE
+    }
+}
@@ -55,6 +55,13 @@ public class JpaTicketRegistryProperties extends AbstractJpaProperties {
     private EncryptionRandomizedSigningJwtCryptographyProperties crypto =
         new EncryptionRandomizedSigningJwtCryptographyProperties();
 
+    /**
+     * Control the local cache that keeps tickets in memory
+     * once they are read from the database.
+     */
+    @NestedConfigurationProperty
+    private JpaTicketRegistryCacheProperties cache = new JpaTicketRegistryCacheProperties();
+
     /**
      * Whether managing tickets via JPA is enabled.
      */
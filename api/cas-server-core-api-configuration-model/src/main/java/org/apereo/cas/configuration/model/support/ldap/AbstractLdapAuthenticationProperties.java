@@ -78,6 +78,18 @@ public abstract class AbstractLdapAuthenticationProperties extends AbstractLdapS
      */
     private boolean enhanceWithEntryResolver = true;
 
+    /**
+     * Whether the user entry, along with all attributes requested for the authenticated principal,
+     * should be fetched as part of the initial search that resolves the user DN.
+     * The fetched entry is then used to build the principal without issuing additional searches, and
+     * is offered to LDAP attribute repositories that target the same directory, base DN and filter, and that bind
+     * with the same DN, for the remainder of the authentication transaction.
+     * Note that attributes are read using the credentials of the search connection and not those of the
+     * authenticated user. Only applicable to anonymous and authenticated search types.
+     * When enabled, the user DN is searched for on every authentication attempt, and resolved DNs are not cached.
+     */
+    private boolean resolveEntryWithDn;
+
     /**
      * Define how aliases are de-referenced.
      * Accepted values are:
@@ -179,6 +179,40 @@ public abstract class AbstractLdapProperties implements Serializable, CasFeature
     @DurationCapable
     private String blockWaitTime = "PT3S";
 
+    /**
+     * Define how the connection pool is sized.
+     * Accepted values are:
+     * <ul>
+     * <li>{@code FIXED}: The pool is initialized to {@link #minPoolSize}, may grow up to {@link #maxPoolSize}
+     * and is pruned back to {@link #minPoolSize} once connections are idle.</li>
+     * <li>{@code ADAPTIVE}: The pool adjusts its own minimum and maximum sizes periodically,
+     * between {@link #minPoolSize} and {@link #adaptiveMaxPoolSize}. Sizes are raised when callers
+     * wait on the pool for too long or time out, and lowered back when connections remain idle.</li>
+     * </ul>
+     */
+    private LdapConnectionPoolSizing poolSizing = LdapConnectionPoolSizing.FIXED;
+
+    /**
+     * Upper bound that the connection pool may grow to when sizing is {@code ADAPTIVE}.
+     * Must be equal to or larger than {@link #maxPoolSize}.
+     */
+    private int adaptiveMaxPoolSize = 50;
+
+    /**
+     * When sizing is {@code ADAPTIVE}, the average amount of time callers may wait
+     * to obtain a connection from the pool before the pool is allowed to grow.
+     */
+    @DurationCapable
+    private String adaptiveWaitTimeThreshold = "PT0.1S";
+
+    /**
+     * When sizing is {@code ADAPTIVE}, the interval at which pool usage is examined
+     * and the pool is resized. Idle connections are also pruned at this interval
+     * if it is shorter than the configured prune period.
+     */
+    @DurationCapable
+    private String adaptivePeriod = "PT1M";
+
     /**
      * If multiple URLs are provided as the ldapURL this describes how each URL will be processed.
      * <ul>
@@ -350,6 +384,20 @@ public abstract class AbstractLdapProperties implements Serializable, CasFeature
         BIND
     }
 
+    /**
+     * Describe ldap connection pool sizing strategies.
+     */
+    public enum LdapConnectionPoolSizing {
+        /**
+         * Pool sizes are fixed and taken from settings.
+         */
+        FIXED,
+        /**
+         * Pool sizes are adjusted based on usage.
+         */
+        ADAPTIVE
+    }
+
     /**
      * Describe ldap connection strategies.
      */
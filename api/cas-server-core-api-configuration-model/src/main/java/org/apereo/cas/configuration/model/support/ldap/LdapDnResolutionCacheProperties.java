@@ -0,0 +1,62 @@
+package org.apereo.cas.configuration.model.support.ldap;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link LdapDnResolutionCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Getter
+@Setter
+@RequiresModule(name = "cas-server-support-ldap")
+@Accessors(chain = true)
+public class LdapDnResolutionCacheProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 3310917206484357713L;
+
+    /**
+     * Whether usernames resolved to user DNs during authentication should be cached,
+     * so that subsequent authentication attempts for the same user skip the DN search
+     * and only issue a bind against the directory. Failed lookups for unknown users
+     * are cached as well, separately. Only applicable to anonymous and authenticated search types.
+     * The cache is not used when the user entry is resolved along with the DN, since a cached DN
+     * would skip fetching the entry.
+     */
+    private boolean enabled;
+
+    /**
+     * Duration for which a resolved user DN is kept in the cache.
+     */
+    @DurationCapable
+    private String expiration = "PT10M";
+
+    /**
+     * Duration for which a username that could not be resolved to a DN is kept in the cache.
+     * Typically much shorter than {@link #expiration} so that newly created accounts
+     * are able to authenticate quickly.
+     */
+    @DurationCapable
+    private String notFoundExpiration = "PT30S";
+
+    /**
+     * Maximum number of users whose resolved DNs are kept in the cache.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Maximum number of usernames that could not be resolved to a DN kept in the cache.
+     * Failed lookups are kept separately from resolved DNs, so that lookups for unknown
+     * users cannot evict resolved DNs from the cache.
+     */
+    private long notFoundMaximumSize = 1_000;
+}
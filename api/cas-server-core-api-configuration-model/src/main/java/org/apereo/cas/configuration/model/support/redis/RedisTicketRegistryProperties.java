@@ -56,6 +56,14 @@ public class RedisTicketRegistryProperties extends BaseRedisProperties {
      */
     private boolean enableRedisSearch = true;
 
+    /**
+     * Number of ticket documents that are fetched from Redis in a single pipelined
+     * round trip when tickets are loaded in bulk, i.e. when streaming all tickets,
+     * looking up sessions for a principal, or querying tickets by type.
+     * Keys are also scanned in pages of this size, unless a scan count is specified.
+     */
+    private int readBatchSize = 250;
+
     public RedisTicketRegistryProperties() {
         crypto.setEnabled(false);
     }
@@ -43,6 +43,15 @@ public class JsonServiceRegistryProperties extends SpringResourceProperties {
      */
     private boolean watcherEnabled = true;
 
+    /**
+     * Flag indicating whether reloading the service registry should only
+     * parse service definition files that have been added or changed since the last load.
+     * Files are tracked by their size, last-modified timestamp and content hash; definitions
+     * from files that remain unchanged are reused, and definitions whose files are removed
+     * are dropped from the registry. Changed files are parsed in parallel.
+     */
+    private boolean deltaReloadEnabled;
+
     public JsonServiceRegistryProperties() {
         setLocation(DEFAULT_LOCATION);
     }
@@ -42,4 +42,28 @@ public class ThrottleCoreProperties implements Serializable {
      * Application code used to identify this application in the audit logs.
      */
     private String appCode = DEFAULT_APPLICATION_CODE;
+
+    /**
+     * Type of store used to track failed submissions in memory.
+     * Distributed throttling modules that supply their own store ignore this setting.
+     */
+    private ThrottledSubmissionStoreTypes storeType = ThrottledSubmissionStoreTypes.MAP;
+
+    /**
+     * Types of in-memory throttled submission stores.
+     */
+    public enum ThrottledSubmissionStoreTypes {
+        /**
+         * Keep the most recent failed submission per key, and compare
+         * the instantaneous submission rate with the threshold rate.
+         */
+        MAP,
+        /**
+         * Keep a compact sliding window of failure timestamps per key,
+         * sized by the failure threshold and bounded by the range in seconds.
+         * Submissions are throttled once the threshold is reached within the range,
+         * and idle keys are expired when they are next accessed.
+         */
+        SLIDING_WINDOW
+    }
 }
@@ -4,8 +4,10 @@ import org.apereo.cas.util.NamedObject;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -85,6 +87,17 @@ public interface ServiceRegistry extends NamedObject {
      */
     Collection<RegisteredService> load();
 
+    /**
+     * Retrieve the services that are added or modified since the given point in time,
+     * if the data store is able to track changes to service definitions.
+     *
+     * @param since the point in time since which changes should be loaded
+     * @return the change set, or empty if changes cannot be tracked and a full load is required.
+     */
+    default Optional<ServiceRegistryChangeSet> loadChangedSince(final Instant since) {
+        return Optional.empty();
+    }
+
     /**
      * Gets services stream.
      * <p>
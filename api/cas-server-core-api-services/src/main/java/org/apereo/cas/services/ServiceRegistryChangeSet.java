@@ -0,0 +1,43 @@
+package org.apereo.cas.services;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * This is {@link ServiceRegistryChangeSet}. Describes the changes
+ * in a service registry since a given point in time, carrying the service definitions
+ * that were added or modified and the identifiers of all service definitions
+ * that remain in the registry, so that removed definitions can be detected.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Builder
+@Getter
+@ToString(of = {"timestamp", "changedServices"})
+public class ServiceRegistryChangeSet {
+    /**
+     * The point in time at which changes were examined,
+     * to be used as the starting point for the next incremental load.
+     */
+    private final Instant timestamp;
+
+    /**
+     * Service definitions that were added or modified.
+     */
+    @Builder.Default
+    private final Collection<RegisteredService> changedServices = new ArrayList<>();
+
+    /**
+     * Identifiers of all service definitions that exist in the registry.
+     */
+    @Builder.Default
+    private final Set<Long> registeredServiceIds = new HashSet<>();
+}
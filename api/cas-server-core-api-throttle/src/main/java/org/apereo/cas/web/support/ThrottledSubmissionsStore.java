@@ -1,5 +1,7 @@
 package org.apereo.cas.web.support;
 
+import lombok.val;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -36,6 +38,30 @@ public interface ThrottledSubmissionsStore<T extends ThrottledSubmission> {
      */
     void put(T submission);
 
+    /**
+     * Record a failed submission. By default, this
+     * simply puts the submission into the store.
+     *
+     * @param submission the submission
+     */
+    default void record(final T submission) {
+        put(submission);
+    }
+
+    /**
+     * Record a failed submission and find the submission for its key
+     * if the key is now throttled. By default, this records the submission
+     * and then looks up the key, as two separate operations.
+     *
+     * @param submission    the submission
+     * @param thresholdRate the threshold rate
+     * @return the throttled submission, if any
+     */
+    default Optional<T> recordAndCheck(final T submission, final double thresholdRate) {
+        record(submission);
+        return findThrottledSubmission(submission.getKey(), thresholdRate);
+    }
+
     /**
      * Contains this key?
      *
@@ -68,6 +94,23 @@ public interface ThrottledSubmissionsStore<T extends ThrottledSubmission> {
      */
     boolean exceedsThreshold(String key, double thresholdRate);
 
+    /**
+     * Find the submission for the given key if the key is throttled,
+     * either because it remains locked in its expiration window
+     * or because it exceeds the threshold rate.
+     *
+     * @param key           the key
+     * @param thresholdRate the threshold rate
+     * @return the throttled submission, if any
+     */
+    default Optional<T> findThrottledSubmission(final String key, final double thresholdRate) {
+        val submission = get(key);
+        if (submission != null && !submission.hasExpiredAlready()) {
+            return Optional.of(submission);
+        }
+        return exceedsThreshold(key, thresholdRate) ? Optional.ofNullable(get(key)) : Optional.empty();
+    }
+
     /**
      * Release.
      *
@@ -3,6 +3,7 @@ package org.apereo.cas.ticket.registry;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
+import lombok.val;
 import org.jooq.lambda.Unchecked;
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -97,6 +98,25 @@ public interface TicketRegistry {
      */
     int deleteTicket(Ticket ticketId) throws Exception;
 
+    /**
+     * Remove the given tickets from the registry in bulk.
+     * Unlike {@link #deleteTicket(Ticket)}, related tickets are not resolved
+     * or removed; callers are expected to pass along all ticket ids that should
+     * be removed. Registries backed by stores that support native batch operations
+     * should override this to remove all tickets in as few round trips as possible.
+     *
+     * @param ticketIds the ticket ids
+     * @return the number of tickets deleted.
+     * @throws Exception the exception
+     */
+    default long deleteTickets(final Collection<String> ticketIds) throws Exception {
+        var count = 0L;
+        for (val ticketId : ticketIds) {
+            count += deleteTicket(ticketId);
+        }
+        return count;
+    }
+
     /**
      * Delete all tickets from the registry.
      *
@@ -53,6 +53,17 @@ public class RandomUtils {
         }
     }
 
+    /**
+     * Get a shared secure random instance that is suitable for
+     * generating random values concurrently from many threads.
+     *
+     * @return the striped instance
+     * @see StripedSecureRandom
+     */
+    public static SecureRandom getStripedInstance() {
+        return StripedSecureRandomHolder.INSTANCE;
+    }
+
     /**
      * Next long between 0 and long's maximum value.
      *
@@ -282,4 +293,8 @@ public class RandomUtils {
     public static String randomNumeric(final int count) {
         return random(count, false, true);
     }
+
+    private static final class StripedSecureRandomHolder {
+        private static final SecureRandom INSTANCE = new StripedSecureRandom();
+    }
 }
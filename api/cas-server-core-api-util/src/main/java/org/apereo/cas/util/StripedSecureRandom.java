@@ -0,0 +1,169 @@
+package org.apereo.cas.util;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.io.Serial;
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+/**
+ * This is {@link StripedSecureRandom}. A {@link SecureRandom} that spreads
+ * requests for random bytes across a number of independent generators,
+ * selected by the calling thread, so that concurrent callers do not contend
+ * on a single generator. Each stripe is a NIST SP 800-90A DRBG instance
+ * that is instantiated with prediction resistance disabled, is personalized
+ * with bytes obtained from the native source and is periodically reseeded
+ * from its entropy source, mixing in fresh bytes from the native source as additional input.
+ * <p>
+ * If the {@value RandomUtils#SYSTEM_PROPERTY_SECURE_RANDOM_ALG} system property is defined,
+ * stripes are instead created using the algorithm specified there.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+public class StripedSecureRandom extends SecureRandom {
+    /**
+     * Default interval after which each stripe is reseeded.
+     */
+    public static final Duration DEFAULT_RESEED_INTERVAL = Duration.ofMinutes(5);
+
+    @Serial
+    private static final long serialVersionUID = 2818473524911738916L;
+
+    private static final String DRBG_ALGORITHM = "DRBG";
+
+    private static final int DRBG_STRENGTH = 256;
+
+    private static final int ADDITIONAL_INPUT_LENGTH = 32;
+
+    private final transient Stripe[] stripes;
+
+    private final int mask;
+
+    private final String algorithm;
+
+    public StripedSecureRandom() {
+        this(Runtime.getRuntime().availableProcessors() * 2, DEFAULT_RESEED_INTERVAL);
+    }
+
+    public StripedSecureRandom(final int concurrency, final Duration reseedInterval) {
+        val size = concurrency <= 1 ? 1 : Integer.highestOneBit(concurrency - 1) << 1;
+        val nativeSource = RandomUtils.getNativeInstance();
+        val requestedAlgorithm = System.getProperty(RandomUtils.SYSTEM_PROPERTY_SECURE_RANDOM_ALG);
+        this.stripes = IntStream.range(0, size)
+            .mapToObj(index -> new Stripe(newGenerator(requestedAlgorithm, nativeSource), nativeSource, reseedInterval.toNanos()))
+            .toArray(Stripe[]::new);
+        this.mask = size - 1;
+        this.algorithm = stripes[0].generator.getAlgorithm();
+        LOGGER.trace("Created [{}] secure random stripes using [{}]", size, algorithm);
+    }
+
+    private static SecureRandom newGenerator(final String requestedAlgorithm, final SecureRandom nativeSource) {
+        if (requestedAlgorithm != null && !requestedAlgorithm.isBlank()) {
+            return RandomUtils.getNativeInstance();
+        }
+        try {
+            val personalization = new byte[ADDITIONAL_INPUT_LENGTH];
+            nativeSource.nextBytes(personalization);
+            return SecureRandom.getInstance(DRBG_ALGORITHM,
+                DrbgParameters.instantiation(DRBG_STRENGTH, DrbgParameters.Capability.RESEED_ONLY, personalization));
+        } catch (final NoSuchAlgorithmException e) {
+            LOGGER.trace(e.getMessage(), e);
+            return RandomUtils.getNativeInstance();
+        }
+    }
+
+    /**
+     * Gets the number of stripes.
+     *
+     * @return the stripe count
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public void reseed() {
+        for (val stripe : stripes) {
+            stripe.reseed();
+        }
+    }
+
+    @Override
+    public void nextBytes(final byte[] bytes) {
+        currentStripe().nextBytes(bytes);
+    }
+
+    @Override
+    public byte[] generateSeed(final int numBytes) {
+        return currentStripe().generator.generateSeed(numBytes);
+    }
+
+    @Override
+    public void setSeed(final byte[] seed) {
+        if (stripes != null) {
+            currentStripe().generator.setSeed(seed);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + '[' + algorithm + ", stripes=" + stripes.length + ']';
+    }
+
+    private Stripe currentStripe() {
+        return stripes[Long.hashCode(Thread.currentThread().threadId()) & mask];
+    }
+
+    private static final class Stripe {
+        private final SecureRandom generator;
+
+        private final SecureRandom nativeSource;
+
+        private final long reseedIntervalInNanoseconds;
+
+        private final AtomicBoolean reseeding = new AtomicBoolean();
+
+        private volatile long nextReseed;
+
+        Stripe(final SecureRandom generator, final SecureRandom nativeSource, final long reseedIntervalInNanoseconds) {
+            this.generator = generator;
+            this.nativeSource = nativeSource;
+            this.reseedIntervalInNanoseconds = reseedIntervalInNanoseconds;
+            this.nextReseed = System.nanoTime() + reseedIntervalInNanoseconds;
+        }
+
+        void nextBytes(final byte[] bytes) {
+            if (System.nanoTime() - nextReseed >= 0 && reseeding.compareAndSet(false, true)) {
+                try {
+                    reseed();
+                } finally {
+                    nextReseed = System.nanoTime() + reseedIntervalInNanoseconds;
+                    reseeding.set(false);
+                }
+            }
+            generator.nextBytes(bytes);
+        }
+
+        void reseed() {
+            val additionalInput = new byte[ADDITIONAL_INPUT_LENGTH];
+            nativeSource.nextBytes(additionalInput);
+            try {
+                generator.reseed(DrbgParameters.reseed(false, additionalInput));
+            } catch (final UnsupportedOperationException e) {
+                LOGGER.trace(e.getMessage(), e);
+                generator.setSeed(additionalInput);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.apereo.cas.util;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link StripedSecureRandomTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("Utility")
+class StripedSecureRandomTests {
+
+    @Test
+    void verifyStripes() {
+        assertEquals(1, new StripedSecureRandom(1, Duration.ofMinutes(1)).getStripeCount());
+        assertEquals(8, new StripedSecureRandom(5, Duration.ofMinutes(1)).getStripeCount());
+        assertEquals(8, new StripedSecureRandom(8, Duration.ofMinutes(1)).getStripeCount());
+        assertSame(RandomUtils.getStripedInstance(), RandomUtils.getStripedInstance());
+        assertNotNull(RandomUtils.getStripedInstance().getAlgorithm());
+    }
+
+    @Test
+    void verifyReseedAndUniqueness() throws Throwable {
+        val random = new StripedSecureRandom(4, Duration.ZERO);
+        val values = ConcurrentHashMap.<String>newKeySet();
+        try (val executor = Executors.newFixedThreadPool(8)) {
+            IntStream.range(0, 8).forEach(thread -> executor.submit(() -> {
+                for (var i = 0; i < 500; i++) {
+                    val bytes = new byte[32];
+                    random.nextBytes(bytes);
+                    values.add(HexFormat.of().formatHex(bytes));
+                }
+            }));
+        }
+        assertEquals(4000, values.size());
+        random.reseed();
+        assertNotEquals(0, random.nextLong());
+        assertNotNull(random.toString());
+    }
+
+    @Test
+    void verifySeeding() {
+        val random = new StripedSecureRandom(2, Duration.ofMinutes(1));
+        random.setSeed("seed".getBytes(StandardCharsets.UTF_8));
+        assertEquals(16, random.generateSeed(16).length);
+        assertTrue(random.ints(10, 0, 100).allMatch(value -> value >= 0 && value < 100));
+    }
+}
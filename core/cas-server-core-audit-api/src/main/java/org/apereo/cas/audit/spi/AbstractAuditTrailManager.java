@@ -1,7 +1,7 @@
 package org.apereo.cas.audit.spi;
 
+import org.apereo.cas.configuration.model.core.audit.AuditBatchProperties;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,6 +9,7 @@ import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
 import org.springframework.beans.factory.DisposableBean;
 
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -21,7 +22,6 @@ import java.util.concurrent.Executors;
 @Setter
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractAuditTrailManager implements AuditTrailManager, DisposableBean {
     /**
      * Default maximum number of audit records to fetch.
@@ -32,10 +32,33 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
 
     private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
 
+    @Setter(AccessLevel.NONE)
+    private BatchingAuditRecordWriter batchingWriter;
+
+    protected AbstractAuditTrailManager(final boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
+
+    /**
+     * Queue asynchronous audit records and write them in batches,
+     * if batching is enabled.
+     *
+     * @param properties the properties
+     */
+    public void configureBatching(final AuditBatchProperties properties) {
+        if (properties.isEnabled() && batchingWriter == null) {
+            batchingWriter = new BatchingAuditRecordWriter(getClass().getSimpleName(), properties, this::saveAuditRecords);
+        }
+    }
+
     @Override
     public void record(final AuditActionContext audit) {
         if (this.asynchronous) {
-            executorService.execute(() -> saveAuditRecord(audit));
+            if (batchingWriter != null) {
+                batchingWriter.write(audit);
+            } else {
+                executorService.execute(() -> saveAuditRecord(audit));
+            }
         } else {
             saveAuditRecord(audit);
         }
@@ -43,8 +66,20 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
 
     @Override
     public void destroy() {
+        if (batchingWriter != null) {
+            batchingWriter.close();
+        }
         executorService.shutdown();
     }
 
     protected abstract void saveAuditRecord(AuditActionContext audit);
+
+    /**
+     * Save a batch of audit records. By default, records are saved one at a time.
+     *
+     * @param audits the audit records
+     */
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        audits.forEach(this::saveAuditRecord);
+    }
 }
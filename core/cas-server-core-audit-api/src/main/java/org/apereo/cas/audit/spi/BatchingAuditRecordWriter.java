@@ -0,0 +1,208 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditBatchProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.audit.AuditTrailManager;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * This is {@link BatchingAuditRecordWriter}. Audit records are placed into a bounded queue
+ * and drained by a small number of threads that hand them over to the audit store in batches.
+ * A batch is written once it reaches the configured size, or once the flush interval passes
+ * since its first record was taken off the queue, whichever comes first.
+ * When the queue is full, records are handled according to the configured overflow policy.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+@Getter
+public class BatchingAuditRecordWriter implements AutoCloseable {
+    private final String name;
+
+    private final BlockingQueue<AuditActionContext> queue;
+
+    private final int batchSize;
+
+    private final Duration flushInterval;
+
+    private final AuditBatchProperties.AuditBatchOverflowPolicies overflowPolicy;
+
+    private final Path spillFile;
+
+    private final Consumer<List<AuditActionContext>> batchConsumer;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private final AtomicLong spilledCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final AtomicLong flushCount = new AtomicLong();
+
+    private final AtomicLong flushTotalTimeInNanos = new AtomicLong();
+
+    private final Lock spillLock = new ReentrantLock();
+
+    private final List<Thread> drainers;
+
+    private volatile boolean running = true;
+
+    public BatchingAuditRecordWriter(final String name, final AuditBatchProperties properties,
+                                     final Consumer<List<AuditActionContext>> batchConsumer) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getCapacity()));
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.flushInterval = Beans.newDuration(properties.getFlushInterval());
+        this.overflowPolicy = properties.getOverflowPolicy();
+        this.spillFile = Path.of(StringUtils.defaultIfBlank(properties.getSpillDirectory(), FileUtils.getTempDirectoryPath()),
+            "cas-audit-%s.jsonl".formatted(name));
+        this.batchConsumer = batchConsumer;
+        this.drainers = IntStream.range(0, Math.max(1, properties.getDrainers()))
+            .mapToObj(index -> Thread.ofVirtual().name("cas-audit-%s-%s".formatted(name, index)).start(this::drain))
+            .toList();
+    }
+
+    /**
+     * Queue the audit record so it can be written with the next batch.
+     *
+     * @param audit the audit
+     */
+    public void write(final AuditActionContext audit) {
+        if (!running) {
+            flush(List.of(audit));
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    queue.put(audit);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    drop(audit);
+                }
+            }
+            case SPILL -> {
+                if (!queue.offer(audit)) {
+                    spill(audit);
+                }
+            }
+            default -> {
+                if (!queue.offer(audit)) {
+                    drop(audit);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets number of records waiting in the queue.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        drainers.forEach(drainer -> {
+            try {
+                drainer.join(flushInterval.multipliedBy(2).plusSeconds(1));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        val remaining = new ArrayList<AuditActionContext>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            LOGGER.debug("Writing [{}] remaining audit record(s) for [{}]", remaining.size(), name);
+            flush(remaining);
+        }
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                val first = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    val batch = new ArrayList<AuditActionContext>(batchSize);
+                    batch.add(first);
+                    val deadline = System.nanoTime() + flushInterval.toNanos();
+                    while (batch.size() < batchSize) {
+                        queue.drainTo(batch, batchSize - batch.size());
+                        val remainingTime = deadline - System.nanoTime();
+                        if (batch.size() >= batchSize || remainingTime <= 0) {
+                            break;
+                        }
+                        val next = queue.poll(remainingTime, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                    flush(batch);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void flush(final List<AuditActionContext> batch) {
+        val startTime = System.nanoTime();
+        try {
+            LOGGER.trace("Writing batch of [{}] audit record(s) for [{}]", batch.size(), name);
+            batchConsumer.accept(batch);
+        } catch (final Throwable e) {
+            failedCount.addAndGet(batch.size());
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            flushCount.incrementAndGet();
+            flushTotalTimeInNanos.addAndGet(System.nanoTime() - startTime);
+        }
+    }
+
+    private void drop(final AuditActionContext audit) {
+        droppedCount.incrementAndGet();
+        LOGGER.trace("Audit queue for [{}] is full; dropped audit record [{}]", name, audit);
+    }
+
+    private void spill(final AuditActionContext audit) {
+        spillLock.lock();
+        try {
+            Files.writeString(spillFile, AuditTrailManager.toJson(audit) + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            spilledCount.incrementAndGet();
+        } catch (final IOException e) {
+            LoggingUtils.error(LOGGER, e);
+            drop(audit);
+        } finally {
+            spillLock.unlock();
+        }
+    }
+}
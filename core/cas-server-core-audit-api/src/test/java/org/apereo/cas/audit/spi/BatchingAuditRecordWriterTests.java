@@ -0,0 +1,124 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditBatchProperties;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link BatchingAuditRecordWriterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("Audits")
+class BatchingAuditRecordWriterTests {
+    private static AuditActionContext getAuditRecord() {
+        return new AuditActionContext(UUID.randomUUID().toString(), "TEST", "TEST",
+            "CAS", LocalDateTime.now(Clock.systemUTC()),
+            new ClientInfo("1.2.3.4", "1.2.3.4", UUID.randomUUID().toString(), "London"));
+    }
+
+    @Test
+    void verifyFlushBySize() throws Throwable {
+        val properties = new AuditBatchProperties().setEnabled(true).setBatchSize(10).setFlushInterval("PT10S");
+        val batches = Collections.synchronizedList(new ArrayList<List<AuditActionContext>>());
+        val latch = new CountDownLatch(1);
+        try (val writer = new BatchingAuditRecordWriter("size", properties, batch -> {
+            batches.add(batch);
+            latch.countDown();
+        })) {
+            IntStream.range(0, 10).forEach(i -> writer.write(getAuditRecord()));
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(10, batches.getFirst().size());
+            assertEquals(1, writer.getFlushCount().get());
+        }
+    }
+
+    @Test
+    void verifyFlushByTime() throws Throwable {
+        val properties = new AuditBatchProperties().setEnabled(true).setBatchSize(100).setFlushInterval("PT0.1S");
+        val latch = new CountDownLatch(1);
+        val batches = Collections.synchronizedList(new ArrayList<List<AuditActionContext>>());
+        try (val writer = new BatchingAuditRecordWriter("time", properties, batch -> {
+            batches.add(batch);
+            latch.countDown();
+        })) {
+            IntStream.range(0, 3).forEach(i -> writer.write(getAuditRecord()));
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(3, batches.stream().mapToInt(List::size).sum());
+        }
+    }
+
+    @Test
+    void verifyDropWhenFull() throws Throwable {
+        val properties = new AuditBatchProperties().setEnabled(true).setCapacity(1).setBatchSize(1)
+            .setOverflowPolicy(AuditBatchProperties.AuditBatchOverflowPolicies.DROP);
+        val blocked = new CountDownLatch(1);
+        val writer = new BatchingAuditRecordWriter("drop", properties, batch -> {
+            try {
+                blocked.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        IntStream.range(0, 10).forEach(i -> writer.write(getAuditRecord()));
+        assertTrue(writer.getDroppedCount().get() >= 8);
+        blocked.countDown();
+        writer.close();
+    }
+
+    @Test
+    void verifySpillWhenFull(@TempDir final Path directory) throws Throwable {
+        val properties = new AuditBatchProperties().setEnabled(true).setCapacity(1).setBatchSize(1)
+            .setSpillDirectory(directory.toString())
+            .setOverflowPolicy(AuditBatchProperties.AuditBatchOverflowPolicies.SPILL);
+        val blocked = new CountDownLatch(1);
+        val writer = new BatchingAuditRecordWriter("spill", properties, batch -> {
+            try {
+                blocked.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        IntStream.range(0, 10).forEach(i -> writer.write(getAuditRecord()));
+        val spilled = writer.getSpilledCount().get();
+        assertTrue(spilled >= 8);
+        assertEquals(spilled, Files.readAllLines(writer.getSpillFile()).size());
+        assertEquals(0, writer.getDroppedCount().get());
+        blocked.countDown();
+        writer.close();
+    }
+
+    @Test
+    void verifyCloseWritesRemainingRecords() {
+        val properties = new AuditBatchProperties().setEnabled(true).setBatchSize(1000).setFlushInterval("PT30S");
+        val records = Collections.synchronizedList(new ArrayList<AuditActionContext>());
+        val writer = new BatchingAuditRecordWriter("close", properties, records::addAll);
+        val count = 5_000;
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            IntStream.range(0, count).forEach(i -> executor.execute(() -> writer.write(getAuditRecord())));
+        }
+        writer.close();
+        assertEquals(count, records.size());
+        writer.write(getAuditRecord());
+        assertEquals(count + 1, records.size());
+        assertEquals(0, writer.getQueueDepth());
+    }
+}
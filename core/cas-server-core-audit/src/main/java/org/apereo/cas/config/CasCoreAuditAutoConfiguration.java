@@ -8,6 +8,8 @@ import org.apereo.cas.audit.AuditTrailExecutionPlan;
 import org.apereo.cas.audit.AuditTrailExecutionPlanConfigurer;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlan;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
+import org.apereo.cas.audit.spi.AbstractAuditTrailManager;
+import org.apereo.cas.audit.spi.BatchingAuditRecordWriter;
 import org.apereo.cas.audit.spi.plan.DefaultAuditTrailExecutionPlan;
 import org.apereo.cas.audit.spi.plan.DefaultAuditTrailRecordResolutionPlan;
 import org.apereo.cas.audit.spi.principal.ChainingAuditPrincipalIdProvider;
@@ -30,6 +32,11 @@ import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMissingGraalVMNativeImage;
 import org.apereo.cas.util.text.MessageSanitizer;
 import org.apereo.cas.web.flow.CasWebflowCredentialProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.audit.AuditTrailManagementAspect;
@@ -49,6 +56,7 @@ import org.apereo.inspektr.common.spi.AuditActionDateProvider;
 import org.apereo.inspektr.common.spi.ClientInfoResolver;
 import org.apereo.inspektr.common.spi.DefaultClientInfoResolver;
 import org.apereo.inspektr.common.spi.PrincipalResolver;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.audit.AuditEventRepository;
 import org.springframework.boot.actuate.audit.InMemoryAuditEventRepository;
@@ -69,6 +77,8 @@ import org.springframework.util.StringUtils;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is {@link CasCoreAuditAutoConfiguration}.
@@ -509,6 +519,45 @@ public class CasCoreAuditAutoConfiguration {
             return plan;
         }
 
+        @Bean
+        @ConditionalOnMissingBean(name = "casAuditTrailMeterBinder")
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public MeterBinder casAuditTrailMeterBinder(
+            @Qualifier(AuditTrailExecutionPlan.BEAN_NAME)
+            final ObjectProvider<AuditTrailExecutionPlan> auditTrailExecutionPlan) {
+            return registry -> auditTrailExecutionPlan.ifAvailable(plan -> plan.getAuditTrailManagers()
+                .stream()
+                .filter(AbstractAuditTrailManager.class::isInstance)
+                .map(AbstractAuditTrailManager.class::cast)
+                .map(AbstractAuditTrailManager::getBatchingWriter)
+                .filter(Objects::nonNull)
+                .forEach(writer -> {
+                    val tags = Tags.of("manager", writer.getName());
+                    Gauge.builder("cas.audit.batch.queue.size", writer, BatchingAuditRecordWriter::getQueueDepth)
+                        .description("Number of audit records waiting to be written")
+                        .tags(tags)
+                        .register(registry);
+                    FunctionTimer.builder("cas.audit.batch.flush", writer,
+                            instance -> instance.getFlushCount().get(),
+                            instance -> instance.getFlushTotalTimeInNanos().get(), TimeUnit.NANOSECONDS)
+                        .description("Time spent writing batches of audit records")
+                        .tags(tags)
+                        .register(registry);
+                    FunctionCounter.builder("cas.audit.batch.dropped", writer, instance -> instance.getDroppedCount().get())
+                        .description("Number of audit records dropped because the queue was full")
+                        .tags(tags)
+                        .register(registry);
+                    FunctionCounter.builder("cas.audit.batch.spilled", writer, instance -> instance.getSpilledCount().get())
+                        .description("Number of audit records spilled to disk because the queue was full")
+                        .tags(tags)
+                        .register(registry);
+                    FunctionCounter.builder("cas.audit.batch.failed", writer, instance -> instance.getFailedCount().get())
+                        .description("Number of audit records that could not be written")
+                        .tags(tags)
+                        .register(registry);
+                }));
+        }
+
         @Bean
         @ConditionalOnMissingBean(name = "casAuditTrailExecutionPlanConfigurer")
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
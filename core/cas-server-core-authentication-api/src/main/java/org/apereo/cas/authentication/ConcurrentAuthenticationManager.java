@@ -0,0 +1,167 @@
+package org.apereo.cas.authentication;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.monitor.ExecutableObserver;
+import org.apereo.cas.monitor.MonitorableTask;
+import org.apereo.cas.support.events.authentication.CasAuthenticationTransactionStartedEvent;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * This is {@link ConcurrentAuthenticationManager}. When more than one authentication handler
+ * supports a credential, all such handlers are invoked at once on virtual threads. Their results are then
+ * examined in the order of handler priority exactly as they would have been had the handlers been invoked
+ * one after another: the first successful result that satisfies the authentication policy concludes the
+ * transaction, and handlers that are still running are cancelled. Handlers that do not produce a result before
+ * the transaction deadline are recorded as failures.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+@Getter
+public class ConcurrentAuthenticationManager extends DefaultAuthenticationManager implements DisposableBean {
+    private static final String HANDLER_OBSERVATION_NAME = "cas.authentication.handler";
+
+    private static final ThreadLocal<Instant> TRANSACTION_DEADLINE = new ThreadLocal<>();
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Duration handlerExecutionTimeout;
+
+    private final ObjectProvider<ExecutableObserver> executableObserver;
+
+    public ConcurrentAuthenticationManager(final AuthenticationEventExecutionPlan authenticationEventExecutionPlan,
+                                           final ObjectProvider<AuthenticationSystemSupport> authenticationSystemSupport,
+                                           final boolean principalResolutionFailureFatal,
+                                           final ConfigurableApplicationContext applicationContext,
+                                           final Duration handlerExecutionTimeout,
+                                           final ObjectProvider<ExecutableObserver> executableObserver) {
+        super(authenticationEventExecutionPlan, authenticationSystemSupport, principalResolutionFailureFatal, applicationContext);
+        this.handlerExecutionTimeout = handlerExecutionTimeout;
+        this.executableObserver = executableObserver;
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    @Override
+    protected AuthenticationBuilder authenticateInternal(final AuthenticationTransaction transaction) throws Throwable {
+        TRANSACTION_DEADLINE.set(Instant.now().plus(handlerExecutionTimeout));
+        try {
+            return super.authenticateInternal(transaction);
+        } finally {
+            TRANSACTION_DEADLINE.remove();
+        }
+    }
+
+    @Override
+    protected void authenticateCredential(final AuthenticationBuilder authenticationBuilder,
+                                          final Credential credential,
+                                          final AuthenticationTransaction transaction,
+                                          final Set<AuthenticationHandler> handlerSet) throws Throwable {
+        val supportingHandlers = handlerSet.stream().filter(handler -> handler.supports(credential)).toList();
+        if (supportingHandlers.size() <= 1) {
+            super.authenticateCredential(authenticationBuilder, credential, transaction, handlerSet);
+            return;
+        }
+
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val currentAuthentication = authenticationBuilder.build();
+        val service = transaction.getService();
+        val results = new LinkedHashMap<AuthenticationHandler, Future<AuthenticationHandlerExecutionResult>>();
+        supportingHandlers.forEach(handler -> {
+            LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), handler.getName());
+            publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential, clientInfo));
+            results.put(handler, executorService.submit(() -> {
+                try {
+                    return executeAuthenticationHandler(handler, credential, service, clientInfo, currentAuthentication);
+                } catch (final Exception | Error e) {
+                    throw e;
+                } catch (final Throwable e) {
+                    throw new PreventedException(e);
+                }
+            }));
+        });
+
+        var proceedWithNextHandler = true;
+        for (val entry : results.entrySet()) {
+            val handler = entry.getKey();
+            val result = entry.getValue();
+            if (!proceedWithNextHandler) {
+                LOGGER.trace("Cancelling authentication of [{}] using [{}]", credential.getId(), handler.getName());
+                result.cancel(true);
+                continue;
+            }
+            try {
+                val handlerExecutionResult = waitForAuthenticationHandler(handler, result);
+                val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
+                try {
+                    AuthenticationHolder.setCurrentAuthentication(authenticationBuilder.build());
+                    collectAuthenticationSuccessAndResolvePrincipal(authenticationBuilder, credential,
+                        resolver, handler, service, handlerExecutionResult);
+                } finally {
+                    AuthenticationHolder.clear();
+                }
+                proceedWithNextHandler = shouldAuthenticationChainProceedOnSuccess(authenticationBuilder, transaction, handlerSet);
+            } catch (final Exception e) {
+                proceedWithNextHandler = handleAuthenticationFailure(e, credential, handler, authenticationBuilder, transaction);
+            }
+        }
+    }
+
+    protected AuthenticationHandlerExecutionResult executeAuthenticationHandler(final AuthenticationHandler handler,
+                                                                                final Credential credential,
+                                                                                final Service service,
+                                                                                final ClientInfo clientInfo,
+                                                                                final Authentication currentAuthentication) throws Throwable {
+        try {
+            ClientInfoHolder.setClientInfo(clientInfo);
+            AuthenticationHolder.setCurrentAuthentication(currentAuthentication);
+            val observer = executableObserver.getIfAvailable();
+            if (observer != null) {
+                val task = new MonitorableTask(HANDLER_OBSERVATION_NAME).withBoundedValue("handler", handler.getName());
+                return observer.supply(task, () -> handler.authenticate(credential, service));
+            }
+            return handler.authenticate(credential, service);
+        } finally {
+            AuthenticationHolder.clear();
+            ClientInfoHolder.clear();
+        }
+    }
+
+    private static AuthenticationHandlerExecutionResult waitForAuthenticationHandler(
+        final AuthenticationHandler handler, final Future<AuthenticationHandlerExecutionResult> result) throws Exception {
+        val remaining = Duration.between(Instant.now(), TRANSACTION_DEADLINE.get());
+        try {
+            return result.get(Math.max(0, remaining.toMillis()), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException | CancellationException e) {
+            result.cancel(true);
+            throw new PreventedException("Authentication handler " + handler.getName() + " did not complete in time");
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof final Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -163,33 +163,44 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
             AuthenticationHolder.setCurrentAuthentication(authenticationBuilder.build());
             
             val handlerExecutionResult = handler.authenticate(credential, service);
-            val authenticationHandlerName = handler.getName();
-            authenticationBuilder.addSuccess(authenticationHandlerName, handlerExecutionResult);
-            LOGGER.debug("Authentication handler [{}] successfully authenticated [{}]", authenticationHandlerName, credential);
-            publishEvent(new CasAuthenticationTransactionSuccessfulEvent(this, credential, clientInfo));
-            val principal = principalResolver != null
-                ? resolvePrincipal(handler, principalResolver, credential, handlerExecutionResult.getPrincipal(), service)
-                : handlerExecutionResult.getPrincipal();
-            if (principal == null) {
-                val resolverName = principalResolver == null ? authenticationHandlerName : principalResolver.getName();
-                if (this.principalResolutionFailureFatal) {
-                    LOGGER.warn("Principal resolution handled by [{}] produced a null principal for: [{}]"
-                        + "CAS is configured to treat principal resolution failures as fatal.", resolverName, credential);
-                    throw new UnresolvedPrincipalException();
-                }
-                LOGGER.warn("Principal resolution handled by [{}] produced a null principal. "
-                    + "This is likely due to misconfiguration or missing attributes; CAS will attempt to use the principal "
-                    + "produced by the authentication handler, if any.", resolverName);
-            } else {
-                authenticationBuilder.setPrincipal(principal);
-            }
-            LOGGER.debug("Final principal resolved for this authentication event is [{}]", principal);
-            publishEvent(new CasAuthenticationPrincipalResolvedEvent(this, principal, clientInfo));
+            collectAuthenticationSuccessAndResolvePrincipal(authenticationBuilder, credential,
+                principalResolver, handler, service, handlerExecutionResult);
         } finally {
             AuthenticationHolder.clear();
         }
     }
 
+    protected void collectAuthenticationSuccessAndResolvePrincipal(final AuthenticationBuilder authenticationBuilder,
+                                                                   final Credential credential,
+                                                                   final PrincipalResolver principalResolver,
+                                                                   final AuthenticationHandler handler,
+                                                                   final Service service,
+                                                                   final AuthenticationHandlerExecutionResult handlerExecutionResult) throws Throwable {
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val authenticationHandlerName = handler.getName();
+        authenticationBuilder.addSuccess(authenticationHandlerName, handlerExecutionResult);
+        LOGGER.debug("Authentication handler [{}] successfully authenticated [{}]", authenticationHandlerName, credential);
+        publishEvent(new CasAuthenticationTransactionSuccessfulEvent(this, credential, clientInfo));
+        val principal = principalResolver != null
+            ? resolvePrincipal(handler, principalResolver, credential, handlerExecutionResult.getPrincipal(), service)
+            : handlerExecutionResult.getPrincipal();
+        if (principal == null) {
+            val resolverName = principalResolver == null ? authenticationHandlerName : principalResolver.getName();
+            if (this.principalResolutionFailureFatal) {
+                LOGGER.warn("Principal resolution handled by [{}] produced a null principal for: [{}]"
+                    + "CAS is configured to treat principal resolution failures as fatal.", resolverName, credential);
+                throw new UnresolvedPrincipalException();
+            }
+            LOGGER.warn("Principal resolution handled by [{}] produced a null principal. "
+                + "This is likely due to misconfiguration or missing attributes; CAS will attempt to use the principal "
+                + "produced by the authentication handler, if any.", resolverName);
+        } else {
+            authenticationBuilder.setPrincipal(principal);
+        }
+        LOGGER.debug("Final principal resolved for this authentication event is [{}]", principal);
+        publishEvent(new CasAuthenticationPrincipalResolvedEvent(this, principal, clientInfo));
+    }
+
     protected PrincipalResolver getPrincipalResolverLinkedToHandlerIfAny(final AuthenticationHandler handler,
                                                                          final AuthenticationTransaction transaction) {
         return this.authenticationEventExecutionPlan.getPrincipalResolver(handler, transaction);
@@ -223,40 +234,56 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
 
         for (val credential : credentials) {
             LOGGER.debug("Attempting to authenticate credential [{}]", credential);
+            authenticateCredential(authenticationBuilder, credential, transaction, handlerSet);
+        }
+        evaluateFinalAuthentication(authenticationBuilder, transaction, handlerSet);
+        return authenticationBuilder;
+    }
 
-            val itHandlers = handlerSet.iterator();
-            var proceedWithNextHandler = true;
-            while (proceedWithNextHandler && itHandlers.hasNext()) {
-                val handler = itHandlers.next();
-                if (handler.supports(credential)) {
-                    try {
-                        val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
-                        LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), handler.getName());
-                        authenticateAndResolvePrincipal(authenticationBuilder, credential, resolver, handler, transaction.getService());
-
-                        val authnResult = authenticationBuilder.build();
-                        val executionResult = evaluateAuthenticationPolicies(authnResult, transaction, handlerSet);
-                        proceedWithNextHandler = !executionResult.isSuccess();
-                    } catch (final GeneralSecurityException e) {
-                        handleAuthenticationException(e, handler.getName(), authenticationBuilder);
-                        proceedWithNextHandler = shouldAuthenticationChainProceedOnFailure(transaction, e);
-                    } catch (final Exception e) {
-                        LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
-                            + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
-                            + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
-                            + "the authentication event.", credential, credential.getClass().getSimpleName());
-
-                        handleAuthenticationException(e, handler.getName(), authenticationBuilder);
-                        proceedWithNextHandler = shouldAuthenticationChainProceedOnFailure(transaction, e);
-                    }
-                } else {
-                    LOGGER.debug("Authentication handler [{}] does not support the credential type [{}].",
-                        handler.getName(), credential);
+    protected void authenticateCredential(final AuthenticationBuilder authenticationBuilder,
+                                          final Credential credential,
+                                          final AuthenticationTransaction transaction,
+                                          final Set<AuthenticationHandler> handlerSet) throws Throwable {
+        val itHandlers = handlerSet.iterator();
+        var proceedWithNextHandler = true;
+        while (proceedWithNextHandler && itHandlers.hasNext()) {
+            val handler = itHandlers.next();
+            if (handler.supports(credential)) {
+                try {
+                    val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
+                    LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), handler.getName());
+                    authenticateAndResolvePrincipal(authenticationBuilder, credential, resolver, handler, transaction.getService());
+                    proceedWithNextHandler = shouldAuthenticationChainProceedOnSuccess(authenticationBuilder, transaction, handlerSet);
+                } catch (final Exception e) {
+                    proceedWithNextHandler = handleAuthenticationFailure(e, credential, handler, authenticationBuilder, transaction);
                 }
+            } else {
+                LOGGER.debug("Authentication handler [{}] does not support the credential type [{}].",
+                    handler.getName(), credential);
             }
         }
-        evaluateFinalAuthentication(authenticationBuilder, transaction, handlerSet);
-        return authenticationBuilder;
+    }
+
+    protected boolean shouldAuthenticationChainProceedOnSuccess(final AuthenticationBuilder authenticationBuilder,
+                                                                final AuthenticationTransaction transaction,
+                                                                final Set<AuthenticationHandler> handlerSet) throws Throwable {
+        val authnResult = authenticationBuilder.build();
+        val executionResult = evaluateAuthenticationPolicies(authnResult, transaction, handlerSet);
+        return !executionResult.isSuccess();
+    }
+
+    protected boolean handleAuthenticationFailure(final Exception failure, final Credential credential,
+                                                  final AuthenticationHandler handler,
+                                                  final AuthenticationBuilder authenticationBuilder,
+                                                  final AuthenticationTransaction transaction) {
+        if (!(failure instanceof GeneralSecurityException)) {
+            LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
+                + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
+                + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
+                + "the authentication event.", credential, credential.getClass().getSimpleName());
+        }
+        handleAuthenticationException(failure, handler.getName(), authenticationBuilder);
+        return shouldAuthenticationChainProceedOnFailure(transaction, failure);
     }
 
     protected void evaluateFinalAuthentication(final AuthenticationBuilder builder,
@@ -344,7 +371,7 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
         }
     }
 
-    private boolean shouldAuthenticationChainProceedOnFailure(final AuthenticationTransaction transaction,
+    protected boolean shouldAuthenticationChainProceedOnFailure(final AuthenticationTransaction transaction,
                                                               final Throwable failure) {
         val policies = authenticationEventExecutionPlan.getAuthenticationPolicies(transaction);
         return policies.stream().anyMatch(policy -> policy.shouldResumeOnFailure(failure));
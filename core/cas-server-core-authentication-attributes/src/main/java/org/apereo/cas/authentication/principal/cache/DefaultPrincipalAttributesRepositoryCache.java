@@ -4,52 +4,92 @@ import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
 import org.apereo.cas.authentication.principal.RegisteredServicePrincipalAttributesRepository;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.util.DigestUtils;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import java.io.Closeable;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
  * This is {@link DefaultPrincipalAttributesRepositoryCache}.
+ * Attributes for all registered services are kept in a single cache whose entries
+ * are keyed by the registered service, the expiration of the caching repository
+ * and the principal, and whose total size is bounded by an approximate memory budget.
+ * Each entry expires per the settings of the caching repository that produced it, so
+ * services that chain several repositories with different expiration policies keep
+ * separate entries for each. When a service definition is reloaded with different settings,
+ * entries that belong to the previous definition are no longer visible and are left
+ * to expire or to be evicted by the memory budget.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
  */
 @Slf4j
 public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttributesRepositoryCache, Closeable {
-    private static final int DEFAULT_MAXIMUM_CACHE_SIZE = 1_000;
+    /**
+     * Default approximate memory budget, in bytes, for cached attributes.
+     */
+    public static final long DEFAULT_MAXIMUM_CACHE_MEMORY = 64L * 1024 * 1024;
 
     private static final String DEFAULT_CACHE_EXPIRATION_UNIT = TimeUnit.HOURS.name();
 
-    private final CasReentrantLock lock = new CasReentrantLock();
+    private final Map<RegisteredServiceCacheRegionKey, RegisteredServiceCacheRegion> registeredServiceRegions = new ConcurrentHashMap<>();
 
-    private final Map<String, Cache<String, Map<String, List<Object>>>> registeredServicesCache = new HashMap<>(0);
+    private final Map<Long, RegisteredServiceCacheStatistics> registeredServiceStatistics = new ConcurrentHashMap<>();
 
-    private static String buildRegisteredServiceCacheKey(final RegisteredService registeredService) {
-        val key = registeredService.getId() + "@" + registeredService.getName();
-        val cacheKey = DigestUtils.sha512(key);
-        LOGGER.trace("Built registered service cache key [{}] for [{}]:", cacheKey, key);
-        return cacheKey;
+    private final List<Consumer<RegisteredServiceCacheStatistics>> statisticsListeners = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong regionVersions = new AtomicLong();
+
+    @Getter
+    private final Cache<PrincipalAttributesCacheKey, CachedPrincipalAttributes> cache;
+
+    public DefaultPrincipalAttributesRepositoryCache() {
+        this(DEFAULT_MAXIMUM_CACHE_MEMORY);
     }
 
-    private static Cache<String, Map<String, List<Object>>> initializeCache(
-        final RegisteredServicePrincipalAttributesRepository repository) {
+    public DefaultPrincipalAttributesRepositoryCache(final long maximumCacheMemory) {
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maximumCacheMemory)
+            .weigher((PrincipalAttributesCacheKey key, CachedPrincipalAttributes value) -> value.weight())
+            .expireAfter(new CachedPrincipalAttributesExpiry())
+            .recordStats()
+            .build();
+    }
+
+    private static long getTimeToLiveInNanoseconds(final RegisteredServicePrincipalAttributesRepository repository) {
         val cachedRepository = (CachingPrincipalAttributesRepository) repository;
         val unit = TimeUnit.valueOf(StringUtils.defaultIfBlank(cachedRepository.getTimeUnit(), DEFAULT_CACHE_EXPIRATION_UNIT));
-        return Caffeine.newBuilder()
-            .initialCapacity(DEFAULT_MAXIMUM_CACHE_SIZE)
-            .maximumSize(DEFAULT_MAXIMUM_CACHE_SIZE)
-            .expireAfterWrite(cachedRepository.getExpiration(), unit)
-            .build(s -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        return Math.max(0, unit.toNanos(cachedRepository.getExpiration()));
+    }
+
+    private static int estimateWeight(final String id, final Map<String, List<Object>> attributes) {
+        var weight = 64L + 2L * id.length();
+        for (val entry : attributes.entrySet()) {
+            weight += 48L + 2L * entry.getKey().length();
+            if (entry.getValue() != null) {
+                for (val value : entry.getValue()) {
+                    weight += value instanceof final CharSequence text ? 56L + 2L * text.length() : 32L;
+                }
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, weight);
     }
 
     @Override
@@ -59,41 +99,168 @@ public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttri
 
     @Override
     public void invalidate() {
-        lock.tryLock(__ -> registeredServicesCache.values().forEach(Cache::invalidateAll));
+        cache.invalidateAll();
     }
 
     @Override
     public Map<String, List<Object>> fetchAttributes(final RegisteredService registeredService,
                                                      final RegisteredServicePrincipalAttributesRepository repository,
                                                      final Principal principal) {
-        return lock.tryLock(() -> {
-            val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-            return cache.get(principal.getId(), __ -> {
-                LOGGER.debug("No cached attributes could be found for [{}]", principal.getId());
-                return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-            });
-        });
+        val region = getRegisteredServiceCacheRegion(registeredService, repository);
+        val statistics = getRegisteredServiceStatistics(registeredService);
+        val cached = cache.getIfPresent(new PrincipalAttributesCacheKey(region.serviceId(), region.version(), principal.getId()));
+        if (cached != null) {
+            statistics.hits.increment();
+            return cached.attributes();
+        }
+        statistics.misses.increment();
+        LOGGER.debug("No cached attributes could be found for [{}]", principal.getId());
+        return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
     }
 
     @Override
     public void putAttributes(final RegisteredService registeredService,
                               final RegisteredServicePrincipalAttributesRepository repository,
                               final String id, final Map<String, List<Object>> attributes) {
-        lock.tryLock(__ -> {
-            val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-            cache.put(id, attributes);
-        });
+        val region = getRegisteredServiceCacheRegion(registeredService, repository);
+        getRegisteredServiceStatistics(registeredService).loads.increment();
+        cache.put(new PrincipalAttributesCacheKey(region.serviceId(), region.version(), id),
+            new CachedPrincipalAttributes(attributes, region.timeToLiveInNanoseconds(), estimateWeight(id, attributes)));
+    }
+
+    /**
+     * Gets cache statistics collected for each registered service.
+     *
+     * @return the statistics
+     */
+    public Collection<RegisteredServiceCacheStatistics> getStatistics() {
+        return List.copyOf(registeredServiceStatistics.values());
+    }
+
+    /**
+     * Register a listener that is notified once statistics are collected for a registered service
+     * for the first time. The listener is immediately notified of statistics collected so far.
+     *
+     * @param listener the listener
+     */
+    public void addStatisticsListener(final Consumer<RegisteredServiceCacheStatistics> listener) {
+        statisticsListeners.add(listener);
+        registeredServiceStatistics.values().forEach(listener);
+    }
+
+    private RegisteredServiceCacheStatistics getRegisteredServiceStatistics(final RegisteredService registeredService) {
+        val current = registeredServiceStatistics.get(registeredService.getId());
+        if (current != null) {
+            return current;
+        }
+        val created = new RegisteredServiceCacheStatistics(registeredService.getId(), registeredService.getName());
+        val existing = registeredServiceStatistics.putIfAbsent(registeredService.getId(), created);
+        if (existing != null) {
+            return existing;
+        }
+        statisticsListeners.forEach(listener -> listener.accept(created));
+        return created;
     }
 
-    private Cache<String, Map<String, List<Object>>> getRegisteredServiceCacheInstance(
+    private RegisteredServiceCacheRegion getRegisteredServiceCacheRegion(
         final RegisteredService registeredService, final RegisteredServicePrincipalAttributesRepository repository) {
+        val regionKey = new RegisteredServiceCacheRegionKey(registeredService.getId(), getTimeToLiveInNanoseconds(repository));
+        val current = registeredServiceRegions.get(regionKey);
+        if (current != null && current.matches(registeredService)) {
+            return current;
+        }
+        return registeredServiceRegions.compute(regionKey, (key, existing) -> {
+            if (existing != null && existing.matches(registeredService)) {
+                return existing;
+            }
+            if (existing != null) {
+                LOGGER.debug("Registered service [{}] has changed; attributes cached for its previous definition are ignored",
+                    registeredService.getName());
+            }
+            return new RegisteredServiceCacheRegion(key.serviceId(), regionVersions.incrementAndGet(),
+                registeredService.getName(), registeredService.getEvaluationOrder(), key.timeToLiveInNanoseconds());
+        });
+    }
+
+    /**
+     * Cache statistics collected for a registered service.
+     */
+    @RequiredArgsConstructor
+    @ToString(of = {"serviceId", "serviceName"})
+    public static class RegisteredServiceCacheStatistics {
+        @Getter
+        private final long serviceId;
+
+        @Getter
+        private final String serviceName;
+
+        private final LongAdder hits = new LongAdder();
+
+        private final LongAdder misses = new LongAdder();
+
+        private final LongAdder loads = new LongAdder();
+
+        public long getHitCount() {
+            return hits.sum();
+        }
+
+        public long getMissCount() {
+            return misses.sum();
+        }
+
+        public long getLoadCount() {
+            return loads.sum();
+        }
+    }
+
+    /**
+     * Cache key composed of the registered service definition version and the principal id.
+     *
+     * @param serviceId   the service id
+     * @param version     the version of the service definition
+     * @param principalId the principal id
+     */
+    public record PrincipalAttributesCacheKey(long serviceId, long version, String principalId) {
+    }
+
+    /**
+     * Cached attributes along with the expiration policy of the repository that produced them.
+     *
+     * @param attributes              the attributes
+     * @param timeToLiveInNanoseconds the time to live
+     * @param weight                  the estimated weight
+     */
+    public record CachedPrincipalAttributes(Map<String, List<Object>> attributes, long timeToLiveInNanoseconds, int weight) {
+    }
+
+    private record RegisteredServiceCacheRegionKey(long serviceId, long timeToLiveInNanoseconds) {
+    }
+
+    private record RegisteredServiceCacheRegion(long serviceId, long version, String serviceName,
+                                                int evaluationOrder, long timeToLiveInNanoseconds) {
+        boolean matches(final RegisteredService registeredService) {
+            return evaluationOrder == registeredService.getEvaluationOrder()
+                && Objects.equals(serviceName, registeredService.getName());
+        }
+    }
+
+    private static final class CachedPrincipalAttributesExpiry implements Expiry<PrincipalAttributesCacheKey, CachedPrincipalAttributes> {
+        @Override
+        public long expireAfterCreate(final PrincipalAttributesCacheKey key, final CachedPrincipalAttributes value,
+                                      final long currentTime) {
+            return value.timeToLiveInNanoseconds();
+        }
+
+        @Override
+        public long expireAfterUpdate(final PrincipalAttributesCacheKey key, final CachedPrincipalAttributes value,
+                                      final long currentTime, final long currentDuration) {
+            return value.timeToLiveInNanoseconds();
+        }
 
-        val key = buildRegisteredServiceCacheKey(registeredService);
-        if (registeredServicesCache.containsKey(key)) {
-            return registeredServicesCache.get(key);
+        @Override
+        public long expireAfterRead(final PrincipalAttributesCacheKey key, final CachedPrincipalAttributes value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
         }
-        val cache = initializeCache(repository);
-        registeredServicesCache.put(key, cache);
-        return cache;
     }
 }
@@ -0,0 +1,97 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import org.apereo.cas.CoreAttributesTestUtils;
+import org.apereo.cas.util.CollectionUtils;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultPrincipalAttributesRepositoryCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("Attributes")
+class DefaultPrincipalAttributesRepositoryCacheTests {
+    private static final Map<String, List<Object>> ATTRIBUTES = CollectionUtils.wrap("mail", List.of("casuser@example.org"));
+
+    @Test
+    void verifyCachedPerService() throws Throwable {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val principal = CoreAttributesTestUtils.getPrincipal("casuser", new HashMap<>());
+
+        val service1 = CoreAttributesTestUtils.getRegisteredService();
+        val service2 = CoreAttributesTestUtils.getRegisteredService();
+        assertTrue(cache.fetchAttributes(service1, repository, principal).isEmpty());
+        cache.putAttributes(service1, repository, principal.getId(), ATTRIBUTES);
+        assertEquals(ATTRIBUTES, cache.fetchAttributes(service1, repository, principal));
+        assertTrue(cache.fetchAttributes(service2, repository, principal).isEmpty());
+
+        val statistics = cache.getStatistics().stream()
+            .filter(stats -> stats.getServiceId() == service1.getId())
+            .findFirst()
+            .orElseThrow();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(1, statistics.getLoadCount());
+
+        cache.invalidate();
+        assertTrue(cache.fetchAttributes(service1, repository, principal).isEmpty());
+    }
+
+    @Test
+    void verifyReloadedServiceDefinition() throws Throwable {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val principal = CoreAttributesTestUtils.getPrincipal("casuser", new HashMap<>());
+        val service = CoreAttributesTestUtils.getRegisteredService();
+        cache.putAttributes(service, repository, principal.getId(), ATTRIBUTES);
+        assertFalse(cache.fetchAttributes(service, repository, principal).isEmpty());
+
+        when(service.getEvaluationOrder()).thenReturn(100);
+        assertTrue(cache.fetchAttributes(service, repository, principal).isEmpty());
+
+        cache.putAttributes(service, repository, principal.getId(), ATTRIBUTES);
+        val changedRepository = new CachingPrincipalAttributesRepository(TimeUnit.HOURS.name(), 5);
+        assertTrue(cache.fetchAttributes(service, changedRepository, principal).isEmpty());
+    }
+
+    @Test
+    void verifyRepositoriesWithDifferentExpirations() throws Throwable {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val principal = CoreAttributesTestUtils.getPrincipal("casuser", new HashMap<>());
+        val service = CoreAttributesTestUtils.getRegisteredService();
+        val repository1 = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val repository2 = new CachingPrincipalAttributesRepository(TimeUnit.HOURS.name(), 2);
+        val attributes2 = CollectionUtils.<String, List<Object>>wrap("cn", List.of("CAS"));
+
+        cache.putAttributes(service, repository1, principal.getId(), ATTRIBUTES);
+        cache.putAttributes(service, repository2, principal.getId(), attributes2);
+        for (var i = 0; i < 3; i++) {
+            assertEquals(ATTRIBUTES, cache.fetchAttributes(service, repository1, principal));
+            assertEquals(attributes2, cache.fetchAttributes(service, repository2, principal));
+        }
+        assertEquals(2, cache.getCache().estimatedSize());
+    }
+
+    @Test
+    void verifyMemoryBudget() throws Throwable {
+        val cache = new DefaultPrincipalAttributesRepositoryCache(1024);
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val service = CoreAttributesTestUtils.getRegisteredService();
+        for (var i = 0; i < 100; i++) {
+            cache.putAttributes(service, repository, "user" + i, ATTRIBUTES);
+        }
+        cache.getCache().cleanUp();
+        assertTrue(cache.getCache().policy().eviction().orElseThrow().weightedSize().orElseThrow() <= 1024);
+    }
+}
@@ -0,0 +1,212 @@
+package org.apereo.cas.throttle;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.web.support.ThrottledSubmission;
+import org.apereo.cas.web.support.ThrottledSubmissionsStore;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link SlidingWindowThrottledSubmissionsStore}. Tracks failed submissions per key
+ * in a compact, fixed-size ring of failure timestamps whose size matches the failure threshold.
+ * A key is throttled once the oldest timestamp in a full ring still falls within the configured range,
+ * or while its most recent submission remains locked in its expiration window.
+ * <p>
+ * Putting a submission for a key that is not yet tracked counts as a failure at the submission's time;
+ * otherwise, it only replaces the most recent submission, i.e. to extend its expiration.
+ * Recording a failure, optionally along with checking whether the key is now throttled, is carried out
+ * as a single atomic operation on the key's bin in the backing map, so concurrent requests for different keys
+ * do not contend and no submission objects accumulate for a key beyond the most recent one.
+ * Reads never lock the key's bin. Keys that have been idle for longer than the range are ignored by reads,
+ * their rings are reused when new failures arrive, and they are removed by the periodic release.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+public class SlidingWindowThrottledSubmissionsStore implements ThrottledSubmissionsStore<ThrottledSubmission> {
+    private final Map<String, SubmissionWindow> windows = new ConcurrentHashMap<>();
+
+    private final int capacity;
+
+    private final long rangeInMillis;
+
+    private final Clock clock;
+
+    public SlidingWindowThrottledSubmissionsStore(final CasConfigurationProperties casProperties) {
+        this(casProperties, Clock.systemUTC());
+    }
+
+    public SlidingWindowThrottledSubmissionsStore(final CasConfigurationProperties casProperties, final Clock clock) {
+        val failure = casProperties.getAuthn().getThrottle().getFailure();
+        this.capacity = Math.max(1, failure.getThreshold());
+        this.rangeInMillis = TimeUnit.SECONDS.toMillis(Math.max(1, failure.getRangeSeconds()));
+        this.clock = clock;
+    }
+
+    @Override
+    public void removeIf(final Predicate<ThrottledSubmission> condition) {
+        windows.values().removeIf(window -> {
+            val submission = window.getSubmission();
+            return submission != null && condition.test(submission);
+        });
+    }
+
+    @Override
+    public void remove(final String key) {
+        windows.remove(key);
+    }
+
+    @Override
+    public void put(final ThrottledSubmission submission) {
+        windows.compute(submission.getKey(), (key, window) -> {
+            if (window == null) {
+                val result = new SubmissionWindow(capacity);
+                result.record(submission, submission.getValue().toInstant().toEpochMilli());
+                return result;
+            }
+            window.update(submission);
+            return window;
+        });
+    }
+
+    @Override
+    public void record(final ThrottledSubmission submission) {
+        val now = clock.millis();
+        windows.compute(submission.getKey(), (key, window) -> {
+            val result = Objects.requireNonNullElseGet(window, () -> new SubmissionWindow(capacity));
+            result.record(submission, now);
+            return result;
+        });
+    }
+
+    @Override
+    public Optional<ThrottledSubmission> recordAndCheck(final ThrottledSubmission submission, final double thresholdRate) {
+        val now = clock.millis();
+        val throttled = new AtomicBoolean();
+        windows.compute(submission.getKey(), (key, window) -> {
+            val result = Objects.requireNonNullElseGet(window, () -> new SubmissionWindow(capacity));
+            result.record(submission, now);
+            throttled.set(result.exceedsThreshold(now, rangeInMillis));
+            return result;
+        });
+        return throttled.get() ? Optional.of(submission) : Optional.empty();
+    }
+
+    @Override
+    public boolean contains(final String key) {
+        return getActiveWindow(key, clock.millis()) != null;
+    }
+
+    @Override
+    public ThrottledSubmission get(final String key) {
+        val window = getActiveWindow(key, clock.millis());
+        return window != null ? window.getSubmission() : null;
+    }
+
+    @Override
+    public Stream<ThrottledSubmission> entries() {
+        val now = clock.millis();
+        return windows.values()
+            .stream()
+            .filter(window -> !window.isIdle(now, rangeInMillis))
+            .map(SubmissionWindow::getSubmission)
+            .filter(Objects::nonNull);
+    }
+
+    @Override
+    public boolean exceedsThreshold(final String key, final double thresholdRate) {
+        val now = clock.millis();
+        val window = getActiveWindow(key, now);
+        val result = window != null && window.exceedsThreshold(now, rangeInMillis);
+        LOGGER.debug("Submissions for [{}] [{}] the threshold of [{}] failures within [{}] ms",
+            key, result ? "exceed" : "do not exceed", capacity, rangeInMillis);
+        return result;
+    }
+
+    @Override
+    public Optional<ThrottledSubmission> findThrottledSubmission(final String key, final double thresholdRate) {
+        val now = clock.millis();
+        val window = getActiveWindow(key, now);
+        if (window != null && (window.isLocked(now) || window.exceedsThreshold(now, rangeInMillis))) {
+            return Optional.ofNullable(window.getSubmission());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void release(final double thresholdRate) {
+        val now = clock.millis();
+        LOGGER.debug("Attempting to release idle throttled records for now [{}]", now);
+        windows.values().removeIf(window -> window.isIdle(now, rangeInMillis));
+    }
+
+    @Override
+    public void clear() {
+        windows.clear();
+    }
+
+    private SubmissionWindow getActiveWindow(final String key, final long now) {
+        val window = windows.get(key);
+        if (window != null && window.isIdle(now, rangeInMillis)) {
+            LOGGER.trace("Throttled submission [{}] is idle and will be ignored", key);
+            return null;
+        }
+        return window;
+    }
+
+    private static final class SubmissionWindow {
+        private final long[] failures;
+
+        private int next;
+
+        private int count;
+
+        private ThrottledSubmission submission;
+
+        SubmissionWindow(final int capacity) {
+            this.failures = new long[capacity];
+        }
+
+        synchronized void record(final ThrottledSubmission submission, final long now) {
+            failures[next] = now;
+            next = (next + 1) % failures.length;
+            count = Math.min(count + 1, failures.length);
+            this.submission = submission;
+        }
+
+        synchronized void update(final ThrottledSubmission submission) {
+            this.submission = submission;
+        }
+
+        synchronized ThrottledSubmission getSubmission() {
+            return submission;
+        }
+
+        synchronized boolean isLocked(final long now) {
+            val expiration = submission != null ? submission.getExpiration() : null;
+            return expiration != null && expiration.toInstant().toEpochMilli() >= now;
+        }
+
+        synchronized boolean exceedsThreshold(final long now, final long rangeInMillis) {
+            return count == failures.length && now - failures[next] <= rangeInMillis;
+        }
+
+        synchronized boolean isIdle(final long now, final long rangeInMillis) {
+            if (isLocked(now)) {
+                return false;
+            }
+            val latest = failures[(next - 1 + failures.length) % failures.length];
+            return count == 0 || now - latest > rangeInMillis;
+        }
+    }
+}
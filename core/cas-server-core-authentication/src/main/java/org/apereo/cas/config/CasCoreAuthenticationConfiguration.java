@@ -8,6 +8,7 @@ import org.apereo.cas.authentication.AuthenticationResultBuilderFactory;
 import org.apereo.cas.authentication.AuthenticationSystemSupport;
 import org.apereo.cas.authentication.AuthenticationTransactionFactory;
 import org.apereo.cas.authentication.AuthenticationTransactionManager;
+import org.apereo.cas.authentication.ConcurrentAuthenticationManager;
 import org.apereo.cas.authentication.DefaultAuthenticationAttributeReleasePolicy;
 import org.apereo.cas.authentication.DefaultAuthenticationEventExecutionPlan;
 import org.apereo.cas.authentication.DefaultAuthenticationManager;
@@ -18,7 +19,10 @@ import org.apereo.cas.authentication.PrincipalElectionStrategy;
 import org.apereo.cas.authentication.handler.DefaultAuthenticationHandlerResolver;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.authentication.AuthenticationEngineProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.TriStateBoolean;
+import org.apereo.cas.monitor.ExecutableObserver;
 import org.apereo.cas.multitenancy.TenantExtractor;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
@@ -113,8 +117,15 @@ class CasCoreAuthenticationConfiguration {
             @Qualifier(AuthenticationSystemSupport.BEAN_NAME)
             final ObjectProvider<AuthenticationSystemSupport> authenticationSystemSupport,
             @Qualifier(AuthenticationEventExecutionPlan.DEFAULT_BEAN_NAME)
-            final AuthenticationEventExecutionPlan authenticationEventExecutionPlan) {
+            final AuthenticationEventExecutionPlan authenticationEventExecutionPlan,
+            @Qualifier(ExecutableObserver.BEAN_NAME)
+            final ObjectProvider<ExecutableObserver> executableObserver) {
             val isFatal = casProperties.getPersonDirectory().getPrincipalResolutionFailureFatal() == TriStateBoolean.TRUE;
+            val engine = casProperties.getAuthn().getCore().getEngine();
+            if (engine.getHandlerExecutionMode() == AuthenticationEngineProperties.AuthenticationHandlerExecutionModes.CONCURRENT) {
+                return new ConcurrentAuthenticationManager(authenticationEventExecutionPlan, authenticationSystemSupport, isFatal,
+                    applicationContext, Beans.newDuration(engine.getHandlerExecutionTimeout()), executableObserver);
+            }
             return new DefaultAuthenticationManager(authenticationEventExecutionPlan, authenticationSystemSupport, isFatal, applicationContext);
         }
     }
@@ -32,6 +32,10 @@ import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMissingGraalVMNativeImage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
@@ -65,8 +69,36 @@ class CasCoreAuthenticationSupportConfiguration {
         @ConditionalOnMissingBean(name = PrincipalAttributesRepositoryCache.DEFAULT_BEAN_NAME)
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
-        public PrincipalAttributesRepositoryCache principalAttributesRepositoryCache() {
-            return new DefaultPrincipalAttributesRepositoryCache();
+        public PrincipalAttributesRepositoryCache principalAttributesRepositoryCache(
+            final CasConfigurationProperties casProperties) {
+            val core = casProperties.getAuthn().getAttributeRepository().getCore();
+            return new DefaultPrincipalAttributesRepositoryCache(core.getMaximumCacheMemory());
+        }
+
+        @ConditionalOnMissingBean(name = "principalAttributesRepositoryCacheMeterBinder")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public MeterBinder principalAttributesRepositoryCacheMeterBinder(
+            @Qualifier(PrincipalAttributesRepositoryCache.DEFAULT_BEAN_NAME)
+            final ObjectProvider<PrincipalAttributesRepositoryCache> principalAttributesRepositoryCache) {
+            return registry -> principalAttributesRepositoryCache.ifAvailable(cache -> {
+                if (cache instanceof final DefaultPrincipalAttributesRepositoryCache defaultCache) {
+                    CaffeineCacheMetrics.monitor(registry, defaultCache.getCache(), "principalAttributes");
+                    defaultCache.addStatisticsListener(statistics -> {
+                        val tags = Tags.of("cache", "principalAttributes",
+                            "serviceId", String.valueOf(statistics.getServiceId()));
+                        FunctionCounter.builder("cas.principal.attributes.cache.hits", statistics,
+                            DefaultPrincipalAttributesRepositoryCache.RegisteredServiceCacheStatistics::getHitCount)
+                            .tags(tags).register(registry);
+                        FunctionCounter.builder("cas.principal.attributes.cache.misses", statistics,
+                            DefaultPrincipalAttributesRepositoryCache.RegisteredServiceCacheStatistics::getMissCount)
+                            .tags(tags).register(registry);
+                        FunctionCounter.builder("cas.principal.attributes.cache.loads", statistics,
+                            DefaultPrincipalAttributesRepositoryCache.RegisteredServiceCacheStatistics::getLoadCount)
+                            .tags(tags).register(registry);
+                    });
+                }
+            });
         }
     }
 
@@ -37,6 +37,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.support.StaticApplicationContext;
 import javax.security.auth.login.FailedLoginException;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -403,6 +404,52 @@ class DefaultAuthenticationManagerTests {
         assertEquals(2, auth.getCredentials().size());
     }
 
+    @Test
+    void verifyConcurrentHandlersHonorOrder() throws Throwable {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newMockHandler(HANDLER_A, false), null);
+        map.put(newMockHandler(HANDLER_B, true), null);
+        val slowHandler = newMockHandler(true);
+        when(slowHandler.authenticate(any(Credential.class), any(Service.class))).thenAnswer(__ -> {
+            Thread.sleep(Duration.ofMinutes(1));
+            return null;
+        });
+        map.put(slowHandler, null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new ConcurrentAuthenticationManager(authenticationExecutionPlan,
+            new DirectObjectProvider<>(CoreAuthenticationTestUtils.getAuthenticationSystemSupport()),
+            false, applicationContext, Duration.ofSeconds(10), new DirectObjectProvider<>(null));
+        val auth = manager.authenticate(transaction);
+        assertTrue(auth.getSuccesses().containsKey(HANDLER_B));
+        assertTrue(auth.getFailures().containsKey(HANDLER_A));
+        assertFalse(auth.getSuccesses().containsKey(slowHandler.getName()));
+        manager.destroy();
+    }
+
+    @Test
+    void verifyConcurrentHandlersTimeout() throws Throwable {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newMockHandler(HANDLER_A, false), null);
+        val slowHandler = newMockHandler(HANDLER_B, true);
+        when(slowHandler.authenticate(any(Credential.class), any(Service.class))).thenAnswer(__ -> {
+            Thread.sleep(Duration.ofMinutes(1));
+            return null;
+        });
+        map.put(slowHandler, null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new ConcurrentAuthenticationManager(authenticationExecutionPlan,
+            new DirectObjectProvider<>(CoreAuthenticationTestUtils.getAuthenticationSystemSupport()),
+            false, applicationContext, Duration.ofMillis(500), new DirectObjectProvider<>(null));
+        val ex = assertThrows(AuthenticationException.class, () -> manager.authenticate(transaction));
+        assertTrue(ex.getHandlerErrors().containsKey(HANDLER_A));
+        assertInstanceOf(PreventedException.class, ex.getHandlerErrors().get(HANDLER_B));
+        manager.destroy();
+    }
+
     private AuthenticationManager getAuthenticationManager(final AuthenticationEventExecutionPlan authenticationExecutionPlan) {
         return new DefaultAuthenticationManager(authenticationExecutionPlan,
             new DirectObjectProvider<>(CoreAuthenticationTestUtils.getAuthenticationSystemSupport()),
@@ -1,12 +1,15 @@
 package org.apereo.cas.web.support.mgmr;
 
 import org.apereo.cas.multitenancy.TenantExtractor;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.web.cookie.CookieSameSitePolicy;
 import org.apereo.cas.web.cookie.CookieValueManager;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.ArrayUtils;
@@ -16,9 +19,13 @@ import jakarta.servlet.http.HttpServletRequest;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Optional;
 
 /**
  * Provides basic encryption/decryption support for cookie values.
+ * Decoded cookie values may optionally be remembered, keyed by the digest of the cookie,
+ * so that repeated requests carrying the same cookie are not decrypted and verified again.
+ * Checks applied to the compound cookie value always run for every request.
  *
  * @author Daniel Frett
  * @since 5.3.0
@@ -40,6 +47,13 @@ public class EncryptedCookieValueManager implements CookieValueManager {
     @Getter
     private final CookieSameSitePolicy cookieSameSitePolicy;
 
+    /**
+     * Decoded cookie values keyed by the digest of the cookie.
+     */
+    @Getter
+    @Setter
+    private transient Cache<String, String> decodedCookieValueCache;
+
     @Override
     public final String buildCookieValue(final String givenCookieValue, final HttpServletRequest request) {
         val res = buildCompoundCookieValue(givenCookieValue, request);
@@ -49,6 +63,16 @@ public class EncryptedCookieValueManager implements CookieValueManager {
 
     @Override
     public String obtainCookieValue(final String cookie, final HttpServletRequest request) {
+        val cookieValue = Optional.ofNullable(decodedCookieValueCache)
+            .map(cache -> cache.get(DigestUtils.sha256(cookie), __ -> decodeCookieValue(cookie)))
+            .orElseGet(() -> decodeCookieValue(cookie));
+        if (cookieValue == null) {
+            return null;
+        }
+        return obtainValueFromCompoundCookie(cookieValue, request);
+    }
+
+    private String decodeCookieValue(final String cookie) {
         val decoded = cipherExecutor.decode(cookie, ArrayUtils.EMPTY_OBJECT_ARRAY);
         if (decoded == null) {
             LOGGER.trace("Could not decode cookie value [{}] for cookie", cookie);
@@ -60,8 +84,7 @@ public class EncryptedCookieValueManager implements CookieValueManager {
             LOGGER.trace("Retrieved decoded cookie value is blank. Failed to decode cookie");
             return null;
         }
-
-        return obtainValueFromCompoundCookie(cookieValue, request);
+        return cookieValue;
     }
 
     /**
@@ -2,6 +2,7 @@ package org.apereo.cas.web.support.mgmr;
 
 import org.apereo.cas.multitenancy.TenantExtractor;
 import org.apereo.cas.util.crypto.CipherExecutor;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Tag;
@@ -34,4 +35,21 @@ class EncryptedCookieValueManagerTests {
             mock(TenantExtractor.class), DefaultCookieSameSitePolicy.INSTANCE);
         assertNull(mgr.obtainCookieValue("something", new MockHttpServletRequest()));
     }
+
+    @Test
+    void verifyDecodedValueCached() {
+        val cipher = mock(CipherExecutor.class);
+        when(cipher.decode(eq("cookie"), any())).thenReturn("TGT-1");
+        val mgr = new EncryptedCookieValueManager(cipher,
+            mock(TenantExtractor.class), DefaultCookieSameSitePolicy.INSTANCE);
+        mgr.setDecodedCookieValueCache(Caffeine.newBuilder().maximumSize(10).recordStats().build());
+        assertEquals("TGT-1", mgr.obtainCookieValue("cookie", new MockHttpServletRequest()));
+        assertEquals("TGT-1", mgr.obtainCookieValue("cookie", new MockHttpServletRequest()));
+        verify(cipher, times(1)).decode(eq("cookie"), any());
+        assertEquals(1, mgr.getDecodedCookieValueCache().stats().hitCount());
+
+        assertNull(mgr.obtainCookieValue("unknown", new MockHttpServletRequest()));
+        assertNull(mgr.obtainCookieValue("unknown", new MockHttpServletRequest()));
+        verify(cipher, times(2)).decode(eq("unknown"), any());
+    }
 }
@@ -3,6 +3,7 @@ package org.apereo.cas.config;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.multitenancy.TenantExtractor;
 import org.apereo.cas.util.cipher.CipherExecutorUtils;
 import org.apereo.cas.util.cipher.TicketGrantingCookieCipherExecutor;
@@ -14,7 +15,11 @@ import org.apereo.cas.web.support.CookieUtils;
 import org.apereo.cas.web.support.gen.CookieRetrievingCookieGenerator;
 import org.apereo.cas.web.support.mgmr.DefaultCasCookieValueManager;
 import org.apereo.cas.web.support.mgmr.DefaultCookieSameSitePolicy;
+import org.apereo.cas.web.support.mgmr.EncryptedCookieValueManager;
 import org.apereo.cas.web.support.mgmr.NoOpCookieValueManager;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -53,14 +58,38 @@ public class CasCoreCookieAutoConfiguration {
             final TenantExtractor tenantExtractor,
             final CasConfigurationProperties casProperties,
             @Qualifier("cookieCipherExecutor") final CipherExecutor cookieCipherExecutor) {
-            if (casProperties.getTgc().getCrypto().isEnabled()) {
-                return new DefaultCasCookieValueManager(cookieCipherExecutor,
+            val tgc = casProperties.getTgc();
+            if (tgc.getCrypto().isEnabled()) {
+                val valueManager = new DefaultCasCookieValueManager(cookieCipherExecutor,
                     tenantExtractor, geoLocationService,
-                    DefaultCookieSameSitePolicy.INSTANCE, casProperties.getTgc());
+                    DefaultCookieSameSitePolicy.INSTANCE, tgc);
+                val expiration = Beans.newDuration(tgc.getDecodedValueCacheExpiration());
+                if (expiration.isPositive() && tgc.getDecodedValueCacheMaximumSize() > 0) {
+                    valueManager.setDecodedCookieValueCache(Caffeine.newBuilder()
+                        .maximumSize(tgc.getDecodedValueCacheMaximumSize())
+                        .expireAfterWrite(expiration)
+                        .recordStats()
+                        .build());
+                }
+                return valueManager;
             }
             return new NoOpCookieValueManager(tenantExtractor);
         }
 
+        @ConditionalOnMissingBean(name = "cookieValueManagerMeterBinder")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public MeterBinder cookieValueManagerMeterBinder(
+            @Qualifier(CookieValueManager.BEAN_NAME)
+            final ObjectProvider<CookieValueManager> cookieValueManager) {
+            return registry -> cookieValueManager.ifAvailable(manager -> {
+                if (manager instanceof final EncryptedCookieValueManager encryptedManager
+                    && encryptedManager.getDecodedCookieValueCache() != null) {
+                    CaffeineCacheMetrics.monitor(registry, encryptedManager.getDecodedCookieValueCache(), "ticketGrantingCookieValues");
+                }
+            });
+        }
+
         @ConditionalOnMissingBean(name = "cookieCipherExecutor")
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @Bean
@@ -0,0 +1,121 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.logout.slo.SingleLogoutExecutionRequest;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutRequestContext;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.beans.factory.DisposableBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * This is {@link ConcurrentLogoutManager}. Single logout requests for all services
+ * linked to the ticket-granting ticket are handled at once on virtual threads, so that
+ * a slow application does not hold up logout notifications sent to others.
+ * Results are collected in the order of services, exactly as they would have been had
+ * the services been processed one after another. Services whose logout requests are not handled
+ * before the overall deadline passes are cancelled and reported as failed; logout messages
+ * that are still in flight for such services are handed over to the outbox of the message dispatcher.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+@Getter
+public class ConcurrentLogoutManager extends DefaultLogoutManager implements DisposableBean {
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Duration timeout;
+
+    private final SingleLogoutMessageDispatcher messageDispatcher;
+
+    public ConcurrentLogoutManager(final boolean singleLogoutCallbacksDisabled,
+                                   final LogoutExecutionPlan logoutExecutionPlan,
+                                   final Duration timeout,
+                                   final SingleLogoutMessageDispatcher messageDispatcher) {
+        super(singleLogoutCallbacksDisabled, logoutExecutionPlan);
+        this.timeout = timeout;
+        this.messageDispatcher = messageDispatcher;
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    @Override
+    protected List<SingleLogoutRequestContext> handleLogoutServices(final SingleLogoutExecutionRequest context,
+                                                                    final List<Pair<String, WebApplicationService>> logoutServices) {
+        if (logoutServices.size() <= 1) {
+            return super.handleLogoutServices(context, logoutServices);
+        }
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val results = logoutServices
+            .stream()
+            .map(entry -> executorService.submit(() -> {
+                try {
+                    ClientInfoHolder.setClientInfo(clientInfo);
+                    return handleLogoutService(context, entry.getKey(), entry.getValue());
+                } finally {
+                    ClientInfoHolder.clear();
+                }
+            }))
+            .toList();
+
+        val deadline = System.nanoTime() + timeout.toNanos();
+        val logoutRequests = new ArrayList<SingleLogoutRequestContext>();
+        for (var i = 0; i < results.size(); i++) {
+            val entry = logoutServices.get(i);
+            logoutRequests.addAll(waitForLogoutRequests(context, entry.getKey(), entry.getValue(), results.get(i), deadline));
+        }
+        return logoutRequests;
+    }
+
+    private List<SingleLogoutRequestContext> waitForLogoutRequests(final SingleLogoutExecutionRequest context,
+                                                                   final String ticketId,
+                                                                   final WebApplicationService service,
+                                                                   final Future<List<SingleLogoutRequestContext>> result,
+                                                                   final long deadline) {
+        try {
+            return result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            LOGGER.warn("Single logout for [{}] did not complete in time and is cancelled", service.getId());
+            return abandonLogoutRequests(context, ticketId, service, result);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return abandonLogoutRequests(context, ticketId, service, result);
+        } catch (final ExecutionException e) {
+            LOGGER.warn("Single logout for [{}] has failed: [{}]", service.getId(), e.getCause().getMessage());
+        }
+        return List.of();
+    }
+
+    private List<SingleLogoutRequestContext> abandonLogoutRequests(final SingleLogoutExecutionRequest context,
+                                                                   final String ticketId,
+                                                                   final WebApplicationService service,
+                                                                   final Future<List<SingleLogoutRequestContext>> result) {
+        val abandoned = messageDispatcher != null ? messageDispatcher.abandon(ticketId) : List.<SingleLogoutRequestContext>of();
+        result.cancel(true);
+        if (!abandoned.isEmpty()) {
+            return abandoned;
+        }
+        return List.of(DefaultSingleLogoutRequestContext.builder()
+            .ticketId(ticketId)
+            .service(service)
+            .executionRequest(context)
+            .status(LogoutRequestStatus.FAILURE)
+            .build());
+    }
+}
@@ -78,23 +78,49 @@ public class DefaultLogoutManager implements LogoutManager {
             .filter(entry -> entry.getValue() instanceof WebApplicationService)
             .map(entry -> Pair.of(entry.getKey(), (WebApplicationService) entry.getValue())).toList();
 
-        val sloHandlers = logoutExecutionPlan.getSingleLogoutServiceMessageHandlers();
+        return handleLogoutServices(context, logoutServices)
+            .stream()
+            .filter(distinctByKey(SingleLogoutRequestContext::getService))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Handle single logout for the given services, one after another.
+     *
+     * @param context        the context
+     * @param logoutServices the logout services, keyed by their ticket id
+     * @return the logout requests
+     */
+    protected List<SingleLogoutRequestContext> handleLogoutServices(final SingleLogoutExecutionRequest context,
+                                                                    final List<Pair<String, WebApplicationService>> logoutServices) {
         return logoutServices
             .stream()
-            .map(entry -> sloHandlers
-                .stream()
-                .sorted(Comparator.comparing(SingleLogoutServiceMessageHandler::getOrder))
-                .filter(handler -> handler.supports(context, entry.getValue()))
-                .map(handler -> {
-                    val service = entry.getValue();
-                    LOGGER.trace("Handling single logout callback for [{}]", service.getId());
-                    return handler.handle(service, entry.getKey(), context);
-                })
-                .flatMap(Collection::stream)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList()))
+            .map(entry -> handleLogoutService(context, entry.getKey(), entry.getValue()))
             .flatMap(Collection::stream)
-            .filter(distinctByKey(SingleLogoutRequestContext::getService))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Handle single logout for a service using all handlers that support it.
+     *
+     * @param context  the context
+     * @param ticketId the ticket id
+     * @param service  the service
+     * @return the logout requests
+     */
+    protected List<SingleLogoutRequestContext> handleLogoutService(final SingleLogoutExecutionRequest context,
+                                                                   final String ticketId,
+                                                                   final WebApplicationService service) {
+        return logoutExecutionPlan.getSingleLogoutServiceMessageHandlers()
+            .stream()
+            .sorted(Comparator.comparing(SingleLogoutServiceMessageHandler::getOrder))
+            .filter(handler -> handler.supports(context, service))
+            .map(handler -> {
+                LOGGER.trace("Handling single logout callback for [{}]", service.getId());
+                return handler.handle(service, ticketId, context);
+            })
+            .flatMap(Collection::stream)
+            .filter(Objects::nonNull)
             .collect(Collectors.toList());
     }
 }
@@ -17,6 +17,7 @@ import org.apereo.cas.web.HttpMessage;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import java.net.URI;
@@ -47,6 +48,9 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
 
     private final AuthenticationServiceSelectionPlan authenticationRequestServiceSelectionStrategies;
 
+    @Setter
+    private SingleLogoutMessageDispatcher messageDispatcher;
+
     @Override
     public Collection<SingleLogoutRequestContext> handle(final WebApplicationService singleLogoutService,
                                                          final String ticketId,
@@ -201,6 +205,9 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
     protected boolean sendMessageToEndpoint(final HttpMessage msg,
                                             final SingleLogoutRequestContext request,
                                             final SingleLogoutMessage logoutMessage) {
+        if (messageDispatcher != null) {
+            return messageDispatcher.dispatch(msg, request);
+        }
         return this.httpClient.sendMessageToEndPoint(msg);
     }
     
@@ -0,0 +1,258 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.configuration.model.core.slo.SingleLogoutDispatcherProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.logout.LogoutRequestStatus;
+import org.apereo.cas.monitor.ExecutableObserver;
+import org.apereo.cas.monitor.MonitorableTask;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+import org.apereo.cas.web.HttpMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import java.io.IOException;
+import java.io.Serial;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcher}. Sends back-channel logout messages
+ * while limiting the number of messages that may be in flight for the same host at the same time,
+ * so that logout requests processed concurrently do not overwhelm a single application
+ * or exhaust the connections the HTTP client keeps alive for its route.
+ * Each delivery is observed, which allows latency and failures to be reported per registered service.
+ * Messages that cannot be delivered may be kept in a durable outbox on disk and retried later.
+ * Messages that are still in flight when their logout request is abandoned are kept in the outbox as well;
+ * such messages may end up delivered twice, should the original attempt eventually go through.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+@Getter
+public class SingleLogoutMessageDispatcher {
+    /**
+     * Bean name.
+     */
+    public static final String BEAN_NAME = "singleLogoutMessageDispatcher";
+
+    private static final String OBSERVATION_NAME = "cas.logout.slo.dispatch";
+
+    private static final String OUTBOX_FILE_EXTENSION = ".json";
+
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(false).build().toObjectMapper();
+
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    private final Map<SingleLogoutRequestContext, HttpMessage> inFlightMessages =
+        Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private final SingleLogoutDispatcherProperties properties;
+
+    private final HttpClient httpClient;
+
+    private final ObjectProvider<ExecutableObserver> executableObserver;
+
+    private final Duration timeout;
+
+    private final Path outboxDirectory;
+
+    public SingleLogoutMessageDispatcher(final SingleLogoutDispatcherProperties properties,
+                                         final HttpClient httpClient,
+                                         final ObjectProvider<ExecutableObserver> executableObserver) {
+        this.properties = properties;
+        this.httpClient = httpClient;
+        this.executableObserver = executableObserver;
+        this.timeout = Beans.newDuration(properties.getTimeout());
+        this.outboxDirectory = StringUtils.isNotBlank(properties.getOutboxDirectory())
+            ? Path.of(properties.getOutboxDirectory())
+            : null;
+    }
+
+    /**
+     * Dispatch the logout message to its endpoint.
+     * A message that cannot be delivered is kept in the outbox, if one is defined.
+     *
+     * @param message the message
+     * @param request the logout request
+     * @return true if the message was delivered
+     */
+    public boolean dispatch(final HttpMessage message, final SingleLogoutRequestContext request) {
+        val serviceName = Optional.ofNullable(request.getRegisteredService())
+            .map(RegisteredService::getName)
+            .orElse(StringUtils.EMPTY);
+        inFlightMessages.put(request, message);
+        val delivered = send(message, serviceName);
+        if (inFlightMessages.remove(request) != null && !delivered) {
+            storeInOutbox(message);
+        }
+        return delivered;
+    }
+
+    /**
+     * Abandon logout requests for the given ticket whose messages are still in flight.
+     * Abandoned requests are marked as failed, and their messages are kept in the outbox, if one is defined.
+     *
+     * @param ticketId the ticket id
+     * @return the abandoned logout requests
+     */
+    public List<SingleLogoutRequestContext> abandon(final String ticketId) {
+        val abandoned = new ArrayList<Map.Entry<SingleLogoutRequestContext, HttpMessage>>();
+        synchronized (inFlightMessages) {
+            val iterator = inFlightMessages.entrySet().iterator();
+            while (iterator.hasNext()) {
+                val entry = iterator.next();
+                if (StringUtils.equals(ticketId, entry.getKey().getTicketId())) {
+                    abandoned.add(Map.entry(entry.getKey(), entry.getValue()));
+                    iterator.remove();
+                }
+            }
+        }
+        return abandoned
+            .stream()
+            .map(entry -> {
+                LOGGER.debug("Abandoning logout message to [{}] that is still in flight", entry.getValue().getUrl());
+                entry.getKey().setStatus(LogoutRequestStatus.FAILURE);
+                storeInOutbox(entry.getValue());
+                return entry.getKey();
+            })
+            .toList();
+    }
+
+    /**
+     * Retry delivering messages kept in the outbox.
+     * Delivered messages are removed from the outbox; others are kept until
+     * the maximum number of attempts is reached.
+     */
+    public void retryUndeliveredMessages() {
+        if (outboxDirectory == null || !Files.isDirectory(outboxDirectory)) {
+            return;
+        }
+        try (val files = Files.list(outboxDirectory)) {
+            files
+                .filter(file -> file.getFileName().toString().endsWith(OUTBOX_FILE_EXTENSION))
+                .forEach(this::retryUndeliveredMessage);
+        } catch (final IOException e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    /**
+     * Gets the number of messages kept in the outbox.
+     *
+     * @return the outbox size
+     */
+    public long getOutboxSize() {
+        if (outboxDirectory == null || !Files.isDirectory(outboxDirectory)) {
+            return 0;
+        }
+        try (val files = Files.list(outboxDirectory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(OUTBOX_FILE_EXTENSION)).count();
+        } catch (final IOException e) {
+            LoggingUtils.error(LOGGER, e);
+            return 0;
+        }
+    }
+
+    private void retryUndeliveredMessage(final Path file) {
+        try {
+            val entry = MAPPER.readValue(file.toFile(), OutboxEntry.class);
+            val message = new OutboxHttpMessage(URI.create(entry.url()).toURL(), entry.message(), entry.contentType());
+            if (send(message, StringUtils.EMPTY)) {
+                LOGGER.debug("Delivered logout message kept in the outbox to [{}]", entry.url());
+                Files.deleteIfExists(file);
+            } else if (entry.attempts() + 1 >= properties.getMaxRetryAttempts()) {
+                LOGGER.warn("Discarding logout message to [{}] after [{}] failed attempts", entry.url(), entry.attempts() + 1);
+                Files.deleteIfExists(file);
+            } else {
+                MAPPER.writeValue(file.toFile(), new OutboxEntry(entry.url(), entry.message(), entry.contentType(), entry.attempts() + 1));
+            }
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    private boolean send(final HttpMessage message, final String serviceName) {
+        val host = StringUtils.defaultString(message.getUrl().getAuthority());
+        val permits = hostPermits.computeIfAbsent(host, __ -> new Semaphore(Math.max(1, properties.getMaxConcurrentRequestsPerHost())));
+        try {
+            if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Timed out waiting to send logout message to [{}]", host);
+                return false;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        try {
+            val observer = executableObserver.getIfAvailable();
+            if (observer == null) {
+                return httpClient.sendMessageToEndPoint(message);
+            }
+            val task = new MonitorableTask(OBSERVATION_NAME).withBoundedValue("service", serviceName);
+            return observer.supply(task, () -> {
+                if (!httpClient.sendMessageToEndPoint(message)) {
+                    throw new IllegalStateException("Unable to deliver logout message to " + message.getUrl());
+                }
+                return Boolean.TRUE;
+            });
+        } catch (final Throwable e) {
+            LOGGER.debug(e.getMessage(), e);
+            return false;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void storeInOutbox(final HttpMessage message) {
+        if (outboxDirectory != null) {
+            try {
+                Files.createDirectories(outboxDirectory);
+                val file = outboxDirectory.resolve(UUID.randomUUID() + OUTBOX_FILE_EXTENSION);
+                val entry = new OutboxEntry(message.getUrl().toExternalForm(), message.getMessage(), message.getContentType(), 0);
+                MAPPER.writeValue(file.toFile(), entry);
+                LOGGER.debug("Stored undelivered logout message to [{}] in the outbox at [{}]", entry.url(), file);
+            } catch (final IOException e) {
+                LoggingUtils.error(LOGGER, e);
+            }
+        }
+    }
+
+    private record OutboxEntry(String url, String message, String contentType, int attempts) {
+    }
+
+    private static final class OutboxHttpMessage extends HttpMessage {
+        @Serial
+        private static final long serialVersionUID = -2317484315098462719L;
+
+        OutboxHttpMessage(final URL url, final String message, final String contentType) {
+            super(url, message, false);
+            setContentType(contentType);
+        }
+
+        @Override
+        protected String formatOutputMessageInternal(final String message) {
+            return message;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import org.apereo.cas.authentication.principal.ServiceFactoryConfigurer;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.logout.ConcurrentLogoutManager;
 import org.apereo.cas.logout.DefaultLogoutExecutionPlan;
 import org.apereo.cas.logout.DefaultLogoutManager;
 import org.apereo.cas.logout.DefaultLogoutRedirectionStrategy;
@@ -22,15 +24,18 @@ import org.apereo.cas.logout.slo.DefaultSingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.SingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilderConfigurer;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
+import org.apereo.cas.monitor.ExecutableObserver;
 import org.apereo.cas.multitenancy.TenantExtractor;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.tracking.TicketTrackingPolicy;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
@@ -38,8 +43,10 @@ import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.UrlValidator;
 import org.apereo.cas.web.support.ArgumentExtractor;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
@@ -49,8 +56,10 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
 
 import java.util.Comparator;
 import java.util.List;
@@ -67,6 +76,7 @@ import java.util.stream.Collectors;
 @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.Logout)
 @AutoConfiguration
 public class CasCoreLogoutAutoConfiguration {
+    private static final BeanCondition CONDITION_DISPATCHER = BeanCondition.on("cas.slo.dispatcher.enabled").isTrue();
 
     @Configuration(value = "CasCoreLogoutUrlBuilderConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
@@ -141,13 +151,52 @@ public class CasCoreLogoutAutoConfiguration {
             @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
             final HttpClient noRedirectHttpClient,
             @Qualifier("singleLogoutServiceLogoutUrlBuilder")
-            final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder) {
-            return new DefaultSingleLogoutServiceMessageHandler(noRedirectHttpClient,
+            final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder,
+            @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+            final SingleLogoutMessageDispatcher singleLogoutMessageDispatcher) {
+            val slo = casProperties.getSlo();
+            val handler = new DefaultSingleLogoutServiceMessageHandler(noRedirectHttpClient,
                 defaultSingleLogoutMessageCreator,
                 servicesManager,
                 singleLogoutServiceLogoutUrlBuilder,
-                casProperties.getSlo().isAsynchronous(),
+                slo.isAsynchronous() && !slo.getDispatcher().isEnabled(),
                 authenticationServiceSelectionPlan);
+            BeanSupplier.ifNotProxy(singleLogoutMessageDispatcher, handler::setMessageDispatcher);
+            return handler;
+        }
+
+        @ConditionalOnMissingBean(name = SingleLogoutMessageDispatcher.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public SingleLogoutMessageDispatcher singleLogoutMessageDispatcher(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
+            final HttpClient noRedirectHttpClient,
+            @Qualifier(ExecutableObserver.BEAN_NAME)
+            final ObjectProvider<ExecutableObserver> executableObserver) {
+            return BeanSupplier.of(SingleLogoutMessageDispatcher.class)
+                .when(CONDITION_DISPATCHER.given(applicationContext.getEnvironment()))
+                .supply(() -> new SingleLogoutMessageDispatcher(casProperties.getSlo().getDispatcher(),
+                    noRedirectHttpClient, executableObserver))
+                .otherwiseProxy()
+                .get();
+        }
+
+        @ConditionalOnMissingBean(name = "singleLogoutMessageOutboxScheduler")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Lazy(false)
+        public Runnable singleLogoutMessageOutboxScheduler(
+            final ConfigurableApplicationContext applicationContext,
+            @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+            final SingleLogoutMessageDispatcher singleLogoutMessageDispatcher) {
+            return BeanSupplier.of(Runnable.class)
+                .when(CONDITION_DISPATCHER.given(applicationContext.getEnvironment()))
+                .when(BeanCondition.on("cas.slo.dispatcher.outbox-directory").exists().given(applicationContext.getEnvironment()))
+                .supply(() -> new SingleLogoutMessageOutboxScheduler(singleLogoutMessageDispatcher))
+                .otherwiseProxy()
+                .get();
         }
 
         @ConditionalOnMissingBean(name = "defaultSingleLogoutMessageCreator")
@@ -168,8 +217,15 @@ public class CasCoreLogoutAutoConfiguration {
         public LogoutManager logoutManager(
             @Qualifier(LogoutExecutionPlan.BEAN_NAME)
             final LogoutExecutionPlan logoutExecutionPlan,
+            @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+            final SingleLogoutMessageDispatcher singleLogoutMessageDispatcher,
             final CasConfigurationProperties casProperties) {
-            return new DefaultLogoutManager(casProperties.getSlo().isDisabled(), logoutExecutionPlan);
+            val slo = casProperties.getSlo();
+            if (slo.getDispatcher().isEnabled()) {
+                return new ConcurrentLogoutManager(slo.isDisabled(), logoutExecutionPlan,
+                    Beans.newDuration(slo.getDispatcher().getTimeout()), singleLogoutMessageDispatcher);
+            }
+            return new DefaultLogoutManager(slo.isDisabled(), logoutExecutionPlan);
         }
 
     }
@@ -257,6 +313,19 @@ public class CasCoreLogoutAutoConfiguration {
         }
     }
 
+    @RequiredArgsConstructor
+    static class SingleLogoutMessageOutboxScheduler implements Runnable {
+        private final SingleLogoutMessageDispatcher dispatcher;
+
+        @Scheduled(
+            initialDelayString = "${cas.slo.dispatcher.retry-interval:PT1M}",
+            fixedDelayString = "${cas.slo.dispatcher.retry-interval:PT1M}")
+        @Override
+        public void run() {
+            FunctionUtils.doAndHandle(__ -> dispatcher.retryUndeliveredMessages());
+        }
+    }
+
     @Configuration(value = "CasCoreLogoutExecutorConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     static class CasCoreLogoutExecutorConfiguration {
@@ -0,0 +1,213 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.authentication.DefaultAuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.DefaultAuthenticationServiceSelectionStrategy;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.authentication.principal.WebApplicationServiceFactory;
+import org.apereo.cas.configuration.model.core.slo.SingleLogoutDispatcherProperties;
+import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
+import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
+import org.apereo.cas.logout.slo.SingleLogoutExecutionRequest;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutRequestContext;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.multitenancy.TenantExtractor;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.RegisteredServiceLogoutType;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.util.RandomUtils;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.web.HttpMessage;
+import org.apereo.cas.web.SimpleUrlValidatorFactoryBean;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link ConcurrentLogoutManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("Logout")
+class ConcurrentLogoutManagerTests {
+    private static final int SERVICE_COUNT = 20;
+
+    private final ServicesManager servicesManager = mock(ServicesManager.class);
+
+    private final HttpClient client = mock(HttpClient.class);
+
+    private MockTicketGrantingTicket tgt;
+
+    private DefaultLogoutExecutionPlan plan;
+
+    private DefaultSingleLogoutServiceMessageHandler handler;
+
+    private ConcurrentLogoutManager logoutManager;
+
+    private static SingleLogoutExecutionRequest getExecutionRequest(final MockTicketGrantingTicket tgt) {
+        return SingleLogoutExecutionRequest
+            .builder()
+            .ticketGrantingTicket(tgt)
+            .httpServletResponse(Optional.of(new MockHttpServletResponse()))
+            .httpServletRequest(Optional.of(new MockHttpServletRequest()))
+            .build();
+    }
+
+    @BeforeEach
+    void initialize() {
+        tgt = new MockTicketGrantingTicket("casuser");
+        when(client.isValidEndPoint(any(String.class))).thenReturn(true);
+        val factory = new WebApplicationServiceFactory(mock(TenantExtractor.class));
+        IntStream.range(0, SERVICE_COUNT).forEach(i -> {
+            val url = "https://app%s.example.org/logout".formatted(i);
+            val request = new MockHttpServletRequest();
+            request.addParameter("service", url);
+            val service = (WebApplicationService) factory.createService(request);
+            tgt.getServices().put("ST-" + i, service);
+
+            val registeredService = new CasRegisteredService();
+            registeredService.setServiceId(url);
+            registeredService.setName("App" + i);
+            registeredService.setId(RandomUtils.getNativeInstance().nextInt());
+            registeredService.setLogoutType(RegisteredServiceLogoutType.BACK_CHANNEL);
+            when(servicesManager.findServiceBy(service)).thenReturn(registeredService);
+        });
+
+        val validator = new SimpleUrlValidatorFactoryBean(true).getObject();
+        handler = new DefaultSingleLogoutServiceMessageHandler(client,
+            new DefaultSingleLogoutMessageCreator(), servicesManager,
+            new DefaultSingleLogoutServiceLogoutUrlBuilder(servicesManager, validator), false,
+            new DefaultAuthenticationServiceSelectionPlan(new DefaultAuthenticationServiceSelectionStrategy()));
+        plan = new DefaultLogoutExecutionPlan();
+        plan.registerSingleLogoutServiceMessageHandler(handler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (logoutManager != null) {
+            logoutManager.destroy();
+        }
+    }
+
+    @Test
+    void verifyServicesAreLoggedOutConcurrently() throws Throwable {
+        when(client.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return true;
+        });
+        logoutManager = new ConcurrentLogoutManager(false, plan, Duration.ofSeconds(5), null);
+        val startTime = System.currentTimeMillis();
+        val logoutRequests = logoutManager.performLogout(getExecutionRequest(tgt));
+        assertTrue(System.currentTimeMillis() - startTime < 500L * SERVICE_COUNT / 2);
+        assertEquals(SERVICE_COUNT, logoutRequests.size());
+        assertTrue(logoutRequests.stream().allMatch(request -> request.getStatus() == LogoutRequestStatus.SUCCESS));
+        assertEquals(tgt.getServices().keySet(), logoutRequests.stream()
+            .map(SingleLogoutRequestContext::getTicketId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void verifySlowServiceIsCancelled() throws Throwable {
+        when(client.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(invocation -> {
+            val message = invocation.getArgument(0, HttpMessage.class);
+            if (message.getUrl().getHost().startsWith("app0.")) {
+                Thread.sleep(10_000);
+            }
+            return true;
+        });
+        logoutManager = new ConcurrentLogoutManager(false, plan, Duration.ofSeconds(1), null);
+        val logoutRequests = logoutManager.performLogout(getExecutionRequest(tgt));
+        assertEquals(SERVICE_COUNT, logoutRequests.size());
+        val failed = logoutRequests.stream().filter(request -> request.getStatus() == LogoutRequestStatus.FAILURE).toList();
+        assertEquals(1, failed.size());
+        assertEquals("ST-0", failed.getFirst().getTicketId());
+    }
+
+    @Test
+    void verifySlowServiceIsKeptInOutbox(@TempDir final Path directory) throws Throwable {
+        when(client.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(invocation -> {
+            val message = invocation.getArgument(0, HttpMessage.class);
+            if (message.getUrl().getHost().startsWith("app0.")) {
+                Thread.sleep(10_000);
+            }
+            return true;
+        });
+        val properties = new SingleLogoutDispatcherProperties().setEnabled(true).setOutboxDirectory(directory.toString());
+        val dispatcher = new SingleLogoutMessageDispatcher(properties, client, mock(ObjectProvider.class));
+        handler.setMessageDispatcher(dispatcher);
+        logoutManager = new ConcurrentLogoutManager(false, plan, Duration.ofSeconds(1), dispatcher);
+        val logoutRequests = logoutManager.performLogout(getExecutionRequest(tgt));
+        assertEquals(SERVICE_COUNT, logoutRequests.size());
+        val failed = logoutRequests.stream().filter(request -> request.getStatus() == LogoutRequestStatus.FAILURE).toList();
+        assertEquals(1, failed.size());
+        assertEquals("ST-0", failed.getFirst().getTicketId());
+        assertNotNull(failed.getFirst().getLogoutUrl());
+        assertEquals(1, dispatcher.getOutboxSize());
+    }
+
+    @Test
+    void verifyConcurrencyPerHostIsLimited() throws Throwable {
+        val inFlight = new AtomicInteger();
+        val maxInFlight = new AtomicInteger();
+        when(client.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(100);
+            inFlight.decrementAndGet();
+            return true;
+        });
+        val properties = new SingleLogoutDispatcherProperties().setEnabled(true).setMaxConcurrentRequestsPerHost(2);
+        val dispatcher = new SingleLogoutMessageDispatcher(properties, client, mock(ObjectProvider.class));
+        handler.setMessageDispatcher(dispatcher);
+        tgt.getServices().values().forEach(service -> {
+            val registeredService = (CasRegisteredService) servicesManager.findServiceBy((WebApplicationService) service);
+            registeredService.setLogoutUrl("https://sso.example.org/logout");
+        });
+        logoutManager = new ConcurrentLogoutManager(false, plan, Duration.ofSeconds(10), dispatcher);
+        val logoutRequests = logoutManager.performLogout(getExecutionRequest(tgt));
+        assertEquals(SERVICE_COUNT, logoutRequests.size());
+        assertTrue(maxInFlight.get() <= 2);
+    }
+
+    @Test
+    void verifyUndeliveredMessagesAreRetried(@TempDir final Path directory) throws Throwable {
+        when(client.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false);
+        val properties = new SingleLogoutDispatcherProperties().setEnabled(true)
+            .setOutboxDirectory(directory.toString()).setMaxRetryAttempts(2);
+        val dispatcher = new SingleLogoutMessageDispatcher(properties, client, mock(ObjectProvider.class));
+        handler.setMessageDispatcher(dispatcher);
+        logoutManager = new ConcurrentLogoutManager(false, plan, Duration.ofSeconds(5), dispatcher);
+        val logoutRequests = logoutManager.performLogout(getExecutionRequest(tgt));
+        assertTrue(logoutRequests.stream().allMatch(request -> request.getStatus() == LogoutRequestStatus.FAILURE));
+        assertEquals(SERVICE_COUNT, dispatcher.getOutboxSize());
+        try (val files = Files.list(directory)) {
+            assertTrue(files.allMatch(file -> file.toString().endsWith(".json")));
+        }
+
+        dispatcher.retryUndeliveredMessages();
+        assertEquals(SERVICE_COUNT, dispatcher.getOutboxSize());
+        dispatcher.retryUndeliveredMessages();
+        assertEquals(0, dispatcher.getOutboxSize());
+
+        when(client.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false, true);
+        dispatcher.dispatch(new HttpMessage(directory.toUri().toURL(), "message", false),
+            DefaultSingleLogoutRequestContext.builder().build());
+        assertEquals(1, dispatcher.getOutboxSize());
+        dispatcher.retryUndeliveredMessages();
+        assertEquals(0, dispatcher.getOutboxSize());
+    }
+}
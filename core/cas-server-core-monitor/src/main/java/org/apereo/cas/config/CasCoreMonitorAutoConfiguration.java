@@ -10,9 +10,12 @@ import org.apereo.cas.monitor.SystemMonitorHealthIndicator;
 import org.apereo.cas.monitor.TicketRegistryHealthIndicator;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationHandler;
 import io.micrometer.observation.ObservationRegistry;
@@ -65,6 +68,15 @@ public class CasCoreMonitorAutoConfiguration {
         }
     }
     
+    @Configuration(value = "CacheMetricsConfiguration", proxyBeanMethods = false)
+    static class CacheMetricsConfiguration {
+        @ConditionalOnMissingBean(name = "compiledPatternCacheMeterBinder")
+        @Bean
+        public MeterBinder compiledPatternCacheMeterBinder() {
+            return registry -> CaffeineCacheMetrics.monitor(registry, RegexUtils.getCompiledPatternCache(), "compiledRegexPatterns");
+        }
+    }
+
     @Configuration(value = "MemoryMonitorHealthIndicatorConfiguration", proxyBeanMethods = false)
     static class MemoryMonitorHealthIndicatorConfiguration {
         @ConditionalOnMissingBean(name = "memoryHealthIndicator")
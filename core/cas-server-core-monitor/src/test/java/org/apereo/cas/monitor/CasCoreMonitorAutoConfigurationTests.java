@@ -11,7 +11,9 @@ import org.apereo.cas.config.CasCoreTicketsAutoConfiguration;
 import org.apereo.cas.config.CasCoreUtilAutoConfiguration;
 import org.apereo.cas.config.CasCoreWebAutoConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.spring.boot.SpringBootTestAutoConfigurations;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -65,6 +67,17 @@ class CasCoreMonitorAutoConfigurationTests {
     @Qualifier("systemHealthIndicator")
     private HealthIndicator systemHealthIndicator;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void verifyCompiledPatternCacheMetrics() {
+        RegexUtils.createPattern("^compiled-pattern-metrics.+");
+        RegexUtils.createPattern("^compiled-pattern-metrics.+");
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", "compiledRegexPatterns").tag("result", "hit").functionCounter());
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", "compiledRegexPatterns").functionCounter());
+    }
+
     @Test
     void verifyOperation() {
         assertNotNull(memoryHealthIndicator);
@@ -1,38 +1,62 @@
 package org.apereo.cas.util.scripting;
 
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
 import groovy.lang.Binding;
 import groovy.lang.GroovyRuntimeException;
 import groovy.lang.Script;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * This is {@link GroovyShellScript}.
+ * This is {@link GroovyShellScript}. The script is compiled once, and every execution
+ * runs on its own instance of the compiled script class with its own binding,
+ * so that executions from concurrent threads neither share state nor wait on one another.
+ * Execution times are recorded by a timer registered with the global meter registry,
+ * tagged with the digest of the script body.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
  */
 @Getter
 @Slf4j
-@RequiredArgsConstructor
 @ToString(of = "script")
 public class GroovyShellScript implements ExecutableCompiledScript {
     private static final ThreadLocal<Map<String, Object>> BINDING_THREAD_LOCAL = new ThreadLocal<>();
 
-    private final CasReentrantLock lock = new CasReentrantLock();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder executionCount = new LongAdder();
+
+    private final LongAdder executionTimeInNanoseconds = new LongAdder();
+
     private final String script;
 
-    private Script compiledScript;
+    private final Timer executionTimer;
+
+    private volatile Script compiledScript;
+
+    public GroovyShellScript(final String script) {
+        this.script = script;
+        this.executionTimer = Timer.builder("cas.groovy.script.execution")
+            .description("Execution time of inline Groovy scripts")
+            .tag("script", DigestUtils.sha256(StringUtils.defaultString(script)))
+            .register(Metrics.globalRegistry);
+    }
 
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz) throws Throwable {
@@ -46,31 +70,24 @@ public class GroovyShellScript implements ExecutableCompiledScript {
 
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) {
-        if (lock.tryLock()) {
-            try {
-                LOGGER.trace("Beginning to execute script [{}]", this);
-                val binding = BINDING_THREAD_LOCAL.get();
-                if (compiledScript == null) {
-                    compiledScript = ScriptingUtils.parseGroovyShellScript(binding, script);
-                }
-                if (binding != null && !binding.isEmpty()) {
-                    LOGGER.trace("Setting binding [{}]", binding);
-                    compiledScript.setBinding(new Binding(binding));
-                }
-                LOGGER.trace("Current binding [{}]", compiledScript.getBinding());
-                val result = ScriptingUtils.executeGroovyShellScript(compiledScript, clazz);
-                LOGGER.debug("Groovy script [{}] returns result [{}]", this, result);
-                return result;
-            } catch (final GroovyRuntimeException e) {
-                LoggingUtils.error(LOGGER, e);
-            } finally {
-                BINDING_THREAD_LOCAL.remove();
-                if (compiledScript != null) {
-                    compiledScript.setBinding(new Binding(Map.of()));
-                }
-                LOGGER.trace("Completed script execution [{}]", this);
-                lock.unlock();
-            }
+        val startTime = System.nanoTime();
+        try {
+            LOGGER.trace("Beginning to execute script [{}]", this);
+            val binding = BINDING_THREAD_LOCAL.get();
+            val scriptInstance = newScriptInstance(binding);
+            LOGGER.trace("Current binding [{}]", scriptInstance.getBinding());
+            val result = ScriptingUtils.executeGroovyShellScript(scriptInstance, clazz);
+            LOGGER.debug("Groovy script [{}] returns result [{}]", this, result);
+            return result;
+        } catch (final GroovyRuntimeException e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            BINDING_THREAD_LOCAL.remove();
+            val elapsed = System.nanoTime() - startTime;
+            executionCount.increment();
+            executionTimeInNanoseconds.add(elapsed);
+            executionTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            LOGGER.trace("Completed script execution [{}] in [{}]ns", this, elapsed);
         }
         return null;
     }
@@ -89,4 +106,29 @@ public class GroovyShellScript implements ExecutableCompiledScript {
     public Resource getResource() {
         return new ByteArrayResource(script.getBytes(StandardCharsets.UTF_8));
     }
+
+    /**
+     * Gets the average execution time of this script in nanoseconds.
+     *
+     * @return the average execution time
+     */
+    public long getAverageExecutionTimeInNanoseconds() {
+        val count = executionCount.sum();
+        return count == 0 ? 0 : executionTimeInNanoseconds.sum() / count;
+    }
+
+    private Script newScriptInstance(final Map<String, Object> variables) {
+        if (compiledScript == null) {
+            lock.lock();
+            try {
+                if (compiledScript == null) {
+                    compiledScript = ScriptingUtils.parseGroovyShellScript(variables, script);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        val binding = new Binding(variables != null ? new HashMap<>(variables) : new HashMap<>());
+        return InvokerHelper.createScript(compiledScript.getClass(), binding);
+    }
 }
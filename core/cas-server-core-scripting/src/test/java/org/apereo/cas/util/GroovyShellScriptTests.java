@@ -2,6 +2,9 @@ package org.apereo.cas.util;
 
 import org.apereo.cas.util.scripting.ExecutableCompiledScript;
 import org.apereo.cas.util.scripting.ExecutableCompiledScriptFactory;
+import org.apereo.cas.util.scripting.GroovyShellScript;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -129,6 +132,35 @@ class GroovyShellScriptTests {
             }
         }
 
+        @Test
+        void verifyIsolatedBindings() throws Throwable {
+            val scriptFactory = ExecutableCompiledScriptFactory.getExecutableCompiledScriptFactory();
+            try (val shell = scriptFactory.fromScript("binding.hasVariable('name') ? name : 'none'")) {
+                shell.setBinding(CollectionUtils.wrap("name", "casuser"));
+                assertEquals("casuser", shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class));
+                assertEquals("none", shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class));
+                val groovyShellScript = (GroovyShellScript) shell;
+                assertEquals(2, groovyShellScript.getExecutionCount().sum());
+                assertTrue(groovyShellScript.getAverageExecutionTimeInNanoseconds() > 0);
+            }
+        }
+
+        @Test
+        void verifyExecutionTimer() throws Throwable {
+            val registry = new SimpleMeterRegistry();
+            Metrics.addRegistry(registry);
+            try (val shell = new GroovyShellScript("return 'timed'")) {
+                assertEquals("timed", shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class));
+                val timer = registry.find("cas.groovy.script.execution")
+                    .tag("script", DigestUtils.sha256("return 'timed'"))
+                    .timer();
+                assertNotNull(timer);
+                assertEquals(1, timer.count());
+            } finally {
+                Metrics.removeRegistry(registry);
+            }
+        }
+
         @Test
         void verifyUnknownBadScript() {
             val scriptFactory = ExecutableCompiledScriptFactory.getExecutableCompiledScriptFactory();
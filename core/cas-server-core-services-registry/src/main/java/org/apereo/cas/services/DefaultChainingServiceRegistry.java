@@ -7,8 +7,10 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -64,6 +66,36 @@ public class DefaultChainingServiceRegistry extends AbstractServiceRegistry impl
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<ServiceRegistryChangeSet> loadChangedSince(final Instant since) {
+        val changeSets = new ArrayList<ServiceRegistryChangeSet>();
+        for (val serviceRegistry : serviceRegistries) {
+            val changeSet = serviceRegistry.loadChangedSince(since);
+            if (changeSet.isEmpty()) {
+                LOGGER.trace("Service registry [{}] is unable to track changes to service definitions", serviceRegistry.getName());
+                return Optional.empty();
+            }
+            changeSets.add(changeSet.get());
+        }
+        val timestamp = changeSets.stream()
+            .map(ServiceRegistryChangeSet::getTimestamp)
+            .min(Comparator.naturalOrder())
+            .orElseGet(Instant::now);
+        val changedServices = changeSets.stream()
+            .map(ServiceRegistryChangeSet::getChangedServices)
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+        val registeredServiceIds = changeSets.stream()
+            .map(ServiceRegistryChangeSet::getRegisteredServiceIds)
+            .flatMap(Collection::stream)
+            .collect(Collectors.toSet());
+        return Optional.of(ServiceRegistryChangeSet.builder()
+            .timestamp(timestamp)
+            .changedServices(changedServices)
+            .registeredServiceIds(registeredServiceIds)
+            .build());
+    }
+
     @Override
     public RegisteredService findServiceById(final long id) {
         return serviceRegistries.stream()
@@ -1,9 +1,14 @@
 package org.apereo.cas.services;
 
+import lombok.val;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link ImmutableInMemoryServiceRegistry}.
@@ -22,4 +27,15 @@ public class ImmutableInMemoryServiceRegistry extends InMemoryServiceRegistry im
     public RegisteredService save(final RegisteredService registeredService) {
         return registeredService;
     }
+
+    @Override
+    public Optional<ServiceRegistryChangeSet> loadChangedSince(final Instant since) {
+        val registeredServiceIds = getServicesStream()
+            .map(RegisteredService::getId)
+            .collect(Collectors.toSet());
+        return Optional.of(ServiceRegistryChangeSet.builder()
+            .timestamp(Instant.now(Clock.systemUTC()))
+            .registeredServiceIds(registeredServiceIds)
+            .build());
+    }
 }
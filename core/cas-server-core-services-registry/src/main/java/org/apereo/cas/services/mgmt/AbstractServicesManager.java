@@ -1,9 +1,11 @@
 package org.apereo.cas.services.mgmt;
 
 import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.IndexableServicesManager;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
+import org.apereo.cas.services.ServiceRegistryChangeSet;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
 import org.apereo.cas.services.query.RegisteredServiceQuery;
 import org.apereo.cas.services.query.RegisteredServiceQueryAttribute;
@@ -26,12 +28,17 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.context.ApplicationEvent;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -48,12 +55,28 @@ import java.util.stream.Stream;
 @Slf4j
 @Getter
 public abstract class AbstractServicesManager implements IndexableServicesManager {
+    /**
+     * Service definitions are stamped using the clock of the node that saves them;
+     * incremental loads reach back by this much to tolerate clock differences between nodes.
+     */
+    private static final Duration INCREMENTAL_LOAD_CLOCK_SKEW = Duration.ofMinutes(1);
+
     protected final ServicesManagerConfigurationContext configurationContext;
 
     private final CasReentrantLock lock = new CasReentrantLock();
 
     private final IndexedCollection<RegisteredService> indexedRegisteredServices;
 
+    /**
+     * Tracks modifications of the services cache that are carried out by this manager
+     * so that derived structures built from the cache can tell when they go stale.
+     */
+    private final AtomicLong servicesCacheVersion = new AtomicLong();
+
+    private Instant lastLoadTimestamp;
+
+    private Instant lastFullLoadTimestamp;
+
     protected AbstractServicesManager(final ServicesManagerConfigurationContext configurationContext) {
         this.configurationContext = configurationContext;
         this.indexedRegisteredServices = new ConcurrentIndexedCollection<>();
@@ -108,7 +131,7 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
             val clientInfo = ClientInfoHolder.getClientInfo();
             publishEvent(new CasRegisteredServicePreSaveEvent(this, registeredService, clientInfo));
             val savedService = configurationContext.getServiceRegistry().save(registeredService);
-            cacheRegisteredService(savedService);
+            cacheSavedRegisteredService(savedService);
             saveInternal(registeredService);
 
             if (publishEvent) {
@@ -127,7 +150,7 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
             val clientInfo = ClientInfoHolder.getClientInfo();
             if (registeredService != null) {
                 publishEvent(new CasRegisteredServicePreSaveEvent(this, registeredService, clientInfo));
-                cacheRegisteredService(registeredService);
+                cacheSavedRegisteredService(registeredService);
                 saveInternal(registeredService);
                 publishEvent(new CasRegisteredServiceSavedEvent(this, registeredService, clientInfo));
                 return registeredService;
@@ -141,6 +164,7 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
         lock.tryLock(__ -> {
             configurationContext.getServicesCache().asMap().forEach((key, v) -> delete(v));
             configurationContext.getServicesCache().invalidateAll();
+            servicesCacheVersion.incrementAndGet();
             val clientInfo = ClientInfoHolder.getClientInfo();
             publishEvent(new CasRegisteredServicesDeletedEvent(this, clientInfo));
         });
@@ -162,6 +186,7 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
                 publishEvent(new CasRegisteredServicePreDeleteEvent(this, service, clientInfo));
                 configurationContext.getServiceRegistry().delete(service);
                 configurationContext.getServicesCache().invalidate(service.getId());
+                servicesCacheVersion.incrementAndGet();
                 deleteInternal(service);
                 publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
             }
@@ -216,7 +241,14 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
             .sorted()
             .peek(RegisteredService::initialize)
             .collect(Collectors.toMap(RegisteredService::getId, Function.identity(), (r, s) -> s));
-        configurationContext.getServicesCache().putAll(results);
+        val servicesCache = configurationContext.getServicesCache();
+        val changed = results.values()
+            .stream()
+            .anyMatch(service -> !service.equals(servicesCache.getIfPresent(service.getId())));
+        servicesCache.putAll(results);
+        if (changed) {
+            servicesCacheVersion.incrementAndGet();
+        }
         return results.values();
     }
 
@@ -234,8 +266,14 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
 
     @Override
     public RegisteredService findServiceBy(final long id) {
-        val result = configurationContext.getServicesCache().get(id,
-            __ -> configurationContext.getServiceRegistry().findServiceById(id));
+        val loaded = new AtomicBoolean();
+        val result = configurationContext.getServicesCache().get(id, __ -> {
+            loaded.set(true);
+            return configurationContext.getServiceRegistry().findServiceById(id);
+        });
+        if (loaded.get() && result != null) {
+            servicesCacheVersion.incrementAndGet();
+        }
         return validateRegisteredService(result);
     }
 
@@ -247,8 +285,14 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
         }
         LOGGER.trace("The service with id [{}] and type [{}] is not found in the cache; trying to find it from [{}]",
             id, clazz, configurationContext.getServiceRegistry().getName());
-        service = configurationContext.getServicesCache().get(id,
-            __ -> configurationContext.getServiceRegistry().findServiceById(id, clazz));
+        val loaded = new AtomicBoolean();
+        service = configurationContext.getServicesCache().get(id, __ -> {
+            loaded.set(true);
+            return configurationContext.getServiceRegistry().findServiceById(id, clazz);
+        });
+        if (loaded.get() && service != null) {
+            servicesCacheVersion.incrementAndGet();
+        }
         return (T) validateRegisteredService(service);
     }
 
@@ -337,24 +381,17 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
     @Override
     public Collection<RegisteredService> load() {
         return lock.tryLock(() -> {
-            LOGGER.trace("Loading services from [{}]", configurationContext.getServiceRegistry().getName());
-            val servicesMap = configurationContext.getServiceRegistry()
-                .load()
-                .stream()
-                .filter(this::supports)
-                .filter(this::validateAndFilterServiceByEnvironment)
-                .peek(this::loadInternal)
-                .filter(Objects::nonNull)
-                .map(this::applyTemplate)
-                .filter(service -> Objects.nonNull(service)
-                    && StringUtils.isNotBlank(service.getName())
-                    && StringUtils.isNotBlank(service.getServiceId()))
-                .collect(Collectors.toMap(service -> {
-                    LOGGER.trace("Adding registered service [{}] with name [{}] and internal identifier [{}]",
-                        service.getServiceId(), service.getName(), service.getId());
-                    return service.getId();
-                }, Function.identity(), (__, service) -> service));
-            cacheRegisteredServices(servicesMap);
+            val changeSet = loadServiceRegistryChanges();
+            if (changeSet.isPresent()) {
+                applyServiceRegistryChanges(changeSet.get());
+            } else {
+                LOGGER.trace("Loading services from [{}]", configurationContext.getServiceRegistry().getName());
+                val loadStartTime = Instant.now(Clock.systemUTC());
+                val servicesMap = prepareLoadedServices(configurationContext.getServiceRegistry().load());
+                cacheRegisteredServices(servicesMap);
+                lastLoadTimestamp = loadStartTime;
+                lastFullLoadTimestamp = loadStartTime;
+            }
             loadInternal();
             val clientInfo = ClientInfoHolder.getClientInfo();
             publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices(), clientInfo));
@@ -367,13 +404,92 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
         });
     }
 
+    private Map<Long, RegisteredService> prepareLoadedServices(final Collection<RegisteredService> services) {
+        return services
+            .stream()
+            .filter(this::supports)
+            .filter(this::validateAndFilterServiceByEnvironment)
+            .peek(this::loadInternal)
+            .filter(Objects::nonNull)
+            .map(this::applyTemplate)
+            .filter(service -> Objects.nonNull(service)
+                && StringUtils.isNotBlank(service.getName())
+                && StringUtils.isNotBlank(service.getServiceId()))
+            .collect(Collectors.toMap(service -> {
+                LOGGER.trace("Adding registered service [{}] with name [{}] and internal identifier [{}]",
+                    service.getServiceId(), service.getName(), service.getId());
+                return service.getId();
+            }, Function.identity(), (__, service) -> service));
+    }
+
+    private Optional<ServiceRegistryChangeSet> loadServiceRegistryChanges() {
+        val core = configurationContext.getCasProperties().getServiceRegistry().getCore();
+        if (!core.isIncrementalLoad() || lastLoadTimestamp == null || lastFullLoadTimestamp == null) {
+            return Optional.empty();
+        }
+        val fullLoadInterval = Beans.newDuration(core.getFullLoadInterval());
+        if (!lastFullLoadTimestamp.plus(fullLoadInterval).isAfter(Instant.now(Clock.systemUTC()))) {
+            LOGGER.debug("Full load interval [{}] has elapsed since the last full load of services", fullLoadInterval);
+            return Optional.empty();
+        }
+        val since = lastLoadTimestamp.minus(INCREMENTAL_LOAD_CLOCK_SKEW);
+        LOGGER.trace("Loading services changed since [{}] from [{}]", since, configurationContext.getServiceRegistry().getName());
+        return configurationContext.getServiceRegistry().loadChangedSince(since);
+    }
+
+    private void applyServiceRegistryChanges(final ServiceRegistryChangeSet changeSet) {
+        val servicesCache = configurationContext.getServicesCache();
+        val changedServices = prepareLoadedServices(changeSet.getChangedServices());
+        val removedServiceIds = servicesCache.asMap().keySet()
+            .stream()
+            .filter(id -> !changeSet.getRegisteredServiceIds().contains(id))
+            .collect(Collectors.toSet());
+        changeSet.getChangedServices()
+            .stream()
+            .map(RegisteredService::getId)
+            .filter(id -> !changedServices.containsKey(id))
+            .forEach(removedServiceIds::add);
+        LOGGER.debug("Applying [{}] added or changed and [{}] removed service(s) from [{}]",
+            changedServices.size(), removedServiceIds.size(), configurationContext.getServiceRegistry().getName());
+
+        changedServices.values().forEach(this::cacheRegisteredService);
+        removedServiceIds.forEach(this::removeCachedRegisteredService);
+        lastLoadTimestamp = changeSet.getTimestamp();
+    }
+
     private Map<Long, RegisteredService> cacheRegisteredServices(final Map<Long, RegisteredService> servicesMap) {
         val servicesCache = configurationContext.getServicesCache();
-        servicesCache.invalidateAll();
+        val cachedServices = Map.copyOf(servicesCache.asMap());
+        val removedServices = cachedServices.values()
+            .stream()
+            .filter(service -> !servicesMap.containsKey(service.getId()))
+            .toList();
+        val changedServices = servicesMap.values()
+            .stream()
+            .filter(service -> !service.equals(cachedServices.get(service.getId())))
+            .toList();
+        LOGGER.trace("Updating services cache with [{}] added or changed and [{}] removed service(s)",
+            changedServices.size(), removedServices.size());
+
         servicesCache.putAll(servicesMap);
+        servicesCache.invalidateAll(removedServices.stream().map(RegisteredService::getId).toList());
+        if (!changedServices.isEmpty() || !removedServices.isEmpty() || cachedServices.size() != servicesMap.size()) {
+            servicesCacheVersion.incrementAndGet();
+        }
         if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
-            indexedRegisteredServices.clear();
-            indexedRegisteredServices.addAll(servicesMap.values());
+            if (indexedRegisteredServices.size() != cachedServices.size()) {
+                indexedRegisteredServices.clear();
+                indexedRegisteredServices.addAll(servicesMap.values());
+            } else {
+                val staleServices = new ArrayList<RegisteredService>(removedServices);
+                changedServices
+                    .stream()
+                    .map(service -> cachedServices.get(service.getId()))
+                    .filter(Objects::nonNull)
+                    .forEach(staleServices::add);
+                indexedRegisteredServices.removeAll(staleServices);
+                indexedRegisteredServices.addAll(changedServices);
+            }
         }
         return servicesCache.asMap();
     }
@@ -434,13 +550,37 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
     }
 
     private void cacheRegisteredService(final RegisteredService service) {
-        configurationContext.getServicesCache().put(service.getId(), service);
+        cacheRegisteredService(service, false);
+    }
+
+    /**
+     * Saved services may have been modified in place, in which case the cached
+     * instance is the same object and cannot be compared to find out what changed.
+     */
+    private void cacheSavedRegisteredService(final RegisteredService service) {
+        cacheRegisteredService(service, true);
+    }
+
+    private void cacheRegisteredService(final RegisteredService service, final boolean saved) {
+        val previous = configurationContext.getServicesCache().asMap().put(service.getId(), service);
+        if (saved || !service.equals(previous)) {
+            servicesCacheVersion.incrementAndGet();
+        }
         if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
             indexedRegisteredServices.removeIf(registeredService -> registeredService.getId() == service.getId());
             indexedRegisteredServices.add(service);
         }
     }
 
+    private void removeCachedRegisteredService(final long id) {
+        if (configurationContext.getServicesCache().asMap().remove(id) != null) {
+            servicesCacheVersion.incrementAndGet();
+        }
+        if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
+            indexedRegisteredServices.removeIf(registeredService -> registeredService.getId() == id);
+        }
+    }
+
     private void evaluateExpiredServiceDefinitions() {
         getCacheableServicesStream()
             .get()
@@ -4,9 +4,13 @@ import org.apereo.cas.monitor.Monitorable;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
+import org.apereo.cas.util.concurrent.CasReentrantLock;
+
+import lombok.val;
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -18,6 +22,10 @@ import java.util.stream.Collectors;
 @Monitorable
 public class DefaultServicesManager extends AbstractServicesManager {
 
+    private final AtomicReference<RegisteredServiceMatchingEngine> matchingEngine = new AtomicReference<>();
+
+    private final CasReentrantLock matchingEngineLock = new CasReentrantLock();
+
     public DefaultServicesManager(final ServicesManagerConfigurationContext context) {
         super(context);
     }
@@ -32,9 +40,46 @@ public class DefaultServicesManager extends AbstractServicesManager {
 
     @Override
     protected Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId) {
+        val servicesCache = configurationContext.getServicesCache();
+        if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServiceMatching()) {
+            if (servicesCache.estimatedSize() > 0) {
+                return getMatchingEngine().getCandidates(serviceId);
+            }
+        }
         return getCacheableServicesStream()
             .get()
             .sorted(Comparator.naturalOrder())
             .collect(Collectors.toList());
     }
+
+    protected RegisteredServiceMatchingEngine getMatchingEngine() {
+        val currentEngine = matchingEngine.get();
+        if (isCurrent(currentEngine)) {
+            return currentEngine;
+        }
+        val engine = matchingEngineLock.tryLock(() -> {
+            val latestEngine = matchingEngine.get();
+            if (isCurrent(latestEngine)) {
+                return latestEngine;
+            }
+            val builtEngine = buildMatchingEngine();
+            matchingEngine.set(builtEngine);
+            return builtEngine;
+        });
+        return engine != null ? engine : buildMatchingEngine();
+    }
+
+    private boolean isCurrent(final RegisteredServiceMatchingEngine engine) {
+        return engine != null && engine.getVersion() == getServicesCacheVersion().get()
+            && engine.size() == configurationContext.getServicesCache().estimatedSize();
+    }
+
+    private RegisteredServiceMatchingEngine buildMatchingEngine() {
+        val version = getServicesCacheVersion().get();
+        val services = configurationContext.getServicesCache().asMap().values()
+            .stream()
+            .sorted(Comparator.naturalOrder())
+            .toList();
+        return RegisteredServiceMatchingEngine.build(services, version);
+    }
 }
@@ -0,0 +1,254 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.FullRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.util.RegexUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * This is {@link RegisteredServiceMatchingEngine}. It is an immutable snapshot
+ * of the cached service definitions, built once whenever the services cache changes.
+ * Service definitions that are matched by full regular expressions against their service id
+ * are precompiled and indexed in a trie using the literal prefix of their pattern
+ * (i.e. scheme, host and path up to the first regex construct). Lookups only
+ * evaluate those definitions whose literal prefix fits the requested service id,
+ * and hand back candidates in the same evaluation order as a linear scan would.
+ * Definitions that cannot be safely indexed are always returned as candidates.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+public class RegisteredServiceMatchingEngine {
+    private static final String REGEX_META_CHARACTERS = "^$.|?*+()[]{}";
+
+    private static final String REGEX_QUANTIFIERS = "?*+{";
+
+    private static final int ASCII_MAX = 127;
+
+    @Getter
+    private final long version;
+
+    @Getter
+    private final List<RegisteredService> registeredServices;
+
+    private final int[] unindexedServices;
+
+    private final Pattern[] compiledPatterns;
+
+    private final TrieNode root = new TrieNode();
+
+    protected RegisteredServiceMatchingEngine(final Collection<RegisteredService> services, final long version) {
+        this.version = version;
+        this.registeredServices = List.copyOf(services);
+        this.compiledPatterns = new Pattern[registeredServices.size()];
+
+        val unindexed = new ArrayList<Integer>();
+        for (var i = 0; i < registeredServices.size(); i++) {
+            val registeredService = registeredServices.get(i);
+            if (isIndexable(registeredService)) {
+                compiledPatterns[i] = compilePattern(registeredService.getServiceId());
+                if (compiledPatterns[i] != null) {
+                    root.insert(extractLiteralPrefix(registeredService.getServiceId()), i);
+                }
+            } else {
+                unindexed.add(i);
+            }
+        }
+        this.unindexedServices = unindexed.stream().mapToInt(Integer::intValue).toArray();
+        LOGGER.trace("Built service matching engine with [{}] service(s) of which [{}] are indexed by prefix",
+            registeredServices.size(), registeredServices.size() - unindexedServices.length);
+    }
+
+    /**
+     * Build matching engine from the given services, already sorted in evaluation order.
+     *
+     * @param services the services
+     * @param version  the version of the services cache
+     * @return the matching engine
+     */
+    public static RegisteredServiceMatchingEngine build(final Collection<RegisteredService> services, final long version) {
+        return new RegisteredServiceMatchingEngine(services, version);
+    }
+
+    /**
+     * Gets candidate services to match, in evaluation order.
+     * Indexed service definitions are only included if their compiled
+     * pattern already matches the given service id.
+     *
+     * @param serviceId the service id
+     * @return the candidate services
+     */
+    public List<RegisteredService> getCandidates(final String serviceId) {
+        val matches = new ArrayList<Integer>();
+        if (StringUtils.isNotBlank(serviceId)) {
+            var node = root;
+            var position = 0;
+            while (node != null) {
+                for (val index : node.getEntries()) {
+                    if (compiledPatterns[index].matcher(serviceId).matches()) {
+                        matches.add(index);
+                    }
+                }
+                node = position < serviceId.length() ? node.child(toLowerCaseAscii(serviceId.charAt(position))) : null;
+                position++;
+            }
+        }
+        if (matches.isEmpty() && unindexedServices.length == 0) {
+            return List.of();
+        }
+        val positions = new int[matches.size() + unindexedServices.length];
+        for (var i = 0; i < matches.size(); i++) {
+            positions[i] = matches.get(i);
+        }
+        System.arraycopy(unindexedServices, 0, positions, matches.size(), unindexedServices.length);
+        Arrays.sort(positions);
+        val candidates = new ArrayList<RegisteredService>(positions.length);
+        for (val position : positions) {
+            candidates.add(registeredServices.get(position));
+        }
+        return candidates;
+    }
+
+    /**
+     * Number of service definitions captured by this engine.
+     *
+     * @return the size
+     */
+    public int size() {
+        return registeredServices.size();
+    }
+
+    /**
+     * Extract the literal prefix of the given regular expression, lower-cased.
+     * The prefix stops at the first regex construct, and is empty if the pattern
+     * has a top-level alternation or quoted sections.
+     *
+     * @param regex the regex
+     * @return the literal prefix
+     */
+    static String extractLiteralPrefix(final String regex) {
+        if (hasTopLevelAlternation(regex)) {
+            return StringUtils.EMPTY;
+        }
+        val prefix = new StringBuilder();
+        var index = regex.startsWith("^") ? 1 : 0;
+        while (index < regex.length()) {
+            var current = regex.charAt(index);
+            var consumed = 1;
+            if (current == '\\') {
+                if (index + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(index + 1))) {
+                    break;
+                }
+                current = regex.charAt(index + 1);
+                consumed = 2;
+            } else if (REGEX_META_CHARACTERS.indexOf(current) >= 0) {
+                break;
+            }
+            if (current > ASCII_MAX) {
+                break;
+            }
+            val next = index + consumed;
+            if (next < regex.length() && REGEX_QUANTIFIERS.indexOf(regex.charAt(next)) >= 0) {
+                break;
+            }
+            prefix.append(toLowerCaseAscii(current));
+            index = next;
+        }
+        return prefix.toString();
+    }
+
+    private static boolean hasTopLevelAlternation(final String regex) {
+        var groupDepth = 0;
+        var classDepth = 0;
+        var index = 0;
+        while (index < regex.length()) {
+            val current = regex.charAt(index);
+            if (current == '\\') {
+                if (index + 1 < regex.length() && regex.charAt(index + 1) == 'Q') {
+                    return true;
+                }
+                index += 2;
+                continue;
+            }
+            if (current == '[') {
+                classDepth++;
+                index++;
+                if (index < regex.length() && regex.charAt(index) == '^') {
+                    index++;
+                }
+                if (index < regex.length() && regex.charAt(index) == ']') {
+                    index++;
+                }
+                continue;
+            }
+            if (classDepth > 0) {
+                if (current == ']') {
+                    classDepth--;
+                }
+            } else if (current == '(') {
+                groupDepth++;
+            } else if (current == ')') {
+                groupDepth--;
+            } else if (current == '|' && groupDepth <= 0) {
+                return true;
+            }
+            index++;
+        }
+        return false;
+    }
+
+    private static boolean isIndexable(final RegisteredService registeredService) {
+        val strategy = registeredService.getMatchingStrategy();
+        return registeredService.getClass().equals(CasRegisteredService.class)
+            && StringUtils.isNotBlank(registeredService.getServiceId())
+            && (strategy == null || strategy.getClass().equals(FullRegexRegisteredServiceMatchingStrategy.class));
+    }
+
+    private static Pattern compilePattern(final String serviceId) {
+        val pattern = RegexUtils.createPattern(serviceId);
+        if (pattern == RegexUtils.MATCH_NOTHING_PATTERN) {
+            LOGGER.debug("Pattern [{}] is not a valid regex and will never match", serviceId);
+            return null;
+        }
+        return pattern;
+    }
+
+    private static char toLowerCaseAscii(final char character) {
+        return character >= 'A' && character <= 'Z' ? (char) (character + ('a' - 'A')) : character;
+    }
+
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+
+        private int[] entries = new int[0];
+
+        int[] getEntries() {
+            return entries;
+        }
+
+        TrieNode child(final char character) {
+            return children.get(character);
+        }
+
+        void insert(final String prefix, final int index) {
+            var node = this;
+            for (var i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), __ -> new TrieNode());
+            }
+            node.entries = Arrays.copyOf(node.entries, node.entries.length + 1);
+            node.entries[node.entries.length - 1] = index;
+        }
+    }
+}
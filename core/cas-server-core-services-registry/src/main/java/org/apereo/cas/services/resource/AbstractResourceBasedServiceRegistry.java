@@ -11,6 +11,7 @@ import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServiceLoadedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServicePreDeleteEvent;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
@@ -25,6 +26,7 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -90,6 +92,15 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
 
     private Pattern serviceFileNamePattern;
 
+    /**
+     * Flag indicating whether loading the registry should only parse
+     * service definition files that have been added or changed since the last load.
+     */
+    @Setter
+    private boolean deltaReloadEnabled;
+
+    private final Map<Path, ServiceDefinitionResource> serviceDefinitionResources = new ConcurrentHashMap<>();
+
     protected AbstractResourceBasedServiceRegistry(final Resource configDirectory,
                                                    final Collection<StringSerializer<RegisteredService>> serializers,
                                                    final ConfigurableApplicationContext applicationContext,
@@ -244,6 +255,9 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
 
     @Override
     public Collection<RegisteredService> load() {
+        if (deltaReloadEnabled) {
+            return loadChangedServiceDefinitions();
+        }
         return lock.tryLock(() -> {
             LOGGER.trace("Loading files from [{}]", this.serviceRegistryDirectory);
             val serviceRegistryDirectoryFile = serviceRegistryDirectory.toFile();
@@ -273,6 +287,98 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         });
     }
 
+    /**
+     * Load service definitions by only parsing files that are added or changed since the last load.
+     * Files are considered unchanged if their size and last-modified timestamp, or failing that, their content hash
+     * remain the same, in which case previously loaded definitions are reused. Events are only published
+     * for definitions whose files are added, changed or removed.
+     *
+     * @return the registered services
+     */
+    protected Collection<RegisteredService> loadChangedServiceDefinitions() {
+        return lock.tryLock(() -> {
+            val serviceRegistryDirectoryFile = serviceRegistryDirectory.toFile();
+            val files = serviceRegistryDirectoryFile.exists()
+                ? FileUtils.listFiles(serviceRegistryDirectoryFile, getExtensions(), true)
+                : List.<File>of();
+            val paths = files.stream().map(File::toPath).collect(Collectors.toSet());
+            val removedResources = serviceDefinitionResources.keySet()
+                .stream()
+                .filter(path -> !paths.contains(path))
+                .toList();
+            removedResources.forEach(path -> LOGGER.debug("Service definition file [{}] is removed", path));
+            removedResources.forEach(serviceDefinitionResources::remove);
+
+            val changedResources = files
+                .parallelStream()
+                .map(this::loadServiceDefinitionResourceIfChanged)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(ServiceDefinitionResource::path, Function.identity()));
+            serviceDefinitionResources.putAll(changedResources);
+            LOGGER.debug("Located [{}] service definition file(s) in [{}] with [{}] added or changed and [{}] removed",
+                files.size(), serviceRegistryDirectory, changedResources.size(), removedResources.size());
+
+            val previousServices = this.services;
+            this.services = files
+                .stream()
+                .map(file -> serviceDefinitionResources.get(file.toPath()))
+                .filter(Objects::nonNull)
+                .flatMap(resource -> resource.services().stream())
+                .sorted()
+                .collect(Collectors.toMap(RegisteredService::getId, Function.identity(),
+                    (s1, s2) -> {
+                        BaseResourceBasedRegisteredServiceWatcher.LOG_SERVICE_DUPLICATE.accept(s2);
+                        return s1;
+                    }, LinkedHashMap::new));
+            val listedServices = new ArrayList<>(this.services.values());
+            val results = registeredServiceReplicationStrategy.updateLoadedRegisteredServicesFromCache(listedServices, this);
+
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            val changedServiceIds = changedResources.values()
+                .stream()
+                .flatMap(resource -> resource.services().stream())
+                .map(RegisteredService::getId)
+                .collect(Collectors.toSet());
+            results
+                .stream()
+                .filter(service -> changedServiceIds.contains(service.getId()))
+                .forEach(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)));
+            previousServices.values()
+                .stream()
+                .filter(service -> !this.services.containsKey(service.getId()))
+                .forEach(service -> {
+                    LOGGER.debug("Service definition [{}] is removed from the registry", service.getName());
+                    publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
+                });
+            return results;
+        });
+    }
+
+    private ServiceDefinitionResource loadServiceDefinitionResourceIfChanged(final File file) {
+        val path = file.toPath();
+        val currentResource = serviceDefinitionResources.get(path);
+        val size = file.length();
+        val lastModified = file.lastModified();
+        if (currentResource != null && currentResource.size() == size && currentResource.lastModified() == lastModified) {
+            return null;
+        }
+        return FunctionUtils.doAndHandle(() -> {
+            val hash = DigestUtils.digest(MessageDigestAlgorithms.SHA_256, Files.readAllBytes(path));
+            if (currentResource != null && currentResource.hash().equals(hash)) {
+                LOGGER.trace("Service definition file [{}] is touched but its contents remain unchanged", path);
+                serviceDefinitionResources.put(path, new ServiceDefinitionResource(path, size, lastModified, hash, currentResource.services()));
+                return null;
+            }
+            LOGGER.debug("Service definition file [{}] is added or changed and will be loaded", path);
+            val loadedServices = List.copyOf(load(file));
+            return new ServiceDefinitionResource(path, size, lastModified, hash, loadedServices);
+        }, e -> {
+            LOGGER.error("Unable to read service definition file [{}]", path);
+            LoggingUtils.error(LOGGER, e);
+            return null;
+        }).get();
+    }
+
     @Override
     public Collection<RegisteredService> load(final File file) {
         val fileName = file.getName();
@@ -389,6 +495,10 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         return svcFile;
     }
 
+    private record ServiceDefinitionResource(Path path, long size, long lastModified, String hash,
+                                             List<RegisteredService> services) {
+    }
+
     private File determineParentDirectoryFor(final RegisteredService service) {
         val defaultServicesDirectory = serviceRegistryDirectory.toFile();
 
@@ -0,0 +1,100 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RegisteredServiceMatchingEngineTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("RegisteredService")
+class RegisteredServiceMatchingEngineTests {
+
+    private static final List<String> SERVICE_IDS = List.of(
+        "https://app0.example.org/cas",
+        "HTTPS://APP1.EXAMPLE.ORG/login?x=1",
+        "https://app2.example.org/other/path",
+        "http://app3.example.com/",
+        "https://unknown.example.net/something",
+        "imaps://mail.example.org",
+        "https://app10.example.org/cas",
+        StringUtils.EMPTY);
+
+    private static CasRegisteredService newService(final long id, final String serviceId) {
+        val service = new CasRegisteredService();
+        service.setId(id);
+        service.setName("Service" + id);
+        service.setServiceId(serviceId);
+        service.setEvaluationOrder((int) (id % 7));
+        return service;
+    }
+
+    private static List<RegisteredService> buildServices(final int count) {
+        val services = new ArrayList<RegisteredService>();
+        for (var i = 0; i < count; i++) {
+            switch (i % 6) {
+                case 0 -> services.add(newService(i, "https://app" + i + "\\.example\\.org/.*"));
+                case 1 -> services.add(newService(i, "^https://app" + i + ".example.org/login.*"));
+                case 2 -> services.add(newService(i, "^(https|imaps)://.*"));
+                case 3 -> services.add(newService(i, "https?://app" + i + "\\.example\\.com/?"));
+                case 4 -> services.add(newService(i, "https://app" + i + ".example.org/other.*|http://fallback.*")
+                    .setMatchingStrategy(new PartialRegexRegisteredServiceMatchingStrategy()));
+                default -> services.add(newService(i, "https://app" + i + ".example.org/cas")
+                    .setMatchingStrategy(new LiteralRegisteredServiceMatchingStrategy().setCaseInsensitive(true)));
+            }
+        }
+        services.add(newService(count, "https://[]a|]invalid(.*"));
+        services.add(newService(count + 1, "https://[^]|]x.example.org/.*"));
+        return services.stream().sorted(Comparator.naturalOrder()).toList();
+    }
+
+    private static RegisteredService linearScan(final List<RegisteredService> services, final String serviceId) {
+        return services.stream().filter(service -> service.matches(serviceId)).findFirst().orElse(null);
+    }
+
+    private static RegisteredService engineScan(final RegisteredServiceMatchingEngine engine, final String serviceId) {
+        return engine.getCandidates(serviceId).stream().filter(service -> service.matches(serviceId)).findFirst().orElse(null);
+    }
+
+    @Test
+    void verifyLiteralPrefix() {
+        assertEquals("https://app.example.org/", RegisteredServiceMatchingEngine.extractLiteralPrefix("^https://app\\.example\\.org/.*"));
+        assertEquals("https://app", RegisteredServiceMatchingEngine.extractLiteralPrefix("https://APP.example.org"));
+        assertEquals("http", RegisteredServiceMatchingEngine.extractLiteralPrefix("https?://.*"));
+        assertEquals("https://app/", RegisteredServiceMatchingEngine.extractLiteralPrefix("https://app/(a|b).*"));
+        assertEquals(StringUtils.EMPTY, RegisteredServiceMatchingEngine.extractLiteralPrefix("https://a.*|http://b.*"));
+        assertEquals(StringUtils.EMPTY, RegisteredServiceMatchingEngine.extractLiteralPrefix("\\Qhttps://a\\E.*"));
+        assertEquals(StringUtils.EMPTY, RegisteredServiceMatchingEngine.extractLiteralPrefix("\\d+"));
+        assertEquals("https://", RegisteredServiceMatchingEngine.extractLiteralPrefix("https://[]|]+"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1000, 10000})
+    void verifyIdenticalToLinearScan(final int count) {
+        val services = buildServices(count);
+        val engine = RegisteredServiceMatchingEngine.build(services, 1);
+        assertEquals(services.size(), engine.size());
+        for (val serviceId : SERVICE_IDS) {
+            assertEquals(linearScan(services, serviceId), engineScan(engine, serviceId));
+        }
+        for (var i = 0; i < count; i += Math.max(1, count / 50)) {
+            val serviceId = "https://app" + i + ".example.org/login";
+            assertEquals(linearScan(services, serviceId), engineScan(engine, serviceId));
+        }
+        assertNull(engineScan(engine, null));
+    }
+}
@@ -10,6 +10,7 @@ import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.authentication.principal.WebApplicationServiceResponseBuilder;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.cache.SimpleCacheProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.multitenancy.TenantExtractor;
 import org.apereo.cas.notifications.CommunicationsManager;
@@ -375,7 +376,14 @@ class CasCoreServicesConfiguration {
         @Bean
         @ConditionalOnMissingBean(name = "servicesManagerCache")
         public Cache<Long, RegisteredService> servicesManagerCache(final CasConfigurationProperties casProperties) {
-            return Beans.newCacheBuilder(casProperties.getServiceRegistry().getCache()).build();
+            val serviceRegistry = casProperties.getServiceRegistry();
+            if (serviceRegistry.getCore().isIncrementalLoad()) {
+                val cache = new SimpleCacheProperties()
+                    .setCacheSize(serviceRegistry.getCache().getCacheSize())
+                    .setInitialCapacity(serviceRegistry.getCache().getInitialCapacity());
+                return Beans.newCacheBuilder(cache).build();
+            }
+            return Beans.newCacheBuilder(serviceRegistry.getCache()).build();
         }
 
         @Bean
@@ -1,9 +1,12 @@
 package org.apereo.cas.services;
 
 import org.apereo.cas.config.BaseAutoConfigurationTests;
+import org.apereo.cas.services.mgmt.DefaultServicesManager;
+import org.apereo.cas.services.mgmt.RegisteredServiceMatchingEngine;
 import org.apereo.cas.services.query.RegisteredServiceQuery;
 import org.apereo.cas.test.CasTestExtension;
 import org.apereo.cas.util.RandomUtils;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.val;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
@@ -16,7 +19,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.Ordered;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
@@ -172,6 +179,132 @@ class DefaultServicesManagerTests {
         }
     }
 
+    @Nested
+    @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class,
+        properties = "cas.service-registry.core.incremental-load=true")
+    class IncrementalLoadTests {
+        @Autowired
+        @Qualifier(ServicesManagerConfigurationContext.BEAN_NAME)
+        private ServicesManagerConfigurationContext configurationContext;
+
+        @Test
+        void verifyChangesAreLoadedIncrementally() {
+            val service1 = RegisteredServiceTestUtils.getRegisteredService("https://app1.example.org");
+            val service2 = RegisteredServiceTestUtils.getRegisteredService("https://app2.example.org");
+            val serviceRegistry = mock(ServiceRegistry.class);
+            when(serviceRegistry.load()).thenReturn(List.of(service1, service2));
+            val context = ServicesManagerConfigurationContext.builder()
+                .serviceRegistry(serviceRegistry)
+                .applicationContext(configurationContext.getApplicationContext())
+                .servicesCache(Caffeine.newBuilder().<Long, RegisteredService>build())
+                .registeredServicesTemplatesManager(configurationContext.getRegisteredServicesTemplatesManager())
+                .registeredServiceLocators(configurationContext.getRegisteredServiceLocators())
+                .casProperties(configurationContext.getCasProperties())
+                .tenantExtractor(configurationContext.getTenantExtractor())
+                .build();
+            val servicesManager = new DefaultServicesManager(context);
+            assertEquals(2, servicesManager.load().size());
+
+            val service3 = RegisteredServiceTestUtils.getRegisteredService("https://app3.example.org");
+            val changeSet = ServiceRegistryChangeSet.builder()
+                .timestamp(Instant.now(Clock.systemUTC()))
+                .changedServices(List.of(service3))
+                .registeredServiceIds(Set.of(service2.getId(), service3.getId()))
+                .build();
+            when(serviceRegistry.loadChangedSince(any())).thenReturn(Optional.of(changeSet));
+            val results = servicesManager.load();
+            assertEquals(2, results.size());
+            verify(serviceRegistry, times(1)).load();
+            verify(serviceRegistry).loadChangedSince(any());
+            assertTrue(results.stream().anyMatch(service -> service.getId() == service2.getId()));
+            assertTrue(results.stream().anyMatch(service -> service.getId() == service3.getId()));
+            assertTrue(results.stream().noneMatch(service -> service.getId() == service1.getId()));
+        }
+    }
+
+    @Nested
+    @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class)
+    class MatchingEngineTests {
+        @Autowired
+        @Qualifier(ServicesManagerConfigurationContext.BEAN_NAME)
+        private ServicesManagerConfigurationContext configurationContext;
+
+        @Test
+        void verifyEngineIsReusedAcrossLookups() {
+            val service1 = RegisteredServiceTestUtils.getRegisteredService("https://app1.example.org.*");
+            val service2 = RegisteredServiceTestUtils.getRegisteredService("https://app2.example.org.*");
+            val serviceRegistry = mock(ServiceRegistry.class);
+            when(serviceRegistry.load()).thenReturn(List.of(service1, service2));
+            val context = ServicesManagerConfigurationContext.builder()
+                .serviceRegistry(serviceRegistry)
+                .applicationContext(configurationContext.getApplicationContext())
+                .servicesCache(Caffeine.newBuilder().<Long, RegisteredService>build())
+                .registeredServicesTemplatesManager(configurationContext.getRegisteredServicesTemplatesManager())
+                .registeredServiceLocators(configurationContext.getRegisteredServiceLocators())
+                .casProperties(configurationContext.getCasProperties())
+                .tenantExtractor(configurationContext.getTenantExtractor())
+                .build();
+            val servicesManager = new MatchingEngineServicesManager(context);
+            servicesManager.load();
+
+            assertNotNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://app1.example.org")));
+            val engine = servicesManager.currentMatchingEngine();
+            assertNotNull(engine);
+            assertEquals(2, servicesManager.getAllServices().size());
+            assertEquals(2, servicesManager.getAllServicesOfType(CasRegisteredService.class).size());
+            assertNull(servicesManager.findServiceBy(RandomUtils.nextLong()));
+            assertNotNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://app2.example.org")));
+            assertSame(engine, servicesManager.currentMatchingEngine());
+
+            val service3 = RegisteredServiceTestUtils.getRegisteredService("https://app3.example.org.*");
+            when(serviceRegistry.findServiceById(service3.getId())).thenReturn(service3);
+            assertNotNull(servicesManager.findServiceBy(service3.getId()));
+            assertNotNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://app3.example.org")));
+            val rebuiltEngine = servicesManager.currentMatchingEngine();
+            assertNotSame(engine, rebuiltEngine);
+            assertEquals(3, rebuiltEngine.size());
+            assertNotNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://app1.example.org")));
+            assertSame(rebuiltEngine, servicesManager.currentMatchingEngine());
+        }
+
+        @Test
+        void verifyServiceModifiedInPlaceIsMatched() {
+            val registeredService = RegisteredServiceTestUtils.getRegisteredService("https://app1.example.org.*");
+            val serviceRegistry = mock(ServiceRegistry.class);
+            when(serviceRegistry.load()).thenReturn(List.of(registeredService));
+            when(serviceRegistry.save(registeredService)).thenReturn(registeredService);
+            val context = ServicesManagerConfigurationContext.builder()
+                .serviceRegistry(serviceRegistry)
+                .applicationContext(configurationContext.getApplicationContext())
+                .servicesCache(Caffeine.newBuilder().<Long, RegisteredService>build())
+                .registeredServicesTemplatesManager(configurationContext.getRegisteredServicesTemplatesManager())
+                .registeredServiceLocators(configurationContext.getRegisteredServiceLocators())
+                .casProperties(configurationContext.getCasProperties())
+                .tenantExtractor(configurationContext.getTenantExtractor())
+                .build();
+            val servicesManager = new MatchingEngineServicesManager(context);
+            servicesManager.load();
+            assertNotNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://app1.example.org")));
+            val engine = servicesManager.currentMatchingEngine();
+
+            registeredService.setServiceId("https://changed.example.org.*");
+            servicesManager.save(registeredService);
+            assertNotSame(engine, servicesManager.currentMatchingEngine());
+            assertNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://app1.example.org")));
+            assertEquals(registeredService, servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://changed.example.org")));
+        }
+
+        private static final class MatchingEngineServicesManager extends DefaultServicesManager {
+            MatchingEngineServicesManager(final ServicesManagerConfigurationContext context) {
+                super(context);
+            }
+
+            RegisteredServiceMatchingEngine currentMatchingEngine() {
+                return getMatchingEngine();
+            }
+        }
+    }
+
     @Nested
     @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class)
     class IndexableTests {
@@ -1,8 +1,11 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.ticket.AuthenticationAwareTicket;
+import org.apereo.cas.ticket.ServiceAwareTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
 import org.apereo.cas.ticket.registry.pubsub.commands.AddTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketMessageQueueCommand;
@@ -10,8 +13,11 @@ import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketsMessageQueueC
 import org.apereo.cas.ticket.registry.pubsub.commands.UpdateTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.PublisherIdentifier;
 import org.apereo.cas.util.crypto.CipherExecutor;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -19,10 +25,16 @@ import org.springframework.context.ApplicationContext;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link AbstractMapBasedTicketRegistry}.
@@ -37,6 +49,15 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
 
     protected final PublisherIdentifier publisherIdentifier;
 
+    /**
+     * Optional secondary indexes, kept in step with the map instance
+     * by updating them while the map entry for the same key is being computed.
+     * When undefined, queries fall back to scanning the map instance.
+     */
+    @Setter
+    @Getter
+    private MapBasedTicketRegistryIndexes ticketIndexes;
+
     public AbstractMapBasedTicketRegistry(final CipherExecutor cipherExecutor,
                                           final TicketSerializationManager ticketSerializationManager,
                                           final TicketCatalog ticketCatalog,
@@ -96,12 +117,12 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
 
     @Override
     public long deleteSingleTicket(final Ticket ticket) {
-        val result = ticket != null ? deleteTicketFromQueue(ticket.getId()) : 0;
-        if (ticketPublisher.isEnabled()) {
-            LOGGER.trace("Publishing delete command for id [{}] and ticket [{}]", publisherIdentifier, ticket.getId());
-            ticketPublisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(publisherIdentifier, ticket.getId()));
-        }
-        return result;
+        return ticket != null ? deleteTicketById(ticket.getId()) : 0;
+    }
+
+    @Override
+    protected long deleteTicketsInBulk(final Set<String> ticketIds) {
+        return ticketIds.stream().mapToLong(this::deleteTicketById).sum();
     }
 
     @Override
@@ -120,34 +141,119 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     public void addTicketToQueue(final Ticket ticket) throws Exception {
         val encTicket = encodeTicket(ticket);
         LOGGER.debug("Putting ticket [{}] in registry.", ticket.getId());
-        getMapInstance().put(encTicket.getId(), encTicket);
+        if (ticketIndexes == null) {
+            getMapInstance().put(encTicket.getId(), encTicket);
+        } else {
+            getMapInstance().compute(encTicket.getId(), (key, __) -> {
+                indexTicket(key, ticket);
+                return encTicket;
+            });
+        }
     }
 
     @Override
     public Ticket updateTicketInQueue(final Ticket ticket) throws Exception {
         LOGGER.trace("Updating ticket [{}] in registry...", ticket.getId());
-        addTicket(ticket);
+        if (addTicket(ticket) == null) {
+            scheduleExpiration(ticket);
+        }
         return ticket;
     }
 
     @Override
     public long deleteTicketFromQueue(final String ticketId) {
         val encTicketId = digestIdentifier(ticketId);
-        return !StringUtils.isBlank(encTicketId) && getMapInstance().remove(encTicketId) != null ? 1 : 0;
+        if (StringUtils.isBlank(encTicketId)) {
+            return 0;
+        }
+        if (ticketIndexes == null) {
+            return getMapInstance().remove(encTicketId) != null ? 1 : 0;
+        }
+        val removed = new AtomicBoolean();
+        getMapInstance().computeIfPresent(encTicketId, (key, __) -> {
+            ticketIndexes.remove(key);
+            removed.set(true);
+            return null;
+        });
+        return removed.get() ? 1 : 0;
     }
 
     @Override
     public long deleteAllFromQueue() {
         val size = getMapInstance().size();
         getMapInstance().clear();
+        if (ticketIndexes != null) {
+            ticketIndexes.clear();
+        }
         return size;
     }
 
     @Override
     public List<? extends Serializable> query(final TicketRegistryQueryCriteria criteria) {
-        return getMapInstance()
-            .values()
-            .parallelStream()
+        if (ticketIndexes == null) {
+            return queryTickets(getMapInstance().values().parallelStream(), criteria);
+        }
+        val keys = StringUtils.isNotBlank(criteria.getId())
+            ? Set.of(digestIdentifier(criteria.getId()))
+            : StringUtils.isNotBlank(criteria.getPrincipal())
+                ? ticketIndexes.findByPrincipal(digestPrincipal(criteria.getPrincipal()))
+                : ticketIndexes.findByPrefix(criteria.getType());
+        return queryTickets(keys.stream().map(getMapInstance()::get).filter(Objects::nonNull), criteria);
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        if (ticketIndexes == null) {
+            return super.countSessionsFor(principalId);
+        }
+        return getIndexedTickets(ticketIndexes.findByPrincipal(digestPrincipal(principalId)))
+            .filter(TicketGrantingTicket.class::isInstance)
+            .map(TicketGrantingTicket.class::cast)
+            .filter(ticket -> ticket.getAuthentication().getPrincipal().getId().equalsIgnoreCase(principalId))
+            .count();
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        if (ticketIndexes == null) {
+            return super.getSessionsFor(principalId);
+        }
+        return getIndexedTickets(ticketIndexes.findByPrincipal(digestPrincipal(principalId)))
+            .filter(ticket -> ticket instanceof final TicketGrantingTicket ticketGrantingTicket
+                && !ticket.isExpired()
+                && ticketGrantingTicket.getAuthentication().getPrincipal().getId().equals(principalId));
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
+        if (ticketIndexes == null) {
+            return super.getSessionsWithAttributes(queryAttributes);
+        }
+        val keys = new LinkedHashSet<String>();
+        queryAttributes.forEach((name, values) -> {
+            val attributeName = digestIdentifier(name);
+            values.forEach(value -> keys.addAll(ticketIndexes.findByAttribute(attributeName,
+                MapBasedTicketRegistryIndexes.normalizeCase(digestIdentifier(value.toString())))));
+        });
+        return getIndexedTickets(keys).filter(ticket -> isSessionWithAttributes(ticket, queryAttributes));
+    }
+
+    @Override
+    public long countTicketsFor(final Service service) {
+        if (ticketIndexes == null) {
+            return super.countTicketsFor(service);
+        }
+        return getIndexedTickets(ticketIndexes.findByService(digestIdentifier(service.getId())))
+            .filter(ServiceAwareTicket.class::isInstance)
+            .filter(ticket -> !ticket.isExpired())
+            .map(ServiceAwareTicket.class::cast)
+            .filter(ticket -> Objects.nonNull(ticket.getService()))
+            .filter(ticket -> ticket.getService().getId().equals(service.getId()))
+            .count();
+    }
+
+    protected List<? extends Serializable> queryTickets(final Stream<Ticket> tickets, final TicketRegistryQueryCriteria criteria) {
+        return tickets
             .filter(ticket -> criteria.getType().equals(ticket.getPrefix())
                 && (StringUtils.isBlank(criteria.getId()) || digestIdentifier(criteria.getId()).equals(ticket.getId())))
             .map(ticket -> criteria.isDecode() ? decodeTicket(ticket) : ticket)
@@ -158,6 +264,44 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
             .collect(Collectors.toList());
     }
 
+    protected void indexTicket(final String key, final Ticket ticket) {
+        val principal = ticket instanceof AuthenticationAwareTicket ? digestPrincipal(getPrincipalIdFrom(ticket)) : null;
+        val service = ticket instanceof final ServiceAwareTicket serviceAwareTicket && serviceAwareTicket.getService() != null
+            ? digestIdentifier(serviceAwareTicket.getService().getId())
+            : null;
+        val attributes = new HashMap<String, Set<String>>();
+        if (ticket instanceof final TicketGrantingTicket tgt && tgt.getAuthentication() != null) {
+            val digestedAttributes = (Map<String, Object>) collectAndDigestTicketAttributes(tgt);
+            digestedAttributes.forEach((name, values) -> attributes.put(name, CollectionUtils.toCollection(values)
+                .stream()
+                .map(value -> MapBasedTicketRegistryIndexes.normalizeCase(value.toString()))
+                .collect(Collectors.toSet())));
+        }
+        ticketIndexes.index(key, ticket.getPrefix(), principal, service, attributes);
+    }
+
+    private String digestPrincipal(final String principalId) {
+        return digestIdentifier(MapBasedTicketRegistryIndexes.normalizeCase(principalId));
+    }
+
+    private Stream<Ticket> getIndexedTickets(final Collection<String> keys) {
+        return keys
+            .stream()
+            .map(getMapInstance()::get)
+            .filter(Objects::nonNull)
+            .map(this::decodeTicket)
+            .filter(Objects::nonNull);
+    }
+
+    private long deleteTicketById(final String ticketId) {
+        val result = deleteTicketFromQueue(ticketId);
+        if (ticketPublisher.isEnabled()) {
+            LOGGER.trace("Publishing delete command for id [{}] and ticket [{}]", publisherIdentifier, ticketId);
+            ticketPublisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(publisherIdentifier, ticketId));
+        }
+        return result;
+    }
+
     /**
      * Create map instance, which must ben created during initialization phases
      * and always be the same instance.
@@ -165,4 +309,5 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
      * @return the map
      */
     public abstract Map<String, Ticket> getMapInstance();
+
 }
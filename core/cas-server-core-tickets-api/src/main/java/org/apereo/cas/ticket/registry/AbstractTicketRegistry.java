@@ -21,16 +21,16 @@ import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.serialization.SerializationUtils;
 import com.google.common.io.ByteSource;
-import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
-import org.jooq.lambda.Unchecked;
 import org.springframework.context.ApplicationContext;
 
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.HashMap;
@@ -52,7 +52,6 @@ import java.util.stream.Stream;
  * @since 3.0.0
  */
 @Slf4j
-@AllArgsConstructor
 public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     private static final String TICKET_ENCRYPTION_LOG_MESSAGE = "Ticket encryption is not enabled. Falling back to default behavior";
@@ -66,6 +65,24 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     protected final ApplicationContext applicationContext;
 
+    /**
+     * Optional schedule of ticket expiration instants,
+     * fed as tickets are added and removed from the registry.
+     */
+    @Setter
+    @Getter
+    private TicketRegistryExpirationSchedule expirationSchedule;
+
+    public AbstractTicketRegistry(final CipherExecutor cipherExecutor,
+                                  final TicketSerializationManager ticketSerializationManager,
+                                  final TicketCatalog ticketCatalog,
+                                  final ApplicationContext applicationContext) {
+        this.cipherExecutor = cipherExecutor;
+        this.ticketSerializationManager = ticketSerializationManager;
+        this.ticketCatalog = ticketCatalog;
+        this.applicationContext = applicationContext;
+    }
+
     protected static String getPrincipalIdFrom(final Ticket ticket) {
         return ticket instanceof final AuthenticationAwareTicket authenticationAwareTicket
             ? Optional.ofNullable(authenticationAwareTicket.getAuthentication())
@@ -102,7 +119,11 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public Ticket addTicket(final Ticket ticket) throws Exception {
-        return ticket != null && !ticket.isExpired() ? addSingleTicket(ticket) : null;
+        val result = ticket != null && !ticket.isExpired() ? addSingleTicket(ticket) : null;
+        if (result != null) {
+            scheduleExpiration(result);
+        }
+        return result;
     }
 
     @Override
@@ -179,9 +200,29 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         }
         LOGGER.debug("Removing ticket [{}] from the registry.", ticket);
         count.getAndAdd(deleteSingleTicket(ticket));
+        if (expirationSchedule != null) {
+            expirationSchedule.unschedule(ticket.getId());
+        }
         return count.intValue();
     }
 
+    @Override
+    public long deleteTickets(final Collection<String> ticketIds) throws Exception {
+        val ids = ticketIds
+            .stream()
+            .filter(StringUtils::isNotBlank)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        LOGGER.debug("Removing [{}] ticket(s) from the registry in bulk", ids.size());
+        val count = deleteTicketsInBulk(ids);
+        if (expirationSchedule != null) {
+            ids.forEach(expirationSchedule::unschedule);
+        }
+        return count;
+    }
+
     @Override
     public long sessionCount() {
         try (val tgtStream = stream().filter(TicketGrantingTicket.class::isInstance)) {
@@ -251,31 +292,51 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
-        return getTickets(ticket -> {
-            if (ticket instanceof final TicketGrantingTicket ticketGrantingTicket && !ticket.isExpired()
-                && ticketGrantingTicket.getAuthentication() != null) {
-                val attributes = collectAndDigestTicketAttributes(ticketGrantingTicket);
+        return getTickets(ticket -> isSessionWithAttributes(ticket, queryAttributes));
+    }
 
-                return queryAttributes.entrySet().stream().anyMatch(queryEntry -> {
-                    val attributeKey = digestIdentifier(queryEntry.getKey());
+    protected boolean isSessionWithAttributes(final Ticket ticket, final Map<String, List<Object>> queryAttributes) {
+        if (ticket instanceof final TicketGrantingTicket ticketGrantingTicket && !ticket.isExpired()
+            && ticketGrantingTicket.getAuthentication() != null) {
+            val attributes = collectAndDigestTicketAttributes(ticketGrantingTicket);
 
-                    if (attributes.containsKey(attributeKey)) {
+            return queryAttributes.entrySet().stream().anyMatch(queryEntry -> {
+                val attributeKey = digestIdentifier(queryEntry.getKey());
 
-                        val authnAttributeValues = CollectionUtils.toCollection(attributes.get(attributeKey));
+                if (attributes.containsKey(attributeKey)) {
 
-                        return authnAttributeValues.stream().anyMatch(value -> {
-                            val attributeValue = value.toString();
-                            return queryEntry.getValue()
-                                .stream()
-                                .map(queryValue -> digestIdentifier(queryValue.toString()))
-                                .anyMatch(attributeValue::equalsIgnoreCase);
-                        });
-                    }
-                    return false;
-                });
-            }
-            return false;
-        });
+                    val authnAttributeValues = CollectionUtils.toCollection(attributes.get(attributeKey));
+
+                    return authnAttributeValues.stream().anyMatch(value -> {
+                        val attributeValue = value.toString();
+                        return queryEntry.getValue()
+                            .stream()
+                            .map(queryValue -> digestIdentifier(queryValue.toString()))
+                            .anyMatch(attributeValue::equalsIgnoreCase);
+                    });
+                }
+                return false;
+            });
+        }
+        return false;
+    }
+
+    /**
+     * Track the maximum expiration time of the given ticket. Tickets cannot outlive their maximum
+     * expiration time and are removed without being looked up again, except for ticket-granting tickets
+     * that are needed to signal logout, and tickets with no known maximum expiration time.
+     * Tickets that have already expired are due right away.
+     *
+     * @param ticket the ticket
+     */
+    protected void scheduleExpiration(final Ticket ticket) {
+        if (expirationSchedule != null && ticket.isExpired()) {
+            expirationSchedule.schedule(ticket.getId(), Instant.now());
+        } else if (expirationSchedule != null && ticket.getExpirationPolicy() != null) {
+            val expirationTime = ticket.getExpirationPolicy().toMaximumExpirationTime(ticket);
+            expirationSchedule.schedule(ticket.getId(), expirationTime != null ? expirationTime.toInstant() : Instant.now(),
+                expirationTime == null || ticket instanceof TicketGrantingTicket);
+        }
     }
 
     protected long deleteSingleTicket(final Ticket ticket) {
@@ -284,12 +345,22 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     protected abstract Ticket addSingleTicket(Ticket ticket) throws Exception;
 
-    protected int deleteTickets(final Set<String> tickets) {
-        return deleteTickets(tickets.stream());
-    }
-
-    protected int deleteTickets(final Stream<String> tickets) {
-        return tickets.mapToInt(Unchecked.toIntFunction(this::deleteTicket)).sum();
+    /**
+     * Remove the given tickets from the underlying store, without resolving related tickets.
+     * By default, tickets are fetched and removed one at a time. Registries that
+     * are able to remove tickets by id in a single operation should override this.
+     *
+     * @param ticketIds the ticket ids
+     * @return the number of tickets deleted
+     * @throws Exception the exception
+     */
+    protected long deleteTicketsInBulk(final Set<String> ticketIds) throws Exception {
+        return ticketIds
+            .stream()
+            .map(ticketId -> getTicket(ticketId, __ -> true))
+            .filter(Objects::nonNull)
+            .mapToLong(this::deleteSingleTicket)
+            .sum();
     }
 
     /**
@@ -298,25 +369,14 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      * @param ticket the ticket
      * @return the count of tickets that were removed including child tickets and zero if the ticket was not deleted
      */
-    protected int deleteChildren(final TicketGrantingTicket ticket) {
-        val count = new AtomicLong(0);
+    protected int deleteChildren(final TicketGrantingTicket ticket) throws Exception {
         val services = ticket.getServices();
         if (services != null && !services.isEmpty()) {
-            services.keySet()
-                .stream()
-                .map(this::getTicket)
-                .filter(Objects::nonNull)
-                .forEach(serviceTicket -> {
-                    val deleteCount = deleteSingleTicket(serviceTicket);
-                    if (deleteCount > 0) {
-                        LOGGER.debug("Removed ticket [{}]", serviceTicket.getId());
-                        count.getAndAdd(deleteCount);
-                    } else {
-                        LOGGER.debug("Unable to remove ticket [{}]", serviceTicket.getId());
-                    }
-                });
+            val count = deleteTickets(services.keySet());
+            LOGGER.debug("Removed [{}] of [{}] service ticket(s) for [{}]", count, services.size(), ticket.getId());
+            return (int) count;
         }
-        return count.intValue();
+        return 0;
     }
 
     protected Ticket encodeTicket(final Ticket ticket) throws Exception {
@@ -394,15 +454,29 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
     private void deleteLinkedProxyGrantingTickets(final AtomicLong count,
                                                   final TicketGrantingTicket tgt) throws Exception {
         val pgts = new LinkedHashSet<>(tgt.getProxyGrantingTickets().keySet());
-        val hasPgts = !pgts.isEmpty();
-        count.getAndAdd(deleteTickets(pgts));
-        if (hasPgts) {
+        if (!pgts.isEmpty()) {
+            val ticketIds = new LinkedHashSet<String>();
+            collectProxyGrantingTickets(pgts, ticketIds);
+            count.getAndAdd(deleteTickets(ticketIds));
             LOGGER.debug("Removing proxy-granting tickets from parent ticket-granting ticket");
             tgt.getProxyGrantingTickets().clear();
             updateTicket(tgt);
         }
     }
 
+    private void collectProxyGrantingTickets(final Collection<String> proxyGrantingTicketIds, final Set<String> ticketIds) {
+        proxyGrantingTicketIds
+            .stream()
+            .filter(ticketIds::add)
+            .map(ticketId -> getTicket(ticketId, __ -> true))
+            .filter(TicketGrantingTicket.class::isInstance)
+            .map(TicketGrantingTicket.class::cast)
+            .forEach(pgt -> {
+                Optional.ofNullable(pgt.getServices()).ifPresent(services -> ticketIds.addAll(services.keySet()));
+                collectProxyGrantingTickets(pgt.getProxyGrantingTickets().keySet(), ticketIds);
+            });
+    }
+
     private void deleteProxyGrantingTicketFromParent(final ProxyGrantingTicket ticket) throws Exception {
         if (ticket.getTicketGrantingTicket() instanceof final TicketGrantingTicket tgt) {
             tgt.getProxyGrantingTickets().remove(ticket.getId());
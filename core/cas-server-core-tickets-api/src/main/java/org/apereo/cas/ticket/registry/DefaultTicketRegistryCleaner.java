@@ -6,13 +6,18 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.lock.LockRepository;
+import com.google.common.collect.Iterators;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 /**
  * This is {@link DefaultTicketRegistryCleaner}.
@@ -24,6 +29,8 @@ import java.util.Objects;
 @RequiredArgsConstructor
 @Transactional(transactionManager = "ticketTransactionManager")
 public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
+    private static final int BULK_DELETE_BATCH_SIZE = 500;
+
     private final LockRepository lockRepository;
 
     private final ConfigurableApplicationContext applicationContext;
@@ -68,12 +75,48 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
 
     protected int cleanInternal() {
         try (val expiredTickets = ticketRegistry.stream().filter(Objects::nonNull).filter(Ticket::isExpired)) {
-            val ticketsDeleted = expiredTickets.mapToInt(this::cleanTicket).sum();
+            val ticketsDeleted = cleanTickets(expiredTickets);
             LOGGER.info("[{}] expired tickets removed.", ticketsDeleted);
             return ticketsDeleted;
         }
     }
 
+    /**
+     * Clean the given expired tickets. Ticket-granting tickets are cleaned one at a time
+     * so that logout and destruction events can be published for each; all other
+     * tickets are removed from the registry in batches.
+     *
+     * @param tickets the tickets
+     * @return the number of tickets removed
+     */
+    protected int cleanTickets(final Stream<? extends Ticket> tickets) {
+        val ticketsDeleted = new AtomicInteger();
+        Iterators.partition(tickets.iterator(), BULK_DELETE_BATCH_SIZE).forEachRemaining(batch -> {
+            val ticketIds = new ArrayList<String>(batch.size());
+            batch.forEach(ticket -> {
+                if (ticket instanceof TicketGrantingTicket) {
+                    ticketsDeleted.addAndGet(cleanTicket(ticket));
+                } else {
+                    ticketIds.add(ticket.getId());
+                }
+            });
+            ticketsDeleted.addAndGet(cleanTicketsInBulk(ticketIds));
+        });
+        return ticketsDeleted.get();
+    }
+
+    protected int cleanTicketsInBulk(final Collection<String> ticketIds) {
+        try {
+            if (!ticketIds.isEmpty()) {
+                LOGGER.debug("Cleaning up [{}] expired ticket(s)", ticketIds.size());
+                return (int) ticketRegistry.deleteTickets(ticketIds);
+            }
+        } catch (final Throwable e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return 0;
+    }
+
     /**
      * Indicates whether the registry supports automated ticket cleanup.
      * Generally, a registry that is able to return a collection of available
@@ -0,0 +1,151 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.registry.TicketRegistryExpirationSchedule.DueTicket;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.lock.LockRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * This is {@link ExpirationOrderedTicketRegistryCleaner}. Rather than scanning the entire
+ * registry on every run, it consults a {@link TicketRegistryExpirationSchedule} that is fed by the
+ * ticket registry as tickets are added and removed, and only visits tickets that are due.
+ * Tickets that are due at their maximum expiration time are removed by id; ticket-granting tickets
+ * and tickets with no known maximum expiration time are looked up again and verified before removal,
+ * and are put back on the schedule if their expiration was extended in the meantime. The schedule
+ * only sees tickets that pass through the registry on this node, so every node removes the tickets
+ * it has added or updated via {@link #cleanDue()}; tickets that already exist in the registry
+ * are tracked by scanning the registry once, when the cleaner first runs.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+@Getter
+public class ExpirationOrderedTicketRegistryCleaner extends DefaultTicketRegistryCleaner {
+    private final TicketRegistry ticketRegistry;
+
+    private final TicketRegistryExpirationSchedule expirationSchedule;
+
+    private final int batchSize;
+
+    private final Duration recheckInterval;
+
+    private volatile boolean registryScanned;
+
+    private volatile Duration lastCleanDuration = Duration.ZERO;
+
+    public ExpirationOrderedTicketRegistryCleaner(final LockRepository lockRepository,
+                                                  final ConfigurableApplicationContext applicationContext,
+                                                  final TicketRegistry ticketRegistry,
+                                                  final TicketRegistryExpirationSchedule expirationSchedule,
+                                                  final int batchSize,
+                                                  final Duration recheckInterval) {
+        super(lockRepository, applicationContext, ticketRegistry);
+        this.ticketRegistry = ticketRegistry;
+        this.expirationSchedule = expirationSchedule;
+        this.batchSize = Math.max(1, batchSize);
+        this.recheckInterval = recheckInterval;
+    }
+
+    /**
+     * How far behind the cleaner is, measured from the oldest due ticket.
+     *
+     * @return the lag
+     */
+    public Duration getLag() {
+        return expirationSchedule.getLag(Instant.now());
+    }
+
+    /**
+     * Remove tickets that are due for expiration,
+     * without scanning the registry.
+     *
+     * @return the number of tickets removed
+     */
+    public int cleanDue() {
+        try {
+            return removeDueTickets(Instant.now());
+        } catch (final Throwable e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return 0;
+    }
+
+    @Override
+    protected int cleanInternal() {
+        val startedAt = Instant.now();
+        if (!registryScanned) {
+            try (val tickets = ticketRegistry.stream().filter(Objects::nonNull)) {
+                tickets.forEach(ticket -> {
+                    val expirationTime = getExpirationTime(ticket);
+                    expirationSchedule.schedule(ticket.getId(), expirationTime.orElse(startedAt),
+                        expirationTime.isEmpty() || ticket instanceof TicketGrantingTicket);
+                });
+            }
+            registryScanned = true;
+            LOGGER.debug("Tracking expiration of [{}] ticket(s) in the registry", expirationSchedule.size());
+        }
+        return removeDueTickets(startedAt);
+    }
+
+    private int removeDueTickets(final Instant startedAt) {
+        var ticketsDeleted = 0;
+        var dueTickets = expirationSchedule.pollDue(startedAt, batchSize);
+        while (!dueTickets.isEmpty()) {
+            ticketsDeleted += cleanDueTickets(dueTickets, startedAt);
+            dueTickets = expirationSchedule.pollDue(startedAt, batchSize);
+        }
+        lastCleanDuration = Duration.between(startedAt, Instant.now());
+        LOGGER.info("[{}] expired tickets removed in [{}]ms; [{}] ticket(s) are tracked for expiration.",
+            ticketsDeleted, lastCleanDuration.toMillis(), expirationSchedule.size());
+        return ticketsDeleted;
+    }
+
+    protected int cleanDueTickets(final List<DueTicket> dueTickets, final Instant now) {
+        val expiredTickets = new ArrayList<Ticket>(dueTickets.size());
+        val expiredTicketIds = new ArrayList<String>(dueTickets.size());
+        for (val dueTicket : dueTickets) {
+            val ticketId = dueTicket.ticketId();
+            if (!dueTicket.verify()) {
+                expiredTicketIds.add(ticketId);
+                continue;
+            }
+            try {
+                val ticket = ticketRegistry.getTicket(ticketId, __ -> true);
+                if (ticket == null) {
+                    LOGGER.trace("Ticket [{}] is no longer found in the registry", ticketId);
+                } else if (ticket.isExpired()) {
+                    expiredTickets.add(ticket);
+                } else {
+                    val expirationTime = getExpirationTime(ticket)
+                        .filter(instant -> instant.isAfter(now))
+                        .orElseGet(() -> now.plus(recheckInterval));
+                    LOGGER.trace("Ticket [{}] is not yet expired and will be checked again at [{}]", ticketId, expirationTime);
+                    expirationSchedule.schedule(ticketId, expirationTime);
+                }
+            } catch (final Throwable e) {
+                LoggingUtils.error(LOGGER, e);
+                expirationSchedule.schedule(ticketId, now.plus(recheckInterval));
+            }
+        }
+        return cleanTicketsInBulk(expiredTicketIds) + cleanTickets(expiredTickets.stream());
+    }
+
+    private static Optional<Instant> getExpirationTime(final Ticket ticket) {
+        return Optional.ofNullable(ticket.getExpirationPolicy())
+            .map(policy -> policy.toMaximumExpirationTime(ticket))
+            .map(ZonedDateTime::toInstant);
+    }
+}
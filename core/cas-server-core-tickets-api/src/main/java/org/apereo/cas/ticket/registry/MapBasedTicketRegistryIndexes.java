@@ -0,0 +1,185 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link MapBasedTicketRegistryIndexes}. It maintains secondary indexes
+ * for map-based ticket registries that are kept in step with ticket additions, updates
+ * and removals. Indexes map principal ids, service ids, ticket prefixes and attribute name/value
+ * pairs to the storage keys of the matching tickets, so that queries can be answered
+ * in time proportional to the size of the result rather than the size of the registry.
+ * Index entries only identify candidates; callers are expected to verify the actual ticket.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+public class MapBasedTicketRegistryIndexes {
+    private static final char ATTRIBUTE_SEPARATOR = '\u0000';
+
+    private final Map<String, Set<String>> principalIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> serviceIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> prefixIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> attributeIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, IndexedTicket> indexedTickets = new ConcurrentHashMap<>();
+
+    /**
+     * Normalize the given value so that two values are equal
+     * if and only if they are equal ignoring case.
+     *
+     * @param value the value
+     * @return the normalized value
+     */
+    public static String normalizeCase(final String value) {
+        if (StringUtils.isBlank(value)) {
+            return value;
+        }
+        val builder = new StringBuilder(value.length());
+        value.codePoints().forEach(codePoint -> builder.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return builder.toString();
+    }
+
+    /**
+     * Index ticket, replacing any previous index entries for the same key.
+     *
+     * @param key        the storage key of the ticket
+     * @param prefix     the ticket prefix
+     * @param principal  the principal key, if any
+     * @param service    the service key, if any
+     * @param attributes the attribute names mapped to their values, if any
+     */
+    public void index(final String key, final String prefix, final String principal,
+                      final String service, final Map<String, ? extends Collection<String>> attributes) {
+        remove(key);
+        val attributeKeys = new HashSet<String>();
+        attributes.forEach((name, values) -> values.forEach(value -> attributeKeys.add(toAttributeKey(name, value))));
+        val entry = new IndexedTicket(prefix, principal, service, attributeKeys);
+        indexedTickets.put(key, entry);
+        add(prefixIndex, prefix, key);
+        add(principalIndex, principal, key);
+        add(serviceIndex, service, key);
+        attributeKeys.forEach(attributeKey -> add(attributeIndex, attributeKey, key));
+    }
+
+    /**
+     * Remove all index entries for the given key.
+     *
+     * @param key the key
+     */
+    public void remove(final String key) {
+        if (StringUtils.isNotBlank(key)) {
+            val entry = indexedTickets.remove(key);
+            if (entry != null) {
+                remove(prefixIndex, entry.prefix(), key);
+                remove(principalIndex, entry.principal(), key);
+                remove(serviceIndex, entry.service(), key);
+                entry.attributes().forEach(attributeKey -> remove(attributeIndex, attributeKey, key));
+            }
+        }
+    }
+
+    /**
+     * Remove all index entries.
+     */
+    public void clear() {
+        indexedTickets.clear();
+        prefixIndex.clear();
+        principalIndex.clear();
+        serviceIndex.clear();
+        attributeIndex.clear();
+    }
+
+    /**
+     * Find ticket keys by principal.
+     *
+     * @param principal the principal key
+     * @return the keys
+     */
+    public Set<String> findByPrincipal(final String principal) {
+        return find(principalIndex, principal);
+    }
+
+    /**
+     * Find ticket keys by service.
+     *
+     * @param service the service key
+     * @return the keys
+     */
+    public Set<String> findByService(final String service) {
+        return find(serviceIndex, service);
+    }
+
+    /**
+     * Find ticket keys by ticket prefix.
+     *
+     * @param prefix the prefix
+     * @return the keys
+     */
+    public Set<String> findByPrefix(final String prefix) {
+        return find(prefixIndex, prefix);
+    }
+
+    /**
+     * Find ticket keys by attribute name and value.
+     *
+     * @param name  the attribute name
+     * @param value the attribute value
+     * @return the keys
+     */
+    public Set<String> findByAttribute(final String name, final String value) {
+        return find(attributeIndex, toAttributeKey(name, value));
+    }
+
+    /**
+     * Number of indexed tickets.
+     *
+     * @return the count
+     */
+    public long size() {
+        return indexedTickets.size();
+    }
+
+    private static String toAttributeKey(final String name, final String value) {
+        return name + ATTRIBUTE_SEPARATOR + value;
+    }
+
+    private static Set<String> find(final Map<String, Set<String>> index, final String indexKey) {
+        if (StringUtils.isBlank(indexKey)) {
+            return Set.of();
+        }
+        val keys = index.get(indexKey);
+        return keys == null ? Set.of() : new LinkedHashSet<>(keys);
+    }
+
+    private static void add(final Map<String, Set<String>> index, final String indexKey, final String key) {
+        if (StringUtils.isNotBlank(indexKey)) {
+            index.compute(indexKey, (__, keys) -> {
+                val results = keys == null ? ConcurrentHashMap.<String>newKeySet() : keys;
+                results.add(key);
+                return results;
+            });
+        }
+    }
+
+    private static void remove(final Map<String, Set<String>> index, final String indexKey, final String key) {
+        if (StringUtils.isNotBlank(indexKey)) {
+            index.computeIfPresent(indexKey, (__, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private record IndexedTicket(String prefix, String principal, String service, Set<String> attributes) {
+    }
+}
@@ -0,0 +1,184 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * This is {@link TicketRegistryExpirationSchedule}. It tracks the next expiration instant
+ * of tickets in time-ordered buckets, so that the ticket registry cleaner can visit
+ * only those tickets that are due for expiration instead of scanning the entire registry.
+ * A ticket is tracked in at most one bucket at any given time. Buckets are updated atomically
+ * per bucket, and are kept in expiration order separately so that due buckets can be found quickly.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@RequiredArgsConstructor
+public class TicketRegistryExpirationSchedule {
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+
+    private final NavigableSet<Long> bucketOrder = new ConcurrentSkipListSet<>();
+
+    private final Map<String, ScheduledTicket> scheduledTickets = new ConcurrentHashMap<>();
+
+    @Getter
+    private final Duration bucketSize;
+
+    /**
+     * Track the given ticket to be due at the given instant.
+     * The ticket is looked up again once due to verify it has expired.
+     * Previous schedules for the same ticket are replaced.
+     *
+     * @param ticketId   the ticket id
+     * @param expiration the expiration instant
+     */
+    public void schedule(final String ticketId, final Instant expiration) {
+        schedule(ticketId, expiration, true);
+    }
+
+    /**
+     * Track the given ticket to be due at the given instant.
+     * Previous schedules for the same ticket are replaced.
+     *
+     * @param ticketId   the ticket id
+     * @param expiration the expiration instant
+     * @param verify     whether the ticket must be looked up again once due, or is known
+     *                   to have expired by then because the instant is its maximum expiration time
+     */
+    public void schedule(final String ticketId, final Instant expiration, final boolean verify) {
+        val bucket = toBucket(expiration);
+        val previous = scheduledTickets.put(ticketId, new ScheduledTicket(bucket, verify));
+        if (previous != null && previous.bucket() != bucket) {
+            removeFromBucket(previous.bucket(), ticketId);
+        }
+        buckets.compute(bucket, (key, tickets) -> {
+            val results = tickets == null ? ConcurrentHashMap.<String>newKeySet() : tickets;
+            results.add(ticketId);
+            bucketOrder.add(key);
+            return results;
+        });
+    }
+
+    /**
+     * Stop tracking the given ticket.
+     *
+     * @param ticketId the ticket id
+     */
+    public void unschedule(final String ticketId) {
+        val previous = scheduledTickets.remove(ticketId);
+        if (previous != null) {
+            removeFromBucket(previous.bucket(), ticketId);
+        }
+    }
+
+    /**
+     * Remove and return tickets that are due at the given instant,
+     * in order of their expiration, up to the given limit.
+     *
+     * @param now   the now
+     * @param limit the limit
+     * @return the due tickets
+     */
+    public List<DueTicket> pollDue(final Instant now, final int limit) {
+        val results = new ArrayList<DueTicket>(Math.max(0, Math.min(limit, scheduledTickets.size())));
+        val dueBuckets = bucketOrder.headSet(Math.floorDiv(now.toEpochMilli(), getBucketMillis()), true);
+        for (val bucket : dueBuckets) {
+            buckets.computeIfPresent(bucket, (key, tickets) -> {
+                val iterator = tickets.iterator();
+                while (iterator.hasNext() && results.size() < limit) {
+                    val ticketId = iterator.next();
+                    iterator.remove();
+                    val scheduled = scheduledTickets.get(ticketId);
+                    if (scheduled != null && scheduled.bucket() == key && scheduledTickets.remove(ticketId, scheduled)) {
+                        results.add(new DueTicket(ticketId, scheduled.verify()));
+                    }
+                }
+                return removeIfEmpty(key, tickets);
+            });
+            if (results.size() >= limit) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * How far behind the schedule is at the given instant,
+     * measured from the oldest bucket that is due.
+     *
+     * @param now the now
+     * @return the lag, or zero if nothing is overdue
+     */
+    public Duration getLag(final Instant now) {
+        val oldest = bucketOrder.ceiling(Long.MIN_VALUE);
+        if (oldest == null) {
+            return Duration.ZERO;
+        }
+        val lag = now.toEpochMilli() - oldest * getBucketMillis();
+        return lag > 0 ? Duration.ofMillis(lag) : Duration.ZERO;
+    }
+
+    /**
+     * Number of tracked tickets.
+     *
+     * @return the size
+     */
+    public long size() {
+        return scheduledTickets.size();
+    }
+
+    /**
+     * Stop tracking all tickets.
+     */
+    public void clear() {
+        scheduledTickets.clear();
+        buckets.clear();
+        bucketOrder.clear();
+    }
+
+    private long toBucket(final Instant instant) {
+        val bucketMillis = getBucketMillis();
+        return Math.floorDiv(instant.toEpochMilli() + bucketMillis - 1, bucketMillis);
+    }
+
+    private long getBucketMillis() {
+        return Math.max(1, bucketSize.toMillis());
+    }
+
+    private void removeFromBucket(final long bucket, final String ticketId) {
+        buckets.computeIfPresent(bucket, (key, tickets) -> {
+            tickets.remove(ticketId);
+            return removeIfEmpty(key, tickets);
+        });
+    }
+
+    private Set<String> removeIfEmpty(final Long bucket, final Set<String> tickets) {
+        if (tickets.isEmpty()) {
+            bucketOrder.remove(bucket);
+            return null;
+        }
+        return tickets;
+    }
+
+    private record ScheduledTicket(long bucket, boolean verify) {
+    }
+
+    /**
+     * A ticket that is due for expiration.
+     *
+     * @param ticketId the ticket id
+     * @param verify   whether the ticket must be looked up again to verify it has expired
+     */
+    public record DueTicket(String ticketId, boolean verify) {
+    }
+}
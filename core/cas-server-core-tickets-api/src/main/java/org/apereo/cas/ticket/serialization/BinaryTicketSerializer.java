@@ -0,0 +1,97 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.BaseJacksonSerializer;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import lombok.Getter;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * This is {@link BinaryTicketSerializer}. Encodes tickets using the Smile binary format,
+ * with the same object mapper configuration, type information and customizations as the JSON serializer
+ * that is registered for the ticket type. Property names and repeated string values are written
+ * once and referenced afterwards, and property accessors are generated once by the mapper rather than
+ * looked up reflectively for every ticket.
+ * <p>
+ * Binary payloads are prefixed with {@link #BINARY_FORMAT_PREFIX} and a schema version, followed by
+ * the Base64-encoded binary document, so they can be stored wherever JSON ticket documents are
+ * stored and told apart from JSON documents when read back.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Getter
+public class BinaryTicketSerializer {
+    /**
+     * Prefix that marks binary ticket documents.
+     */
+    public static final String BINARY_FORMAT_PREFIX = "casb";
+
+    /**
+     * Current schema version of binary ticket documents.
+     */
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final String SCHEMA_HEADER = BINARY_FORMAT_PREFIX + SCHEMA_VERSION + ':';
+
+    private final Class<? extends Ticket> typeToSerialize;
+
+    private final ObjectReader typeReader;
+
+    private final ObjectWriter typeWriter;
+
+    public BinaryTicketSerializer(final BaseJacksonSerializer<? extends Ticket> serializer) {
+        this.typeToSerialize = serializer.getTypeToSerialize();
+        val smileFactory = SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+        val objectMapper = serializer.newObjectMapper(smileFactory);
+        this.typeReader = objectMapper.readerFor(typeToSerialize);
+        this.typeWriter = objectMapper.writerFor(typeToSerialize);
+    }
+
+    /**
+     * Whether the given ticket content is a binary ticket document.
+     *
+     * @param ticketContent the ticket content
+     * @return true/false
+     */
+    public static boolean isBinaryFormat(final String ticketContent) {
+        return StringUtils.startsWith(ticketContent, BINARY_FORMAT_PREFIX);
+    }
+
+    /**
+     * Serialize ticket into a binary ticket document.
+     *
+     * @param ticket the ticket
+     * @return the binary document
+     */
+    public String toString(final Ticket ticket) {
+        return FunctionUtils.doUnchecked(() -> SCHEMA_HEADER + EncodingUtils.encodeBase64(typeWriter.writeValueAsBytes(ticket)));
+    }
+
+    /**
+     * Deserialize ticket from a binary ticket document.
+     *
+     * @param ticketContent the ticket content
+     * @return the ticket
+     */
+    public Ticket from(final String ticketContent) {
+        val separator = ticketContent.indexOf(':');
+        val version = separator > BINARY_FORMAT_PREFIX.length()
+            ? ticketContent.substring(BINARY_FORMAT_PREFIX.length(), separator)
+            : StringUtils.EMPTY;
+        if (!String.valueOf(SCHEMA_VERSION).equals(version)) {
+            throw new IllegalArgumentException("Unsupported binary ticket schema version [" + version + ']');
+        }
+        val binary = EncodingUtils.decodeBase64(ticketContent.substring(separator + 1));
+        return FunctionUtils.doUnchecked(() -> typeReader.readValue(binary));
+    }
+}
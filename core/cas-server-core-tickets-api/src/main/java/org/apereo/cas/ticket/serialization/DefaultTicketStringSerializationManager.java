@@ -2,28 +2,47 @@ package org.apereo.cas.ticket.serialization;
 
 import org.apereo.cas.ticket.InvalidTicketException;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.serialization.BaseJacksonSerializer;
+import org.apereo.cas.util.serialization.StringSerializer;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is {@link DefaultTicketStringSerializationManager}.
+ * Tickets are serialized as JSON unless the binary format is enabled.
+ * Ticket documents in either format are always accepted for deserialization,
+ * using the {@link BinaryTicketSerializer} that is built for the ticket type
+ * when the document is in binary format.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
  */
 @RequiredArgsConstructor
 @Slf4j
+@Accessors(chain = true)
 public class DefaultTicketStringSerializationManager implements TicketSerializationManager {
+    private final Map<StringSerializer<Ticket>, BinaryTicketSerializer> binaryTicketSerializers = new ConcurrentHashMap<>();
+
     private final TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
 
+    @Setter
+    private boolean binaryFormatEnabled;
+
     @Override
     public String serializeTicket(final Ticket ticket) {
         val serializer = Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(ticket),
             () -> "Unable to find ticket serializer for " + ticket.getId());
+        if (binaryFormatEnabled && serializer instanceof BaseJacksonSerializer) {
+            return getBinaryTicketSerializer(serializer).toString(ticket);
+        }
         return serializer.toString(ticket);
     }
 
@@ -47,7 +66,9 @@ public class DefaultTicketStringSerializationManager implements TicketSerializat
         val serializer = Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(clazz),
             () -> "Unable to find ticket deserializer for " + clazz.getSimpleName());
         LOGGER.trace("Unmarshalling ticket content from [{}]", ticketContent);
-        val ticket = serializer.from(ticketContent);
+        val ticket = BinaryTicketSerializer.isBinaryFormat(ticketContent)
+            ? getBinaryTicketSerializer(serializer).from(ticketContent)
+            : serializer.from(ticketContent);
         if (ticket == null) {
             throw new InvalidTicketException(clazz.getName());
         }
@@ -58,4 +79,13 @@ public class DefaultTicketStringSerializationManager implements TicketSerializat
         }
         return (T) ticket;
     }
+
+    protected BinaryTicketSerializer getBinaryTicketSerializer(final StringSerializer<Ticket> serializer) {
+        return binaryTicketSerializers.computeIfAbsent(serializer, __ -> {
+            if (serializer instanceof final BaseJacksonSerializer jacksonSerializer) {
+                return new BinaryTicketSerializer(jacksonSerializer);
+            }
+            throw new IllegalArgumentException("Unable to read binary ticket content using " + serializer.getClass().getSimpleName());
+        });
+    }
 }
@@ -2,17 +2,27 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCleanerProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.ticket.registry.AbstractTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.ExpirationOrderedTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketRegistryExpirationSchedule;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMatchingHostname;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -27,6 +37,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is {@link CasCoreTicketsSchedulingConfiguration}.
@@ -52,9 +63,43 @@ class CasCoreTicketsSchedulingConfiguration {
         @Qualifier(LockRepository.BEAN_NAME) final LockRepository lockRepository,
         final ConfigurableApplicationContext applicationContext,
         @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry) {
+        val cleaner = casProperties.getTicket().getRegistry().getCleaner();
+        if (cleaner.getMode() == TicketRegistryCleanerProperties.TicketRegistryCleanerModes.EXPIRATION_ORDERED) {
+            if (ticketRegistry instanceof final AbstractTicketRegistry registry) {
+                val schedule = new TicketRegistryExpirationSchedule(Beans.newDuration(cleaner.getBucketSize()));
+                registry.setExpirationSchedule(schedule);
+                return new ExpirationOrderedTicketRegistryCleaner(lockRepository, applicationContext, ticketRegistry,
+                    schedule, cleaner.getBatchSize(), Beans.newDuration(cleaner.getRecheckInterval()));
+            }
+            LOGGER.warn("Ticket registry [{}] cannot track ticket expiration; falling back to the default ticket registry cleaner",
+                ticketRegistry.getClass().getSimpleName());
+        }
         return new DefaultTicketRegistryCleaner(lockRepository, applicationContext, ticketRegistry);
     }
 
+    @ConditionalOnMissingBean(name = "ticketRegistryCleanerMeterBinder")
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    public MeterBinder ticketRegistryCleanerMeterBinder(
+        @Qualifier(TicketRegistryCleaner.BEAN_NAME) final ObjectProvider<TicketRegistryCleaner> ticketRegistryCleaner) {
+        return registry -> ticketRegistryCleaner.ifAvailable(cleaner -> {
+            if (cleaner instanceof final ExpirationOrderedTicketRegistryCleaner orderedCleaner) {
+                TimeGauge.builder("cas.ticket.registry.cleaner.duration", orderedCleaner, TimeUnit.MILLISECONDS,
+                        instance -> instance.getLastCleanDuration().toMillis())
+                    .description("Duration of the last ticket registry cleaner run")
+                    .register(registry);
+                TimeGauge.builder("cas.ticket.registry.cleaner.lag", orderedCleaner, TimeUnit.MILLISECONDS,
+                        instance -> instance.getLag().toMillis())
+                    .description("How far behind the ticket registry cleaner is, measured from the oldest due ticket")
+                    .register(registry);
+                Gauge.builder("cas.ticket.registry.cleaner.tracked", orderedCleaner,
+                        instance -> instance.getExpirationSchedule().size())
+                    .description("Number of tickets tracked for expiration")
+                    .register(registry);
+            }
+        });
+    }
+
     @ConditionalOnMissingBean(name = "ticketRegistryCleanerScheduler")
     @ConditionalOnMatchingHostname(name = "cas.ticket.registry.cleaner.schedule.enabled-on-host")
     @Bean
@@ -77,6 +122,41 @@ class CasCoreTicketsSchedulingConfiguration {
     }
 
 
+    @ConditionalOnMissingBean(name = "ticketRegistryExpirationScheduler")
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @Lazy(false)
+    public Runnable ticketRegistryExpirationScheduler(
+        final ConfigurableApplicationContext applicationContext,
+        @Qualifier(TicketRegistryCleaner.BEAN_NAME) final TicketRegistryCleaner ticketRegistryCleaner) {
+        return BeanSupplier.of(Runnable.class)
+            .when(BeanCondition.on("cas.ticket.registry.cleaner.schedule.enabled").isTrue()
+                .evenIfMissing().given(applicationContext.getEnvironment()))
+            .supply(() -> new TicketRegistryExpirationScheduler(ticketRegistryCleaner))
+            .otherwiseProxy()
+            .get();
+    }
+
+    /**
+     * Removes tickets that are due for expiration and were tracked on this node.
+     * Runs on every node, unlike the ticket registry cleaner scheduler
+     * which may be restricted to a single host.
+     */
+    @RequiredArgsConstructor
+    static class TicketRegistryExpirationScheduler implements Runnable {
+        private final TicketRegistryCleaner ticketRegistryCleaner;
+
+        @Scheduled(
+            initialDelayString = "${cas.ticket.registry.cleaner.schedule.start-delay:PT30S}",
+            fixedDelayString = "${cas.ticket.registry.cleaner.schedule.repeat-interval:PT120S}")
+        @Override
+        public void run() {
+            if (ticketRegistryCleaner instanceof final ExpirationOrderedTicketRegistryCleaner cleaner) {
+                cleaner.cleanDue();
+            }
+        }
+    }
+
     /**
      * The Ticket registry cleaner scheduler. Because the cleaner itself is marked
      * with {@link Transactional},
@@ -573,6 +573,31 @@ public abstract class BaseTicketRegistryTests {
         assertThrows(InvalidTicketException.class, () -> ticketRegistry.getTicket("ST-31", ServiceTicket.class));
     }
 
+    @RepeatedTest(2)
+    void verifyDeleteTicketsInBulk() throws Throwable {
+        assumeTrue(canTicketRegistryDelete());
+        val ticketGrantingTicketId = TestTicketIdentifiers.generate().ticketGrantingTicketId();
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(tgt);
+        val service = RegisteredServiceTestUtils.getService("TGT_BULK_DELETE_TEST");
+        val serviceTickets = new ArrayList<String>();
+        for (var i = 0; i < 5; i++) {
+            val st = tgt.grantServiceTicket(TestTicketIdentifiers.generate().serviceTicketId(), service,
+                NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+            ticketRegistry.addTicket(st);
+            serviceTickets.add(st.getId());
+        }
+        ticketRegistry.updateTicket(tgt);
+        assertEquals(3, ticketRegistry.deleteTickets(serviceTickets.subList(0, 3)));
+        serviceTickets.subList(0, 3).forEach(id -> assertNull(ticketRegistry.getTicket(id)));
+        assertNotNull(ticketRegistry.getTicket(serviceTickets.get(3)));
+        assertNotNull(ticketRegistry.getTicket(tgt.getId()));
+        assertEquals(0, ticketRegistry.deleteTickets(List.of()));
+        assertEquals(3, ticketRegistry.deleteTicket(tgt.getId()));
+        assertNull(ticketRegistry.getTicket(serviceTickets.get(4)));
+    }
+
     @RepeatedTest(2)
     void verifyWriteGetDelete() throws Throwable {
         val ticketGrantingTicketId = TestTicketIdentifiers.generate().ticketGrantingTicketId();
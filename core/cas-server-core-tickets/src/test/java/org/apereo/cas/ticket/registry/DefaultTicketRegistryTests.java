@@ -30,6 +30,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -127,6 +128,40 @@ class DefaultTicketRegistryTests {
         }
     }
 
+    @Nested
+    class IndexedTests extends BaseTicketRegistryTests {
+        @Override
+        public TicketRegistry getNewTicketRegistry() {
+            val registry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog(),
+                    mock(ConfigurableApplicationContext.class));
+            registry.setTicketIndexes(new MapBasedTicketRegistryIndexes());
+            return registry;
+        }
+
+        @RepeatedTest(1)
+        void verifyIndexesFollowRegistry() throws Throwable {
+            val user = UUID.randomUUID().toString();
+            val service = RegisteredServiceTestUtils.getService(UUID.randomUUID().toString());
+            val registry = (DefaultTicketRegistry) getNewTicketRegistry();
+            val tgt = new MockTicketGrantingTicket(user);
+            val st = tgt.grantServiceTicket(service, TicketTrackingPolicy.noOp());
+            registry.addTicket(tgt);
+            registry.addTicket(st);
+            registry.updateTicket(tgt);
+            assertEquals(2, registry.getTicketIndexes().size());
+            assertEquals(1, registry.countSessionsFor(user.toUpperCase(Locale.ENGLISH)));
+            assertEquals(1, registry.getSessionsFor(user).count());
+            assertEquals(1, registry.countTicketsFor(service));
+            assertEquals(1, registry.query(TicketRegistryQueryCriteria.builder()
+                .type(TicketGrantingTicket.PREFIX).principal(user).build()).size());
+            registry.deleteTicket(st.getId());
+            assertEquals(0, registry.countTicketsFor(service));
+            registry.deleteAll();
+            assertEquals(0, registry.getTicketIndexes().size());
+            assertEquals(0, registry.countSessionsFor(user));
+        }
+    }
+
     @SpringBootTest(classes = {
             BaseTicketRegistryTests.SharedTestConfiguration.class,
             LogoutTests.LogoutManagerTestConfiguration.class
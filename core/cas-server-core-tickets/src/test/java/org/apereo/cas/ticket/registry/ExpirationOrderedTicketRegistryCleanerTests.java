@@ -0,0 +1,181 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.mock.MockServiceTicket;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.expiration.FixedInstantExpirationPolicy;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.lock.LockRepository;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link ExpirationOrderedTicketRegistryCleanerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("Tickets")
+class ExpirationOrderedTicketRegistryCleanerTests {
+
+    @Test
+    void verifySchedulePollsInOrder() {
+        val schedule = new TicketRegistryExpirationSchedule(Duration.ofSeconds(1));
+        val now = Instant.now();
+        schedule.schedule("TGT-3", now.minusSeconds(10));
+        schedule.schedule("TGT-1", now.minusSeconds(30));
+        schedule.schedule("TGT-2", now.minusSeconds(20));
+        schedule.schedule("TGT-4", now.plusSeconds(60));
+        schedule.schedule("TGT-5", now.minusSeconds(5));
+        schedule.unschedule("TGT-5");
+        assertEquals(4, schedule.size());
+        assertTrue(schedule.getLag(now).toSeconds() >= 29);
+
+        assertEquals(List.of("TGT-1", "TGT-2"), toTicketIds(schedule.pollDue(now, 2)));
+        assertEquals(List.of("TGT-3"), toTicketIds(schedule.pollDue(now, 2)));
+        assertTrue(schedule.pollDue(now, 2).isEmpty());
+        assertEquals(1, schedule.size());
+        assertEquals(Duration.ZERO, schedule.getLag(now));
+
+        schedule.schedule("TGT-4", now.minusSeconds(1), false);
+        assertEquals(List.of(new TicketRegistryExpirationSchedule.DueTicket("TGT-4", false)), schedule.pollDue(now, 10));
+        assertEquals(0, schedule.size());
+    }
+
+    @Test
+    void verifyConcurrentScheduling() throws Throwable {
+        val schedule = new TicketRegistryExpirationSchedule(Duration.ofSeconds(1));
+        val now = Instant.now();
+        val count = 1000;
+        try (val executor = Executors.newFixedThreadPool(4)) {
+            for (var i = 0; i < count; i++) {
+                val ticketId = "ST-" + i;
+                executor.submit(() -> {
+                    schedule.schedule(ticketId, now.minusSeconds(5), false);
+                    schedule.unschedule("ST-unknown");
+                });
+            }
+        }
+        assertEquals(count, schedule.size());
+        assertEquals(count, schedule.pollDue(now, count * 2).size());
+        assertEquals(0, schedule.size());
+        assertEquals(Duration.ZERO, schedule.getLag(now));
+    }
+
+    @Test
+    void verifyOnlyDueTicketsAreCleaned() throws Throwable {
+        val ticketRegistry = newTicketRegistry();
+        val existing = new MockTicketGrantingTicket("casuser");
+        existing.setExpirationPolicy(new HardTimeoutExpirationPolicy(100));
+        ticketRegistry.addTicket(existing);
+        existing.setExpirationPolicy(new FixedInstantExpirationPolicy(Instant.now().minusSeconds(5)));
+        existing.markTicketExpired();
+
+        val schedule = new TicketRegistryExpirationSchedule(Duration.ofMillis(100));
+        ticketRegistry.setExpirationSchedule(schedule);
+        val cleaner = new ExpirationOrderedTicketRegistryCleaner(LockRepository.noOp(),
+            mock(ConfigurableApplicationContext.class), ticketRegistry, schedule, 10, Duration.ofMinutes(1));
+
+        val active = new MockTicketGrantingTicket("casuser");
+        active.setExpirationPolicy(new HardTimeoutExpirationPolicy(100));
+        ticketRegistry.addTicket(active);
+        assertEquals(1, schedule.size());
+
+        assertEquals(1, cleaner.clean());
+        assertNull(ticketRegistry.getTicket(existing.getId()));
+        assertNotNull(ticketRegistry.getTicket(active.getId()));
+        assertEquals(1, schedule.size());
+        assertEquals(Duration.ZERO, cleaner.getLag());
+
+        active.setExpirationPolicy(new FixedInstantExpirationPolicy(Instant.now().plusMillis(200)));
+        schedule.schedule(active.getId(), Instant.now().minusSeconds(1));
+        assertEquals(0, cleaner.clean());
+        assertEquals(1, schedule.size());
+
+        ticketRegistry.deleteTicket(active);
+        assertEquals(0, schedule.size());
+        assertEquals(0, cleaner.clean());
+    }
+
+    @Test
+    void verifyUpdatedTicketsAreRescheduled() throws Throwable {
+        val ticketRegistry = newTicketRegistry();
+        val schedule = new TicketRegistryExpirationSchedule(Duration.ofMillis(100));
+        ticketRegistry.setExpirationSchedule(schedule);
+        val cleaner = new ExpirationOrderedTicketRegistryCleaner(LockRepository.noOp(),
+            mock(ConfigurableApplicationContext.class), ticketRegistry, schedule, 10, Duration.ofMinutes(1));
+        assertEquals(0, cleaner.clean());
+
+        val ticket = new MockTicketGrantingTicket("casuser");
+        ticket.setExpirationPolicy(new HardTimeoutExpirationPolicy(100));
+        ticketRegistry.addTicket(ticket);
+        ticket.setExpirationPolicy(new FixedInstantExpirationPolicy(Instant.now().minusSeconds(5)));
+        ticket.markTicketExpired();
+        ticketRegistry.updateTicket(ticket);
+
+        assertEquals(1, cleaner.clean());
+        assertNull(ticketRegistry.getTicket(ticket.getId()));
+        assertEquals(0, schedule.size());
+    }
+
+    @Test
+    void verifyRegistryScannedOnFirstRun() throws Throwable {
+        val ticketRegistry = newTicketRegistry();
+        val schedule = new TicketRegistryExpirationSchedule(Duration.ofMillis(100));
+        val cleaner = new ExpirationOrderedTicketRegistryCleaner(LockRepository.noOp(),
+            mock(ConfigurableApplicationContext.class), ticketRegistry, schedule, 10, Duration.ofMinutes(1));
+
+        val ticket = new MockTicketGrantingTicket("casuser");
+        ticket.setExpirationPolicy(new HardTimeoutExpirationPolicy(100));
+        ticketRegistry.addTicket(ticket);
+        assertEquals(0, schedule.size());
+        ticket.setExpirationPolicy(new FixedInstantExpirationPolicy(Instant.now().minusSeconds(5)));
+        ticket.markTicketExpired();
+
+        assertEquals(0, cleaner.cleanDue());
+        assertNotNull(ticketRegistry.getTicket(ticket.getId(), __ -> true));
+        assertEquals(1, cleaner.clean());
+        assertNull(ticketRegistry.getTicket(ticket.getId()));
+    }
+
+    @Test
+    void verifyTicketsPastMaximumExpirationAreRemovedWithoutLookup() throws Throwable {
+        val ticketRegistry = spy(newTicketRegistry());
+        val schedule = new TicketRegistryExpirationSchedule(Duration.ofMillis(100));
+        ticketRegistry.setExpirationSchedule(schedule);
+        val cleaner = new ExpirationOrderedTicketRegistryCleaner(LockRepository.noOp(),
+            mock(ConfigurableApplicationContext.class), ticketRegistry, schedule, 10, Duration.ofMinutes(1));
+        assertEquals(0, cleaner.clean());
+
+        val serviceTicket = new MockServiceTicket("ST-1", RegisteredServiceTestUtils.getService(),
+            new MockTicketGrantingTicket("casuser"), new HardTimeoutExpirationPolicy(100));
+        ticketRegistry.addTicket(serviceTicket);
+        assertEquals(1, schedule.size());
+        schedule.schedule(serviceTicket.getId(), Instant.now().minusSeconds(1), false);
+
+        assertEquals(1, cleaner.cleanDue());
+        verify(ticketRegistry, never()).getTicket(eq(serviceTicket.getId()), any());
+        assertNull(ticketRegistry.getTicket(serviceTicket.getId(), __ -> true));
+        assertEquals(0, schedule.size());
+    }
+
+    private static List<String> toTicketIds(final List<TicketRegistryExpirationSchedule.DueTicket> dueTickets) {
+        return dueTickets.stream().map(TicketRegistryExpirationSchedule.DueTicket::ticketId).toList();
+    }
+
+    private static AbstractTicketRegistry newTicketRegistry() {
+        return new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog(),
+            mock(ConfigurableApplicationContext.class));
+    }
+}
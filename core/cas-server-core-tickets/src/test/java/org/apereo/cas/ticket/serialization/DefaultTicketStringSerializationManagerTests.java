@@ -56,6 +56,10 @@ class DefaultTicketStringSerializationManagerTests {
     @Qualifier(TicketSerializationManager.BEAN_NAME)
     private TicketSerializationManager ticketSerializationManager;
 
+    @Autowired
+    @Qualifier("ticketSerializationExecutionPlan")
+    private TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
+
     @Autowired
     @Qualifier(TicketFactory.BEAN_NAME)
     private TicketFactory defaultTicketFactory;
@@ -73,6 +77,25 @@ class DefaultTicketStringSerializationManagerTests {
         assertThrows(InvalidTicketException.class, () -> ticketSerializationManager.deserializeTicket(result, ProxyTicket.class));
     }
 
+    @Test
+    void verifyBinaryFormat() throws Throwable {
+        val factory = (TicketGrantingTicketFactory) this.defaultTicketFactory.get(TicketGrantingTicket.class);
+        val ticket = factory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService());
+        val json = ticketSerializationManager.serializeTicket(ticket);
+
+        val binaryManager = new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan).setBinaryFormatEnabled(true);
+        val binary = binaryManager.serializeTicket(ticket);
+        assertTrue(BinaryTicketSerializer.isBinaryFormat(binary));
+        assertTrue(binary.length() < json.length());
+
+        assertEquals(ticket, binaryManager.deserializeTicket(binary, TicketGrantingTicket.class));
+        assertEquals(ticket, binaryManager.deserializeTicket(json, TicketGrantingTicket.class));
+        assertEquals(ticket, ticketSerializationManager.deserializeTicket(binary, ticket.getClass().getName()));
+        assertThrows(IllegalArgumentException.class,
+            () -> binaryManager.deserializeTicket(BinaryTicketSerializer.BINARY_FORMAT_PREFIX + "99:AAAA", TicketGrantingTicket.class));
+    }
+
     @Test
     void verifyBadClass() {
         assertThrows(NullPointerException.class, () -> ticketSerializationManager.serializeTicket(mock(Ticket.class)));
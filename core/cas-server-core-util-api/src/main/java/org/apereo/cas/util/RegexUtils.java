@@ -1,5 +1,7 @@
 package org.apereo.cas.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -27,6 +29,28 @@ public class RegexUtils {
      */
     public static final Pattern MATCH_NOTHING_PATTERN = Pattern.compile("a^");
 
+    private static final int COMPILED_PATTERN_CACHE_MAXIMUM_SIZE = 10_000;
+
+    /**
+     * Compiled patterns keyed by pattern text and flags.
+     * Invalid patterns are cached as {@link #MATCH_NOTHING_PATTERN}
+     * so they are neither re-parsed nor reported again.
+     */
+    private static final Cache<CompiledPatternKey, Pattern> COMPILED_PATTERN_CACHE = Caffeine.newBuilder()
+        .maximumSize(COMPILED_PATTERN_CACHE_MAXIMUM_SIZE)
+        .recordStats()
+        .build();
+
+    /**
+     * Gets the shared cache of compiled patterns, typically
+     * to be monitored for hits, misses and evictions.
+     *
+     * @return the compiled pattern cache
+     */
+    public static Cache<?, Pattern> getCompiledPatternCache() {
+        return COMPILED_PATTERN_CACHE;
+    }
+
     /**
      * Check to see if the specified pattern is a valid regular expression.
      *
@@ -84,12 +108,14 @@ public class RegexUtils {
             LOGGER.warn("Pattern cannot be null/blank");
             return MATCH_NOTHING_PATTERN;
         }
-        try {
-            return Pattern.compile(pattern, flags);
-        } catch (final PatternSyntaxException exception) {
-            LOGGER.debug("Pattern [{}] is not a valid regex.", pattern);
-            return MATCH_NOTHING_PATTERN;
-        }
+        return COMPILED_PATTERN_CACHE.get(new CompiledPatternKey(pattern, flags), key -> {
+            try {
+                return Pattern.compile(key.pattern(), key.flags());
+            } catch (final PatternSyntaxException exception) {
+                LOGGER.debug("Pattern [{}] is not a valid regex.", key.pattern());
+                return MATCH_NOTHING_PATTERN;
+            }
+        });
     }
 
     /**
@@ -191,4 +217,7 @@ public class RegexUtils {
             return find(pattern, remoteAddr);
         }
     }
+
+    private record CompiledPatternKey(String pattern, int flags) {
+    }
 }
@@ -24,8 +24,10 @@ import java.security.SecureRandom;
 public abstract class AbstractRandomStringGenerator implements RandomStringGenerator {
     /**
      * An instance of secure random to ensure randomness is secure.
+     * The instance is shared and striped so that concurrent callers
+     * do not contend on a single generator.
      */
-    protected final SecureRandom randomizer = RandomUtils.getNativeInstance();
+    protected final SecureRandom randomizer = RandomUtils.getStripedInstance();
 
     /**
      * Default string length before encoding.
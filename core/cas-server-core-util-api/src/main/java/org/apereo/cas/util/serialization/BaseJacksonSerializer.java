@@ -168,17 +168,29 @@ public abstract class BaseJacksonSerializer<T> implements StringSerializer<T> {
      */
     public ObjectMapper getObjectMapper() {
         if (objectMapper == null) {
-            objectMapper = JacksonObjectMapperFactory
-                .builder()
-                .defaultTypingEnabled(isDefaultTypingEnabled())
-                .jsonFactory(getJsonFactory())
-                .build()
-                .toObjectMapper();
-            configureObjectMapper(objectMapper);
+            objectMapper = newObjectMapper(getJsonFactory());
         }
         return objectMapper;
     }
 
+    /**
+     * Build an object mapper with the same configuration and customizations
+     * as this serializer, backed by the given factory.
+     *
+     * @param jsonFactory the json factory
+     * @return the object mapper
+     */
+    public ObjectMapper newObjectMapper(final JsonFactory jsonFactory) {
+        val mapper = JacksonObjectMapperFactory
+            .builder()
+            .defaultTypingEnabled(isDefaultTypingEnabled())
+            .jsonFactory(jsonFactory)
+            .build()
+            .toObjectMapper();
+        configureObjectMapper(mapper);
+        return mapper;
+    }
+
     protected void configureObjectMapper(final ObjectMapper objectMapper) {
     }
 
@@ -22,6 +22,8 @@ import com.fasterxml.jackson.databind.cfg.MapperBuilder;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.dataformat.xml.XmlFactory;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
@@ -179,6 +181,9 @@ public class JacksonObjectMapperFactory {
         if (jsonFactory instanceof final XmlFactory factory) {
             return XmlMapper.builder(factory);
         }
+        if (jsonFactory instanceof final SmileFactory factory) {
+            return SmileMapper.builder(factory);
+        }
         return JsonMapper.builder(jsonFactory);
     }
 
@@ -44,4 +44,14 @@ class RegexUtilsTests {
         val result = RegexUtils.findFirst(patterns, List.of("hello", "world", "911/", "911Z")).get();
         assertEquals("911Z", result);
     }
+
+    @Test
+    void verifyCompiledPatternsAreCached() {
+        val pattern = RegexUtils.createPattern("^cached-pattern-\\d+$");
+        assertSame(pattern, RegexUtils.createPattern("^cached-pattern-\\d+$"));
+        assertNotSame(pattern, RegexUtils.createPattern("^cached-pattern-\\d+$", 0));
+        assertSame(RegexUtils.MATCH_NOTHING_PATTERN, RegexUtils.createPattern("(unclosed"));
+        assertSame(RegexUtils.MATCH_NOTHING_PATTERN, RegexUtils.createPattern("(unclosed"));
+        assertTrue(RegexUtils.getCompiledPatternCache().stats().hitCount() >= 2);
+    }
 }
@@ -7,6 +7,7 @@ import org.apereo.cas.dynamodb.DynamoDbTableUtils;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.function.FunctionUtils;
+import com.google.common.collect.Iterables;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,14 +19,18 @@ import org.apereo.inspektr.common.web.ClientInfo;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -40,6 +45,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DynamoDbAuditTrailManagerFacilitator {
 
+    private static final int BATCH_PUT_REQUEST_LIMIT = 25;
+
+    private static final int BATCH_PUT_REQUEST_ATTEMPTS = 3;
+
     private final AuditDynamoDbProperties dynamoDbProperties;
     private final DynamoDbClient amazonDynamoDBClient;
 
@@ -100,6 +109,34 @@ public class DynamoDbAuditTrailManagerFacilitator {
         LOGGER.debug("Record added with result [{}]", putItemResult);
     }
 
+    /**
+     * Save records in batches. Records are keyed by principal,
+     * so only the last record for each principal in a batch is kept, as it would be if
+     * records were saved one at a time. Items that are not processed by the service
+     * are resubmitted until the batch is fully written.
+     *
+     * @param records the records
+     */
+    public void save(final List<AuditActionContext> records) {
+        val items = new LinkedHashMap<String, WriteRequest>();
+        records.forEach(record -> items.put(record.getPrincipal(), WriteRequest.builder()
+            .putRequest(PutRequest.builder().item(buildTableAttributeValuesMap(record)).build())
+            .build()));
+        Iterables.partition(items.values(), BATCH_PUT_REQUEST_LIMIT).forEach(batch -> {
+            Map<String, List<WriteRequest>> requestItems = Map.of(dynamoDbProperties.getTableName(), batch);
+            var attempts = 0;
+            while (!requestItems.isEmpty() && attempts++ < BATCH_PUT_REQUEST_ATTEMPTS) {
+                val batchRequest = BatchWriteItemRequest.builder().requestItems(requestItems).build();
+                LOGGER.debug("Submitting batch write request for [{}] record(s)", batch.size());
+                requestItems = amazonDynamoDBClient.batchWriteItem(batchRequest).unprocessedItems();
+            }
+            if (!requestItems.isEmpty()) {
+                LOGGER.warn("Unable to save [{}] audit record(s) after [{}] attempts",
+                    requestItems.values().stream().mapToInt(List::size).sum(), BATCH_PUT_REQUEST_ATTEMPTS);
+            }
+        });
+    }
+
     /**
      * Remove all.
      */
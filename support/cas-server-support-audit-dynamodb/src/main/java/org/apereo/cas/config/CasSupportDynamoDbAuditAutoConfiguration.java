@@ -36,7 +36,9 @@ public class CasSupportDynamoDbAuditAutoConfiguration {
         @Qualifier("dynamoDbAuditTrailManagerFacilitator")
         final DynamoDbAuditTrailManagerFacilitator dynamoDbAuditTrailManagerFacilitator) {
         val db = casProperties.getAudit().getDynamoDb();
-        return new DynamoDbAuditTrailManager(dynamoDbAuditTrailManagerFacilitator, db.isAsynchronous());
+        val manager = new DynamoDbAuditTrailManager(dynamoDbAuditTrailManagerFacilitator, db.isAsynchronous());
+        manager.configureBatching(casProperties.getAudit().getEngine().getBatch());
+        return manager;
     }
 
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
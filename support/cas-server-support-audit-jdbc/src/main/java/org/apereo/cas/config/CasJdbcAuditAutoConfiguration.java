@@ -195,6 +195,7 @@ public class CasJdbcAuditAutoConfiguration {
                     FunctionUtils.doIfNotBlank(jdbc.getSelectSqlQueryTemplate(), manager::setSelectByDateSqlTemplate);
                     FunctionUtils.doIfNotBlank(jdbc.getDateFormatterPattern(), manager::setDateFormatterPattern);
                     FunctionUtils.doIfNotBlank(jdbc.getDateFormatterFunction(), manager::setDateFormatterFunction);
+                    manager.configureBatching(casProperties.getAudit().getEngine().getBatch());
                     return manager;
                 })
                 .otherwiseProxy()
@@ -63,7 +63,6 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Setter
-@RequiredArgsConstructor
 public class JdbcAuditTrailManager extends AbstractAuditTrailManager {
 
     /**
@@ -141,6 +140,8 @@ public class JdbcAuditTrailManager extends AbstractAuditTrailManager {
 
     private static final int DEFAULT_COLUMN_LENGTH = 512;
 
+    private static final MapToJsonAttributeConverter ATTRIBUTE_CONVERTER = new MapToJsonAttributeConverter();
+
     /**
      * Instance of TransactionTemplate to manually execute a transaction since
      * threads are not in the same transaction.
@@ -149,6 +150,8 @@ public class JdbcAuditTrailManager extends AbstractAuditTrailManager {
     private final @NotNull JdbcTemplate jdbcTemplate;
     private final @NotNull JpaEntityFactory<AuditTrailEntity> jpaAuditTrailEntityFactory;
 
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
     private @NotNull @Size(min = 1) String tableName = "COM_AUDIT_TRAIL";
 
     private int columnLength = DEFAULT_COLUMN_LENGTH;
@@ -163,51 +166,70 @@ public class JdbcAuditTrailManager extends AbstractAuditTrailManager {
 
     private List<String> headerNames = new ArrayList<>();
 
+    public JdbcAuditTrailManager(final TransactionOperations transactionTemplate, final JdbcTemplate jdbcTemplate,
+                                 final JpaEntityFactory<AuditTrailEntity> jpaAuditTrailEntityFactory) {
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jpaAuditTrailEntityFactory = jpaAuditTrailEntityFactory;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
     @Override
     protected void saveAuditRecord(final AuditActionContext auditActionContext) {
+        saveAuditRecords(List.of(auditActionContext));
+    }
+
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
         transactionTemplate.execute(new TransactionCallbackWithoutResult() {
             @Override
             protected void doInTransactionWithoutResult(@Nonnull final TransactionStatus __) {
-                val principal = auditActionContext.getPrincipal();
-                val userId = columnLength <= 0 || principal.length() <= columnLength
-                    ? principal
-                    : principal.substring(0, columnLength);
-                val resourceOperatedUpon = auditActionContext.getResourceOperatedUpon();
-                val resource = columnLength <= 0 || resourceOperatedUpon.length() <= columnLength
-                    ? resourceOperatedUpon
-                    : resourceOperatedUpon.substring(0, columnLength);
-                val actionPerformed = auditActionContext.getActionPerformed();
-                val action = columnLength <= 0 || actionPerformed.length() <= columnLength
-                    ? actionPerformed
-                    : actionPerformed.substring(0, columnLength);
-
                 val sql = String.format(INSERT_SQL_TEMPLATE, tableName);
-                val clientInfo = auditActionContext.getClientInfo();
-                val locale = Optional.ofNullable(clientInfo.getLocale())
-                    .map(Locale::toLanguageTag)
-                    .orElseGet(Locale.US::toLanguageTag);
+                if (audits.size() == 1) {
+                    namedParameterJdbcTemplate.update(sql, buildAuditRecordParameters(audits.getFirst()));
+                } else {
+                    LOGGER.trace("Inserting [{}] audit record(s) in a single batch", audits.size());
+                    val batch = audits.stream().map(JdbcAuditTrailManager.this::buildAuditRecordParameters).toArray(Map[]::new);
+                    namedParameterJdbcTemplate.batchUpdate(sql, batch);
+                }
+            }
+        });
+    }
 
-                val parameterMap = new HashMap<String, Object>();
-                parameterMap.put(AuditTableColumns.USER.getColumnName(), userId);
-                parameterMap.put(AuditTableColumns.CLIENT_IP.getColumnName(), clientInfo.getClientIpAddress());
-                parameterMap.put(AuditTableColumns.SERVER_IP.getColumnName(), clientInfo.getServerIpAddress());
-                parameterMap.put(AuditTableColumns.RESOURCE.getColumnName(), resource);
-                parameterMap.put(AuditTableColumns.APPLIC_CD.getColumnName(), auditActionContext.getApplicationCode());
-                parameterMap.put(AuditTableColumns.DATE.getColumnName(), auditActionContext.getWhenActionWasPerformed());
-                parameterMap.put(AuditTableColumns.GEOLOCATION.getColumnName(), clientInfo.getGeoLocation());
-                parameterMap.put(AuditTableColumns.TENANT.getColumnName(), clientInfo.getTenant());
-                parameterMap.put(AuditTableColumns.USERAGENT.getColumnName(), clientInfo.getUserAgent());
-                parameterMap.put(AuditTableColumns.LOCALE.getColumnName(), locale);
-                parameterMap.put(AuditTableColumns.ACTION.getColumnName(), action);
+    private Map<String, Object> buildAuditRecordParameters(final AuditActionContext auditActionContext) {
+        val principal = auditActionContext.getPrincipal();
+        val userId = columnLength <= 0 || principal.length() <= columnLength
+            ? principal
+            : principal.substring(0, columnLength);
+        val resourceOperatedUpon = auditActionContext.getResourceOperatedUpon();
+        val resource = columnLength <= 0 || resourceOperatedUpon.length() <= columnLength
+            ? resourceOperatedUpon
+            : resourceOperatedUpon.substring(0, columnLength);
+        val actionPerformed = auditActionContext.getActionPerformed();
+        val action = columnLength <= 0 || actionPerformed.length() <= columnLength
+            ? actionPerformed
+            : actionPerformed.substring(0, columnLength);
 
-                val converter = new MapToJsonAttributeConverter();
-                parameterMap.put(AuditTableColumns.HEADERS.getColumnName(), converter.convertToDatabaseColumn(clientInfo.getHeaders()));
-                parameterMap.put(AuditTableColumns.EXTRA_INFO.getColumnName(), converter.convertToDatabaseColumn(clientInfo.getExtraInfo()));
+        val clientInfo = auditActionContext.getClientInfo();
+        val locale = Optional.ofNullable(clientInfo.getLocale())
+            .map(Locale::toLanguageTag)
+            .orElseGet(Locale.US::toLanguageTag);
 
-                val namedTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
-                namedTemplate.update(sql, parameterMap);
-            }
-        });
+        val parameterMap = new HashMap<String, Object>();
+        parameterMap.put(AuditTableColumns.USER.getColumnName(), userId);
+        parameterMap.put(AuditTableColumns.CLIENT_IP.getColumnName(), clientInfo.getClientIpAddress());
+        parameterMap.put(AuditTableColumns.SERVER_IP.getColumnName(), clientInfo.getServerIpAddress());
+        parameterMap.put(AuditTableColumns.RESOURCE.getColumnName(), resource);
+        parameterMap.put(AuditTableColumns.APPLIC_CD.getColumnName(), auditActionContext.getApplicationCode());
+        parameterMap.put(AuditTableColumns.DATE.getColumnName(), auditActionContext.getWhenActionWasPerformed());
+        parameterMap.put(AuditTableColumns.GEOLOCATION.getColumnName(), clientInfo.getGeoLocation());
+        parameterMap.put(AuditTableColumns.TENANT.getColumnName(), clientInfo.getTenant());
+        parameterMap.put(AuditTableColumns.USERAGENT.getColumnName(), clientInfo.getUserAgent());
+        parameterMap.put(AuditTableColumns.LOCALE.getColumnName(), locale);
+        parameterMap.put(AuditTableColumns.ACTION.getColumnName(), action);
+        parameterMap.put(AuditTableColumns.HEADERS.getColumnName(), ATTRIBUTE_CONVERTER.convertToDatabaseColumn(clientInfo.getHeaders()));
+        parameterMap.put(AuditTableColumns.EXTRA_INFO.getColumnName(), ATTRIBUTE_CONVERTER.convertToDatabaseColumn(clientInfo.getExtraInfo()));
+        return parameterMap;
     }
 
     @Override
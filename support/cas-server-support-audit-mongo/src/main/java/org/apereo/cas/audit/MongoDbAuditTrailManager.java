@@ -42,6 +42,12 @@ public class MongoDbAuditTrailManager extends AbstractAuditTrailManager {
         this.mongoTemplate.save(audit, this.collectionName);
     }
 
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        LOGGER.trace("Inserting [{}] audit record(s) into [{}]", audits.size(), this.collectionName);
+        this.mongoTemplate.insert(audits, this.collectionName);
+    }
+
     @Override
     public List<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
         val localDate = (LocalDateTime) whereClause.get(WhereClauseFields.DATE);
@@ -110,7 +110,9 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
 
     @Override
     public Ticket updateTicket(final Ticket ticket) throws Exception {
-        return addTicketToCassandra(ticket, false);
+        val result = addTicketToCassandra(ticket, false);
+        scheduleExpiration(ticket);
+        return result;
     }
 
     @Override
@@ -0,0 +1,157 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.DateTimeUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * This is {@link AuthenticationRiskProfile}. Summarizes the recent authentication history
+ * of a principal as a set of counters for client ip addresses, user agents, device fingerprints,
+ * geolocations and hours of the day, so that risk calculators can score an authentication request
+ * without examining individual authentication events.
+ * <p>
+ * Counters are kept in buckets keyed by the instant of the authentication event alongside their
+ * running totals. Once an instant falls outside the window of recent history, its bucket is subtracted
+ * from the totals and discarded, so the profile covers the same events as a query of the history would.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@RequiredArgsConstructor
+@ToString(of = "principal")
+public class AuthenticationRiskProfile {
+    @Getter
+    private final String principal;
+
+    private final NavigableMap<Long, Counters> buckets = new TreeMap<>();
+
+    private final Counters totals = new Counters();
+
+    private static String normalize(final String value) {
+        return StringUtils.isNotBlank(value) ? value.toLowerCase(Locale.ENGLISH) : null;
+    }
+
+    private static String toGeoLocationKey(final GeoLocationRequest location) {
+        return location.getLatitude() + ":" + location.getLongitude();
+    }
+
+    /**
+     * Record the authentication event.
+     *
+     * @param event the event
+     */
+    public synchronized void record(final CasEvent event) {
+        val creationTime = DateTimeUtils.convertToZonedDateTime(event.getCreationTime()).withZoneSameInstant(ZoneOffset.UTC);
+        val bucket = buckets.computeIfAbsent(creationTime.toInstant().toEpochMilli(), __ -> new Counters());
+        bucket.add(event, creationTime.getHour());
+        totals.add(event, creationTime.getHour());
+    }
+
+    /**
+     * Discard counters for authentication events that occurred before the given instant.
+     *
+     * @param since the start of the window of recent history
+     */
+    public synchronized void expire(final ZonedDateTime since) {
+        val expired = buckets.headMap(since.toInstant().toEpochMilli(), false);
+        expired.values().forEach(totals::subtract);
+        expired.clear();
+    }
+
+    public synchronized long getCount() {
+        return totals.count;
+    }
+
+    public synchronized long getCountForClientIpAddress(final String clientIpAddress) {
+        return totals.clientIpAddresses.getOrDefault(normalize(clientIpAddress), 0L);
+    }
+
+    public synchronized long getCountForUserAgent(final String userAgent) {
+        return totals.userAgents.getOrDefault(normalize(userAgent), 0L);
+    }
+
+    public synchronized long getCountForDeviceFingerprint(final String deviceFingerprint) {
+        return totals.deviceFingerprints.getOrDefault(normalize(deviceFingerprint), 0L);
+    }
+
+    public synchronized long getCountForGeoLocation(final GeoLocationRequest location) {
+        return totals.geoLocations.getOrDefault(toGeoLocationKey(location), 0L);
+    }
+
+    /**
+     * Gets the number of authentication events that occurred between the given hours of the day, inclusively.
+     * If the starting hour is after the ending hour, the range wraps around midnight.
+     *
+     * @param fromHour the from hour
+     * @param toHour   the to hour
+     * @return the count
+     */
+    public synchronized long getCountForHours(final int fromHour, final int toHour) {
+        var count = 0L;
+        for (var hour = 0; hour < totals.hours.length; hour++) {
+            val inRange = fromHour <= toHour
+                ? hour >= fromHour && hour <= toHour
+                : hour >= fromHour || hour <= toHour;
+            if (inRange) {
+                count += totals.hours[hour];
+            }
+        }
+        return count;
+    }
+
+    private static final class Counters {
+        private final Map<String, Long> clientIpAddresses = new HashMap<>();
+
+        private final Map<String, Long> userAgents = new HashMap<>();
+
+        private final Map<String, Long> deviceFingerprints = new HashMap<>();
+
+        private final Map<String, Long> geoLocations = new HashMap<>();
+
+        private final long[] hours = new long[24];
+
+        private long count;
+
+        private static void increment(final Map<String, Long> counters, final String key, final long delta) {
+            if (key != null) {
+                counters.merge(key, delta, (current, value) -> current + value == 0 ? null : current + value);
+            }
+        }
+
+        private static void subtract(final Map<String, Long> counters, final Map<String, Long> other) {
+            other.forEach((key, value) -> increment(counters, key, -value));
+        }
+
+        void add(final CasEvent event, final int hour) {
+            count++;
+            hours[hour]++;
+            increment(clientIpAddresses, normalize(event.getClientIpAddress()), 1);
+            increment(userAgents, normalize(event.getAgent()), 1);
+            increment(deviceFingerprints, normalize(event.getDeviceFingerprint()), 1);
+            increment(geoLocations, toGeoLocationKey(event.getGeoLocation()), 1);
+        }
+
+        void subtract(final Counters other) {
+            count -= other.count;
+            for (var hour = 0; hour < hours.length; hour++) {
+                hours[hour] -= other.hours[hour];
+            }
+            subtract(clientIpAddresses, other.clientIpAddresses);
+            subtract(userAgents, other.userAgents);
+            subtract(deviceFingerprints, other.deviceFingerprints);
+            subtract(geoLocations, other.geoLocations);
+        }
+    }
+}
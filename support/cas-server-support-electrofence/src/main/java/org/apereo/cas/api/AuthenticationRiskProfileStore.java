@@ -0,0 +1,37 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+
+/**
+ * This is {@link AuthenticationRiskProfileStore}. Keeps track of authentication risk profiles
+ * for principals, and updates them as new authentication events are recorded.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+public interface AuthenticationRiskProfileStore {
+    /**
+     * Bean name.
+     */
+    String BEAN_NAME = "authenticationRiskProfileStore";
+
+    /**
+     * Gets the risk profile for the principal, covering the window of recent history.
+     *
+     * @param principal the principal
+     * @return the profile
+     */
+    AuthenticationRiskProfile getProfile(String principal);
+
+    /**
+     * Record the authentication event in the profile of its principal.
+     *
+     * @param event the event
+     */
+    void record(CasEvent event);
+
+    /**
+     * Remove all profiles.
+     */
+    void clear();
+}
@@ -5,6 +5,7 @@ import org.apereo.cas.api.AuthenticationRiskContingencyPlan;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
 import org.apereo.cas.api.AuthenticationRiskMitigator;
 import org.apereo.cas.api.AuthenticationRiskNotifier;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
@@ -26,6 +27,7 @@ import org.apereo.cas.impl.notify.AuthenticationRiskSmsNotifier;
 import org.apereo.cas.impl.plans.BaseAuthenticationRiskContingencyPlan;
 import org.apereo.cas.impl.plans.BlockAuthenticationContingencyPlan;
 import org.apereo.cas.impl.plans.MultifactorAuthenticationContingencyPlan;
+import org.apereo.cas.impl.profile.DefaultAuthenticationRiskProfileStore;
 import org.apereo.cas.multitenancy.TenantExtractor;
 import org.apereo.cas.notifications.CommunicationsManager;
 import org.apereo.cas.services.ServicesManager;
@@ -208,17 +210,27 @@ class ElectronicFenceConfiguration {
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     static class ElectronicFenceCalculatorConfiguration {
 
+        @ConditionalOnMissingBean(name = AuthenticationRiskProfileStore.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public AuthenticationRiskProfileStore authenticationRiskProfileStore(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(CasEventRepository.BEAN_NAME)
+            final CasEventRepository casEventRepository) {
+            return new DefaultAuthenticationRiskProfileStore(casEventRepository, casProperties);
+        }
+
         @ConditionalOnMissingBean(name = "ipAddressAuthenticationRequestRiskCalculator")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public AuthenticationRequestRiskCalculator ipAddressAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) {
+            @Qualifier(AuthenticationRiskProfileStore.BEAN_NAME)
+            final AuthenticationRiskProfileStore authenticationRiskProfileStore) {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.ip.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new IpAddressAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new IpAddressAuthenticationRequestRiskCalculator(authenticationRiskProfileStore, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -229,11 +241,11 @@ class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator userAgentAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) {
+            @Qualifier(AuthenticationRiskProfileStore.BEAN_NAME)
+            final AuthenticationRiskProfileStore authenticationRiskProfileStore) {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.agent.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new UserAgentAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new UserAgentAuthenticationRequestRiskCalculator(authenticationRiskProfileStore, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -244,11 +256,11 @@ class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator dateTimeAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) {
+            @Qualifier(AuthenticationRiskProfileStore.BEAN_NAME)
+            final AuthenticationRiskProfileStore authenticationRiskProfileStore) {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.date-time.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new DateTimeAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new DateTimeAuthenticationRequestRiskCalculator(authenticationRiskProfileStore, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -259,11 +271,11 @@ class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator deviceFingerprintAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) {
+            @Qualifier(AuthenticationRiskProfileStore.BEAN_NAME)
+            final AuthenticationRiskProfileStore authenticationRiskProfileStore) {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.device-fingerprint.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new DeviceFingerprintAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new DeviceFingerprintAuthenticationRequestRiskCalculator(authenticationRiskProfileStore, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -281,11 +293,11 @@ class ElectronicFenceConfiguration {
             final CasConfigurationProperties casProperties,
             @Qualifier(GeoLocationService.BEAN_NAME)
             final GeoLocationService geoLocationService,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) {
+            @Qualifier(AuthenticationRiskProfileStore.BEAN_NAME)
+            final AuthenticationRiskProfileStore authenticationRiskProfileStore) {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.geo-location.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new GeoLocationAuthenticationRequestRiskCalculator(casEventRepository, casProperties, geoLocationService))
+                .supply(() -> new GeoLocationAuthenticationRequestRiskCalculator(authenticationRiskProfileStore, casProperties, geoLocationService))
                 .otherwiseProxy()
                 .get();
         }
@@ -1,13 +1,12 @@
 package org.apereo.cas.impl.calcs;
 
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
-import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -18,11 +17,6 @@ import org.apereo.inspektr.common.web.ClientInfoHolder;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * This is {@link BaseAuthenticationRequestRiskCalculator}.
@@ -34,7 +28,7 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class BaseAuthenticationRequestRiskCalculator implements AuthenticationRequestRiskCalculator {
 
-    protected final CasEventRepository casEventRepository;
+    protected final AuthenticationRiskProfileStore riskProfileStore;
 
     protected final CasConfigurationProperties casProperties;
 
@@ -43,11 +37,11 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
                                                    final RegisteredService service,
                                                    final ClientInfo clientInfo) {
         val principal = authentication.getPrincipal();
-        val events = getCasTicketGrantingTicketCreatedEventsFor(principal.getId()).collect(Collectors.toList());
-        if (events.isEmpty()) {
+        val profile = riskProfileStore.getProfile(principal.getId());
+        if (profile.getCount() == 0) {
             return AuthenticationRiskScore.highestRiskScore();
         }
-        val score = calculateScore(clientInfo, authentication, service, events);
+        val score = calculateScore(clientInfo, authentication, service, profile);
         val authenticationRiskScore = new AuthenticationRiskScore(score).withClientInfo(ClientInfoHolder.getClientInfo());
         LOGGER.debug("Calculated authentication risk score by [{}] is [{}]", getClass().getSimpleName(), authenticationRiskScore);
         return authenticationRiskScore;
@@ -56,23 +50,14 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
     protected BigDecimal calculateScore(final ClientInfo clientInfo,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final List<? extends CasEvent> events) {
+                                        final AuthenticationRiskProfile profile) {
         return AuthenticationRiskScore.highestRiskScore().getScore();
     }
 
-    protected Stream<? extends CasEvent> getCasTicketGrantingTicketCreatedEventsFor(final String principal) {
-        val type = CasTicketGrantingTicketCreatedEvent.class.getName();
-        LOGGER.debug("Retrieving events of type [{}] for [{}]", type, principal);
-
-        val date = ZonedDateTime.now(ZoneOffset.UTC)
-            .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory());
-        return casEventRepository.getEventsOfTypeForPrincipal(type, principal, date);
-    }
-
     protected BigDecimal calculateScoreBasedOnEventsCount(final Authentication authentication,
-                                                          final List<? extends CasEvent> events,
+                                                          final AuthenticationRiskProfile profile,
                                                           final long count) {
-        val eventCount = events.size();
+        val eventCount = profile.getCount();
         if (count == eventCount) {
             LOGGER.debug("Principal [{}] is assigned to the lowest risk score with attempted count of [{}]",
                 authentication.getPrincipal(), count);
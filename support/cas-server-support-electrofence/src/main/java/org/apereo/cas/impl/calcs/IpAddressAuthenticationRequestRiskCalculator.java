@@ -1,15 +1,14 @@
 package org.apereo.cas.impl.calcs;
 
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.common.web.ClientInfo;
 import java.math.BigDecimal;
-import java.util.List;
 
 /**
  * This is {@link IpAddressAuthenticationRequestRiskCalculator}.
@@ -20,20 +19,20 @@ import java.util.List;
 @Slf4j
 public class IpAddressAuthenticationRequestRiskCalculator extends BaseAuthenticationRequestRiskCalculator {
 
-    public IpAddressAuthenticationRequestRiskCalculator(final CasEventRepository casEventRepository,
+    public IpAddressAuthenticationRequestRiskCalculator(final AuthenticationRiskProfileStore riskProfileStore,
                                                         final CasConfigurationProperties casProperties) {
-        super(casEventRepository, casProperties);
+        super(riskProfileStore, casProperties);
     }
 
     @Override
     protected BigDecimal calculateScore(final ClientInfo clientInfo,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final List<? extends CasEvent> events) {
+                                        final AuthenticationRiskProfile profile) {
         val remoteAddr = clientInfo.getClientIpAddress();
         LOGGER.debug("Filtering authentication events for ip address [{}]", remoteAddr);
-        val count = events.stream().filter(e -> e.getClientIpAddress().equalsIgnoreCase(remoteAddr)).count();
+        val count = profile.getCountForClientIpAddress(remoteAddr);
         LOGGER.debug("Total authentication events found for [{}]: [{}]", remoteAddr, count);
-        return calculateScoreBasedOnEventsCount(authentication, events, count);
+        return calculateScoreBasedOnEventsCount(authentication, profile, count);
     }
 }
@@ -0,0 +1,135 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.apereo.cas.util.DateTimeUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
+import org.springframework.context.event.EventListener;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileStore}. Profiles are built from the event repository
+ * the first time they are requested, and are then kept up to date in memory as new
+ * {@link CasTicketGrantingTicketCreatedEvent}s are saved to the repository, so that
+ * subsequent requests do not need to query the authentication history again.
+ * The number of profiles kept in memory is bounded, and profiles expire once they have been kept
+ * for the configured amount of time regardless of updates; evicted and expired profiles are rebuilt when requested.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+public class DefaultAuthenticationRiskProfileStore implements AuthenticationRiskProfileStore {
+    private static final String EVENT_TYPE = CasTicketGrantingTicketCreatedEvent.class.getName();
+
+    private final CasEventRepository casEventRepository;
+
+    private final CasConfigurationProperties casProperties;
+
+    private final Cache<String, AuthenticationRiskProfile> profiles;
+
+    public DefaultAuthenticationRiskProfileStore(final CasEventRepository casEventRepository,
+                                                 final CasConfigurationProperties casProperties) {
+        this.casEventRepository = casEventRepository;
+        this.casProperties = casProperties;
+        val core = casProperties.getAuthn().getAdaptive().getRisk().getCore();
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(core.getMaximumProfiles())
+            .expireAfter(new ProfileExpiry(Beans.newDuration(core.getProfileExpiration())))
+            .build();
+    }
+
+    @Override
+    public AuthenticationRiskProfile getProfile(final String principal) {
+        val since = getRecentHistoryStartDate();
+        val profile = profiles.get(principal, __ -> loadProfile(principal, since));
+        profile.expire(since);
+        return profile;
+    }
+
+    @Override
+    public void record(final CasEvent event) {
+        if (EVENT_TYPE.equals(event.getType()) && StringUtils.isNotBlank(event.getPrincipalId())) {
+            profiles.asMap().computeIfPresent(event.getPrincipalId(), (principal, profile) -> {
+                LOGGER.trace("Recording authentication event [{}] in risk profile for [{}]", event.getEventId(), principal);
+                profile.record(event);
+                return profile;
+            });
+        }
+    }
+
+    @Override
+    public void clear() {
+        profiles.invalidateAll();
+    }
+
+    /**
+     * Record authentication events once they are saved to the event repository.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleAuditApplicationEvent(final AuditApplicationEvent event) {
+        val auditEvent = event.getAuditEvent();
+        if (EVENT_TYPE.equals(auditEvent.getType())) {
+            val casEvent = new CasEvent();
+            casEvent.setType(auditEvent.getType());
+            casEvent.setPrincipalId(auditEvent.getPrincipal());
+            auditEvent.getData().forEach((key, value) -> casEvent.put(key, Objects.toString(value, null)));
+            val timestamp = casEvent.get(CasEvent.FIELD_TIMESTAMP);
+            val creationTime = StringUtils.isNumeric(timestamp)
+                ? DateTimeUtils.zonedDateTimeOf(Instant.ofEpochMilli(Long.parseLong(timestamp)))
+                : DateTimeUtils.zonedDateTimeOf(auditEvent.getTimestamp());
+            casEvent.setCreationTime(creationTime.toString());
+            record(casEvent);
+        }
+    }
+
+    private AuthenticationRiskProfile loadProfile(final String principal, final ZonedDateTime since) {
+        LOGGER.debug("Building risk profile for [{}] from events of type [{}] since [{}]", principal, EVENT_TYPE, since);
+        val profile = new AuthenticationRiskProfile(principal);
+        try (val events = casEventRepository.getEventsOfTypeForPrincipal(EVENT_TYPE, principal, since)) {
+            events.forEach(profile::record);
+        }
+        return profile;
+    }
+
+    private ZonedDateTime getRecentHistoryStartDate() {
+        return ZonedDateTime.now(ZoneOffset.UTC)
+            .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory());
+    }
+
+    private record ProfileExpiry(Duration expiration) implements Expiry<String, AuthenticationRiskProfile> {
+        @Override
+        public long expireAfterCreate(final String principal, final AuthenticationRiskProfile profile, final long currentTime) {
+            return expiration.isPositive() ? expiration.toNanos() : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(final String principal, final AuthenticationRiskProfile profile,
+                                      final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(final String principal, final AuthenticationRiskProfile profile,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
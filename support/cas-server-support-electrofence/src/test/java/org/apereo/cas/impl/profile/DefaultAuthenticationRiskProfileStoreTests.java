@@ -0,0 +1,110 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.impl.calcs.BaseAuthenticationRequestRiskCalculatorTests;
+import org.apereo.cas.impl.mock.MockTicketGrantingTicketCreatedEventProducer;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("Authentication")
+class DefaultAuthenticationRiskProfileStoreTests extends BaseAuthenticationRequestRiskCalculatorTests {
+    @Autowired
+    @Qualifier(AuthenticationRiskProfileStore.BEAN_NAME)
+    private AuthenticationRiskProfileStore authenticationRiskProfileStore;
+
+    private static CasEvent getEvent(final ZonedDateTime creationTime) {
+        val event = new CasEvent();
+        event.setType(CasTicketGrantingTicketCreatedEvent.class.getName());
+        event.setPrincipalId("casuser");
+        event.setCreationTime(creationTime.toString());
+        event.putClientIpAddress("1.2.3.4");
+        event.putAgent("Firefox");
+        event.putDeviceFingerprint("ABCDEF");
+        event.putGeoLocation(new GeoLocationRequest(40.71, -74.005));
+        return event;
+    }
+
+    @Test
+    void verifyUnknownPrincipal() {
+        val profile = authenticationRiskProfileStore.getProfile(UUID.randomUUID().toString());
+        assertEquals(0, profile.getCount());
+    }
+
+    @Test
+    void verifyProfileUpdatedIncrementally() throws Throwable {
+        val principal = UUID.randomUUID().toString();
+        MockTicketGrantingTicketCreatedEventProducer.createEvent(principal, casEventRepository);
+        val profile = authenticationRiskProfileStore.getProfile(principal);
+        assertEquals(1, profile.getCount());
+
+        val event = MockTicketGrantingTicketCreatedEventProducer.createEvent(principal, casEventRepository);
+        assertSame(profile, authenticationRiskProfileStore.getProfile(principal));
+        assertEquals(2, profile.getCount());
+        assertTrue(profile.getCountForClientIpAddress(event.getClientIpAddress()) >= 1);
+        assertTrue(profile.getCountForUserAgent(event.getAgent().toUpperCase()) >= 1);
+        assertEquals(1, profile.getCountForDeviceFingerprint(event.getDeviceFingerprint()));
+        assertTrue(profile.getCountForGeoLocation(event.getGeoLocation()) >= 1);
+        assertEquals(2, profile.getCountForHours(0, 23));
+
+        authenticationRiskProfileStore.clear();
+        assertNotSame(profile, authenticationRiskProfileStore.getProfile(principal));
+        assertEquals(2, authenticationRiskProfileStore.getProfile(principal).getCount());
+    }
+
+    @Test
+    void verifyProfileExpiration() {
+        val now = ZonedDateTime.now(ZoneOffset.UTC).withHour(10);
+        val profile = new AuthenticationRiskProfile("casuser");
+        profile.record(getEvent(now.minusDays(40)));
+        profile.record(getEvent(now.minusDays(20)));
+        profile.record(getEvent(now));
+        assertEquals(3, profile.getCount());
+        assertEquals(3, profile.getCountForClientIpAddress("1.2.3.4"));
+        assertEquals(3, profile.getCountForHours(9, 11));
+        assertEquals(3, profile.getCountForHours(22, 10));
+        assertEquals(0, profile.getCountForHours(11, 9));
+
+        profile.expire(now.minusDays(30));
+        assertEquals(2, profile.getCount());
+        assertEquals(2, profile.getCountForUserAgent("firefox"));
+        assertEquals(2, profile.getCountForDeviceFingerprint("abcdef"));
+        assertEquals(2, profile.getCountForGeoLocation(new GeoLocationRequest(40.71, -74.005)));
+
+        profile.expire(now.plusDays(1));
+        assertEquals(0, profile.getCount());
+        assertEquals(0, profile.getCountForClientIpAddress("1.2.3.4"));
+        assertEquals(0, profile.getCountForHours(0, 23));
+    }
+
+    @Test
+    void verifyProfileExpiresAtInstant() {
+        val since = ZonedDateTime.now(ZoneOffset.UTC).withHour(10).withMinute(30).minusDays(30);
+        val profile = new AuthenticationRiskProfile("casuser");
+        profile.record(getEvent(since.minusMinutes(1)));
+        profile.record(getEvent(since));
+        profile.record(getEvent(since.plusMinutes(1)));
+        profile.expire(since);
+        assertEquals(2, profile.getCount());
+        assertEquals(2, profile.getCountForHours(10, 10));
+        profile.expire(since.plusSeconds(1));
+        assertEquals(1, profile.getCount());
+        assertEquals(1, profile.getCountForClientIpAddress("1.2.3.4"));
+    }
+}
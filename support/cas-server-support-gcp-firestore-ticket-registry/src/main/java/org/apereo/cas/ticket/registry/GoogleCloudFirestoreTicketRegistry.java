@@ -132,6 +132,7 @@ public class GoogleCloudFirestoreTicketRegistry extends AbstractTicketRegistry {
                 .update(ticketDocument.asUpdatableMap())
                 .get();
             LOGGER.debug("Added ticket [{}] to [{}] @ [{}]", ticket.getId(), collectionName, writeResult.getUpdateTime());
+            scheduleExpiration(ticket);
         });
         return ticket;
     }
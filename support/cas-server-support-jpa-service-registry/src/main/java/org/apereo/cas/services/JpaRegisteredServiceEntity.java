@@ -18,6 +18,7 @@ import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.Instant;
 
 /**
  * This is {@link JpaRegisteredServiceEntity}.
@@ -64,4 +65,12 @@ public class JpaRegisteredServiceEntity implements Serializable {
     @Column(nullable = false, length = 8_000)
     private String body;
 
+    /**
+     * The time at which the service definition was last saved,
+     * used to load changed service definitions incrementally.
+     * Definitions without a value are always treated as changed.
+     */
+    @Column
+    private Instant lastModified;
+
 }
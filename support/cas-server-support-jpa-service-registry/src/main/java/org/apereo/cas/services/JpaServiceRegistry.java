@@ -18,7 +18,10 @@ import org.springframework.transaction.support.TransactionOperations;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -97,6 +100,34 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
         });
     }
 
+    @Override
+    public Optional<ServiceRegistryChangeSet> loadChangedSince(final Instant since) {
+        return transactionTemplate.execute(status -> {
+            val timestamp = Instant.now(Clock.systemUTC());
+            val query = String.format("SELECT r FROM %s r WHERE r.lastModified >= :since OR r.lastModified IS NULL", JpaRegisteredServiceEntity.ENTITY_NAME);
+            val list = entityManager.createQuery(query, JpaRegisteredServiceEntity.class)
+                .setParameter("since", since)
+                .getResultList();
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            val changedServices = list
+                .stream()
+                .map(this::toRegisteredService)
+                .sorted()
+                .map(this::invokeServiceRegistryListenerPostLoad)
+                .filter(Objects::nonNull)
+                .peek(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)))
+                .collect(Collectors.toList());
+            val idQuery = String.format("SELECT r.id FROM %s r", JpaRegisteredServiceEntity.ENTITY_NAME);
+            val registeredServiceIds = new HashSet<>(entityManager.createQuery(idQuery, Long.class).getResultList());
+            LOGGER.debug("Found [{}] service definition(s) changed since [{}] out of [{}]", changedServices.size(), since, registeredServiceIds.size());
+            return Optional.of(ServiceRegistryChangeSet.builder()
+                .timestamp(timestamp)
+                .changedServices(changedServices)
+                .registeredServiceIds(registeredServiceIds)
+                .build());
+        });
+    }
+
     @Override
     public Long save(final Supplier<RegisteredService> supplier,
                      final Consumer<RegisteredService> andThenConsume,
@@ -214,6 +245,7 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
             .serviceId(service.getServiceId())
             .evaluationOrder(service.getEvaluationOrder())
             .body(jsonBody)
+            .lastModified(Instant.now(Clock.systemUTC()))
             .build();
     }
 
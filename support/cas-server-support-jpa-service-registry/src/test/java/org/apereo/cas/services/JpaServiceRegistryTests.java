@@ -13,6 +13,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -76,6 +79,29 @@ class JpaServiceRegistryTests extends AbstractServiceRegistryTests {
         assertTrue(stopwatch.getTime(TimeUnit.SECONDS) <= 10);
     }
 
+    @Test
+    void verifyLoadChangedSince() throws Throwable {
+        val service1 = newServiceRegistry.save(
+            buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class).assignIdIfNecessary());
+        Thread.sleep(100);
+        val since = Instant.now(Clock.systemUTC());
+        Thread.sleep(100);
+        val service2 = newServiceRegistry.save(
+            buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class).assignIdIfNecessary());
+
+        val changeSet = newServiceRegistry.loadChangedSince(since).orElseThrow();
+        assertEquals(1, changeSet.getChangedServices().size());
+        assertEquals(service2.getId(), changeSet.getChangedServices().iterator().next().getId());
+        assertTrue(changeSet.getRegisteredServiceIds().containsAll(List.of(service1.getId(), service2.getId())));
+
+        Thread.sleep(100);
+        newServiceRegistry.delete(service1);
+        val nextChangeSet = newServiceRegistry.loadChangedSince(changeSet.getTimestamp()).orElseThrow();
+        assertTrue(nextChangeSet.getChangedServices().isEmpty());
+        assertFalse(nextChangeSet.getRegisteredServiceIds().contains(service1.getId()));
+        assertTrue(nextChangeSet.getRegisteredServiceIds().contains(service2.getId()));
+    }
+
     @Test
     void verifyEntityAttachment() {
         var service = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class).assignIdIfNecessary();
@@ -3,6 +3,8 @@ package org.apereo.cas.config;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.support.jpa.JpaConfigurationContext;
+import org.apereo.cas.configuration.model.support.jpa.ticketregistry.JpaTicketRegistryCacheProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.CloseableDataSource;
 import org.apereo.cas.configuration.support.JpaBeans;
 import org.apereo.cas.jpa.JpaBeanFactory;
@@ -11,9 +13,14 @@ import org.apereo.cas.ticket.catalog.CasTicketCatalogConfigurationValuesProvider
 import org.apereo.cas.ticket.registry.JpaTicketEntityFactory;
 import org.apereo.cas.ticket.registry.JpaTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.cache.JpaTicketInvalidationEntity;
+import org.apereo.cas.ticket.registry.cache.JpaTicketRegistryCache;
+import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.CoreTicketUtils;
+import org.apereo.cas.util.PublisherIdentifier;
+import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.lock.DefaultLockRepository;
 import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
@@ -21,10 +28,16 @@ import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanContainer;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -35,16 +48,19 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
 import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.integration.transaction.PseudoTransactionManager;
 import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.transaction.support.TransactionTemplate;
 import jakarta.persistence.EntityManagerFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -90,7 +106,12 @@ public class CasJpaTicketRegistryAutoConfiguration {
                 .supply(() -> {
                     val jpa = casProperties.getTicket().getRegistry().getJpa();
                     val type = new JpaTicketEntityFactory(jpa.getDialect()).getType();
-                    return BeanContainer.of(CollectionUtils.wrapSet(type.getPackage().getName()));
+                    val packages = CollectionUtils.wrapSet(type.getPackage().getName());
+                    if (jpa.getCache().isEnabled()
+                        && jpa.getCache().getInvalidation() == JpaTicketRegistryCacheProperties.InvalidationTypes.DATABASE) {
+                        packages.add(JpaTicketInvalidationEntity.class.getPackage().getName());
+                    }
+                    return BeanContainer.of(packages);
                 })
                 .otherwiseProxy()
                 .get();
@@ -196,20 +217,101 @@ public class CasJpaTicketRegistryAutoConfiguration {
             @Qualifier(TicketCatalog.BEAN_NAME)
             final TicketCatalog ticketCatalog,
             @Qualifier(JpaBeanFactory.DEFAULT_BEAN_NAME)
-            final JpaBeanFactory jpaBeanFactory) {
+            final JpaBeanFactory jpaBeanFactory,
+            @Qualifier("jpaTicketRegistryCache")
+            final ObjectProvider<JpaTicketRegistryCache> jpaTicketRegistryCache) {
             return BeanSupplier.of(TicketRegistry.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
                 .supply(() -> {
                     val jpa = casProperties.getTicket().getRegistry().getJpa();
                     val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(jpa.getCrypto(), "jpa");
-                    return new JpaTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, applicationContext,
+                    val registry = new JpaTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, applicationContext,
                         jpaBeanFactory, jpaTicketRegistryTransactionTemplate, casProperties);
+                    jpaTicketRegistryCache.ifAvailable(registry::setTicketCache);
+                    return registry;
                 })
                 .otherwiseProxy()
                 .get();
         }
     }
 
+    @Configuration(value = "JpaTicketRegistryCacheConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    static class JpaTicketRegistryCacheConfiguration {
+        private static final BeanCondition CONDITION = BeanCondition.on("cas.ticket.registry.jpa.cache.enabled").isTrue();
+
+        @ConditionalOnMissingBean(name = "jpaTicketRegistryCache")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public JpaTicketRegistryCache jpaTicketRegistryCache(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier("messageQueueTicketRegistryPublisher")
+            final QueueableTicketRegistryMessagePublisher messageQueueTicketRegistryPublisher,
+            @Qualifier("messageQueueTicketRegistryIdentifier")
+            final PublisherIdentifier messageQueueTicketRegistryIdentifier) {
+            return BeanSupplier.of(JpaTicketRegistryCache.class)
+                .when(CONDITION.given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    val properties = casProperties.getTicket().getRegistry().getJpa().getCache();
+                    val cache = Beans.newCacheBuilder(properties).recordStats().build();
+                    return new JpaTicketRegistryCache(cache, messageQueueTicketRegistryIdentifier, messageQueueTicketRegistryPublisher);
+                })
+                .otherwiseNull()
+                .get();
+        }
+
+        @ConditionalOnMissingBean(name = "jpaTicketRegistryCacheMeterBinder")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public MeterBinder jpaTicketRegistryCacheMeterBinder(
+            @Qualifier("jpaTicketRegistryCache")
+            final ObjectProvider<JpaTicketRegistryCache> jpaTicketRegistryCache) {
+            return registry -> jpaTicketRegistryCache.ifAvailable(ticketCache -> {
+                CaffeineCacheMetrics.monitor(registry, ticketCache.getCache(), "jpaTicketRegistry");
+                TimeGauge.builder("cas.ticket.registry.jpa.cache.invalidation.lag", ticketCache, TimeUnit.MILLISECONDS,
+                        instance -> instance.getInvalidationLag().toMillis())
+                    .description("Delay between the time an invalidation notice was published and the time it was received")
+                    .register(registry);
+                Gauge.builder("cas.ticket.registry.jpa.cache.invalidations", ticketCache,
+                        instance -> instance.getInvalidationCount().get())
+                    .description("Number of invalidation notices received from other nodes")
+                    .register(registry);
+            });
+        }
+
+        @ConditionalOnMissingBean(name = "jpaTicketRegistryCacheInvalidationScheduler")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Lazy(false)
+        public Runnable jpaTicketRegistryCacheInvalidationScheduler(
+            final ConfigurableApplicationContext applicationContext,
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final TicketRegistry ticketRegistry) {
+            return BeanSupplier.of(Runnable.class)
+                .when(BeanCondition.on("cas.ticket.registry.jpa.cache.enabled").isTrue()
+                    .and("cas.ticket.registry.jpa.cache.invalidation").havingValue("DATABASE").evenIfMissing()
+                    .and(() -> ticketRegistry instanceof JpaTicketRegistry)
+                    .given(applicationContext.getEnvironment()))
+                .supply(() -> new JpaTicketRegistryCacheInvalidationScheduler((JpaTicketRegistry) ticketRegistry))
+                .otherwiseProxy()
+                .get();
+        }
+    }
+
+    @RequiredArgsConstructor
+    static class JpaTicketRegistryCacheInvalidationScheduler implements Runnable {
+        private final JpaTicketRegistry ticketRegistry;
+
+        @Scheduled(
+            initialDelayString = "${cas.ticket.registry.jpa.cache.invalidation-interval:PT2S}",
+            fixedDelayString = "${cas.ticket.registry.jpa.cache.invalidation-interval:PT2S}")
+        @Override
+        public void run() {
+            FunctionUtils.doAndHandle(__ -> ticketRegistry.receiveTicketCacheInvalidations());
+        }
+    }
+
     @Configuration(value = "JpaTicketRegistryLockingConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.TicketRegistryLocking, module = "jpa")
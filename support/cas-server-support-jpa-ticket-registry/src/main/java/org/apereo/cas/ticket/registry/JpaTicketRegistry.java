@@ -2,6 +2,8 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.support.jpa.ticketregistry.JpaTicketRegistryCacheProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.jpa.JpaBeanFactory;
 import org.apereo.cas.monitor.Monitorable;
 import org.apereo.cas.ticket.AuthenticationAwareTicket;
@@ -10,18 +12,27 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketAwareTicket;
+import org.apereo.cas.ticket.registry.cache.JpaTicketInvalidationEntity;
+import org.apereo.cas.ticket.registry.cache.JpaTicketRegistryCache;
 import org.apereo.cas.ticket.registry.generic.BaseTicketEntity;
+import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
+import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketsMessageQueueCommand;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 
+import com.google.common.collect.Iterables;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
@@ -29,10 +40,13 @@ import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 
 import java.io.Serializable;
+import java.time.Clock;
+import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -48,7 +62,8 @@ import java.util.stream.Stream;
 @Slf4j
 @Getter
 @Monitorable
-public class JpaTicketRegistry extends AbstractTicketRegistry {
+public class JpaTicketRegistry extends AbstractTicketRegistry implements QueueableTicketRegistry {
+    private static final int BULK_DELETE_BATCH_SIZE = 500;
 
     private final JpaBeanFactory jpaBeanFactory;
 
@@ -59,6 +74,16 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
     @PersistenceContext(unitName = "jpaTicketRegistryContext")
     private EntityManager entityManager;
 
+    /**
+     * Optional local cache of tickets that are read from the database.
+     */
+    @Setter
+    private JpaTicketRegistryCache ticketCache;
+
+    private volatile ZonedDateTime lastInvalidationCheck = ZonedDateTime.now(Clock.systemUTC());
+
+    private volatile ZonedDateTime lastInvalidationCleanup = ZonedDateTime.now(Clock.systemUTC());
+
     public JpaTicketRegistry(final CipherExecutor cipherExecutor,
                              final TicketSerializationManager ticketSerializationManager,
                              final TicketCatalog ticketCatalog,
@@ -86,31 +111,46 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             }
             entityManager.persist(ticketEntity);
             LOGGER.debug("Added ticket [{}] to registry.", ticketEntity.getId());
+            if (isTicketCacheEnabled()) {
+                afterCommit(() -> ticketCache.put(ticketEntity.getId(), ticket));
+            }
         }));
         return ticket;
     }
 
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
-        return transactionTemplate.execute(callback -> {
+        val encTicketId = digestIdentifier(ticketId);
+        if (StringUtils.isBlank(encTicketId)) {
+            return null;
+        }
+        val cacheVersion = isTicketCacheEnabled() ? ticketCache.currentVersion() : 0L;
+        if (isTicketCacheEnabled()) {
+            val cachedTicket = ticketCache.get(encTicketId);
+            if (cachedTicket != null) {
+                LOGGER.trace("Found ticket [{}] in cache", ticketId);
+                return predicate.test(cachedTicket) ? cachedTicket : null;
+            }
+        }
+        val result = transactionTemplate.execute(callback -> {
             try {
-                val encTicketId = digestIdentifier(ticketId);
-                if (StringUtils.isNotBlank(encTicketId)) {
-                    val factory = getJpaTicketEntityFactory();
-                    val sql = String.format("SELECT t FROM %s t WHERE t.id = :id", factory.getEntityName());
-                    val query = entityManager.createQuery(sql, factory.getType());
-                    query.setParameter("id", encTicketId);
-                    query.setLockMode(casProperties.getTicket().getRegistry().getJpa().getTicketLockType());
-                    val ticket = query.getSingleResult();
-                    val entity = getJpaTicketEntityFactory().toTicket(ticket);
-                    val result = decodeTicket(entity);
-                    return predicate.test(result) ? result : null;
-                }
+                val factory = getJpaTicketEntityFactory();
+                val sql = String.format("SELECT t FROM %s t WHERE t.id = :id", factory.getEntityName());
+                val query = entityManager.createQuery(sql, factory.getType());
+                query.setParameter("id", encTicketId);
+                query.setLockMode(casProperties.getTicket().getRegistry().getJpa().getTicketLockType());
+                val ticket = query.getSingleResult();
+                val entity = getJpaTicketEntityFactory().toTicket(ticket);
+                return decodeTicket(entity);
             } catch (final NoResultException e) {
                 LOGGER.debug("No record could be found for ticket [{}]", ticketId);
             }
             return null;
         });
+        if (result != null && isTicketCacheEnabled()) {
+            ticketCache.putIfCurrent(encTicketId, result, cacheVersion);
+        }
+        return result != null && predicate.test(result) ? result : null;
     }
 
     @Override
@@ -123,7 +163,9 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return transactionTemplate.execute(status -> {
             val factory = getJpaTicketEntityFactory();
             val query = entityManager.createQuery(String.format("DELETE FROM %s", factory.getEntityName()));
-            return Long.valueOf(query.executeUpdate());
+            val count = query.executeUpdate();
+            publishTicketCacheInvalidation(List.of(JpaTicketInvalidationEntity.ALL_TICKETS));
+            return Long.valueOf(count);
         });
     }
 
@@ -150,6 +192,11 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             val ticketEntity = getTicketEntityFrom(ticket);
             entityManager.merge(ticketEntity);
             LOGGER.debug("Updated ticket [{}]", ticketEntity.getId());
+            if (isTicketCacheEnabled()) {
+                publishTicketCacheInvalidation(List.of(ticket.getId()));
+                afterCommit(() -> ticketCache.put(ticketEntity.getId(), ticket));
+            }
+            scheduleExpiration(ticket);
             return encodeTicket(ticket);
         }));
     }
@@ -331,11 +378,178 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
                 query.setParameter("id", encTicketId);
                 totalCount = query.executeUpdate();
             }
+            publishTicketCacheInvalidation(List.of(ticketToDelete.getId()));
+            return totalCount;
+        });
+        return Objects.requireNonNull(result);
+    }
+
+    @Override
+    protected long deleteTicketsInBulk(final Set<String> ticketIds) {
+        val result = transactionTemplate.execute(transactionStatus -> {
+            val ticketsByRemoval = ticketIds.stream().collect(Collectors.partitioningBy(ticketId -> {
+                val md = ticketCatalog.find(ticketId);
+                return md != null && md.getProperties().isCascadeRemovals();
+            }, Collectors.mapping(this::digestIdentifier, Collectors.toList())));
+            var totalCount = ticketsByRemoval.get(Boolean.TRUE).stream().mapToLong(this::deleteTicketGrantingTickets).sum();
+            val sql = String.format("DELETE FROM %s o WHERE o.id IN :ids", getJpaTicketEntityFactory().getEntityName());
+            for (val batch : Iterables.partition(ticketsByRemoval.get(Boolean.FALSE), BULK_DELETE_BATCH_SIZE)) {
+                LOGGER.trace("Creating delete query [{}] for [{}] ticket(s)", sql, batch.size());
+                val query = entityManager.createQuery(sql);
+                query.setParameter("ids", batch);
+                totalCount += query.executeUpdate();
+            }
+            publishTicketCacheInvalidation(ticketIds);
             return totalCount;
         });
         return Objects.requireNonNull(result);
     }
 
+    @Override
+    public void addTicketToQueue(final Ticket ticket) {
+        LOGGER.trace("Ticket [{}] is added by another node and is not cached", ticket.getId());
+    }
+
+    @Override
+    public Ticket updateTicketInQueue(final Ticket ticket) {
+        deleteTicketFromQueue(ticket.getId());
+        return ticket;
+    }
+
+    @Override
+    public long deleteTicketFromQueue(final String ticketId) {
+        if (ticketCache != null) {
+            ticketCache.invalidate(List.of(digestIdentifier(ticketId)));
+            ticketCache.recordInvalidation(null);
+            return 1;
+        }
+        return 0;
+    }
+
+    @Override
+    public long deleteAllFromQueue() {
+        if (ticketCache != null) {
+            val size = ticketCache.getCache().estimatedSize();
+            ticketCache.invalidateAll();
+            ticketCache.recordInvalidation(null);
+            return size;
+        }
+        return 0;
+    }
+
+    /**
+     * Check the database for invalidation notices recorded by other nodes
+     * since the last check, and drop the corresponding tickets from the cache.
+     * Notices that are older than the retention period are removed.
+     *
+     * @return the number of invalidation notices received
+     */
+    public long receiveTicketCacheInvalidations() {
+        if (ticketCache == null) {
+            return 0;
+        }
+        val cacheProperties = casProperties.getTicket().getRegistry().getJpa().getCache();
+        val now = ZonedDateTime.now(Clock.systemUTC());
+        val since = lastInvalidationCheck.minus(Beans.newDuration(cacheProperties.getInvalidationInterval()));
+        val invalidations = Objects.requireNonNull(transactionTemplate.execute(status -> {
+            val sql = String.format("SELECT i FROM %s i WHERE i.creationTime >= :since AND i.publisherId <> :publisherId",
+                JpaTicketInvalidationEntity.class.getSimpleName());
+            val query = entityManager.createQuery(sql, JpaTicketInvalidationEntity.class)
+                .setParameter("since", since)
+                .setParameter("publisherId", ticketCache.getPublisherIdentifier().getId());
+            query.setLockMode(LockModeType.NONE);
+            return query.getResultList();
+        }));
+        invalidations.forEach(invalidation -> {
+            if (JpaTicketInvalidationEntity.ALL_TICKETS.equals(invalidation.getTicketId())) {
+                ticketCache.invalidateAll();
+            } else {
+                ticketCache.invalidate(List.of(invalidation.getTicketId()));
+            }
+            ticketCache.recordInvalidation(invalidation.getCreationTime());
+        });
+        lastInvalidationCheck = now;
+
+        val retention = Beans.newDuration(cacheProperties.getInvalidationRetention());
+        if (lastInvalidationCleanup.plus(retention).isBefore(now)) {
+            val removed = transactionTemplate.execute(status -> {
+                val sql = String.format("DELETE FROM %s i WHERE i.creationTime < :cutoff", JpaTicketInvalidationEntity.class.getSimpleName());
+                return entityManager.createQuery(sql).setParameter("cutoff", now.minus(retention)).executeUpdate();
+            });
+            LOGGER.debug("Removed [{}] expired invalidation notice(s)", removed);
+            lastInvalidationCleanup = now;
+        }
+        return invalidations.size();
+    }
+
+    protected boolean isTicketCacheEnabled() {
+        return ticketCache != null
+            && casProperties.getTicket().getRegistry().getJpa().getTicketLockType() == LockModeType.NONE;
+    }
+
+    protected void publishTicketCacheInvalidation(final Collection<String> ticketIds) {
+        if (ticketCache != null) {
+            val cacheableTickets = ticketIds
+                .stream()
+                .filter(ticketId -> JpaTicketInvalidationEntity.ALL_TICKETS.equals(ticketId) || isTicketCacheable(ticketId))
+                .toList();
+            if (cacheableTickets.isEmpty()) {
+                return;
+            }
+            val invalidateAll = cacheableTickets.contains(JpaTicketInvalidationEntity.ALL_TICKETS);
+            val invalidation = casProperties.getTicket().getRegistry().getJpa().getCache().getInvalidation();
+            val publisherIdentifier = ticketCache.getPublisherIdentifier();
+            if (invalidation == JpaTicketRegistryCacheProperties.InvalidationTypes.DATABASE) {
+                val now = ZonedDateTime.now(Clock.systemUTC());
+                cacheableTickets.forEach(ticketId -> entityManager.persist(new JpaTicketInvalidationEntity()
+                    .setTicketId(invalidateAll ? ticketId : digestIdentifier(ticketId))
+                    .setPublisherId(publisherIdentifier.getId())
+                    .setCreationTime(now)));
+            }
+            afterCommit(() -> {
+                if (invalidateAll) {
+                    ticketCache.invalidateAll();
+                } else {
+                    ticketCache.invalidate(cacheableTickets.stream().map(this::digestIdentifier).toList());
+                }
+                if (invalidation != JpaTicketRegistryCacheProperties.InvalidationTypes.DATABASE
+                    && ticketCache.getMessagePublisher().isEnabled()) {
+                    if (invalidateAll) {
+                        ticketCache.getMessagePublisher().publishMessageToQueue(new DeleteTicketsMessageQueueCommand(publisherIdentifier));
+                    } else {
+                        cacheableTickets.forEach(ticketId -> ticketCache.getMessagePublisher()
+                            .publishMessageToQueue(new DeleteTicketMessageQueueCommand(publisherIdentifier, ticketId)));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Run the given task once the current transaction commits, so that the cache and
+     * other nodes never observe changes that are rolled back or not yet visible in the database.
+     * The task runs immediately when there is no transaction.
+     *
+     * @param task the task
+     */
+    protected void afterCommit(final Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private boolean isTicketCacheable(final String ticketId) {
+        val definition = ticketCatalog.find(ticketId);
+        return definition != null && JpaTicketRegistryCache.isCacheable(definition.getApiClass());
+    }
+
     protected BaseTicketEntity getTicketEntityFrom(final Ticket ticket) {
         return FunctionUtils.doUnchecked(() -> {
             val encodeTicket = encodeTicket(ticket);
@@ -0,0 +1,58 @@
+package org.apereo.cas.ticket.registry.cache;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+import org.hibernate.annotations.GenericGenerator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+
+/**
+ * This is {@link JpaTicketInvalidationEntity}. Records the fact that a ticket
+ * was updated or removed by a CAS node, so that other nodes can drop it from their caches.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@NoArgsConstructor
+@Entity(name = "JpaTicketInvalidationEntity")
+@Table(name = "CasTicketInvalidations", indexes = @Index(name = "IDX_CAS_TICKET_INV_TIME", columnList = "creationTime"))
+@Setter
+@Getter
+@ToString
+@Accessors(chain = true)
+public class JpaTicketInvalidationEntity implements Serializable {
+    /**
+     * Ticket id that indicates all tickets should be invalidated.
+     */
+    public static final String ALL_TICKETS = "*";
+
+    @Serial
+    private static final long serialVersionUID = -3398715461203471869L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO, generator = "native")
+    @GenericGenerator(name = "native", strategy = "native")
+    private long id;
+
+    @Column(nullable = false, length = 768)
+    private String ticketId;
+
+    @Column(nullable = false, length = 255)
+    private String publisherId;
+
+    @Column(nullable = false, length = 512)
+    private ZonedDateTime creationTime;
+}
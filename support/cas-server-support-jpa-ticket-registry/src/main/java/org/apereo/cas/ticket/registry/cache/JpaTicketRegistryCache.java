@@ -0,0 +1,141 @@
+package org.apereo.cas.ticket.registry.cache;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
+import org.apereo.cas.util.PublisherIdentifier;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link JpaTicketRegistryCache}. It keeps decoded ticket-granting tickets
+ * in memory, keyed by their digested identifier, once they are read from or written
+ * to the database. Other ticket types are never cached, given they are typically
+ * used once and must never be served after they are consumed elsewhere.
+ * Entries are dropped when invalidation notices are received from other nodes,
+ * and keep track of how late such notices arrive. Every invalidation bumps a version
+ * so that tickets read from the database while an invalidation is underway
+ * are not put back into the cache.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+@Getter
+@RequiredArgsConstructor
+public class JpaTicketRegistryCache {
+    private final Cache<String, Ticket> cache;
+
+    private final PublisherIdentifier publisherIdentifier;
+
+    private final QueueableTicketRegistryMessagePublisher messagePublisher;
+
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    private volatile Duration invalidationLag = Duration.ZERO;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Whether tickets of the given type are kept in the cache.
+     *
+     * @param ticketType the ticket type
+     * @return true/false
+     */
+    public static boolean isCacheable(final Class<?> ticketType) {
+        return ticketType != null && TicketGrantingTicket.class.isAssignableFrom(ticketType);
+    }
+
+    /**
+     * Get cached ticket.
+     *
+     * @param key the key
+     * @return the ticket, or null
+     */
+    public Ticket get(final String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Put ticket in cache, if cacheable.
+     *
+     * @param key    the key
+     * @param ticket the ticket
+     */
+    public void put(final String key, final Ticket ticket) {
+        if (ticket != null && isCacheable(ticket.getClass())) {
+            cache.put(key, ticket);
+        }
+    }
+
+    /**
+     * Current version of the cache, to be obtained before
+     * reading a ticket from the database and passed to {@link #putIfCurrent(String, Ticket, long)}.
+     *
+     * @return the version
+     */
+    public long currentVersion() {
+        return version.get();
+    }
+
+    /**
+     * Put ticket in cache, if cacheable and if no invalidation took place since
+     * the given version was obtained. The check is repeated once the ticket is put,
+     * so that an invalidation that races with this call cannot be undone.
+     *
+     * @param key           the key
+     * @param ticket        the ticket
+     * @param readAtVersion the version obtained before the ticket was read
+     */
+    public void putIfCurrent(final String key, final Ticket ticket, final long readAtVersion) {
+        if (ticket != null && isCacheable(ticket.getClass()) && version.get() == readAtVersion) {
+            cache.put(key, ticket);
+            if (version.get() != readAtVersion) {
+                LOGGER.trace("Ticket [{}] was invalidated while it was read; removing it from the cache", key);
+                cache.asMap().remove(key, ticket);
+            }
+        }
+    }
+
+    /**
+     * Invalidate cached tickets.
+     *
+     * @param keys the keys
+     */
+    public void invalidate(final Collection<String> keys) {
+        version.incrementAndGet();
+        cache.invalidateAll(keys);
+    }
+
+    /**
+     * Invalidate all cached tickets.
+     */
+    public void invalidateAll() {
+        version.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Record the receipt of an invalidation notice that was published at the given time.
+     *
+     * @param publishedAt the published at
+     */
+    public void recordInvalidation(final ZonedDateTime publishedAt) {
+        invalidationCount.incrementAndGet();
+        if (publishedAt != null) {
+            val lag = Duration.between(publishedAt, ZonedDateTime.now(Clock.systemUTC()));
+            invalidationLag = lag.isNegative() ? Duration.ZERO : lag;
+            LOGGER.trace("Received invalidation notice published at [{}] after [{}]", publishedAt, invalidationLag);
+        }
+    }
+}
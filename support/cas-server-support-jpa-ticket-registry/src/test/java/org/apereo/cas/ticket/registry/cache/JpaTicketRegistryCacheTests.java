@@ -0,0 +1,72 @@
+package org.apereo.cas.ticket.registry.cache;
+
+import org.apereo.cas.mock.MockServiceTicket;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
+import org.apereo.cas.util.PublisherIdentifier;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link JpaTicketRegistryCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("Tickets")
+class JpaTicketRegistryCacheTests {
+
+    @Test
+    void verifyOnlyTicketGrantingTicketsAreCached() {
+        val ticketCache = new JpaTicketRegistryCache(Caffeine.newBuilder().<String, Ticket>build(),
+            new PublisherIdentifier(), QueueableTicketRegistryMessagePublisher.noOp());
+        val tgt = new MockTicketGrantingTicket("casuser");
+        val st = new MockServiceTicket("ST-123456", RegisteredServiceTestUtils.getService(), tgt);
+        ticketCache.put(tgt.getId(), tgt);
+        ticketCache.put(st.getId(), st);
+        assertSame(tgt, ticketCache.get(tgt.getId()));
+        assertNull(ticketCache.get(st.getId()));
+
+        ticketCache.invalidate(List.of(tgt.getId()));
+        assertNull(ticketCache.get(tgt.getId()));
+
+        ticketCache.put(tgt.getId(), tgt);
+        ticketCache.invalidateAll();
+        assertNull(ticketCache.get(tgt.getId()));
+    }
+
+    @Test
+    void verifyInvalidatedTicketsAreNotResurrected() {
+        val ticketCache = new JpaTicketRegistryCache(Caffeine.newBuilder().<String, Ticket>build(),
+            new PublisherIdentifier(), QueueableTicketRegistryMessagePublisher.noOp());
+        val tgt = new MockTicketGrantingTicket("casuser");
+        val readAtVersion = ticketCache.currentVersion();
+        ticketCache.invalidate(List.of(tgt.getId()));
+        ticketCache.putIfCurrent(tgt.getId(), tgt, readAtVersion);
+        assertNull(ticketCache.get(tgt.getId()));
+
+        ticketCache.putIfCurrent(tgt.getId(), tgt, ticketCache.currentVersion());
+        assertSame(tgt, ticketCache.get(tgt.getId()));
+    }
+
+    @Test
+    void verifyInvalidationLag() {
+        val ticketCache = new JpaTicketRegistryCache(Caffeine.newBuilder().<String, Ticket>build(),
+            new PublisherIdentifier(), QueueableTicketRegistryMessagePublisher.noOp());
+        ticketCache.recordInvalidation(ZonedDateTime.now(Clock.systemUTC()).minusSeconds(5));
+        assertEquals(1, ticketCache.getInvalidationCount().get());
+        assertTrue(ticketCache.getInvalidationLag().compareTo(Duration.ofSeconds(5)) >= 0);
+        ticketCache.recordInvalidation(ZonedDateTime.now(Clock.systemUTC()).plusSeconds(5));
+        assertEquals(Duration.ZERO, ticketCache.getInvalidationLag());
+    }
+}
@@ -57,6 +57,7 @@ public class CasJsonServiceRegistryAutoConfiguration {
             registeredServiceReplicationStrategy,
             resourceNamingStrategy,
             Optional.ofNullable(serviceRegistryListeners.getIfAvailable()).orElseGet(ArrayList::new));
+        json.setDeltaReloadEnabled(registry.getJson().isDeltaReloadEnabled());
         if (registry.getJson().isWatcherEnabled()) {
             json.enableDefaultWatcherService();
         }
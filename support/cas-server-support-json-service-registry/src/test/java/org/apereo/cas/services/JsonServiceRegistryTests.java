@@ -22,6 +22,7 @@ import org.apache.commons.lang3.time.StopWatch;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -29,8 +30,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -129,6 +134,32 @@ class JsonServiceRegistryTests extends BaseResourceBasedServiceRegistryTests {
         assertEquals("casuser", username);
     }
 
+    @Test
+    void verifyDeltaReload(@TempDir final Path directory) throws Throwable {
+        val registry = buildResourceBasedServiceRegistry(new FileSystemResource(directory));
+        registry.setDeltaReloadEnabled(true);
+        val service1 = registry.save(RegisteredServiceTestUtils.getRegisteredService("https://app1.example.org"));
+        val service2 = registry.save(RegisteredServiceTestUtils.getRegisteredService("https://app2.example.org"));
+        assertEquals(2, registry.load().size());
+        val loaded1 = registry.findServiceById(service1.getId());
+        val loaded2 = registry.findServiceById(service2.getId());
+
+        service2.setDescription("Updated description");
+        registry.save(service2);
+        val file = directory.resolve(new DefaultRegisteredServiceResourceNamingStrategy().build(service2, "json"));
+        assertTrue(Files.exists(file));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+        assertEquals(2, registry.load().size());
+        assertSame(loaded1, registry.findServiceById(service1.getId()));
+        assertNotSame(loaded2, registry.findServiceById(service2.getId()));
+        assertEquals("Updated description", registry.findServiceById(service2.getId()).getDescription());
+
+        Files.delete(file);
+        assertEquals(1, registry.load().size());
+        assertNull(registry.findServiceById(service2.getId()));
+        assertSame(loaded1, registry.findServiceById(service1.getId()));
+    }
+
     @ParameterizedTest
     @MethodSource("getObjectMapperFactories")
     void verifySerializationPerformance(final JsonFactory factory) throws Throwable {
@@ -4,6 +4,9 @@ import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
 import org.apereo.cas.authentication.handler.support.AbstractUsernamePasswordAuthenticationHandler;
 import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
+import org.apereo.cas.authentication.support.LdapAuthenticatedEntryRegistry;
+import org.apereo.cas.authentication.support.LdapAuthenticationEntryContext;
+import org.apereo.cas.authentication.support.LdapDnResolutionCache;
 import org.apereo.cas.monitor.Monitorable;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.CollectionUtils;
@@ -21,6 +24,7 @@ import org.ldaptive.auth.AuthenticationRequest;
 import org.ldaptive.auth.AuthenticationResponse;
 import org.ldaptive.auth.AuthenticationResultCode;
 import org.ldaptive.auth.Authenticator;
+import org.ldaptive.auth.User;
 import org.ldaptive.control.PasswordPolicyControl;
 import org.springframework.beans.factory.DisposableBean;
 import javax.security.auth.login.AccountNotFoundException;
@@ -85,6 +89,23 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
      */
     private String principalDnAttributeName = "principalLdapDn";
 
+    /**
+     * Whether the user entry along with requested attributes
+     * is fetched as part of the search that resolves the user DN.
+     */
+    private boolean resolveEntryWithDn;
+
+    /**
+     * Registry that keeps track of authenticated entries
+     * to be reused by attribute repositories.
+     */
+    private LdapAuthenticatedEntryRegistry authenticatedEntryRegistry;
+
+    /**
+     * Cache of user DNs resolved by the authenticator, if any.
+     */
+    private LdapDnResolutionCache dnResolutionCache;
+
     /**
      * Creates a new authentication handler that delegates to the given authenticator.
      *
@@ -131,7 +152,14 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
     @Override
     protected AuthenticationHandlerExecutionResult authenticateUsernamePasswordInternal(final UsernamePasswordCredential upc,
                                                                                         final String originalPassword) throws Throwable {
-        val response = getLdapAuthenticationResponse(upc);
+        val startedAt = System.nanoTime();
+        var entryContext = resolveEntryWithDn ? new LdapAuthenticationEntryContext(authenticatedEntryAttributes) : null;
+        var response = getLdapAuthenticationResponse(upc, entryContext);
+        if (!response.isSuccess() && isCachedDnStale(upc.getUsername(), startedAt)) {
+            LOGGER.debug("Retrying LDAP authentication for [{}] with a freshly resolved DN", upc.getUsername());
+            entryContext = resolveEntryWithDn ? new LdapAuthenticationEntryContext(authenticatedEntryAttributes) : null;
+            response = getLdapAuthenticationResponse(upc, entryContext);
+        }
         LOGGER.debug("LDAP response: [{}]", response);
         if (!passwordPolicyHandlingStrategy.supports(response)) {
             LOGGER.warn("Authentication has failed because LDAP password policy handling strategy [{}] cannot handle [{}].",
@@ -143,6 +171,9 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
         val messageList = passwordPolicyHandlingStrategy.handle(response, getPasswordPolicyConfiguration());
         if (response.isSuccess()) {
             LOGGER.debug("LDAP response returned a result [{}], creating the final LDAP principal", response.getLdapEntry());
+            if (entryContext != null && authenticatedEntryRegistry != null) {
+                authenticatedEntryRegistry.register(entryContext);
+            }
             val principal = createPrincipal(upc.getUsername(), response.getLdapEntry());
             return createHandlerResult(upc, principal, messageList);
         }
@@ -153,6 +184,36 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
         throw new FailedLoginException("Invalid credentials");
     }
 
+    /**
+     * Determine whether the bind may have failed because the user DN served from the cache is out of date.
+     * Cached outcomes for the user are removed and the user DN is resolved again; the DN is considered
+     * stale if it no longer matches the DN served from the cache, in which case the bind is worth retrying.
+     * Retrying the bind against an unchanged DN is avoided, so failed attempts are not counted twice by the directory.
+     *
+     * @param username  the username
+     * @param startedAt the time authentication started, as reported by {@link System#nanoTime()}
+     * @return true if the cached DN is stale
+     * @throws PreventedException if the directory cannot be reached
+     */
+    protected boolean isCachedDnStale(final String username, final long startedAt) throws PreventedException {
+        if (dnResolutionCache == null) {
+            return false;
+        }
+        val cachedDns = dnResolutionCache.findResolvedBefore(username, startedAt);
+        if (cachedDns.isEmpty()) {
+            return false;
+        }
+        LOGGER.debug("Bind failed for [{}] with cached DN(s) [{}]; resolving the user DN again", username, cachedDns);
+        dnResolutionCache.invalidate(username);
+        try {
+            authenticator.getDnResolver().resolve(new User(username));
+        } catch (final LdapException e) {
+            LOGGER.trace(e.getMessage(), e);
+            throw new PreventedException(e);
+        }
+        return !cachedDns.equals(dnResolutionCache.findResolved(username));
+    }
+
     /**
      * Creates a CAS principal with attributes if the LDAP entry contains principal attributes.
      *
@@ -236,13 +297,15 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
         return username;
     }
 
-    private AuthenticationResponse getLdapAuthenticationResponse(final UsernamePasswordCredential upc) throws PreventedException {
+    private AuthenticationResponse getLdapAuthenticationResponse(final UsernamePasswordCredential upc,
+                                                                 final LdapAuthenticationEntryContext entryContext) throws PreventedException {
         try {
             LOGGER.debug("Attempting LDAP authentication for [{}]. Authenticator pre-configured attributes are [{}], "
                     + "additional requested attributes for this authentication request are [{}]", upc, authenticator.getReturnAttributes(),
                 authenticatedEntryAttributes);
             var ldaptiveCred = new Credential(upc.getPassword());
-            val request = new AuthenticationRequest(upc.getUsername(), ldaptiveCred, authenticatedEntryAttributes);
+            val user = entryContext == null ? new User(upc.getUsername()) : new User(upc.getUsername(), entryContext);
+            val request = new AuthenticationRequest(user, ldaptiveCred, authenticatedEntryAttributes);
             request.setControls(new PasswordPolicyControl());
             return authenticator.authenticate(request);
         } catch (final LdapException e) {
@@ -0,0 +1,39 @@
+package org.apereo.cas.authentication.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.ldaptive.LdapException;
+import org.ldaptive.auth.DnResolver;
+import org.ldaptive.auth.User;
+
+/**
+ * This is {@link CachingLdapDnResolver}. Resolves the user DN under a single base DN
+ * via the given resolver and records the outcome in the {@link LdapDnResolutionCache},
+ * including users that could not be found. Errors raised by the resolver are passed
+ * through and are not cached.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CachingLdapDnResolver implements DnResolver {
+    private final DnResolver delegate;
+
+    private final String baseDn;
+
+    private final LdapDnResolutionCache cache;
+
+    @Override
+    public String resolve(final User user) throws LdapException {
+        val cached = cache.find(baseDn, user.getIdentifier());
+        if (cached.isPresent()) {
+            LOGGER.trace("Found cached DN [{}] for [{}] under [{}]", cached.get().dn(), user.getIdentifier(), baseDn);
+            return cached.get().dn();
+        }
+        val dn = delegate.resolve(user);
+        cache.put(baseDn, user.getIdentifier(), dn);
+        return dn;
+    }
+}
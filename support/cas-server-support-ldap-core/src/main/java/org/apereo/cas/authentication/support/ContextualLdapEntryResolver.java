@@ -0,0 +1,36 @@
+package org.apereo.cas.authentication.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.ldaptive.LdapEntry;
+import org.ldaptive.LdapException;
+import org.ldaptive.auth.AuthenticationCriteria;
+import org.ldaptive.auth.AuthenticationHandlerResponse;
+import org.ldaptive.auth.EntryResolver;
+
+/**
+ * This is {@link ContextualLdapEntryResolver}. Returns the entry that was already fetched
+ * while resolving the user DN, as recorded in the {@link LdapAuthenticationEntryContext}
+ * of the user, if it carries all requested attributes. Otherwise, resolution is
+ * handed over to the given entry resolver.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ContextualLdapEntryResolver implements EntryResolver {
+    private final EntryResolver delegate;
+
+    @Override
+    public LdapEntry resolve(final AuthenticationCriteria criteria, final AuthenticationHandlerResponse response) throws LdapException {
+        val request = criteria.getAuthenticationRequest();
+        if (request.getUser().getContext() instanceof final LdapAuthenticationEntryContext context
+            && context.covers(request.getReturnAttributes())) {
+            LOGGER.debug("Using entry [{}] fetched during DN resolution", context.getEntry().getDn());
+            return context.getEntry();
+        }
+        return delegate.resolve(criteria, response);
+    }
+}
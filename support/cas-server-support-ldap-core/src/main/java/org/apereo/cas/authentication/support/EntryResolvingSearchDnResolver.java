@@ -0,0 +1,110 @@
+package org.apereo.cas.authentication.support;
+
+import org.apereo.cas.util.LdapUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.ldaptive.ConnectionFactory;
+import org.ldaptive.DerefAliases;
+import org.ldaptive.LdapException;
+import org.ldaptive.ReturnAttributes;
+import org.ldaptive.SearchOperation;
+import org.ldaptive.SearchScope;
+import org.ldaptive.auth.DnResolver;
+import org.ldaptive.auth.User;
+import org.ldaptive.handler.LdapEntryHandler;
+import org.ldaptive.handler.SearchResultHandler;
+import java.util.List;
+
+/**
+ * This is {@link EntryResolvingSearchDnResolver}. Resolves the user DN with a search
+ * that also fetches the attributes requested for the authenticated entry,
+ * if the user carries a {@link LdapAuthenticationEntryContext}. The entry is recorded
+ * in the context so that it can be used once the user is authenticated,
+ * without searching the directory again.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Getter
+@Setter
+public class EntryResolvingSearchDnResolver implements DnResolver {
+    private final ConnectionFactory connectionFactory;
+
+    private final String ldapUrl;
+
+    private final String baseDn;
+
+    private final String userFilter;
+
+    private boolean subtreeSearch;
+
+    private boolean allowMultipleDns;
+
+    private String resolveFromAttribute;
+
+    private DerefAliases derefAliases;
+
+    private String[] binaryAttributes = ArrayUtils.EMPTY_STRING_ARRAY;
+
+    private LdapEntryHandler[] entryHandlers = new LdapEntryHandler[0];
+
+    private SearchResultHandler[] searchResultHandlers = new SearchResultHandler[0];
+
+    @Override
+    public String resolve(final User user) throws LdapException {
+        val context = user.getContext() instanceof final LdapAuthenticationEntryContext entryContext ? entryContext : null;
+        val filter = LdapUtils.newLdaptiveSearchFilter(userFilter,
+            LdapUtils.LDAP_SEARCH_FILTER_DEFAULT_PARAM_NAME, List.of(user.getIdentifier()));
+        val returnAttributes = getReturnAttributes(context);
+        val request = LdapUtils.newLdaptiveSearchRequest(baseDn, filter, binaryAttributes, returnAttributes);
+        request.setSearchScope(subtreeSearch ? SearchScope.SUBTREE : SearchScope.ONELEVEL);
+        if (derefAliases != null) {
+            request.setDerefAliases(derefAliases);
+        }
+        val operation = new SearchOperation(connectionFactory);
+        operation.setEntryHandlers(entryHandlers);
+        operation.setSearchResultHandlers(searchResultHandlers);
+        val response = operation.execute(request);
+        if (!LdapUtils.containsResultEntry(response)) {
+            LOGGER.debug("No entry could be found for [{}] under [{}]", user.getIdentifier(), baseDn);
+            return null;
+        }
+        if (response.entrySize() > 1 && !allowMultipleDns) {
+            throw new LdapException("Found more than one entry for " + user.getIdentifier() + " under " + baseDn);
+        }
+        val entry = response.getEntry();
+        val dn = StringUtils.isNotBlank(resolveFromAttribute) && entry.getAttribute(resolveFromAttribute) != null
+            ? entry.getAttribute(resolveFromAttribute).getStringValue()
+            : entry.getDn();
+        if (context != null) {
+            LOGGER.debug("Resolved entry [{}] along with attributes [{}] for [{}]", entry.getDn(), entry.getAttributeNames(), user.getIdentifier());
+            context.setLdapUrl(ldapUrl);
+            context.setBindDn(LdapUtils.getBindDn(connectionFactory));
+            context.setBaseDn(baseDn);
+            context.setSearchScope(request.getSearchScope());
+            context.setFilter(filter.format());
+            context.setBinaryAttributes(binaryAttributes);
+            context.setShareable(entryHandlers.length == 0);
+            context.setEntry(entry);
+        }
+        return dn;
+    }
+
+    private String[] getReturnAttributes(final LdapAuthenticationEntryContext context) {
+        if (context == null || context.getReturnAttributes() == null || context.getReturnAttributes().length == 0) {
+            return StringUtils.isNotBlank(resolveFromAttribute)
+                ? new String[]{resolveFromAttribute}
+                : ReturnAttributes.NONE.value();
+        }
+        return StringUtils.isNotBlank(resolveFromAttribute)
+            ? ArrayUtils.add(context.getReturnAttributes(), resolveFromAttribute)
+            : context.getReturnAttributes();
+    }
+}
@@ -0,0 +1,129 @@
+package org.apereo.cas.authentication.support;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.ldaptive.LdapEntry;
+import org.ldaptive.SearchScope;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link LdapAuthenticatedEntryRegistry}. Keeps track of LDAP entries
+ * that are fetched while authenticating users, so that attribute repositories that search
+ * the same directory with an equivalent query, and bind as the same DN, can reuse them
+ * for the remainder of the authentication transaction. Entries are bound to the thread
+ * that runs the authentication transaction: the scope is opened when the transaction begins
+ * and closed once it completes. Entries are never shared across transactions, and a scope
+ * that is left open, for example when the transaction fails, is ignored once it expires.
+ * Handlers that run on a separate thread do not see the scope and do not register entries.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+public class LdapAuthenticatedEntryRegistry {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "ldapAuthenticatedEntryRegistry";
+
+    private static final Duration DEFAULT_EXPIRATION = Duration.ofSeconds(30);
+
+    private final ThreadLocal<TransactionScope> transactionScope = new ThreadLocal<>();
+
+    private final Duration expiration;
+
+    public LdapAuthenticatedEntryRegistry() {
+        this(DEFAULT_EXPIRATION);
+    }
+
+    public LdapAuthenticatedEntryRegistry(final Duration expiration) {
+        this.expiration = expiration;
+    }
+
+    /**
+     * Begin tracking entries for the authentication transaction
+     * that runs on the current thread, discarding anything left behind.
+     */
+    public void open() {
+        transactionScope.set(new TransactionScope(Instant.now().plus(expiration), new ConcurrentHashMap<>()));
+    }
+
+    /**
+     * Stop tracking entries for the authentication transaction
+     * that runs on the current thread.
+     */
+    public void close() {
+        transactionScope.remove();
+    }
+
+    /**
+     * Register the entry found in the given context.
+     *
+     * @param context the context
+     */
+    public void register(final LdapAuthenticationEntryContext context) {
+        if (context.getEntry() != null && context.isShareable()) {
+            val scope = getTransactionScope();
+            if (scope.isEmpty()) {
+                LOGGER.trace("No authentication transaction is in progress; entry [{}] is not registered", context.getEntry().getDn());
+                return;
+            }
+            val key = EntryKey.of(context.getLdapUrl(), context.getBindDn(), context.getBaseDn(),
+                context.getSearchScope(), context.getFilter());
+            LOGGER.trace("Registering authenticated LDAP entry [{}] for [{}]", context.getEntry().getDn(), key);
+            scope.get().entries().put(key, context);
+        }
+    }
+
+    /**
+     * Find an entry that was fetched in the current authentication transaction with the given query
+     * and bind DN, and that carries the requested attributes.
+     *
+     * @param ldapUrl          the ldap url
+     * @param bindDn           the bind dn
+     * @param baseDn           the base dn
+     * @param searchScope      the search scope
+     * @param filter           the formatted filter
+     * @param returnAttributes the requested attributes
+     * @param binaryAttributes the requested binary attributes
+     * @return the entry
+     */
+    public Optional<LdapEntry> find(final String ldapUrl, final String bindDn, final String baseDn,
+                                    final SearchScope searchScope, final String filter,
+                                    final String[] returnAttributes, final String[] binaryAttributes) {
+        val key = EntryKey.of(ldapUrl, bindDn, baseDn, searchScope, filter);
+        return getTransactionScope()
+            .map(scope -> scope.entries().get(key))
+            .filter(context -> context.covers(returnAttributes))
+            .filter(context -> LdapAuthenticationEntryContext.toAttributeNames(context.getBinaryAttributes())
+                .containsAll(LdapAuthenticationEntryContext.toAttributeNames(binaryAttributes)))
+            .map(LdapAuthenticationEntryContext::getEntry);
+    }
+
+    private Optional<TransactionScope> getTransactionScope() {
+        val scope = transactionScope.get();
+        if (scope != null && scope.expiresAt().isBefore(Instant.now())) {
+            transactionScope.remove();
+            return Optional.empty();
+        }
+        return Optional.ofNullable(scope);
+    }
+
+    private record TransactionScope(Instant expiresAt, Map<EntryKey, LdapAuthenticationEntryContext> entries) {
+    }
+
+    private record EntryKey(String ldapUrl, String bindDn, String baseDn, SearchScope searchScope, String filter) {
+        static EntryKey of(final String ldapUrl, final String bindDn, final String baseDn,
+                           final SearchScope searchScope, final String filter) {
+            return new EntryKey(StringUtils.defaultString(ldapUrl).toLowerCase(Locale.ENGLISH),
+                StringUtils.defaultString(bindDn).trim().toLowerCase(Locale.ENGLISH),
+                StringUtils.defaultString(baseDn).trim().toLowerCase(Locale.ENGLISH), searchScope, filter);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.apereo.cas.authentication.support;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.val;
+import org.ldaptive.LdapEntry;
+import org.ldaptive.ReturnAttributes;
+import org.ldaptive.SearchScope;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link LdapAuthenticationEntryContext}. Carried as the context of the
+ * ldaptive user that is being authenticated, so that the entry found
+ * while resolving the user DN, along with the requested attributes, can be handed over
+ * to the entry resolver and to attribute repositories without issuing further searches.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@RequiredArgsConstructor
+@Getter
+@Setter
+@ToString(of = {"ldapUrl", "bindDn", "baseDn", "filter"})
+public class LdapAuthenticationEntryContext {
+    /**
+     * Attributes requested for the authenticated entry.
+     */
+    private final String[] returnAttributes;
+
+    private String ldapUrl;
+
+    /**
+     * The DN that the connection used to fetch the entry is bound as.
+     */
+    private String bindDn;
+
+    private String baseDn;
+
+    private SearchScope searchScope;
+
+    private String filter;
+
+    private String[] binaryAttributes;
+
+    private LdapEntry entry;
+
+    /**
+     * Whether the entry is fetched as-is, without any entry handlers
+     * that transform it, so that it may be shared with attribute repositories.
+     */
+    private boolean shareable;
+
+    /**
+     * Whether the entry was fetched with all the given attributes.
+     *
+     * @param attributes the attributes
+     * @return true if all attributes were requested when the entry was fetched
+     */
+    public boolean covers(final String[] attributes) {
+        if (entry == null) {
+            return false;
+        }
+        val requested = toAttributeNames(returnAttributes);
+        if (attributes == null || attributes.length == 0 || ReturnAttributes.ALL_USER.equalsAttributes(attributes)) {
+            return requested.contains(ReturnAttributes.ALL_USER.value()[0]);
+        }
+        return Arrays.stream(attributes)
+            .map(attribute -> attribute.toLowerCase(Locale.ENGLISH))
+            .allMatch(attribute -> requested.contains(attribute)
+                || requested.contains(ReturnAttributes.ALL_USER.value()[0])
+                && !ReturnAttributes.ALL_OPERATIONAL.value()[0].equals(attribute));
+    }
+
+    /**
+     * Normalize attribute names for comparison.
+     *
+     * @param attributes the attributes
+     * @return the set of attribute names
+     */
+    static Set<String> toAttributeNames(final String[] attributes) {
+        return attributes == null
+            ? Set.of()
+            : Arrays.stream(attributes).map(attribute -> attribute.toLowerCase(Locale.ENGLISH)).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,249 @@
+package org.apereo.cas.authentication.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link LdapDnResolutionCache}. Remembers the outcome of resolving usernames
+ * to user DNs under a given base DN, so that repeated authentication attempts for the same
+ * user do not have to search the directory again. Resolved DNs and failed lookups
+ * are kept in separate caches, each with its own expiration and maximum size, so that lookups
+ * for unknown users cannot evict resolved DNs; failures to reach the directory are never cached.
+ * <p>
+ * Both caches are keyed by the normalized user identifier, and hold the outcomes recorded
+ * for that user under each base DN, so that all outcomes for a user can be found or removed
+ * without scanning the cache. Identifiers are compared case-insensitively.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+public class LdapDnResolutionCache {
+    private final Cache<String, Map<String, DnResolution>> cache;
+
+    private final Cache<String, Map<String, DnResolution>> notFoundCache;
+
+    private final StatsCounter stats = new ConcurrentStatsCounter();
+
+    private final StatsCounter notFoundStats = new ConcurrentStatsCounter();
+
+    private final long expirationNanos;
+
+    private final long notFoundExpirationNanos;
+
+    public LdapDnResolutionCache(final Duration expiration, final Duration notFoundExpiration,
+                                 final long maximumSize, final long notFoundMaximumSize) {
+        this.expirationNanos = expiration.toNanos();
+        this.notFoundExpirationNanos = notFoundExpiration.toNanos();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expiration)
+            .recordStats(() -> stats)
+            .build();
+        this.notFoundCache = Caffeine.newBuilder()
+            .maximumSize(notFoundMaximumSize)
+            .expireAfterWrite(notFoundExpiration)
+            .recordStats(() -> notFoundStats)
+            .build();
+    }
+
+    /**
+     * Find the recorded resolution outcome for the given user.
+     * An empty result indicates that the user must be resolved against the directory.
+     *
+     * @param baseDn     the base dn
+     * @param identifier the user identifier
+     * @return the resolution outcome
+     */
+    public Optional<DnResolution> find(final String baseDn, final String identifier) {
+        val key = normalizeIdentifier(identifier);
+        val base = normalizeBaseDn(baseDn);
+        return find(cache, stats, expirationNanos, key, base)
+            .or(() -> find(notFoundCache, notFoundStats, notFoundExpirationNanos, key, base));
+    }
+
+    /**
+     * Record the resolution outcome for the given user.
+     *
+     * @param baseDn     the base dn
+     * @param identifier the user identifier
+     * @param dn         the resolved dn, or null if the user could not be found
+     */
+    public void put(final String baseDn, final String identifier, final String dn) {
+        LOGGER.trace("Caching resolved DN [{}] for [{}] under [{}]", dn, identifier, baseDn);
+        val key = normalizeIdentifier(identifier);
+        val base = normalizeBaseDn(baseDn);
+        val resolution = new DnResolution(dn, System.nanoTime());
+        if (resolution.isNotFound()) {
+            remove(cache, key, base);
+            put(notFoundCache, notFoundExpirationNanos, key, base, resolution);
+        } else {
+            remove(notFoundCache, key, base);
+            put(cache, expirationNanos, key, base, resolution);
+        }
+    }
+
+    /**
+     * Find the DNs resolved for the given user, across all base DNs.
+     *
+     * @param identifier the user identifier
+     * @return the resolved dns
+     */
+    public Set<String> findResolved(final String identifier) {
+        return findResolved(identifier, resolution -> true);
+    }
+
+    /**
+     * Find the DNs resolved for the given user, across all base DNs,
+     * that were recorded before the given time.
+     *
+     * @param identifier the user identifier
+     * @param nanoTime   the time, as reported by {@link System#nanoTime()}
+     * @return the resolved dns
+     */
+    public Set<String> findResolvedBefore(final String identifier, final long nanoTime) {
+        return findResolved(identifier, resolution -> resolution.resolvedAt() - nanoTime < 0);
+    }
+
+    /**
+     * Remove all recorded outcomes for the given user, across all base DNs.
+     *
+     * @param identifier the user identifier
+     */
+    public void invalidate(final String identifier) {
+        LOGGER.debug("Removing cached DN resolutions for [{}]", identifier);
+        val key = normalizeIdentifier(identifier);
+        cache.invalidate(key);
+        notFoundCache.invalidate(key);
+    }
+
+    /**
+     * Remove all recorded outcomes.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        notFoundCache.invalidateAll();
+    }
+
+    /**
+     * The underlying cache of resolved DNs, exposed to collect statistics and metrics.
+     * Hits and misses are counted per base DN lookup.
+     *
+     * @return the cache
+     */
+    public Cache<?, ?> getCache() {
+        return cache;
+    }
+
+    /**
+     * The underlying cache of failed lookups, exposed to collect statistics and metrics.
+     * Hits and misses are counted per base DN lookup.
+     *
+     * @return the cache
+     */
+    public Cache<?, ?> getNotFoundCache() {
+        return notFoundCache;
+    }
+
+    /**
+     * Number of lookups that were answered with a cached not-found outcome.
+     *
+     * @return the count
+     */
+    public long getNotFoundHitCount() {
+        return notFoundCache.stats().hitCount();
+    }
+
+    /**
+     * The outcome of resolving a user DN.
+     *
+     * @param dn         the resolved dn, or null if the user could not be found
+     * @param resolvedAt the time the outcome was recorded, as reported by {@link System#nanoTime()}
+     */
+    public record DnResolution(String dn, long resolvedAt) {
+        /**
+         * Whether the user could not be found.
+         *
+         * @return true or false
+         */
+        public boolean isNotFound() {
+            return dn == null;
+        }
+
+        boolean isExpired(final long expirationNanos, final long now) {
+            return now - resolvedAt >= expirationNanos;
+        }
+    }
+
+    private Set<String> findResolved(final String identifier, final Predicate<DnResolution> filter) {
+        val resolutions = cache.asMap().get(normalizeIdentifier(identifier));
+        if (resolutions == null) {
+            return Set.of();
+        }
+        val now = System.nanoTime();
+        return resolutions.values()
+            .stream()
+            .filter(resolution -> !resolution.isExpired(expirationNanos, now))
+            .filter(filter)
+            .map(DnResolution::dn)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Outcomes are looked up through the map view, which does not record statistics,
+     * so that hits and misses can be counted per base DN rather than per user.
+     */
+    private static Optional<DnResolution> find(final Cache<String, Map<String, DnResolution>> cache,
+                                               final StatsCounter stats, final long expirationNanos,
+                                               final String identifier, final String baseDn) {
+        val resolutions = cache.asMap().get(identifier);
+        val resolution = Optional.ofNullable(resolutions)
+            .map(entries -> entries.get(baseDn))
+            .filter(entry -> !entry.isExpired(expirationNanos, System.nanoTime()));
+        if (resolution.isPresent()) {
+            stats.recordHits(1);
+        } else {
+            stats.recordMisses(1);
+        }
+        return resolution;
+    }
+
+    private static void put(final Cache<String, Map<String, DnResolution>> cache, final long expirationNanos,
+                            final String identifier, final String baseDn, final DnResolution resolution) {
+        cache.asMap().compute(identifier, (key, entries) -> {
+            val resolutions = entries == null ? new ConcurrentHashMap<String, DnResolution>() : entries;
+            resolutions.values().removeIf(entry -> entry.isExpired(expirationNanos, resolution.resolvedAt()));
+            resolutions.put(baseDn, resolution);
+            return resolutions;
+        });
+    }
+
+    private static void remove(final Cache<String, Map<String, DnResolution>> cache,
+                               final String identifier, final String baseDn) {
+        cache.asMap().computeIfPresent(identifier, (key, entries) -> {
+            entries.remove(baseDn);
+            return entries.isEmpty() ? null : entries;
+        });
+    }
+
+    private static String normalizeIdentifier(final String identifier) {
+        return StringUtils.defaultString(identifier).toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String normalizeBaseDn(final String baseDn) {
+        return StringUtils.defaultString(baseDn).trim().toLowerCase(Locale.ENGLISH);
+    }
+}
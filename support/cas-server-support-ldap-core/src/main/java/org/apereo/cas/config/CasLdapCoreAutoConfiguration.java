@@ -0,0 +1,38 @@
+package org.apereo.cas.config;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.util.LdapConnectionPoolRegistry;
+import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.web.LdapConnectionPoolsEndpoint;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * This is {@link CasLdapCoreAutoConfiguration}. Monitors the LDAP connection pools
+ * created by CAS, regardless of the feature that created them.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@AutoConfiguration
+@ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.Monitoring, module = "ldap")
+public class CasLdapCoreAutoConfiguration {
+    @ConditionalOnMissingBean(name = "ldapConnectionPoolMeterBinder")
+    @Bean
+    public MeterBinder ldapConnectionPoolMeterBinder() {
+        return LdapConnectionPoolRegistry.getInstance();
+    }
+
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public LdapConnectionPoolsEndpoint ldapConnectionPoolsEndpoint(
+        final CasConfigurationProperties casProperties) {
+        return new LdapConnectionPoolsEndpoint(casProperties, LdapConnectionPoolRegistry.getInstance());
+    }
+}
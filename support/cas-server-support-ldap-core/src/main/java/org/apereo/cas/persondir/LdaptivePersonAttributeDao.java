@@ -3,6 +3,8 @@ package org.apereo.cas.persondir;
 import org.apereo.cas.authentication.attribute.AbstractQueryPersonAttributeDao;
 import org.apereo.cas.authentication.attribute.SimplePersonAttributes;
 import org.apereo.cas.authentication.principal.attribute.PersonAttributes;
+import org.apereo.cas.authentication.support.LdapAuthenticatedEntryRegistry;
+import org.apereo.cas.util.LdapUtils;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Person directory {@link org.apereo.cas.authentication.principal.attribute.PersonAttributeDao} implementation that queries an LDAP directory
@@ -52,14 +55,26 @@ public class LdaptivePersonAttributeDao extends AbstractQueryPersonAttributeDao<
 
     private SearchResultHandler[] searchResultHandlers;
 
+    /**
+     * Registry of entries fetched during authentication
+     * that may be reused in place of executing the query.
+     */
+    private LdapAuthenticatedEntryRegistry authenticatedEntryRegistry;
+
     @Override
     protected List<PersonAttributes> getPeopleForQuery(final FilterTemplate filter, final String userName) {
         try {
             Objects.requireNonNull(this.searchFilter, "Search filter cannot be null");
+            val request = createRequest(filter);
+            val authenticatedEntry = findAuthenticatedEntry(request, filter);
+            if (authenticatedEntry.isPresent()) {
+                LOGGER.debug("Using LDAP entry [{}] fetched during authentication for query [{}]", authenticatedEntry.get().getDn(), filter.format());
+                return List.of(toPersonAttributes(convertLdapEntryToMap(authenticatedEntry.get()), userName));
+            }
             val search = new SearchOperation(this.connectionFactory);
             search.setEntryHandlers(entryHandlers);
             search.setSearchResultHandlers(searchResultHandlers);
-            val response = search.execute(createRequest(filter));
+            val response = search.execute(request);
 
             val peopleAttributes = new ArrayList<PersonAttributes>(response.entrySize());
             for (val entry : response.getEntries()) {
@@ -75,11 +90,7 @@ public class LdaptivePersonAttributeDao extends AbstractQueryPersonAttributeDao<
                     attributes.put("matchedDN", values);
                 }
 
-                val userNameAttribute = this.getConfiguredUserNameAttribute();
-                val person = attributes.containsKey(userNameAttribute)
-                    ? SimplePersonAttributes.fromAttribute(userNameAttribute, attributes)
-                    : new SimplePersonAttributes(userName, attributes);
-                peopleAttributes.add(person);
+                peopleAttributes.add(toPersonAttributes(attributes, userName));
             }
             return peopleAttributes;
         } catch (final LdapException e) {
@@ -87,6 +98,22 @@ public class LdaptivePersonAttributeDao extends AbstractQueryPersonAttributeDao<
         }
     }
 
+    protected PersonAttributes toPersonAttributes(final Map<String, List<Object>> attributes, final String userName) {
+        val userNameAttribute = this.getConfiguredUserNameAttribute();
+        return attributes.containsKey(userNameAttribute)
+            ? SimplePersonAttributes.fromAttribute(userNameAttribute, attributes)
+            : new SimplePersonAttributes(userName, attributes);
+    }
+
+    protected Optional<LdapEntry> findAuthenticatedEntry(final SearchRequest request, final FilterTemplate filter) {
+        if (authenticatedEntryRegistry == null || ArrayUtils.isNotEmpty(entryHandlers) || ArrayUtils.isNotEmpty(searchResultHandlers)) {
+            return Optional.empty();
+        }
+        return authenticatedEntryRegistry.find(connectionFactory.getConnectionConfig().getLdapUrl(),
+            LdapUtils.getBindDn(connectionFactory), request.getBaseDn(), request.getSearchScope(), filter.format(),
+            request.getReturnAttributes(), request.getBinaryAttributes());
+    }
+
     @Override
     protected FilterTemplate appendAttributeToQuery(final FilterTemplate filter, final String attribute, final List<Object> values) {
         val query = Objects.requireNonNullElseGet(filter, () -> {
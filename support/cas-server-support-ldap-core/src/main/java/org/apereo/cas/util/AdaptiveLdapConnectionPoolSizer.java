@@ -0,0 +1,94 @@
+package org.apereo.cas.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link AdaptiveLdapConnectionPoolSizer}. Periodically examines how connections are
+ * obtained from a {@link MonitoredPooledConnectionFactory} and adjusts its pool sizes.
+ * When callers wait on the pool for longer than the configured threshold on average,
+ * or fail to obtain a connection, the maximum pool size is raised and the minimum pool size
+ * is raised to the peak number of connections in use, so these are not pruned. When the pool
+ * is under-utilized, sizes are lowered back towards the configured bounds so that idle
+ * connections can be pruned.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AdaptiveLdapConnectionPoolSizer implements Runnable, AutoCloseable {
+    private final MonitoredPooledConnectionFactory pool;
+
+    private final int minPoolSize;
+
+    private final int maxPoolSize;
+
+    private final int upperBound;
+
+    private final Duration waitTimeThreshold;
+
+    private final Duration period;
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * Start examining and resizing the pool periodically.
+     */
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .daemon().name("ldap-pool-sizer-" + pool.getPoolName()).factory());
+        executor.scheduleWithFixedDelay(this, period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void run() {
+        val usage = pool.drainUsage();
+        var min = pool.getMinPoolSize();
+        var max = pool.getMaxPoolSize();
+        val underPressure = usage.failureCount() > 0 || usage.averageWaitNanos() > waitTimeThreshold.toNanos();
+        if (underPressure) {
+            max = Math.min(upperBound, max + Math.max(1, max / 4));
+            min = Math.min(max, Math.max(min, usage.peakActiveCount()));
+        } else {
+            min = Math.max(minPoolSize, Math.min(min, usage.peakActiveCount()));
+            if (usage.peakActiveCount() < max / 2) {
+                max = Math.max(Math.max(maxPoolSize, min), max - Math.max(1, max / 4));
+            }
+        }
+        resize(min, max, usage);
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void resize(final int min, final int max, final MonitoredPooledConnectionFactory.LdapConnectionPoolUsage usage) {
+        if (min == pool.getMinPoolSize() && max == pool.getMaxPoolSize()) {
+            return;
+        }
+        LOGGER.debug("Resizing LDAP connection pool [{}] from [{}]-[{}] to [{}]-[{}] based on [{}]",
+            pool.getPoolName(), pool.getMinPoolSize(), pool.getMaxPoolSize(), min, max, usage);
+        try {
+            if (max >= pool.getMaxPoolSize()) {
+                pool.setMaxPoolSize(max);
+                pool.setMinPoolSize(min);
+            } else {
+                pool.setMinPoolSize(min);
+                pool.setMaxPoolSize(max);
+            }
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Unable to resize LDAP connection pool [{}]; adaptive sizing is turned off: [{}]",
+                pool.getPoolName(), e.getMessage());
+            close();
+        }
+    }
+}
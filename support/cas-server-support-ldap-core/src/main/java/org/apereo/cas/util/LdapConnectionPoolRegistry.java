@@ -0,0 +1,76 @@
+package org.apereo.cas.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * This is {@link LdapConnectionPoolRegistry}. Keeps track of all LDAP connection pools
+ * created by CAS that are still open, so that their state can be reported and published
+ * to every meter registry that this registry is bound to, including pools that
+ * are created after the fact.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LdapConnectionPoolRegistry implements MeterBinder {
+    private static final LdapConnectionPoolRegistry INSTANCE = new LdapConnectionPoolRegistry();
+
+    private final Set<MonitoredPooledConnectionFactory> pools = ConcurrentHashMap.newKeySet();
+
+    private final List<MeterRegistry> meterRegistries = new CopyOnWriteArrayList<>();
+
+    public static LdapConnectionPoolRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register the pool, and bind it to known meter registries.
+     *
+     * @param pool the pool
+     */
+    public void register(final MonitoredPooledConnectionFactory pool) {
+        LOGGER.trace("Registering LDAP connection pool [{}]", pool.getPoolName());
+        pools.add(pool);
+        meterRegistries.removeIf(MeterRegistry::isClosed);
+        meterRegistries.forEach(pool::bindTo);
+    }
+
+    /**
+     * Unregister the pool.
+     *
+     * @param pool the pool
+     */
+    public void unregister(final MonitoredPooledConnectionFactory pool) {
+        pools.remove(pool);
+    }
+
+    /**
+     * Gets registered pools.
+     *
+     * @return the pools
+     */
+    public List<MonitoredPooledConnectionFactory> getPools() {
+        return pools.stream()
+            .sorted(Comparator.comparing(MonitoredPooledConnectionFactory::getPoolName))
+            .toList();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        meterRegistries.removeIf(MeterRegistry::isClosed);
+        if (!meterRegistries.contains(registry)) {
+            meterRegistries.add(registry);
+        }
+        pools.forEach(pool -> pool.bindTo(registry));
+    }
+}
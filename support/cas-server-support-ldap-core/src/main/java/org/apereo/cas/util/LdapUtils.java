@@ -5,7 +5,11 @@ import org.apereo.cas.authentication.CoreAuthenticationUtils;
 import org.apereo.cas.authentication.LdapAuthenticationHandler;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalNameTransformerUtils;
+import org.apereo.cas.authentication.support.CachingLdapDnResolver;
+import org.apereo.cas.authentication.support.ContextualLdapEntryResolver;
 import org.apereo.cas.authentication.support.DefaultLdapAccountStateHandler;
+import org.apereo.cas.authentication.support.EntryResolvingSearchDnResolver;
+import org.apereo.cas.authentication.support.LdapDnResolutionCache;
 import org.apereo.cas.authentication.support.OptionalWarningLdapAccountStateHandler;
 import org.apereo.cas.authentication.support.RejectResultCodeLdapPasswordPolicyHandlingStrategy;
 import org.apereo.cas.authentication.support.password.DefaultPasswordPolicyHandlingStrategy;
@@ -16,6 +20,7 @@ import org.apereo.cas.configuration.model.core.authentication.PasswordPolicyProp
 import org.apereo.cas.configuration.model.support.ldap.AbstractLdapAuthenticationProperties;
 import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
 import org.apereo.cas.configuration.model.support.ldap.LdapAuthenticationProperties;
+import org.apereo.cas.configuration.model.support.ldap.LdapDnResolutionCacheProperties;
 import org.apereo.cas.configuration.model.support.ldap.LdapPasswordPolicyProperties;
 import org.apereo.cas.configuration.model.support.ldap.LdapSearchEntryHandlersProperties;
 import org.apereo.cas.configuration.support.Beans;
@@ -34,6 +39,7 @@ import lombok.val;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
+import org.ldaptive.AbstractConnectionValidator;
 import org.ldaptive.ActivePassiveConnectionStrategy;
 import org.ldaptive.BindConnectionInitializer;
 import org.ldaptive.CompareConnectionValidator;
@@ -449,6 +455,18 @@ public class LdapUtils {
      * @return the authenticator
      */
     public static Authenticator newLdaptiveAuthenticator(final AbstractLdapAuthenticationProperties props) {
+        return newLdaptiveAuthenticator(props, null);
+    }
+
+    /**
+     * New ldap authenticator whose user DNs are resolved via the given cache, if any.
+     *
+     * @param props             the ldap settings.
+     * @param dnResolutionCache the dn resolution cache
+     * @return the authenticator
+     */
+    public static Authenticator newLdaptiveAuthenticator(final AbstractLdapAuthenticationProperties props,
+                                                         final LdapDnResolutionCache dnResolutionCache) {
         switch (props.getType()) {
             case AD -> {
                 LOGGER.debug("Creating active directory authenticator for [{}]", props.getLdapUrl());
@@ -460,11 +478,11 @@ public class LdapUtils {
             }
             case AUTHENTICATED -> {
                 LOGGER.debug("Creating authenticated authenticator for [{}]", props.getLdapUrl());
-                return getAuthenticatedOrAnonSearchAuthenticator(props);
+                return getAuthenticatedOrAnonSearchAuthenticator(props, dnResolutionCache);
             }
             default -> {
                 LOGGER.debug("Creating anonymous authenticator for [{}]", props.getLdapUrl());
-                return getAuthenticatedOrAnonSearchAuthenticator(props);
+                return getAuthenticatedOrAnonSearchAuthenticator(props, dnResolutionCache);
             }
         }
     }
@@ -479,7 +497,8 @@ public class LdapUtils {
         val connectionConfig = newLdaptiveConnectionConfig(props);
 
         LOGGER.debug("Creating LDAP connection pool configuration for [{}]", props.getLdapUrl());
-        val pooledCf = new PooledConnectionFactory(connectionConfig);
+        val pooledCf = new MonitoredPooledConnectionFactory(connectionConfig,
+            StringUtils.defaultIfBlank(props.getName(), props.getLdapUrl()));
         pooledCf.setMinPoolSize(props.getMinPoolSize());
         pooledCf.setMaxPoolSize(props.getMaxPoolSize());
         pooledCf.setValidateOnCheckOut(props.isValidateOnCheckout());
@@ -488,7 +507,10 @@ public class LdapUtils {
 
         val strategy = new IdlePruneStrategy();
         strategy.setIdleTime(Beans.newDuration(props.getIdleTime()));
-        strategy.setPrunePeriod(Beans.newDuration(props.getPrunePeriod()));
+        val adaptive = props.getPoolSizing() == AbstractLdapProperties.LdapConnectionPoolSizing.ADAPTIVE;
+        val prunePeriod = Beans.newDuration(props.getPrunePeriod());
+        val adaptivePeriod = Beans.newDuration(props.getAdaptivePeriod());
+        strategy.setPrunePeriod(adaptive && adaptivePeriod.compareTo(prunePeriod) < 0 ? adaptivePeriod : prunePeriod);
 
         pooledCf.setPruneStrategy(strategy);
 
@@ -519,6 +541,10 @@ public class LdapUtils {
             }
         }
 
+        if (pooledCf.getValidator() instanceof final AbstractConnectionValidator connectionValidator) {
+            connectionValidator.setOnFailure(connection -> pooledCf.recordValidationFailure());
+        }
+
         pooledCf.setFailFastInitialize(props.isFailFast());
 
         if (StringUtils.isNotBlank(props.getPoolPassivator())) {
@@ -541,6 +567,14 @@ public class LdapUtils {
         }
         LOGGER.debug("Initializing ldap connection pool for [{}] and bindDn [{}]", props.getLdapUrl(), props.getBindDn());
         pooledCf.initialize();
+        if (adaptive) {
+            LOGGER.debug("Connection pool for [{}] is sized adaptively up to [{}] connections",
+                props.getLdapUrl(), props.getAdaptiveMaxPoolSize());
+            pooledCf.startAdaptiveSizing(new AdaptiveLdapConnectionPoolSizer(pooledCf, props.getMinPoolSize(), props.getMaxPoolSize(),
+                Math.max(props.getMaxPoolSize(), props.getAdaptiveMaxPoolSize()),
+                Beans.newDuration(props.getAdaptiveWaitTimeThreshold()), adaptivePeriod));
+        }
+        LdapConnectionPoolRegistry.getInstance().register(pooledCf);
         return pooledCf;
     }
 
@@ -668,6 +702,26 @@ public class LdapUtils {
         return properties.isDisablePooling() ? newLdaptiveDefaultConnectionFactory(properties) : newLdaptivePooledConnectionFactory(properties);
     }
 
+    /**
+     * Gets the DN that connections obtained from the given factory bind as.
+     *
+     * @param connectionFactory the connection factory
+     * @return the bind dn, or blank if connections are not bound to a DN
+     */
+    public static String getBindDn(final ConnectionFactory connectionFactory) {
+        val connectionConfig = connectionFactory != null ? connectionFactory.getConnectionConfig() : null;
+        if (connectionConfig == null || connectionConfig.getConnectionInitializers() == null) {
+            return StringUtils.EMPTY;
+        }
+        return Arrays.stream(connectionConfig.getConnectionInitializers())
+            .filter(BindConnectionInitializer.class::isInstance)
+            .map(BindConnectionInitializer.class::cast)
+            .map(BindConnectionInitializer::getBindDn)
+            .filter(StringUtils::isNotBlank)
+            .findFirst()
+            .orElse(StringUtils.EMPTY);
+    }
+
     /**
      * New dn resolver entry resolver.
      * Creates the necessary search entry resolver.
@@ -796,6 +850,18 @@ public class LdapUtils {
      * @return the authenticated or anon search authenticator
      */
     public static Authenticator getAuthenticatedOrAnonSearchAuthenticator(final AbstractLdapAuthenticationProperties properties) {
+        return getAuthenticatedOrAnonSearchAuthenticator(properties, null);
+    }
+
+    /**
+     * Gets authenticated authenticator whose user DNs are resolved via the given cache, if any.
+     *
+     * @param properties        the lDAP properties
+     * @param dnResolutionCache the dn resolution cache
+     * @return the authenticated or anon search authenticator
+     */
+    public static Authenticator getAuthenticatedOrAnonSearchAuthenticator(final AbstractLdapAuthenticationProperties properties,
+                                                                          final LdapDnResolutionCache dnResolutionCache) {
         if (StringUtils.isBlank(properties.getBaseDn())) {
             throw new IllegalArgumentException("Base dn cannot be empty/blank for authenticated/anonymous authentication");
         }
@@ -803,14 +869,21 @@ public class LdapUtils {
             throw new IllegalArgumentException("User filter cannot be empty/blank for authenticated/anonymous authentication");
         }
         val connectionFactoryForSearch = newLdaptiveConnectionFactory(properties);
-        val resolver = buildAggregateDnResolver(properties, connectionFactoryForSearch);
+        val resolver = properties.isResolveEntryWithDn()
+            ? buildAggregateEntryResolvingDnResolver(properties, connectionFactoryForSearch)
+            : buildAggregateDnResolver(properties, connectionFactoryForSearch, dnResolutionCache);
 
         val auth = StringUtils.isBlank(properties.getPrincipalAttributePassword())
             ? new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveConnectionFactory(properties)))
             : new Authenticator(resolver, getCompareAuthenticationHandler(properties, newLdaptiveConnectionFactory(properties)));
 
-        if (properties.isEnhanceWithEntryResolver()) {
-            auth.setEntryResolver(newLdaptiveSearchEntryResolver(properties, newLdaptiveConnectionFactory(properties)));
+        val entryResolver = properties.isEnhanceWithEntryResolver()
+            ? newLdaptiveSearchEntryResolver(properties, newLdaptiveConnectionFactory(properties))
+            : null;
+        if (properties.isResolveEntryWithDn()) {
+            auth.setEntryResolver(new ContextualLdapEntryResolver(Objects.requireNonNullElseGet(entryResolver, SearchEntryResolver::new)));
+        } else if (entryResolver != null) {
+            auth.setEntryResolver(entryResolver);
         }
         return auth;
     }
@@ -896,6 +969,21 @@ public class LdapUtils {
      */
     public static DnResolver buildAggregateDnResolver(final AbstractLdapAuthenticationProperties properties,
                                                       final ConnectionFactory connectionFactory) {
+        return buildAggregateDnResolver(properties, connectionFactory, null);
+    }
+
+    /**
+     * Build aggregate dn resolver dn resolver whose results
+     * are recorded in the given cache, if any.
+     *
+     * @param properties        the LDAP properties
+     * @param connectionFactory the connection factory
+     * @param dnResolutionCache the dn resolution cache
+     * @return the dn resolver
+     */
+    public static DnResolver buildAggregateDnResolver(final AbstractLdapAuthenticationProperties properties,
+                                                      final ConnectionFactory connectionFactory,
+                                                      final LdapDnResolutionCache dnResolutionCache) {
         var resolvers = Arrays.stream(StringUtils.split(properties.getBaseDn(), BASE_DN_DELIMITER))
             .map(baseDn -> {
                 val resolver = new SearchDnResolver();
@@ -911,12 +999,66 @@ public class LdapUtils {
                 if (StringUtils.isNotBlank(properties.getDerefAliases())) {
                     resolver.setDerefAliases(DerefAliases.valueOf(properties.getDerefAliases()));
                 }
+                return withDnResolutionCache(resolver, baseDn, dnResolutionCache);
+            })
+            .collect(Collectors.toList());
+        return new ChainingLdapDnResolver(resolvers);
+    }
+
+    /**
+     * Build aggregate dn resolver that fetches the user entry
+     * along with the requested attributes as part of dn resolution.
+     * Resolved DNs are never cached, since the entry must be fetched on every resolution.
+     *
+     * @param properties        the LDAP properties
+     * @param connectionFactory the connection factory
+     * @return the dn resolver
+     */
+    public static DnResolver buildAggregateEntryResolvingDnResolver(final AbstractLdapAuthenticationProperties properties,
+                                                                    final ConnectionFactory connectionFactory) {
+        val entryHandlers = newLdaptiveEntryHandlers(properties.getSearchEntryHandlers());
+        val searchResultHandlers = new ArrayList<>(newLdaptiveSearchResultHandlers(properties.getSearchEntryHandlers()));
+        if (properties.isFollowReferrals()) {
+            searchResultHandlers.add(new FollowSearchReferralHandler());
+        }
+        val resolvers = Arrays.stream(StringUtils.split(properties.getBaseDn(), BASE_DN_DELIMITER))
+            .map(baseDn -> {
+                val resolver = new EntryResolvingSearchDnResolver(connectionFactory,
+                    properties.getLdapUrl(), baseDn.trim(), properties.getSearchFilter());
+                resolver.setSubtreeSearch(properties.isSubtreeSearch());
+                resolver.setAllowMultipleDns(properties.isAllowMultipleDns());
+                resolver.setResolveFromAttribute(properties.getResolveFromAttribute());
+                resolver.setBinaryAttributes(properties.getBinaryAttributes().toArray(ArrayUtils.EMPTY_STRING_ARRAY));
+                resolver.setEntryHandlers(entryHandlers.toArray(LdapEntryHandler[]::new));
+                resolver.setSearchResultHandlers(searchResultHandlers.toArray(SearchResultHandler[]::new));
+                if (StringUtils.isNotBlank(properties.getDerefAliases())) {
+                    resolver.setDerefAliases(DerefAliases.valueOf(properties.getDerefAliases()));
+                }
                 return resolver;
             })
             .collect(Collectors.toList());
         return new ChainingLdapDnResolver(resolvers);
     }
 
+    /**
+     * Create ldap dn resolution cache, if enabled.
+     *
+     * @param properties the cache properties
+     * @return the dn resolution cache, or null if caching is disabled
+     */
+    public static LdapDnResolutionCache newLdapDnResolutionCache(final LdapDnResolutionCacheProperties properties) {
+        return properties.isEnabled()
+            ? new LdapDnResolutionCache(Beans.newDuration(properties.getExpiration()),
+            Beans.newDuration(properties.getNotFoundExpiration()), properties.getMaximumSize(),
+            properties.getNotFoundMaximumSize())
+            : null;
+    }
+
+    private static DnResolver withDnResolutionCache(final DnResolver resolver, final String baseDn,
+                                                    final LdapDnResolutionCache dnResolutionCache) {
+        return dnResolutionCache != null ? new CachingLdapDnResolver(resolver, baseDn.trim(), dnResolutionCache) : resolver;
+    }
+
     /**
      * Create ldap password policy handling strategy.
      *
@@ -1056,7 +1198,12 @@ public class LdapUtils {
         LOGGER.debug("Created and mapped principal attributes [{}] for [{}]...", multiMapAttributes, props.getLdapUrl());
 
         LOGGER.debug("Creating LDAP authenticator for [{}] and baseDn [{}]", props.getLdapUrl(), props.getBaseDn());
-        val authenticator = LdapUtils.newLdaptiveAuthenticator(props);
+        if (props.isResolveEntryWithDn() && props.getDnResolutionCache().isEnabled()) {
+            LOGGER.warn("DN resolution cache for [{}] is disabled since the user entry is resolved along with the DN, "
+                + "and must be fetched from the directory on every authentication attempt", props.getLdapUrl());
+        }
+        val dnResolutionCache = props.isResolveEntryWithDn() ? null : newLdapDnResolutionCache(props.getDnResolutionCache());
+        val authenticator = LdapUtils.newLdaptiveAuthenticator(props, dnResolutionCache);
         LOGGER.debug("Ldap authenticator configured with return attributes [{}] for [{}] and baseDn [{}]",
             multiMapAttributes.keySet(), props.getLdapUrl(), props.getBaseDn());
 
@@ -1068,6 +1215,8 @@ public class LdapUtils {
             servicesManager, principalFactory,
             props.getOrder(), authenticator, strategy);
         handler.setCollectDnAttribute(props.isCollectDnAttribute());
+        handler.setResolveEntryWithDn(props.isResolveEntryWithDn());
+        handler.setDnResolutionCache(dnResolutionCache);
 
         if (!props.getAdditionalAttributes().isEmpty()) {
             val additional = CoreAuthenticationUtils.transformPrincipalAttributesListIntoMultiMap(props.getAdditionalAttributes());
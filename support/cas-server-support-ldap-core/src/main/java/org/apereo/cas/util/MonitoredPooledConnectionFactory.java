@@ -0,0 +1,224 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties.LdapConnectionPoolSizing;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.ldaptive.Connection;
+import org.ldaptive.ConnectionConfig;
+import org.ldaptive.PooledConnectionFactory;
+import org.ldaptive.pool.PoolException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link MonitoredPooledConnectionFactory}. A pooled connection factory that keeps track
+ * of how connections are obtained from the pool, publishes the state of the pool to Micrometer
+ * and optionally has its pool sizes adjusted by an {@link AdaptiveLdapConnectionPoolSizer}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+public class MonitoredPooledConnectionFactory extends PooledConnectionFactory implements MeterBinder {
+    @Getter
+    private final String poolName;
+
+    private final AtomicInteger waitingCount = new AtomicInteger();
+
+    private final LongAdder acquireCount = new LongAdder();
+
+    private final LongAdder acquireFailureCount = new LongAdder();
+
+    private final LongAdder validationFailureCount = new LongAdder();
+
+    private final LongAdder windowAcquireCount = new LongAdder();
+
+    private final LongAdder windowWaitNanos = new LongAdder();
+
+    private final LongAdder windowFailureCount = new LongAdder();
+
+    private final AtomicInteger windowPeakActiveCount = new AtomicInteger();
+
+    private final List<Timer> acquireTimers = new CopyOnWriteArrayList<>();
+
+    private final List<BoundMeter> boundMeters = new CopyOnWriteArrayList<>();
+
+    private AdaptiveLdapConnectionPoolSizer sizer;
+
+    public MonitoredPooledConnectionFactory(final ConnectionConfig connectionConfig, final String poolName) {
+        super(connectionConfig);
+        this.poolName = poolName;
+    }
+
+    @Override
+    public Connection getConnection() throws PoolException {
+        waitingCount.incrementAndGet();
+        val start = System.nanoTime();
+        try {
+            val connection = super.getConnection();
+            val elapsed = System.nanoTime() - start;
+            acquireCount.increment();
+            windowAcquireCount.increment();
+            windowWaitNanos.add(elapsed);
+            windowPeakActiveCount.accumulateAndGet(activeCount(), Math::max);
+            acquireTimers.forEach(timer -> timer.record(elapsed, TimeUnit.NANOSECONDS));
+            return connection;
+        } catch (final PoolException e) {
+            acquireFailureCount.increment();
+            windowFailureCount.increment();
+            throw e;
+        } finally {
+            waitingCount.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (sizer != null) {
+            sizer.close();
+        }
+        LdapConnectionPoolRegistry.getInstance().unregister(this);
+        boundMeters.forEach(bound -> bound.registry().remove(bound.meter()));
+        boundMeters.clear();
+        acquireTimers.clear();
+        super.close();
+    }
+
+    @Override
+    public synchronized void bindTo(final MeterRegistry registry) {
+        if (boundMeters.stream().anyMatch(bound -> bound.registry() == registry)) {
+            return;
+        }
+        val tags = Tags.of("pool", poolName, "ldapUrl", getConnectionConfig().getLdapUrl());
+        val timer = Timer.builder("cas.ldap.pool.acquire")
+            .description("Time spent obtaining a connection from the LDAP connection pool")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(registry);
+        acquireTimers.add(timer);
+        bind(registry, timer);
+        bind(registry, Gauge.builder("cas.ldap.pool.connections", this, MonitoredPooledConnectionFactory::activeCount)
+            .tags(tags).tag("state", "active").register(registry));
+        bind(registry, Gauge.builder("cas.ldap.pool.connections", this, MonitoredPooledConnectionFactory::availableCount)
+            .tags(tags).tag("state", "idle").register(registry));
+        bind(registry, Gauge.builder("cas.ldap.pool.waiting", this, MonitoredPooledConnectionFactory::getWaitingCount)
+            .tags(tags).register(registry));
+        bind(registry, Gauge.builder("cas.ldap.pool.size.min", this, MonitoredPooledConnectionFactory::getMinPoolSize)
+            .tags(tags).register(registry));
+        bind(registry, Gauge.builder("cas.ldap.pool.size.max", this, MonitoredPooledConnectionFactory::getMaxPoolSize)
+            .tags(tags).register(registry));
+        bind(registry, FunctionCounter.builder("cas.ldap.pool.acquire.failures", this,
+            MonitoredPooledConnectionFactory::getAcquireFailureCount).tags(tags).register(registry));
+        bind(registry, FunctionCounter.builder("cas.ldap.pool.validation.failures", this,
+            MonitoredPooledConnectionFactory::getValidationFailureCount).tags(tags).register(registry));
+    }
+
+    /**
+     * Record a failed attempt to validate a pooled connection.
+     */
+    public void recordValidationFailure() {
+        validationFailureCount.increment();
+    }
+
+    /**
+     * Start adjusting pool sizes with the given sizer.
+     *
+     * @param sizer the sizer
+     */
+    public void startAdaptiveSizing(final AdaptiveLdapConnectionPoolSizer sizer) {
+        this.sizer = sizer;
+        sizer.start();
+    }
+
+    /**
+     * Collect usage of the pool since the last time usage was drained, and start over.
+     *
+     * @return the pool usage
+     */
+    public LdapConnectionPoolUsage drainUsage() {
+        return new LdapConnectionPoolUsage(windowAcquireCount.sumThenReset(), windowWaitNanos.sumThenReset(),
+            windowFailureCount.sumThenReset(), windowPeakActiveCount.getAndSet(activeCount()));
+    }
+
+    /**
+     * Describe the current state of the pool.
+     *
+     * @return the pool state
+     */
+    public LdapConnectionPoolState getPoolState() {
+        return new LdapConnectionPoolState(poolName, getConnectionConfig().getLdapUrl(),
+            sizer != null ? LdapConnectionPoolSizing.ADAPTIVE : LdapConnectionPoolSizing.FIXED,
+            getMinPoolSize(), getMaxPoolSize(), activeCount(), availableCount(), getWaitingCount(),
+            acquireCount.sum(), getAcquireFailureCount(), getValidationFailureCount());
+    }
+
+    public int getWaitingCount() {
+        return waitingCount.get();
+    }
+
+    public long getAcquireFailureCount() {
+        return acquireFailureCount.sum();
+    }
+
+    public long getValidationFailureCount() {
+        return validationFailureCount.sum();
+    }
+
+    private void bind(final MeterRegistry registry, final Meter meter) {
+        boundMeters.add(new BoundMeter(registry, meter));
+    }
+
+    private record BoundMeter(MeterRegistry registry, Meter meter) {
+    }
+
+    /**
+     * Usage of the pool over a period of time.
+     *
+     * @param acquireCount    number of connections obtained from the pool
+     * @param waitNanos       total time spent obtaining connections
+     * @param failureCount    number of attempts that failed to obtain a connection
+     * @param peakActiveCount highest number of connections in use
+     */
+    public record LdapConnectionPoolUsage(long acquireCount, long waitNanos, long failureCount, int peakActiveCount) {
+        /**
+         * Average time spent obtaining a connection.
+         *
+         * @return the average wait in nanoseconds
+         */
+        public long averageWaitNanos() {
+            return acquireCount == 0 ? 0 : waitNanos / acquireCount;
+        }
+    }
+
+    /**
+     * Snapshot of the state of the pool.
+     *
+     * @param name               the pool name
+     * @param ldapUrl            the ldap url
+     * @param sizing             the sizing strategy
+     * @param minPoolSize        the current minimum pool size
+     * @param maxPoolSize        the current maximum pool size
+     * @param activeCount        number of connections in use
+     * @param idleCount          number of connections available in the pool
+     * @param waitingCount       number of callers waiting to obtain a connection
+     * @param acquireCount       number of connections obtained from the pool
+     * @param acquireFailures    number of attempts that failed to obtain a connection
+     * @param validationFailures number of connections that failed validation
+     */
+    public record LdapConnectionPoolState(String name, String ldapUrl, LdapConnectionPoolSizing sizing,
+                                          int minPoolSize, int maxPoolSize, int activeCount, int idleCount,
+                                          int waitingCount, long acquireCount, long acquireFailures,
+                                          long validationFailures) {
+    }
+}
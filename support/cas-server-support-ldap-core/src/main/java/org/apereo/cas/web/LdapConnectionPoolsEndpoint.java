@@ -0,0 +1,47 @@
+package org.apereo.cas.web;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.util.LdapConnectionPoolRegistry;
+import org.apereo.cas.util.MonitoredPooledConnectionFactory;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.http.MediaType;
+import java.util.List;
+
+/**
+ * This is {@link LdapConnectionPoolsEndpoint}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Endpoint(id = "ldapConnectionPools", defaultAccess = Access.NONE)
+public class LdapConnectionPoolsEndpoint extends BaseCasActuatorEndpoint {
+    private final LdapConnectionPoolRegistry ldapConnectionPoolRegistry;
+
+    public LdapConnectionPoolsEndpoint(final CasConfigurationProperties casProperties,
+                                       final LdapConnectionPoolRegistry ldapConnectionPoolRegistry) {
+        super(casProperties);
+        this.ldapConnectionPoolRegistry = ldapConnectionPoolRegistry;
+    }
+
+    /**
+     * Report the live state of all LDAP connection pools.
+     *
+     * @return the pool states
+     */
+    @ReadOperation(produces = {
+        MEDIA_TYPE_SPRING_BOOT_V2_JSON,
+        MEDIA_TYPE_SPRING_BOOT_V3_JSON,
+        MediaType.APPLICATION_JSON_VALUE
+    })
+    @Operation(summary = "Report the live state of all LDAP connection pools created by CAS, "
+        + "including current pool sizes, connections in use, idle connections and callers waiting on the pool.")
+    public List<MonitoredPooledConnectionFactory.LdapConnectionPoolState> pools() {
+        return ldapConnectionPoolRegistry.getPools()
+            .stream()
+            .map(MonitoredPooledConnectionFactory::getPoolState)
+            .toList();
+    }
+}
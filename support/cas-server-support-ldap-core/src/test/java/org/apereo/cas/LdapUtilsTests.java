@@ -1,19 +1,26 @@
 package org.apereo.cas;
 
+import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.config.CasCoreScriptingAutoConfiguration;
 import org.apereo.cas.config.CasCoreUtilAutoConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.support.ldap.AbstractLdapAuthenticationProperties;
 import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
+import org.apereo.cas.configuration.model.support.ldap.LdapAuthenticationProperties;
 import org.apereo.cas.configuration.model.support.ldap.LdapPasswordPolicyProperties;
 import org.apereo.cas.configuration.model.support.ldap.LdapSearchEntryHandlersProperties;
+import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.test.CasTestExtension;
+import org.apereo.cas.util.AdaptiveLdapConnectionPoolSizer;
 import org.apereo.cas.util.LdapConnectionFactory;
+import org.apereo.cas.util.LdapConnectionPoolRegistry;
 import org.apereo.cas.util.LdapUtils;
+import org.apereo.cas.util.MonitoredPooledConnectionFactory;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 import org.apereo.cas.util.spring.boot.SpringBootTestAutoConfigurations;
 import com.google.common.collect.ArrayListMultimap;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Tag;
@@ -38,6 +45,7 @@ import java.io.Serial;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -293,6 +301,47 @@ class LdapUtilsTests {
         factory.close();
     }
 
+    @Test
+    void verifyMonitoredPool() throws Throwable {
+        val ldap = new Ldap();
+        ldap.setBaseDn("ou=people,dc=example,dc=org");
+        ldap.setLdapUrl("ldap://localhost:10389");
+        ldap.setBindDn("cn=Directory Manager");
+        ldap.setBindCredential("password");
+        ldap.setSearchFilter("cn=invalid-user");
+        ldap.setName("monitored-pool");
+        ldap.setPoolSizing(AbstractLdapProperties.LdapConnectionPoolSizing.ADAPTIVE);
+        ldap.setAdaptivePeriod("PT1H");
+
+        val pool = (MonitoredPooledConnectionFactory) LdapUtils.newLdaptivePooledConnectionFactory(ldap);
+        assertTrue(LdapConnectionPoolRegistry.getInstance().getPools().contains(pool));
+        val registry = new SimpleMeterRegistry();
+        LdapConnectionPoolRegistry.getInstance().bindTo(registry);
+
+        val factory = new LdapConnectionFactory(pool);
+        assertNotNull(factory.executeSearchOperation(ldap.getBaseDn(),
+            LdapUtils.newLdaptiveSearchFilter(ldap.getSearchFilter()), 10, "cn"));
+        val state = pool.getPoolState();
+        assertEquals("monitored-pool", state.name());
+        assertEquals(AbstractLdapProperties.LdapConnectionPoolSizing.ADAPTIVE, state.sizing());
+        assertTrue(state.acquireCount() > 0);
+        assertEquals(0, state.waitingCount());
+        assertTrue(registry.get("cas.ldap.pool.acquire").tag("pool", "monitored-pool").timer().count() > 0);
+        assertEquals(0, registry.get("cas.ldap.pool.validation.failures").tag("pool", "monitored-pool").functionCounter().count());
+
+        val sizer = new AdaptiveLdapConnectionPoolSizer(pool, ldap.getMinPoolSize(),
+            ldap.getMaxPoolSize(), 50, Duration.ZERO, Duration.ofHours(1));
+        sizer.run();
+        assertTrue(pool.getMaxPoolSize() > ldap.getMaxPoolSize());
+        sizer.run();
+        assertEquals(ldap.getMaxPoolSize(), pool.getMaxPoolSize());
+        assertEquals(ldap.getMinPoolSize(), pool.getMinPoolSize());
+
+        factory.close();
+        assertFalse(LdapConnectionPoolRegistry.getInstance().getPools().contains(pool));
+        assertNull(registry.find("cas.ldap.pool.acquire").tag("pool", "monitored-pool").timer());
+    }
+
     @Test
     void verifyConnectionConfig() throws Throwable {
         val ldap = new Ldap();
@@ -328,6 +377,29 @@ class LdapUtilsTests {
         });
     }
 
+    @Test
+    void verifyDnResolutionCacheBypassedWhenResolvingEntry() {
+        val ldap = new LdapAuthenticationProperties();
+        ldap.setLdapUrl("ldap://localhost:10389");
+        ldap.setBindDn("cn=Directory Manager");
+        ldap.setBindCredential("password");
+        ldap.setBaseDn("ou=people,dc=example,dc=org");
+        ldap.setSearchFilter("cn={user}");
+        ldap.setType(AbstractLdapAuthenticationProperties.AuthenticationTypes.AUTHENTICATED);
+        ldap.getDnResolutionCache().setEnabled(true);
+
+        val servicesManager = mock(ServicesManager.class);
+        val principalFactory = PrincipalFactoryUtils.newPrincipalFactory();
+        val cachingHandler = LdapUtils.createLdapAuthenticationHandler(ldap, applicationContext, servicesManager, principalFactory);
+        assertNotNull(cachingHandler.getDnResolutionCache());
+        cachingHandler.destroy();
+
+        ldap.setResolveEntryWithDn(true);
+        val handler = LdapUtils.createLdapAuthenticationHandler(ldap, applicationContext, servicesManager, principalFactory);
+        assertNull(handler.getDnResolutionCache());
+        handler.destroy();
+    }
+
     private static final class Ldap extends AbstractLdapAuthenticationProperties {
         @Serial
         private static final long serialVersionUID = 7979417317490698363L;
@@ -0,0 +1,133 @@
+package org.apereo.cas.authentication.support;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.ldaptive.LdapAttribute;
+import org.ldaptive.LdapEntry;
+import org.ldaptive.SearchScope;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link LdapAuthenticatedEntryRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("LdapAuthentication")
+class LdapAuthenticatedEntryRegistryTests {
+    private static final String LDAP_URL = "ldap://localhost:10389";
+
+    private static final String BIND_DN = "cn=Directory Manager";
+
+    private static final String BASE_DN = "ou=people,dc=example,dc=org";
+
+    private static final String FILTER = "(uid=casuser)";
+
+    private static LdapAuthenticationEntryContext buildContext(final String... attributes) {
+        val entry = LdapEntry.builder()
+            .dn("uid=casuser," + BASE_DN)
+            .attributes(new LdapAttribute("mail", "casuser@example.org"), new LdapAttribute("cn", "CAS"))
+            .build();
+        val context = new LdapAuthenticationEntryContext(attributes);
+        context.setLdapUrl(LDAP_URL);
+        context.setBindDn(BIND_DN);
+        context.setBaseDn(BASE_DN);
+        context.setSearchScope(SearchScope.SUBTREE);
+        context.setFilter(FILTER);
+        context.setBinaryAttributes(new String[]{"objectGUID"});
+        context.setShareable(true);
+        context.setEntry(entry);
+        return context;
+    }
+
+    @Test
+    void verifyCoverage() {
+        val context = buildContext("mail", "CN");
+        assertTrue(context.covers(new String[]{"mail"}));
+        assertTrue(context.covers(new String[]{"cn", "MAIL"}));
+        assertFalse(context.covers(new String[]{"mail", "givenName"}));
+        assertFalse(context.covers(new String[]{"*"}));
+        assertFalse(context.covers(null));
+
+        val allAttributes = buildContext("*");
+        assertTrue(allAttributes.covers(new String[]{"givenName"}));
+        assertTrue(allAttributes.covers(null));
+        assertFalse(allAttributes.covers(new String[]{"+"}));
+        assertFalse(new LdapAuthenticationEntryContext(new String[]{"mail"}).covers(new String[]{"mail"}));
+    }
+
+    @Test
+    void verifyRegistry() {
+        val registry = new LdapAuthenticatedEntryRegistry();
+        registry.open();
+        try {
+            registry.register(buildContext("mail", "cn"));
+            assertTrue(registry.find(LDAP_URL.toUpperCase(), BIND_DN, BASE_DN, SearchScope.SUBTREE, FILTER,
+                new String[]{"mail"}, new String[]{"objectGUID"}).isPresent());
+            assertTrue(registry.find(LDAP_URL, BIND_DN.toLowerCase(), BASE_DN, SearchScope.SUBTREE, FILTER,
+                new String[]{"mail"}, null).isPresent());
+            assertFalse(registry.find(LDAP_URL, "cn=other,dc=example,dc=org", BASE_DN, SearchScope.SUBTREE, FILTER,
+                new String[]{"mail"}, null).isPresent());
+            assertFalse(registry.find(LDAP_URL, BIND_DN, BASE_DN, SearchScope.ONELEVEL, FILTER,
+                new String[]{"mail"}, null).isPresent());
+            assertFalse(registry.find(LDAP_URL, BIND_DN, BASE_DN, SearchScope.SUBTREE, "(uid=other)",
+                new String[]{"mail"}, null).isPresent());
+            assertFalse(registry.find(LDAP_URL, BIND_DN, BASE_DN, SearchScope.SUBTREE, FILTER,
+                new String[]{"mail", "sn"}, null).isPresent());
+            assertFalse(registry.find(LDAP_URL, BIND_DN, BASE_DN, SearchScope.SUBTREE, FILTER,
+                new String[]{"mail"}, new String[]{"objectSid"}).isPresent());
+        } finally {
+            registry.close();
+        }
+        assertFalse(registry.find(LDAP_URL, BIND_DN, BASE_DN, SearchScope.SUBTREE, FILTER,
+            new String[]{"mail"}, null).isPresent());
+    }
+
+    @Test
+    void verifyEntriesScopedToTransaction() throws Throwable {
+        val registry = new LdapAuthenticatedEntryRegistry();
+        registry.register(buildContext("mail"));
+        assertFalse(registry.find(LDAP_URL, BIND_DN, BASE_DN, SearchScope.SUBTREE, FILTER,
+            new String[]{"mail"}, null).isPresent());
+
+        registry.open();
+        registry.register(buildContext("mail"));
+        val otherThread = new AtomicBoolean(true);
+        val thread = new Thread(() -> otherThread.set(registry.find(LDAP_URL, BIND_DN, BASE_DN,
+            SearchScope.SUBTREE, FILTER, new String[]{"mail"}, null).isPresent()));
+        thread.start();
+        thread.join();
+        assertFalse(otherThread.get());
+
+        registry.open();
+        assertFalse(registry.find(LDAP_URL, BIND_DN, BASE_DN, SearchScope.SUBTREE, FILTER,
+            new String[]{"mail"}, null).isPresent());
+        registry.close();
+    }
+
+    @Test
+    void verifyExpiredTransaction() {
+        val registry = new LdapAuthenticatedEntryRegistry(Duration.ZERO.minusSeconds(1));
+        registry.open();
+        registry.register(buildContext("mail"));
+        assertFalse(registry.find(LDAP_URL, BIND_DN, BASE_DN, SearchScope.SUBTREE, FILTER,
+            new String[]{"mail"}, null).isPresent());
+        registry.close();
+    }
+
+    @Test
+    void verifyUnshareableEntry() {
+        val registry = new LdapAuthenticatedEntryRegistry();
+        registry.open();
+        val context = buildContext("mail");
+        context.setShareable(false);
+        registry.register(context);
+        assertFalse(registry.find(LDAP_URL, BIND_DN, BASE_DN, SearchScope.SUBTREE, FILTER,
+            new String[]{"mail"}, null).isPresent());
+        registry.close();
+    }
+}
@@ -0,0 +1,132 @@
+package org.apereo.cas.authentication.support;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.ldaptive.LdapException;
+import org.ldaptive.auth.User;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link LdapDnResolutionCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("LdapAuthentication")
+class LdapDnResolutionCacheTests {
+    private static final String BASE_DN = "ou=people,dc=example,dc=org";
+
+    private static LdapDnResolutionCache buildCache() {
+        return new LdapDnResolutionCache(Duration.ofMinutes(10), Duration.ofMinutes(1), 100, 100);
+    }
+
+    @Test
+    void verifyFoundAndNotFound() throws Throwable {
+        val cache = buildCache();
+        val searches = new AtomicInteger();
+        val resolver = new CachingLdapDnResolver(user -> {
+            searches.incrementAndGet();
+            return "casuser".equals(user.getIdentifier()) ? "uid=casuser," + BASE_DN : null;
+        }, BASE_DN, cache);
+
+        assertEquals("uid=casuser," + BASE_DN, resolver.resolve(new User("casuser")));
+        assertEquals("uid=casuser," + BASE_DN, resolver.resolve(new User("casuser")));
+        assertNull(resolver.resolve(new User("unknown")));
+        assertNull(resolver.resolve(new User("unknown")));
+        assertEquals(2, searches.get());
+        assertEquals(1, cache.getNotFoundHitCount());
+        assertEquals(1, cache.getCache().stats().hitCount());
+        assertEquals(1, cache.getNotFoundCache().stats().hitCount());
+
+        cache.invalidate("CASUSER");
+        assertEquals("uid=casuser," + BASE_DN, resolver.resolve(new User("casuser")));
+        assertEquals(3, searches.get());
+
+        cache.invalidateAll();
+        assertNull(resolver.resolve(new User("unknown")));
+        assertEquals(4, searches.get());
+    }
+
+    @Test
+    void verifyErrorsAreNotCached() throws Throwable {
+        val cache = buildCache();
+        val searches = new AtomicInteger();
+        val resolver = new CachingLdapDnResolver(user -> {
+            if (searches.incrementAndGet() == 1) {
+                throw new LdapException("Directory is unavailable");
+            }
+            return "uid=casuser," + BASE_DN;
+        }, BASE_DN, cache);
+        assertThrows(LdapException.class, () -> resolver.resolve(new User("casuser")));
+        assertTrue(cache.find(BASE_DN, "casuser").isEmpty());
+        assertEquals("uid=casuser," + BASE_DN, resolver.resolve(new User("casuser")));
+        assertTrue(cache.find(BASE_DN.toUpperCase(), "casuser").isPresent());
+    }
+
+    @Test
+    void verifyNotFoundExpiration() {
+        val cache = new LdapDnResolutionCache(Duration.ofMinutes(10), Duration.ZERO, 100, 100);
+        cache.put(BASE_DN, "unknown", null);
+        cache.put(BASE_DN, "casuser", "uid=casuser," + BASE_DN);
+        assertTrue(cache.find(BASE_DN, "unknown").isEmpty());
+        assertTrue(cache.find(BASE_DN, "casuser").isPresent());
+    }
+
+    @Test
+    void verifyNotFoundDoesNotEvictResolved() {
+        val cache = new LdapDnResolutionCache(Duration.ofMinutes(10), Duration.ofMinutes(10), 100, 1);
+        cache.put(BASE_DN, "casuser", "uid=casuser," + BASE_DN);
+        for (var i = 0; i < 100; i++) {
+            cache.put(BASE_DN, "unknown" + i, null);
+        }
+        cache.getNotFoundCache().cleanUp();
+        assertTrue(cache.getNotFoundCache().estimatedSize() <= 1);
+        assertTrue(cache.find(BASE_DN, "casuser").isPresent());
+
+        cache.put(BASE_DN, "casuser", null);
+        assertTrue(cache.find(BASE_DN, "casuser").orElseThrow().isNotFound());
+        assertTrue(cache.findResolved("casuser").isEmpty());
+    }
+
+    @Test
+    void verifyResolvedBefore() {
+        val cache = buildCache();
+        cache.put(BASE_DN, "casuser", "uid=casuser," + BASE_DN);
+        val startedAt = System.nanoTime();
+        cache.put("ou=staff,dc=example,dc=org", "casuser", "uid=casuser,ou=staff,dc=example,dc=org");
+        assertEquals(Set.of("uid=casuser," + BASE_DN), cache.findResolvedBefore("CASUSER", startedAt));
+        assertEquals(2, cache.findResolved("casuser").size());
+        cache.invalidate("casuser");
+        assertTrue(cache.findResolved("casuser").isEmpty());
+    }
+
+    @Test
+    void verifyIdentifiersAreCaseInsensitive() {
+        val cache = buildCache();
+        cache.put(BASE_DN, "CasUser", "uid=casuser," + BASE_DN);
+        cache.put("ou=staff,dc=example,dc=org", "casuser", null);
+        assertEquals("uid=casuser," + BASE_DN, cache.find(BASE_DN, "CASUSER").orElseThrow().dn());
+        assertTrue(cache.find("ou=staff,dc=example,dc=org", "CASUSER").orElseThrow().isNotFound());
+        assertEquals(1, cache.getCache().estimatedSize());
+        assertEquals(1, cache.getNotFoundCache().estimatedSize());
+
+        cache.invalidate("CASUSER");
+        assertTrue(cache.find(BASE_DN, "casuser").isEmpty());
+        assertTrue(cache.find("ou=staff,dc=example,dc=org", "casuser").isEmpty());
+    }
+
+    @Test
+    void verifyBaseDnsExpireIndependently() {
+        val cache = new LdapDnResolutionCache(Duration.ofMinutes(10), Duration.ZERO, 100, 100);
+        cache.put(BASE_DN, "casuser", "uid=casuser," + BASE_DN);
+        cache.put("ou=staff,dc=example,dc=org", "casuser", null);
+        assertTrue(cache.find("ou=staff,dc=example,dc=org", "casuser").isEmpty());
+        assertTrue(cache.find(BASE_DN, "casuser").isPresent());
+        assertEquals(Set.of("uid=casuser," + BASE_DN), cache.findResolved("casuser"));
+    }
+}
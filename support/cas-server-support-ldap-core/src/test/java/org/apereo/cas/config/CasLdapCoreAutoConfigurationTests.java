@@ -0,0 +1,40 @@
+package org.apereo.cas.config;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.test.CasTestExtension;
+import org.apereo.cas.util.LdapConnectionPoolRegistry;
+import org.apereo.cas.util.spring.boot.SpringBootTestAutoConfigurations;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CasLdapCoreAutoConfigurationTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("Ldap")
+@ExtendWith(CasTestExtension.class)
+@SpringBootTestAutoConfigurations
+@SpringBootTest(classes = {
+    CasCoreUtilAutoConfiguration.class,
+    CasLdapCoreAutoConfiguration.class
+})
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+class CasLdapCoreAutoConfigurationTests {
+    @Autowired
+    @Qualifier("ldapConnectionPoolMeterBinder")
+    private MeterBinder ldapConnectionPoolMeterBinder;
+
+    @Test
+    void verifyOperation() {
+        assertSame(LdapConnectionPoolRegistry.getInstance(), ldapConnectionPoolMeterBinder);
+    }
+}
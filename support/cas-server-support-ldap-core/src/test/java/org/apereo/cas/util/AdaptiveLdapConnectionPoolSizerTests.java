@@ -0,0 +1,167 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.util.MonitoredPooledConnectionFactory.LdapConnectionPoolUsage;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.ldaptive.ConnectionConfig;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AdaptiveLdapConnectionPoolSizerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("Ldap")
+class AdaptiveLdapConnectionPoolSizerTests {
+    private static final Duration WAIT_TIME_THRESHOLD = Duration.ofMillis(100);
+
+    private static AdaptiveLdapConnectionPoolSizer buildSizer(final StubPooledConnectionFactory pool) {
+        return new AdaptiveLdapConnectionPoolSizer(pool, 2, 8, 12, WAIT_TIME_THRESHOLD, Duration.ofSeconds(30));
+    }
+
+    private static LdapConnectionPoolUsage idle(final int peakActiveCount) {
+        return new LdapConnectionPoolUsage(10, WAIT_TIME_THRESHOLD.toNanos(), 0, peakActiveCount);
+    }
+
+    private static LdapConnectionPoolUsage failing(final int peakActiveCount) {
+        return new LdapConnectionPoolUsage(10, 0, 1, peakActiveCount);
+    }
+
+    @Test
+    void verifyGrowsUnderPressureUpToUpperBound() {
+        val pool = new StubPooledConnectionFactory(2, 8);
+        val sizer = buildSizer(pool);
+
+        pool.usages.add(failing(5));
+        sizer.run();
+        assertEquals(5, pool.getMinPoolSize());
+        assertEquals(10, pool.getMaxPoolSize());
+
+        pool.usages.add(failing(10));
+        sizer.run();
+        assertEquals(10, pool.getMinPoolSize());
+        assertEquals(12, pool.getMaxPoolSize());
+
+        pool.usages.add(failing(20));
+        sizer.run();
+        assertEquals(12, pool.getMinPoolSize());
+        assertEquals(12, pool.getMaxPoolSize());
+    }
+
+    @Test
+    void verifySlowAcquisitionCountsAsPressure() {
+        val pool = new StubPooledConnectionFactory(2, 8);
+        val sizer = buildSizer(pool);
+
+        pool.usages.add(new LdapConnectionPoolUsage(2, WAIT_TIME_THRESHOLD.multipliedBy(4).toNanos(), 0, 3));
+        sizer.run();
+        assertEquals(3, pool.getMinPoolSize());
+        assertEquals(10, pool.getMaxPoolSize());
+    }
+
+    @Test
+    void verifyShrinksWhenIdleDownToConfiguredBounds() {
+        val pool = new StubPooledConnectionFactory(6, 12);
+        val sizer = buildSizer(pool);
+
+        pool.usages.add(idle(1));
+        sizer.run();
+        assertEquals(2, pool.getMinPoolSize());
+        assertEquals(9, pool.getMaxPoolSize());
+
+        pool.usages.add(idle(1));
+        sizer.run();
+        assertEquals(2, pool.getMinPoolSize());
+        assertEquals(8, pool.getMaxPoolSize());
+
+        pool.usages.add(idle(0));
+        sizer.run();
+        assertEquals(2, pool.getMinPoolSize());
+        assertEquals(8, pool.getMaxPoolSize());
+    }
+
+    @Test
+    void verifyKeepsSizesWhenBusyWithoutPressure() {
+        val pool = new StubPooledConnectionFactory(4, 10);
+        val sizer = buildSizer(pool);
+
+        pool.usages.add(idle(6));
+        sizer.run();
+        assertEquals(4, pool.getMinPoolSize());
+        assertEquals(10, pool.getMaxPoolSize());
+        assertEquals(0, pool.resizeCount);
+    }
+
+    @Test
+    void verifyResizeFailureIsContained() {
+        val pool = new StubPooledConnectionFactory(2, 8);
+        pool.failOnResize = true;
+        val sizer = buildSizer(pool);
+
+        pool.usages.add(failing(5));
+        assertDoesNotThrow(sizer::run);
+        assertEquals(2, pool.getMinPoolSize());
+        assertEquals(8, pool.getMaxPoolSize());
+    }
+
+    private static final class StubPooledConnectionFactory extends MonitoredPooledConnectionFactory {
+        private final Deque<LdapConnectionPoolUsage> usages = new ArrayDeque<>();
+
+        private int minPoolSize;
+
+        private int maxPoolSize;
+
+        private int resizeCount;
+
+        private boolean failOnResize;
+
+        StubPooledConnectionFactory(final int minPoolSize, final int maxPoolSize) {
+            super(new ConnectionConfig("ldap://localhost:1389"), "stub");
+            this.minPoolSize = minPoolSize;
+            this.maxPoolSize = maxPoolSize;
+        }
+
+        @Override
+        public LdapConnectionPoolUsage drainUsage() {
+            return usages.pop();
+        }
+
+        @Override
+        public int getMinPoolSize() {
+            return minPoolSize;
+        }
+
+        @Override
+        public void setMinPoolSize(final int size) {
+            checkResize();
+            assertTrue(size <= maxPoolSize, "Minimum pool size must not exceed the maximum pool size");
+            this.minPoolSize = size;
+        }
+
+        @Override
+        public int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+
+        @Override
+        public void setMaxPoolSize(final int size) {
+            checkResize();
+            assertTrue(size >= minPoolSize, "Maximum pool size must not be lower than the minimum pool size");
+            this.maxPoolSize = size;
+        }
+
+        private void checkResize() {
+            if (failOnResize) {
+                throw new IllegalStateException("Pool cannot be resized");
+            }
+            resizeCount++;
+        }
+    }
+}
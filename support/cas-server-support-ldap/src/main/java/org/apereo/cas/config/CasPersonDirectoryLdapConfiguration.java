@@ -1,6 +1,7 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.authentication.principal.attribute.PersonAttributeDao;
+import org.apereo.cas.authentication.support.LdapAuthenticatedEntryRegistry;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.core.authentication.AttributeRepositoryStates;
@@ -20,6 +21,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.ldaptive.handler.LdapEntryHandler;
 import org.ldaptive.handler.SearchResultHandler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -60,6 +62,8 @@ class CasPersonDirectoryLdapConfiguration {
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public BeanContainer<PersonAttributeDao> ldapAttributeRepositories(
             final ConfigurableApplicationContext applicationContext,
+            @Qualifier(LdapAuthenticatedEntryRegistry.BEAN_NAME)
+            final ObjectProvider<LdapAuthenticatedEntryRegistry> ldapAuthenticatedEntryRegistry,
             final CasConfigurationProperties casProperties) {
             return BeanSupplier.of(BeanContainer.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
@@ -125,6 +129,7 @@ class CasPersonDirectoryLdapConfiguration {
                             dao.setSearchControls(constraints);
                             dao.setUseAllQueryAttributes(ldap.isUseAllQueryAttributes());
                             dao.setOrder(ldap.getOrder());
+                            dao.setAuthenticatedEntryRegistry(ldapAuthenticatedEntryRegistry.getIfAvailable());
                             LOGGER.debug("Adding LDAP attribute source for [{}]", ldap.getLdapUrl());
                             list.add(dao);
                         });
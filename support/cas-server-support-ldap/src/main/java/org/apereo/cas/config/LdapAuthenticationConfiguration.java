@@ -1,10 +1,15 @@
 package org.apereo.cas.config;
 
+import org.apereo.cas.authentication.AuthenticationBuilder;
 import org.apereo.cas.authentication.AuthenticationEventExecutionPlanConfigurer;
 import org.apereo.cas.authentication.AuthenticationHandler;
+import org.apereo.cas.authentication.AuthenticationPostProcessor;
+import org.apereo.cas.authentication.AuthenticationTransaction;
+import org.apereo.cas.authentication.LdapAuthenticationHandler;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
+import org.apereo.cas.authentication.support.LdapAuthenticatedEntryRegistry;
 import org.apereo.cas.authorization.EndpointLdapAuthenticationProvider;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
@@ -16,6 +21,8 @@ import org.apereo.cas.util.spring.beans.BeanContainer;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.CasWebSecurityConfigurer;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -29,7 +36,9 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.core.Ordered;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -55,6 +64,13 @@ class LdapAuthenticationConfiguration {
         public PrincipalFactory ldapPrincipalFactory() {
             return PrincipalFactoryUtils.newPrincipalFactory();
         }
+
+        @ConditionalOnMissingBean(name = LdapAuthenticatedEntryRegistry.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public LdapAuthenticatedEntryRegistry ldapAuthenticatedEntryRegistry() {
+            return new LdapAuthenticatedEntryRegistry();
+        }
     }
 
     @Configuration(value = "LdapAuthenticationPlanConfiguration", proxyBeanMethods = false)
@@ -68,6 +84,8 @@ class LdapAuthenticationConfiguration {
             final ConfigurableApplicationContext applicationContext,
             @Qualifier("ldapPrincipalFactory")
             final PrincipalFactory ldapPrincipalFactory,
+            @Qualifier(LdapAuthenticatedEntryRegistry.BEAN_NAME)
+            final LdapAuthenticatedEntryRegistry ldapAuthenticatedEntryRegistry,
             @Qualifier(ServicesManager.BEAN_NAME)
             final ServicesManager servicesManager) {
             val handlers = casProperties.getAuthn().getLdap()
@@ -82,6 +100,9 @@ class LdapAuthenticationConfiguration {
                     val handler = LdapUtils.createLdapAuthenticationHandler(prop,
                         applicationContext, servicesManager, ldapPrincipalFactory);
                     handler.setState(prop.getState());
+                    if (prop.isResolveEntryWithDn()) {
+                        handler.setAuthenticatedEntryRegistry(ldapAuthenticatedEntryRegistry);
+                    }
                     return handler;
                 })
                 .collect(Collectors.toList());
@@ -89,6 +110,52 @@ class LdapAuthenticationConfiguration {
             return BeanContainer.of(handlers);
         }
 
+        @ConditionalOnMissingBean(name = "ldapDnResolutionCacheMeterBinder")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public MeterBinder ldapDnResolutionCacheMeterBinder(
+            @Qualifier("ldapAuthenticationHandlers")
+            final BeanContainer<AuthenticationHandler> ldapAuthenticationHandlers) {
+            return registry -> ldapAuthenticationHandlers.toList()
+                .stream()
+                .filter(LdapAuthenticationHandler.class::isInstance)
+                .map(LdapAuthenticationHandler.class::cast)
+                .filter(handler -> Objects.nonNull(handler.getDnResolutionCache()))
+                .forEach(handler -> {
+                    val cache = handler.getDnResolutionCache();
+                    CaffeineCacheMetrics.monitor(registry, cache.getCache(), "ldapDnResolution", "handler", handler.getName());
+                    CaffeineCacheMetrics.monitor(registry, cache.getNotFoundCache(), "ldapDnResolutionNotFound", "handler", handler.getName());
+                });
+        }
+
+        @ConditionalOnMissingBean(name = "ldapAuthenticatedEntryRegistryExecutionPlanConfigurer")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public AuthenticationEventExecutionPlanConfigurer ldapAuthenticatedEntryRegistryExecutionPlanConfigurer(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(LdapAuthenticatedEntryRegistry.BEAN_NAME)
+            final LdapAuthenticatedEntryRegistry ldapAuthenticatedEntryRegistry) {
+            return plan -> {
+                if (casProperties.getAuthn().getLdap().stream().anyMatch(prop -> prop.isResolveEntryWithDn())) {
+                    plan.registerAuthenticationPreProcessor(transaction -> {
+                        ldapAuthenticatedEntryRegistry.open();
+                        return true;
+                    });
+                    plan.registerAuthenticationPostProcessor(new AuthenticationPostProcessor() {
+                        @Override
+                        public void process(final AuthenticationBuilder builder, final AuthenticationTransaction transaction) {
+                            ldapAuthenticatedEntryRegistry.close();
+                        }
+
+                        @Override
+                        public int getOrder() {
+                            return Ordered.LOWEST_PRECEDENCE;
+                        }
+                    });
+                }
+            };
+        }
+
         @ConditionalOnMissingBean(name = "ldapAuthenticationEventExecutionPlanConfigurer")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -54,6 +54,7 @@ public class MemcachedTicketRegistry extends AbstractTicketRegistry implements D
         val clientFromPool = getClientFromPool();
         try {
             clientFromPool.replace(ticket.getId(), getTimeout(ticketToUpdate), ticket);
+            scheduleExpiration(ticketToUpdate);
         } catch (final Exception e) {
             LOGGER.error("Failed updating [{}]", ticket);
             LoggingUtils.error(LOGGER, e);
@@ -6,13 +6,19 @@ import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.bson.Document;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +34,10 @@ import java.util.stream.Collectors;
 @Slf4j
 @ToString
 public class MongoDbServiceRegistry extends AbstractServiceRegistry {
+    /**
+     * Field that records the time at which the service definition was last saved.
+     */
+    public static final String FIELD_NAME_LAST_MODIFIED = "lastModified";
 
     private final MongoOperations mongoTemplate;
     private final String collectionName;
@@ -83,11 +93,38 @@ public class MongoDbServiceRegistry extends AbstractServiceRegistry {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<ServiceRegistryChangeSet> loadChangedSince(final Instant since) {
+        val timestamp = Instant.now(Clock.systemUTC());
+        val query = new Query(new Criteria().orOperator(
+            Criteria.where(FIELD_NAME_LAST_MODIFIED).gte(Date.from(since)),
+            Criteria.where(FIELD_NAME_LAST_MODIFIED).exists(false)));
+        val list = this.mongoTemplate.find(query, RegisteredService.class, this.collectionName);
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val changedServices = list
+            .stream()
+            .map(this::invokeServiceRegistryListenerPostLoad)
+            .filter(Objects::nonNull)
+            .peek(s -> publishEvent(new CasRegisteredServiceLoadedEvent(this, s, clientInfo)))
+            .collect(Collectors.toList());
+        val registeredServiceIds = new HashSet<>(this.mongoTemplate.findDistinct(new Query(), "id",
+            this.collectionName, RegisteredService.class, Long.class));
+        LOGGER.debug("Found [{}] service definition(s) changed since [{}] out of [{}]", changedServices.size(), since, registeredServiceIds.size());
+        return Optional.of(ServiceRegistryChangeSet.builder()
+            .timestamp(timestamp)
+            .changedServices(changedServices)
+            .registeredServiceIds(registeredServiceIds)
+            .build());
+    }
+
     @Override
     public RegisteredService save(final RegisteredService svc) {
         svc.assignIdIfNecessary();
         invokeServiceRegistryListenerPreSave(svc);
-        this.mongoTemplate.save(svc, this.collectionName);
+        val document = new Document();
+        this.mongoTemplate.getConverter().write(svc, document);
+        document.put(FIELD_NAME_LAST_MODIFIED, new Date());
+        this.mongoTemplate.save(document, this.collectionName);
         LOGGER.debug("Saved registered service: [{}]", svc);
         return this.findServiceById(svc.getId());
     }
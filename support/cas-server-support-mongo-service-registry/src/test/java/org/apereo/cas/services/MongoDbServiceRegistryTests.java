@@ -1,9 +1,11 @@
 package org.apereo.cas.services;
 
 import org.apereo.cas.config.CasMongoDbServiceRegistryAutoConfiguration;
+import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.test.CasTestExtension;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.RandomUtils;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 import lombok.Getter;
 import lombok.val;
@@ -15,6 +17,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -47,6 +56,13 @@ class MongoDbServiceRegistryTests extends AbstractServiceRegistryTests {
     @Qualifier("mongoDbServiceRegistry")
     private ServiceRegistry newServiceRegistry;
 
+    @Autowired
+    @Qualifier("mongoDbServiceRegistryTemplate")
+    private MongoOperations mongoDbServiceRegistryTemplate;
+
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
     @Test
     void verifySamlServiceAttributeNames() {
         val service = new SamlRegisteredService();
@@ -63,4 +79,37 @@ class MongoDbServiceRegistryTests extends AbstractServiceRegistryTests {
         assertFalse(newService.getAttributeFriendlyNames().isEmpty());
         assertFalse(newService.getAttributeNameFormats().isEmpty());
     }
+
+    @Test
+    void verifyLoadChangedSince() throws Throwable {
+        val service1 = newServiceRegistry.save(
+            buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class).assignIdIfNecessary());
+        Thread.sleep(100);
+        val since = Instant.now(Clock.systemUTC());
+        Thread.sleep(100);
+        val service2 = newServiceRegistry.save(
+            buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class).assignIdIfNecessary());
+
+        val changeSet = newServiceRegistry.loadChangedSince(since).orElseThrow();
+        assertEquals(List.of(service2.getId()), changeSet.getChangedServices().stream().map(RegisteredService::getId).toList());
+        assertTrue(changeSet.getRegisteredServiceIds().containsAll(List.of(service1.getId(), service2.getId())));
+
+        Thread.sleep(100);
+        newServiceRegistry.delete(service1);
+        val nextChangeSet = newServiceRegistry.loadChangedSince(changeSet.getTimestamp()).orElseThrow();
+        assertTrue(nextChangeSet.getChangedServices().isEmpty());
+        assertFalse(nextChangeSet.getRegisteredServiceIds().contains(service1.getId()));
+        assertTrue(nextChangeSet.getRegisteredServiceIds().contains(service2.getId()));
+    }
+
+    @Test
+    void verifyLoadChangedSinceWithoutLastModified() {
+        val service = newServiceRegistry.save(
+            buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class).assignIdIfNecessary());
+        mongoDbServiceRegistryTemplate.updateFirst(new Query(Criteria.where("id").is(service.getId())),
+            new Update().unset(MongoDbServiceRegistry.FIELD_NAME_LAST_MODIFIED),
+            casProperties.getServiceRegistry().getMongo().getCollection());
+        val changeSet = newServiceRegistry.loadChangedSince(Instant.now(Clock.systemUTC())).orElseThrow();
+        assertTrue(changeSet.getChangedServices().stream().anyMatch(changed -> changed.getId() == service.getId()));
+    }
 }
@@ -32,6 +32,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -169,7 +170,11 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             val update = Update.update(MongoDbTicketDocument.FIELD_NAME_JSON, holder.getJson());
             val result = mongoTemplate.updateFirst(query, update, collectionName);
             LOGGER.debug("Updated ticket [{}] with result [{}]", ticket, result);
-            return result.getMatchedCount() > 0 ? ticket : null;
+            if (result.getMatchedCount() > 0) {
+                scheduleExpiration(ticket);
+                return ticket;
+            }
+            return null;
         } catch (final Throwable e) {
             LOGGER.error("Failed updating [{}]", ticket);
             LoggingUtils.error(LOGGER, e);
@@ -271,6 +276,24 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return res.getDeletedCount();
     }
 
+    @Override
+    protected long deleteTicketsInBulk(final Set<String> ticketIds) {
+        return ticketIds
+            .stream()
+            .filter(ticketId -> ticketCatalog.find(ticketId) != null)
+            .collect(Collectors.groupingBy(ticketId -> getTicketCollectionInstanceByMetadata(ticketCatalog.find(ticketId)),
+                Collectors.mapping(this::digestIdentifier, Collectors.toList())))
+            .entrySet()
+            .stream()
+            .mapToLong(entry -> {
+                val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).in(entry.getValue()));
+                val res = mongoTemplate.remove(query, entry.getKey());
+                LOGGER.debug("Deleted [{}] ticket(s) from [{}]", res.getDeletedCount(), entry.getKey());
+                return res.getDeletedCount();
+            })
+            .sum();
+    }
+
     @Override
     public List<? extends Serializable> query(final TicketRegistryQueryCriteria criteria) {
         val ticketDefinitions = StringUtils.isNotBlank(criteria.getType())
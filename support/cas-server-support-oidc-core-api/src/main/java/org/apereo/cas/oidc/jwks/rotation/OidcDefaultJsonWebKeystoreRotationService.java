@@ -3,14 +3,18 @@ package org.apereo.cas.oidc.jwks.rotation;
 import org.apereo.cas.configuration.model.support.oidc.OidcProperties;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyUsage;
 import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreGeneratorService;
+import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreModifiedEvent;
+import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.io.IOUtils;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.jooq.lambda.Unchecked;
 import org.jose4j.jwk.JsonWebKeySet;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.io.Resource;
 
 import java.nio.charset.StandardCharsets;
@@ -29,6 +33,8 @@ public class OidcDefaultJsonWebKeystoreRotationService implements OidcJsonWebKey
 
     private final OidcJsonWebKeystoreGeneratorService generatorService;
 
+    private final ConfigurableApplicationContext applicationContext;
+
     @Override
     public JsonWebKeySet rotate() {
         return whenKeystoreResourceExists()
@@ -53,7 +59,7 @@ public class OidcDefaultJsonWebKeystoreRotationService implements OidcJsonWebKey
                 generateFutureKeys(jsonWebKeySet);
                 generateCurrentKeys(jsonWebKeySet);
 
-                return generatorService.store(jsonWebKeySet);
+                return storeAndPublish(resource, jsonWebKeySet);
             }))
             .orElse(null);
     }
@@ -98,11 +104,30 @@ public class OidcDefaultJsonWebKeystoreRotationService implements OidcJsonWebKey
                     val state = JsonWebKeyLifecycleStates.getJsonWebKeyState(key);
                     return state == JsonWebKeyLifecycleStates.PREVIOUS;
                 });
-                return generatorService.store(jsonWebKeySet);
+                return storeAndPublish(resource, jsonWebKeySet);
             }))
             .orElse(null);
     }
 
+    /**
+     * Store the keystore and broadcast the change, so that cached and rendered keys are discarded.
+     * The event is only published here rather than by the generator service, since the generator service
+     * is also asked to store keystores while loading them into caches that listeners go on to invalidate.
+     *
+     * @param resource      the keystore resource
+     * @param jsonWebKeySet the keystore
+     * @return the stored keystore
+     * @throws Exception the exception
+     */
+    protected JsonWebKeySet storeAndPublish(final Resource resource, final JsonWebKeySet jsonWebKeySet) throws Exception {
+        val storedKeySet = generatorService.store(jsonWebKeySet);
+        if (applicationContext.isActive()) {
+            val file = ResourceUtils.isFile(resource) ? resource.getFile() : null;
+            applicationContext.publishEvent(new OidcJsonWebKeystoreModifiedEvent(this, file, ClientInfoHolder.getClientInfo()));
+        }
+        return storedKeySet;
+    }
+
     private Optional<Resource> whenKeystoreResourceExists() {
         return FunctionUtils.doUnchecked(generatorService::find);
     }
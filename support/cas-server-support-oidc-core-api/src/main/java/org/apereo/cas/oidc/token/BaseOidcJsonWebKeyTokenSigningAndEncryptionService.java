@@ -10,6 +10,8 @@ import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.ticket.BaseTokenSigningAndEncryptionService;
 import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.nimbusds.jwt.EncryptedJWT;
 import com.nimbusds.jwt.JWTParser;
@@ -24,11 +26,18 @@ import org.jose4j.jwk.JsonWebKeySet;
 import org.jose4j.jwk.PublicJsonWebKey;
 import org.jose4j.jwt.JwtClaims;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 /**
  * This is {@link BaseOidcJsonWebKeyTokenSigningAndEncryptionService}.
+ * Signing and encryption keys resolved from a keystore are remembered for as long as
+ * that keystore instance is held by the keystore caches, so that issuing tokens does
+ * not need to search the keystore again. Once keys are rotated or revoked, the keystore
+ * caches load a new keystore instance and keys are resolved again.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
@@ -44,6 +53,20 @@ public abstract class BaseOidcJsonWebKeyTokenSigningAndEncryptionService extends
 
     protected final CasConfigurationProperties casProperties;
 
+    private final Cache<String, OidcJsonWebKeyCacheKey> signingKeystoreCacheKeys = Caffeine.newBuilder()
+        .maximumSize(1_000)
+        .build();
+
+    private final Cache<JsonWebKeySet, ResolvedJsonWebKeys> resolvedSigningKeys = Caffeine.newBuilder()
+        .weakKeys()
+        .maximumSize(1_000)
+        .build();
+
+    private final Cache<JsonWebKeySet, Optional<PublicJsonWebKey>> resolvedEncryptionKeys = Caffeine.newBuilder()
+        .weakKeys()
+        .maximumSize(1_000)
+        .build();
+
     @Override
     public String encode(final OAuthRegisteredService registeredService, final JwtClaims claims) {
         return FunctionUtils.doUnchecked(() -> {
@@ -94,7 +117,8 @@ public abstract class BaseOidcJsonWebKeyTokenSigningAndEncryptionService extends
             .findFirst();
         val iss = issuerService.determineIssuer(servicePassed);
         LOGGER.trace("Using issuer [{}] to locate JWK signing key", iss);
-        val jwks = defaultJsonWebKeystoreCache.get(new OidcJsonWebKeyCacheKey(iss, OidcJsonWebKeyUsage.SIGNING));
+        val cacheKey = signingKeystoreCacheKeys.get(iss, issuer -> new OidcJsonWebKeyCacheKey(issuer, OidcJsonWebKeyUsage.SIGNING));
+        val jwks = defaultJsonWebKeystoreCache.get(cacheKey);
         return getJsonWebKeySigningKeyFrom(jwks, registeredService);
     }
 
@@ -102,25 +126,22 @@ public abstract class BaseOidcJsonWebKeyTokenSigningAndEncryptionService extends
                                                            final Optional<OAuthRegisteredService> serviceResult) throws Throwable {
         FunctionUtils.throwIfNull(jwks,
             () -> new IllegalArgumentException("JSON web keystore is empty and contains no keys"));
-        val jsonWebKeys = jwks.getJsonWebKeys();
-        LOGGER.trace("JSON web keystore contains [{}] key(s)", jsonWebKeys);
+        var resolvedKeys = resolvedSigningKeys.get(jwks, ResolvedJsonWebKeys::from);
+        if (resolvedKeys.fingerprint() != ResolvedJsonWebKeys.fingerprint(jwks)) {
+            resolvedKeys = ResolvedJsonWebKeys.from(jwks);
+            resolvedSigningKeys.put(jwks, resolvedKeys);
+        }
+        LOGGER.trace("JSON web keystore contains [{}] key(s)", jwks.getJsonWebKeys());
 
         val finalKey = serviceResult
             .filter(OidcRegisteredService.class::isInstance)
             .map(OidcRegisteredService.class::cast)
-            .stream()
-            .filter(oidcService -> StringUtils.isNotBlank(oidcService.getJwksKeyId()))
-            .map(oidcService -> jsonWebKeys
-                .stream()
-                .filter(PublicJsonWebKey.class::isInstance)
-                .filter(key -> StringUtils.equalsIgnoreCase(key.getKeyId(), oidcService.getJwksKeyId()))
-                .map(PublicJsonWebKey.class::cast)
-                .findFirst())
-            .flatMap(Optional::stream)
-            .findFirst();
+            .map(OidcRegisteredService::getJwksKeyId)
+            .filter(StringUtils::isNotBlank)
+            .map(resolvedKeys::findByKeyId);
 
         LOGGER.debug("Located key [{}] for service [{}]", finalKey, serviceResult);
-        return finalKey.orElseGet(() -> (PublicJsonWebKey) jsonWebKeys.getFirst());
+        return finalKey.orElseGet(resolvedKeys::defaultKey);
     }
 
     protected PublicJsonWebKey getJsonWebKeyForEncryption(final OAuthRegisteredService registeredService) {
@@ -136,14 +157,48 @@ public abstract class BaseOidcJsonWebKeyTokenSigningAndEncryptionService extends
             }
             throw new IllegalArgumentException(message);
         }
-        val jsonWebKey = jwks.get()
-            .getJsonWebKeys()
-            .stream()
-            .filter(key -> OidcJsonWebKeystoreRotationService.JsonWebKeyLifecycleStates.getJsonWebKeyState(key).isCurrent())
-            .min(Comparator.comparing(JsonWebKey::getKeyId))
+        val jsonWebKey = resolvedEncryptionKeys.get(jwks.get(), keys -> keys
+                .getJsonWebKeys()
+                .stream()
+                .filter(key -> OidcJsonWebKeystoreRotationService.JsonWebKeyLifecycleStates.getJsonWebKeyState(key).isCurrent())
+                .min(Comparator.comparing(JsonWebKey::getKeyId))
+                .map(PublicJsonWebKey.class::cast))
             .orElseThrow(() -> new IllegalArgumentException("Cannot locate current JSON web key for encryption"));
         LOGGER.debug("Found JSON web key to encrypt the token: [{}]", jsonWebKey);
         Objects.requireNonNull(jsonWebKey.getKey(), "JSON web key used to encrypt the token has no associated public key");
-        return (PublicJsonWebKey) jsonWebKey;
+        return jsonWebKey;
+    }
+
+    private record ResolvedJsonWebKeys(Map<String, PublicJsonWebKey> keysById, PublicJsonWebKey defaultKey, int fingerprint) {
+        static ResolvedJsonWebKeys from(final JsonWebKeySet jwks) {
+            val keysById = new LinkedHashMap<String, PublicJsonWebKey>();
+            jwks.getJsonWebKeys()
+                .stream()
+                .filter(PublicJsonWebKey.class::isInstance)
+                .map(PublicJsonWebKey.class::cast)
+                .filter(key -> StringUtils.isNotBlank(key.getKeyId()))
+                .forEach(key -> keysById.putIfAbsent(key.getKeyId().toLowerCase(Locale.ENGLISH), key));
+            val jsonWebKeys = jwks.getJsonWebKeys();
+            return new ResolvedJsonWebKeys(keysById, (PublicJsonWebKey) jsonWebKeys.getFirst(), fingerprint(jwks));
+        }
+
+        /**
+         * Fingerprint the keys of the keystore by their identity and key id, so that keys
+         * added, removed, replaced or reordered since the keys were resolved are noticed.
+         *
+         * @param jwks the keystore
+         * @return the fingerprint
+         */
+        static int fingerprint(final JsonWebKeySet jwks) {
+            var fingerprint = 1;
+            for (val key : jwks.getJsonWebKeys()) {
+                fingerprint = 31 * fingerprint + Objects.hash(System.identityHashCode(key), key.getKeyId());
+            }
+            return fingerprint;
+        }
+
+        PublicJsonWebKey findByKeyId(final String keyId) {
+            return keysById.get(keyId.toLowerCase(Locale.ENGLISH));
+        }
     }
 }
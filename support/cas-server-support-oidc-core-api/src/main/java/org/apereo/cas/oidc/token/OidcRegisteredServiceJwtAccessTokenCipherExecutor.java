@@ -8,6 +8,7 @@ import org.apereo.cas.services.OidcRegisteredService;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20RegisteredServiceJwtAccessTokenCipherExecutor;
 import org.apereo.cas.token.cipher.JwtTicketCipherExecutor;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jose4j.jwk.JsonWebKey;
 import org.jose4j.jwk.JsonWebKeySet;
+import org.jose4j.jwk.PublicJsonWebKey;
 import java.util.Optional;
 
 /**
@@ -43,6 +45,8 @@ public class OidcRegisteredServiceJwtAccessTokenCipherExecutor extends OAuth20Re
      */
     protected final OidcIssuerService oidcIssuerService;
 
+    private final Cache<String, PublicJsonWebKey> parsedJsonWebKeys = InternalJwtAccessTokenCipherExecutor.newParsedJsonWebKeysCache();
+
     @Override
     public Optional<String> getSigningKey(final RegisteredService registeredService) {
         if (!isSigningEnabledForRegisteredService(registeredService)) {
@@ -3,8 +3,10 @@ package org.apereo.cas.oidc.token;
 import org.apereo.cas.oidc.issuer.OidcIssuerService;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyCacheKey;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.jose4j.jwk.JsonWebKeySet;
+import org.jose4j.jwk.PublicJsonWebKey;
 
 import java.util.Optional;
 
@@ -36,4 +38,12 @@ public interface OidcRegisteredServiceJwtCipherExecutor {
      * @return the oidc issuer service
      */
     OidcIssuerService getOidcIssuerService();
+
+    /**
+     * Gets the keys parsed from their JSON representation, so that building
+     * cipher executors for every token does not parse the same keys again.
+     *
+     * @return the parsed json web keys
+     */
+    Cache<String, PublicJsonWebKey> getParsedJsonWebKeys();
 }
@@ -11,6 +11,8 @@ import org.apereo.cas.token.cipher.JwtTicketCipherExecutor;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.EncodingUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,7 @@ import org.jose4j.jwk.PublicJsonWebKey;
 
 import java.io.Serializable;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -38,6 +41,10 @@ import java.util.Optional;
 @Getter
 @Slf4j
 public class InternalJwtAccessTokenCipherExecutor extends JwtTicketCipherExecutor {
+    private static final int PARSED_JSON_WEB_KEYS_MAXIMUM_SIZE = 1_000;
+
+    private static final Duration PARSED_JSON_WEB_KEYS_EXPIRATION = Duration.ofHours(1);
+
     private JsonWebKey signingWebKey;
 
     private JsonWebKey encryptionWebKey;
@@ -52,6 +59,19 @@ public class InternalJwtAccessTokenCipherExecutor extends JwtTicketCipherExecuto
     }
 
 
+    /**
+     * Build the bounded cache that holds keys parsed from their JSON representation,
+     * owned by the cipher executor that builds this cipher.
+     *
+     * @return the cache
+     */
+    public static Cache<String, PublicJsonWebKey> newParsedJsonWebKeysCache() {
+        return Caffeine.newBuilder()
+            .maximumSize(PARSED_JSON_WEB_KEYS_MAXIMUM_SIZE)
+            .expireAfterAccess(PARSED_JSON_WEB_KEYS_EXPIRATION)
+            .build();
+    }
+
     /**
      * Get ticket cipher executor.
      *
@@ -67,12 +87,12 @@ public class InternalJwtAccessTokenCipherExecutor extends JwtTicketCipherExecuto
         val cipher = new InternalJwtAccessTokenCipherExecutor(encryptionKey, signingKey, cipherExecutor);
         Unchecked.consumer(__ -> {
             if (EncodingUtils.isJsonWebKey(encryptionKey)) {
-                val jsonWebKey = toJsonWebKey(encryptionKey, registeredService);
+                val jsonWebKey = cipher.toJsonWebKey(encryptionKey);
                 cipher.setEncryptionKey(jsonWebKey.getPublicKey());
                 cipher.setEncryptionWebKey(jsonWebKey);
             }
             if (EncodingUtils.isJsonWebKey(signingKey)) {
-                val jsonWebKey = toJsonWebKey(signingKey, registeredService);
+                val jsonWebKey = cipher.toJsonWebKey(signingKey);
 
                 /*
                  * Use the private key as the primary key to handle signing operations.
@@ -122,7 +142,11 @@ public class InternalJwtAccessTokenCipherExecutor extends JwtTicketCipherExecuto
     }
 
 
-    protected static PublicJsonWebKey toJsonWebKey(final String key, final RegisteredService registeredService) throws Exception {
+    protected PublicJsonWebKey toJsonWebKey(final String key) {
+        return cipherExecutor.getParsedJsonWebKeys().get(key, Unchecked.function(InternalJwtAccessTokenCipherExecutor::parseJsonWebKey));
+    }
+
+    private static PublicJsonWebKey parseJsonWebKey(final String key) throws Exception {
         val details = EncodingUtils.parseJsonWebKey(key);
         if (details.containsKey(JsonWebKeySet.JWK_SET_MEMBER_NAME)) {
             return (PublicJsonWebKey) new JsonWebKeySet(key).getJsonWebKeys().getFirst();
@@ -0,0 +1,88 @@
+package org.apereo.cas.oidc.web;
+
+import org.apereo.cas.util.DigestUtils;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This is {@link OidcCacheableResponse}. Holds a pre-rendered response body
+ * along with a strong entity tag computed from its contents, so that
+ * clients may revalidate their copies using conditional requests.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class OidcCacheableResponse {
+    private final byte[] body;
+
+    private final String entityTag;
+
+    /**
+     * Build a cacheable response from the given rendered body.
+     *
+     * @param body the body
+     * @return the cacheable response
+     */
+    public static OidcCacheableResponse of(final String body) {
+        return new OidcCacheableResponse(body.getBytes(StandardCharsets.UTF_8), toEntityTag(body));
+    }
+
+    /**
+     * Build a cacheable response that only carries the entity tag computed from the given rendered body.
+     *
+     * @param body the body
+     * @return the cacheable response
+     */
+    public static OidcCacheableResponse ofEntityTag(final String body) {
+        return new OidcCacheableResponse(null, toEntityTag(body));
+    }
+
+    private static String toEntityTag(final String body) {
+        return '"' + DigestUtils.sha256(body) + '"';
+    }
+
+    /**
+     * Check whether the client already holds the current representation
+     * per its {@code If-None-Match} header, in which case the response is marked as not modified.
+     *
+     * @param request  the request
+     * @param response the response
+     * @return true if the client copy is current
+     */
+    public boolean isNotModified(final HttpServletRequest request, final HttpServletResponse response) {
+        return new ServletWebRequest(request, response).checkNotModified(entityTag);
+    }
+
+    /**
+     * Produce the response entity, answering with {@link HttpStatus#NOT_MODIFIED}
+     * and no body if the client copy is current.
+     *
+     * @param request      the request
+     * @param response     the response
+     * @param cacheControl the cache control
+     * @return the response entity
+     */
+    public ResponseEntity<byte[]> toResponseEntity(final HttpServletRequest request,
+                                                   final HttpServletResponse response,
+                                                   final CacheControl cacheControl) {
+        if (isNotModified(request, response)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entityTag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(entityTag)
+            .cacheControl(cacheControl)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+}
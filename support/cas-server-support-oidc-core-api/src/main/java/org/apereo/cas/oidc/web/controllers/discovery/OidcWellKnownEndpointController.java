@@ -4,11 +4,18 @@ import org.apereo.cas.oidc.OidcConfigurationContext;
 import org.apereo.cas.oidc.OidcConstants;
 import org.apereo.cas.oidc.discovery.OidcServerDiscoverySettings;
 import org.apereo.cas.oidc.discovery.webfinger.OidcWebFingerDiscoveryService;
+import org.apereo.cas.oidc.web.OidcCacheableResponse;
 import org.apereo.cas.oidc.web.controllers.BaseOidcController;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -20,16 +27,25 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.util.Map;
 
 /**
- * This is {@link OidcWellKnownEndpointController}.
+ * This is {@link OidcWellKnownEndpointController}. Discovery documents carry a strong
+ * entity tag computed once per discovery settings instance, so clients can revalidate
+ * their copies with conditional requests instead of downloading the document again.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
  */
 @Slf4j
 public class OidcWellKnownEndpointController extends BaseOidcController {
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(false).build().toObjectMapper();
 
     private final OidcWebFingerDiscoveryService webFingerDiscoveryService;
 
+    private final Cache<OidcServerDiscoverySettings, OidcCacheableResponse> discoveryResponses = Caffeine.newBuilder()
+        .weakKeys()
+        .maximumSize(10)
+        .build();
+
     public OidcWellKnownEndpointController(final OidcConfigurationContext configurationContext,
                                            final OidcWebFingerDiscoveryService webFingerDiscoveryService) {
         super(configurationContext);
@@ -93,7 +109,13 @@ public class OidcWellKnownEndpointController extends BaseOidcController {
                                                                                        final String endpoint) {
         if (isIssuerValidForEndpoint(request, response, endpoint) && BeanSupplier.isNotProxy(webFingerDiscoveryService)) {
             val discovery = webFingerDiscoveryService.getDiscovery();
-            return new ResponseEntity<>(discovery, HttpStatus.OK);
+            val rendered = discoveryResponses.get(discovery,
+                settings -> FunctionUtils.doUnchecked(() -> OidcCacheableResponse.ofEntityTag(MAPPER.writeValueAsString(settings))));
+            if (rendered.isNotModified(request, response)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(rendered.getEntityTag()).cacheControl(CacheControl.noCache()).build();
+            }
+            return ResponseEntity.ok().eTag(rendered.getEntityTag()).cacheControl(CacheControl.noCache()).body(discovery);
         }
         LOGGER.warn("Unable to accept request; issuer for endpoint [{}] is invalid", endpoint);
         return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -1,16 +1,24 @@
 package org.apereo.cas.oidc.web.controllers.jwks;
 
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.oidc.OidcConfigurationContext;
 import org.apereo.cas.oidc.OidcConstants;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyStoreUtils;
 import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreGeneratorService;
+import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreModifiedEvent;
 import org.apereo.cas.oidc.jwks.rotation.OidcJsonWebKeystoreRotationService;
+import org.apereo.cas.oidc.web.OidcCacheableResponse;
 import org.apereo.cas.oidc.web.controllers.BaseOidcController;
 import org.apereo.cas.services.OidcRegisteredService;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +29,8 @@ import org.apache.commons.text.StringEscapeUtils;
 import org.jose4j.jwk.JsonWebKey;
 import org.jose4j.jwk.JsonWebKeySet;
 import org.pac4j.jee.context.JEEContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -29,22 +39,90 @@ import org.springframework.web.bind.annotation.RequestParam;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
- * This is {@link OidcJwksEndpointController}.
+ * This is {@link OidcJwksEndpointController}. The public keystore is rendered once
+ * per requested key state and kept until the keystore or the registered services
+ * that carry their own keys are modified, or the configured cache expiration elapses.
+ * Requests for unknown key states are rejected and never cached.
+ * Rendered responses carry a strong entity tag so clients can revalidate their
+ * copies with conditional requests, and are allowed to be cached by clients
+ * no longer than the keystore rotation schedule.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
  */
 @Slf4j
 public class OidcJwksEndpointController extends BaseOidcController {
+    private static final String ALL_STATES = "*";
+
     private final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService;
 
+    private final Cache<String, OidcCacheableResponse> renderedResponses;
+
+    private final CacheControl cacheControl;
+
     public OidcJwksEndpointController(final OidcConfigurationContext configurationContext,
                                       final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService) {
         super(configurationContext);
         this.oidcJsonWebKeystoreGeneratorService = oidcJsonWebKeystoreGeneratorService;
+
+        val jwks = configurationContext.getCasProperties().getAuthn().getOidc().getJwks();
+        val expiration = Beans.newDuration(jwks.getCore().getJwksCacheExpiration());
+        this.renderedResponses = Caffeine.newBuilder()
+            .maximumSize(OidcJsonWebKeystoreRotationService.JsonWebKeyLifecycleStates.values().length + 1)
+            .expireAfterWrite(expiration)
+            .build();
+
+        var maxAge = expiration;
+        val schedule = jwks.getRotation().getSchedule();
+        if (schedule.isEnabled() && StringUtils.isNotBlank(schedule.getRepeatInterval())) {
+            val rotationInterval = Beans.newDuration(schedule.getRepeatInterval());
+            maxAge = rotationInterval.compareTo(maxAge) < 0 ? rotationInterval : maxAge;
+        }
+        this.cacheControl = CacheControl.maxAge(maxAge.isNegative() ? Duration.ZERO : maxAge).cachePublic();
+    }
+
+    /**
+     * Discard rendered responses once the keystore is modified.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleOidcJsonWebKeystoreModifiedEvent(final OidcJsonWebKeystoreModifiedEvent event) {
+        LOGGER.debug("Keystore [{}] is modified; discarding rendered keystore responses", event.getFile());
+        renderedResponses.invalidateAll();
+    }
+
+    /**
+     * Discard rendered responses once a registered service is saved,
+     * given it may carry its own keys.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServiceSavedEvent(final CasRegisteredServiceSavedEvent event) {
+        if (event.getRegisteredService() instanceof OidcRegisteredService) {
+            renderedResponses.invalidateAll();
+        }
+    }
+
+    /**
+     * Discard rendered responses once a registered service is deleted,
+     * given it may carry its own keys.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+        if (event.getRegisteredService() instanceof OidcRegisteredService) {
+            renderedResponses.invalidateAll();
+        }
     }
 
     /**
@@ -69,7 +147,35 @@ public class OidcJwksEndpointController extends BaseOidcController {
             val body = OAuth20Utils.getErrorResponseBody(OAuth20Constants.INVALID_REQUEST, "Invalid issuer");
             return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
         }
+        if (StringUtils.isNotBlank(state) && !isValidKeyState(state)) {
+            LOGGER.warn("Unable to accept request; key state [{}] is unknown", state);
+            val body = OAuth20Utils.getErrorResponseBody(OAuth20Constants.INVALID_REQUEST, "Invalid key state");
+            return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+        }
         try {
+            val key = StringUtils.defaultIfBlank(state, ALL_STATES).toLowerCase(Locale.ENGLISH);
+            val rendered = Objects.requireNonNull(renderedResponses.get(key, __ -> renderJsonWebKeySet(state)));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            return rendered.toResponseEntity(request, response, cacheControl);
+        } catch (final Throwable e) {
+            LoggingUtils.error(LOGGER, e);
+            return new ResponseEntity<>(StringEscapeUtils.escapeHtml4(e.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static boolean isValidKeyState(final String state) {
+        return Arrays.stream(OidcJsonWebKeystoreRotationService.JsonWebKeyLifecycleStates.values())
+            .anyMatch(value -> value.name().equalsIgnoreCase(state));
+    }
+
+    /**
+     * Render the public keys from the keystore and registered services, filtered by state.
+     *
+     * @param state the state
+     * @return the rendered response
+     */
+    protected OidcCacheableResponse renderJsonWebKeySet(final String state) {
+        return FunctionUtils.doUnchecked(() -> {
             val resource = oidcJsonWebKeystoreGeneratorService.generate();
             val jsonJwks = IOUtils.toString(resource.getInputStream(), StandardCharsets.UTF_8);
             val jsonWebKeySet = new JsonWebKeySet(jsonJwks);
@@ -94,12 +200,8 @@ public class OidcJwksEndpointController extends BaseOidcController {
                         return !state.equalsIgnoreCase(st);
                     });
             }
-            val body = jsonWebKeySet.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY);
-            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            return new ResponseEntity<>(body, HttpStatus.OK);
-        } catch (final Throwable e) {
-            LoggingUtils.error(LOGGER, e);
-            return new ResponseEntity<>(StringEscapeUtils.escapeHtml4(e.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+            LOGGER.debug("Rendering keystore for key state [{}]", StringUtils.defaultIfBlank(state, ALL_STATES));
+            return OidcCacheableResponse.of(jsonWebKeySet.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY));
+        });
     }
 }
@@ -10,12 +10,14 @@ import org.apereo.cas.services.RegisteredServiceProperty;
 import org.apereo.cas.token.cipher.JwtTicketCipherExecutor;
 import org.apereo.cas.token.cipher.RegisteredServiceJwtTicketCipherExecutor;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import org.jose4j.jwk.JsonWebKey;
 import org.jose4j.jwk.JsonWebKeySet;
+import org.jose4j.jwk.PublicJsonWebKey;
 
 import java.util.Optional;
 
@@ -44,6 +46,8 @@ public class OidcRegisteredServiceJwtResponseModeCipherExecutor extends Register
      */
     protected final OidcIssuerService oidcIssuerService;
 
+    private final Cache<String, PublicJsonWebKey> parsedJsonWebKeys = InternalJwtAccessTokenCipherExecutor.newParsedJsonWebKeysCache();
+
     @Override
     public Optional<String> getSigningKey(final RegisteredService registeredService) {
         val jwks = OidcJsonWebKeyStoreUtils.fetchJsonWebKeySetForSigning(registeredService, this, false);
@@ -9,6 +9,8 @@ import org.apereo.cas.support.oauth.OAuth20ResponseTypes;
 import org.apereo.cas.support.oauth.web.endpoints.OAuth20AccessTokenResponseEncoder;
 import org.apereo.cas.support.oauth.web.response.accesstoken.ext.AccessTokenRequestContext;
 import org.apereo.cas.token.JwtBuilder;
+import com.nimbusds.jwt.EncryptedJWT;
+import com.nimbusds.jwt.JWTParser;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.jose4j.jws.AlgorithmIdentifiers;
@@ -56,6 +58,23 @@ class OidcIdTokenSigningAndEncryptionServiceTests {
             assertNotNull(result3);
         }
 
+        @Test
+        void verifySigningKeyResolution() throws Throwable {
+            val es512 = getOidcRegisteredService("ES512");
+            es512.setJwksKeyId("ec");
+            val rs256 = getOidcRegisteredService("RS256");
+            rs256.setJwksKeyId("RSA");
+
+            val ecKey = oidcTokenSigningAndEncryptionService.getJsonWebKeySigningKey(Optional.of(es512));
+            assertEquals("EC", ecKey.getKeyId());
+            assertSame(ecKey, oidcTokenSigningAndEncryptionService.getJsonWebKeySigningKey(Optional.of(es512)));
+            val rsaKey = oidcTokenSigningAndEncryptionService.getJsonWebKeySigningKey(Optional.of(rs256));
+            assertEquals("RSA", rsaKey.getKeyId());
+
+            rs256.setJwksKeyId("unknown");
+            assertNotNull(oidcTokenSigningAndEncryptionService.getJsonWebKeySigningKey(Optional.of(rs256)));
+        }
+
         @Test
         void verifyJwtAccessTokenOperation() throws Throwable {
             val registeredService = getOidcRegisteredService("ES512");
@@ -103,6 +122,21 @@ class OidcIdTokenSigningAndEncryptionServiceTests {
             assertNotNull(result);
         }
 
+        @Test
+        void verifyEncryptionOperation() throws Throwable {
+            val claims = getClaims();
+            val service = getOidcRegisteredService(UUID.randomUUID().toString(),
+                "https://example-%s.org".formatted(UUID.randomUUID().toString()), true, true);
+            val first = oidcTokenSigningAndEncryptionService.encode(service, claims);
+            assertInstanceOf(EncryptedJWT.class, JWTParser.parse(first));
+            val second = oidcTokenSigningAndEncryptionService.encode(service, claims);
+            assertInstanceOf(EncryptedJWT.class, JWTParser.parse(second));
+            assertNotEquals(first, second);
+
+            assertEquals(claims.getSubject(), oidcTokenSigningAndEncryptionService.decode(first, Optional.of(service)).getSubject());
+            assertEquals(claims.getSubject(), oidcTokenSigningAndEncryptionService.decode(second, Optional.of(service)).getSubject());
+        }
+
         @Test
         void verifyEncryptionOptional() throws Throwable {
             val claims = getClaims();
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockHttpServletResponse;
 
@@ -50,4 +51,31 @@ class OidcWellKnownEndpointControllerTests extends AbstractOidcTests {
         val res2 = MAPPER.writeValueAsString(entity);
         assertNotNull(res2);
     }
+
+    @Test
+    void verifyConditionalRequest() {
+        val request = getHttpRequestForEndpoint(OidcConstants.WELL_KNOWN_OPENID_CONFIGURATION_URL);
+        val entity = oidcWellKnownController.getWellKnownOpenIdDiscoveryConfiguration(request, new MockHttpServletResponse());
+        assertEquals(HttpStatus.OK, entity.getStatusCode());
+        val entityTag = entity.getHeaders().getETag();
+        assertNotNull(entityTag);
+        assertNotNull(entity.getBody());
+
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, entityTag);
+        val notModified = oidcWellKnownController.getWellKnownOpenIdDiscoveryConfiguration(request, new MockHttpServletResponse());
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertEquals(entityTag, notModified.getHeaders().getETag());
+        assertNull(notModified.getBody());
+
+        val discovery = getHttpRequestForEndpoint(OidcConstants.WELL_KNOWN_URL);
+        discovery.addHeader(HttpHeaders.IF_NONE_MATCH, entityTag);
+        val revalidated = oidcWellKnownController.getWellKnownDiscoveryConfiguration(discovery, new MockHttpServletResponse());
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatusCode());
+
+        val stale = getHttpRequestForEndpoint(OidcConstants.WELL_KNOWN_OPENID_CONFIGURATION_URL);
+        stale.addHeader(HttpHeaders.IF_NONE_MATCH, "\"stale\"");
+        val modified = oidcWellKnownController.getWellKnownOpenIdDiscoveryConfiguration(stale, new MockHttpServletResponse());
+        assertEquals(HttpStatus.OK, modified.getStatusCode());
+        assertEquals(entityTag, modified.getHeaders().getETag());
+    }
 }
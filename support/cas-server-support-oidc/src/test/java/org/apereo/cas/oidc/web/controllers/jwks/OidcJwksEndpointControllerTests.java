@@ -2,13 +2,16 @@ package org.apereo.cas.oidc.web.controllers.jwks;
 
 import org.apereo.cas.oidc.AbstractOidcTests;
 import org.apereo.cas.oidc.OidcConstants;
+import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreModifiedEvent;
 import org.apereo.cas.oidc.jwks.rotation.OidcJsonWebKeystoreRotationService;
 
 import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockHttpServletResponse;
 
@@ -41,6 +44,64 @@ class OidcJwksEndpointControllerTests extends AbstractOidcTests {
         assertTrue(result.getStatusCode().is2xxSuccessful());
     }
 
+    @Test
+    void verifyConditionalRequest() {
+        val request = getHttpRequestForEndpoint(OidcConstants.JWKS_URL);
+        var response = new MockHttpServletResponse();
+        val result = oidcJwksEndpointController.handleRequestInternal(request, response, null);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        val entityTag = result.getHeaders().getETag();
+        assertNotNull(entityTag);
+        assertNotNull(result.getHeaders().getCacheControl());
+        assertNotNull(result.getBody());
+
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, entityTag);
+        response = new MockHttpServletResponse();
+        val notModified = oidcJwksEndpointController.handleRequestInternal(request, response, null);
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertEquals(entityTag, notModified.getHeaders().getETag());
+        assertNull(notModified.getBody());
+    }
+
+    @Test
+    void verifyUnknownKeyState() {
+        val request = getHttpRequestForEndpoint(OidcConstants.JWKS_URL);
+        val response = new MockHttpServletResponse();
+        val result = oidcJwksEndpointController.handleRequestInternal(request, response, "unknown");
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+    }
+
+    @Test
+    void verifyKeystoreRotationDiscardsRenderedResponses() {
+        val request = getHttpRequestForEndpoint(OidcConstants.JWKS_URL);
+        val result = oidcJwksEndpointController.handleRequestInternal(request, new MockHttpServletResponse(), null);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        val entityTag = result.getHeaders().getETag();
+        assertNotNull(entityTag);
+
+        assertNotNull(oidcJsonWebKeystoreRotationService.rotate());
+
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, entityTag);
+        val rotated = oidcJwksEndpointController.handleRequestInternal(request, new MockHttpServletResponse(), null);
+        assertEquals(HttpStatus.OK, rotated.getStatusCode());
+        assertNotEquals(entityTag, rotated.getHeaders().getETag());
+    }
+
+    @Test
+    void verifyKeystoreModificationDiscardsRenderedResponses() {
+        val controller = spy(new OidcJwksEndpointController(oidcConfigurationContext, oidcJsonWebKeystoreGeneratorService));
+        val request = getHttpRequestForEndpoint(OidcConstants.JWKS_URL);
+        controller.handleRequestInternal(request, new MockHttpServletResponse(), null);
+        controller.handleRequestInternal(request, new MockHttpServletResponse(), null);
+        verify(controller, times(1)).renderJsonWebKeySet(null);
+
+        controller.handleOidcJsonWebKeystoreModifiedEvent(
+            new OidcJsonWebKeystoreModifiedEvent(this, null, ClientInfoHolder.getClientInfo()));
+        val result = controller.handleRequestInternal(request, new MockHttpServletResponse(), null);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        verify(controller, times(2)).renderJsonWebKeySet(null);
+    }
+
     @Test
     void verifyBadEndpointRequest() {
         val request = getHttpRequestForEndpoint("unknown/issuer");
@@ -1,10 +1,13 @@
 package org.apereo.cas.config;
 
+import org.apereo.cas.authentication.AuthenticationEventExecutionPlan;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.pm.LdapPasswordManagementService;
 import org.apereo.cas.pm.PasswordHistoryService;
 import org.apereo.cas.pm.PasswordManagementService;
+import org.apereo.cas.pm.event.DefaultLdapPasswordChangeEventListener;
+import org.apereo.cas.pm.event.LdapPasswordChangeEventListener;
 import org.apereo.cas.pm.impl.NoOpPasswordManagementService;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
@@ -13,6 +16,7 @@ import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import lombok.val;
 import org.ldaptive.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -20,6 +24,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -58,4 +63,14 @@ public class CasLdapPasswordManagementAutoConfiguration {
             .otherwise(() -> new NoOpPasswordManagementService(passwordManagementCipherExecutor, casProperties))
             .get();
     }
+
+    @ConditionalOnMissingBean(name = LdapPasswordChangeEventListener.BEAN_NAME)
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @Lazy(false)
+    public LdapPasswordChangeEventListener ldapPasswordChangeEventListener(
+        @Qualifier(AuthenticationEventExecutionPlan.DEFAULT_BEAN_NAME)
+        final ObjectProvider<AuthenticationEventExecutionPlan> authenticationEventExecutionPlan) {
+        return new DefaultLdapPasswordChangeEventListener(authenticationEventExecutionPlan);
+    }
 }
@@ -0,0 +1,38 @@
+package org.apereo.cas.pm.event;
+
+import org.apereo.cas.authentication.AuthenticationEventExecutionPlan;
+import org.apereo.cas.authentication.LdapAuthenticationHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+import java.util.Objects;
+
+/**
+ * This is {@link DefaultLdapPasswordChangeEventListener}. Removes the cached DN
+ * resolutions of the user whose password has changed from all LDAP authentication handlers,
+ * so that the next authentication attempt resolves the user against the directory.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DefaultLdapPasswordChangeEventListener implements LdapPasswordChangeEventListener {
+    private final ObjectProvider<AuthenticationEventExecutionPlan> authenticationEventExecutionPlan;
+
+    @Override
+    public void handlePasswordChangeSuccessEvent(final PasswordChangeSuccessEvent event) {
+        val username = event.getRequest().getUsername();
+        authenticationEventExecutionPlan.ifAvailable(plan -> plan.getAuthenticationHandlers()
+            .stream()
+            .filter(LdapAuthenticationHandler.class::isInstance)
+            .map(LdapAuthenticationHandler.class::cast)
+            .map(LdapAuthenticationHandler::getDnResolutionCache)
+            .filter(Objects::nonNull)
+            .forEach(cache -> {
+                LOGGER.debug("Invalidating cached DN resolutions for [{}] after password change", username);
+                cache.invalidate(username);
+            }));
+    }
+}
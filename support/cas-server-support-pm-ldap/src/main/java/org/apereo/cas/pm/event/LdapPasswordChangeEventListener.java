@@ -0,0 +1,25 @@
+package org.apereo.cas.pm.event;
+
+import org.apereo.cas.util.spring.CasEventListener;
+import org.springframework.context.event.EventListener;
+
+/**
+ * This is {@link LdapPasswordChangeEventListener}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+public interface LdapPasswordChangeEventListener extends CasEventListener {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "ldapPasswordChangeEventListener";
+
+    /**
+     * Handle password change success event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    void handlePasswordChangeSuccessEvent(PasswordChangeSuccessEvent event);
+}
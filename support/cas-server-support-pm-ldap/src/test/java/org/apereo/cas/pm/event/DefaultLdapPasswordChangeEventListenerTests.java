@@ -0,0 +1,63 @@
+package org.apereo.cas.pm.event;
+
+import org.apereo.cas.authentication.AuthenticationEventExecutionPlan;
+import org.apereo.cas.authentication.AuthenticationHandler;
+import org.apereo.cas.authentication.LdapAuthenticationHandler;
+import org.apereo.cas.authentication.support.LdapDnResolutionCache;
+import org.apereo.cas.pm.PasswordChangeRequest;
+import org.apereo.cas.util.spring.DirectObjectProvider;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultLdapPasswordChangeEventListenerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("Ldap")
+class DefaultLdapPasswordChangeEventListenerTests {
+    private static final String BASE_DN = "ou=people,dc=example,dc=org";
+
+    private static PasswordChangeSuccessEvent buildEvent(final String username) {
+        val request = new PasswordChangeRequest();
+        request.setUsername(username);
+        return new PasswordChangeSuccessEvent(new Object(), ClientInfo.from(new MockHttpServletRequest()), request);
+    }
+
+    @Test
+    void verifyCachedResolutionsAreInvalidated() {
+        val cache = new LdapDnResolutionCache(Duration.ofMinutes(10), Duration.ofMinutes(1), 100, 100);
+        cache.put(BASE_DN, "casuser", "uid=casuser," + BASE_DN);
+        cache.put(BASE_DN, "unknown", null);
+        cache.put(BASE_DN, "someone", "uid=someone," + BASE_DN);
+
+        val ldapHandler = mock(LdapAuthenticationHandler.class);
+        when(ldapHandler.getDnResolutionCache()).thenReturn(cache);
+        val uncachedHandler = mock(LdapAuthenticationHandler.class);
+        val otherHandler = mock(AuthenticationHandler.class);
+        val plan = mock(AuthenticationEventExecutionPlan.class);
+        when(plan.getAuthenticationHandlers()).thenReturn(Set.of(ldapHandler, uncachedHandler, otherHandler));
+
+        val listener = new DefaultLdapPasswordChangeEventListener(new DirectObjectProvider<>(plan));
+        assertDoesNotThrow(() -> listener.handlePasswordChangeSuccessEvent(buildEvent("CASUSER")));
+        assertTrue(cache.find(BASE_DN, "casuser").isEmpty());
+        assertTrue(cache.find(BASE_DN, "unknown").isPresent());
+        assertTrue(cache.find(BASE_DN, "someone").isPresent());
+        verifyNoInteractions(otherHandler);
+    }
+
+    @Test
+    void verifyMissingExecutionPlan() {
+        val listener = new DefaultLdapPasswordChangeEventListener(new DirectObjectProvider<>(null));
+        assertDoesNotThrow(() -> listener.handlePasswordChangeSuccessEvent(buildEvent("casuser")));
+    }
+}
@@ -23,6 +23,8 @@ import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.thread.Cleanable;
 import com.github.benmanes.caffeine.cache.Cache;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Streams;
 import lombok.Data;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -45,14 +47,19 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -154,6 +161,34 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         return count;
     }
 
+    @Override
+    protected long deleteTicketsInBulk(final Set<String> ticketIds) throws Exception {
+        if (messagePublisher.getIfAvailable() != null) {
+            return super.deleteTicketsInBulk(ticketIds);
+        }
+        val ticketGrantingTickets = new LinkedHashSet<String>();
+        val redisKeys = new LinkedHashMap<String, String>();
+        ticketIds.forEach(ticketId -> {
+            val definition = ticketCatalog.find(ticketId);
+            val redisKeyGenerator = definition != null
+                ? redisKeyGeneratorFactory.getRedisKeyGenerator(definition.getPrefix())
+                : Optional.<RedisKeyGenerator>empty();
+            if (redisKeyGenerator.isEmpty() || TicketGrantingTicket.class.isAssignableFrom(definition.getApiClass())) {
+                ticketGrantingTickets.add(ticketId);
+            } else {
+                val redisTicketsKey = redisKeyGenerator.get().forPrefixAndId(definition.getPrefix(), digestIdentifier(ticketId));
+                redisKeys.put(redisTicketsKey, redisKeyGenerator.get().rawKey(redisTicketsKey));
+            }
+        });
+        var count = ticketGrantingTickets.isEmpty() ? 0L : super.deleteTicketsInBulk(ticketGrantingTickets);
+        if (!redisKeys.isEmpty()) {
+            LOGGER.debug("Deleting [{}] ticket(s) in bulk", redisKeys.size());
+            count += Objects.requireNonNullElse(casRedisTemplates.getTicketsRedisTemplate().delete(redisKeys.keySet()), 0L);
+            ticketCache.ifAvailable(cache -> cache.invalidateAll(redisKeys.values()));
+        }
+        return count;
+    }
+
     @Override
     public List<? extends Ticket> addTicket(final Stream<? extends Ticket> toSave) {
         return (List) casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback) connection -> {
@@ -175,6 +210,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         FunctionUtils.doIfNotNull(ticket, __ -> {
             LOGGER.debug("Updating ticket [{}]", ticket);
             addOrUpdateTicket(ticket);
+            scheduleExpiration(ticket);
             messagePublisher.ifAvailable(p -> p.update(ticket));
         });
         return ticket;
@@ -199,32 +235,10 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     @Override
     public Stream<? extends Ticket> stream(final TicketRegistryStreamCriteria criteria) {
-        return fetchKeysForTickets()
+        val redisKeys = fetchKeysForTickets()
             .skip(criteria.getFrom())
-            .limit(criteria.getCount())
-            .map(redisKey -> {
-                val compositeKey = RedisKeyGenerator.parse(redisKey);
-                val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(compositeKey.getPrefix()).orElseThrow();
-                val keyspace = redisKeyGenerator.getKeyspace();
-                val entryId = redisKeyGenerator.rawKey(redisKey);
-                val document = redisKeyValueAdapter.get(entryId, keyspace, RedisTicketDocument.class);
-                if (document == null) {
-                    casRedisTemplates.getTicketsRedisTemplate().delete(redisKey);
-                    return null;
-                }
-                return document;
-            })
-            .filter(Objects::nonNull)
-            .map(document -> deserializeTicket(document.json(), document.type()))
-            .map(this::decodeTicket)
-            .filter(Objects::nonNull)
-            .peek(ticket -> {
-                if (!ticket.isExpired()) {
-                    val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(ticket.getPrefix()).orElseThrow();
-                    val redisTicketsKey = redisKeyGenerator.forPrefixAndId(ticket.getPrefix(), digestIdentifier(ticket.getId()));
-                    ticketCache.ifAvailable(cache -> cache.put(redisKeyGenerator.rawKey(redisTicketsKey), ticket));
-                }
-            });
+            .limit(criteria.getCount());
+        return getTicketsFromRedis(redisKeys, true);
     }
 
     @Override
@@ -234,18 +248,12 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                 val userId = digestIdentifier(principalId);
                 val redisPrincipalKey = generator.forId(userId);
                 val members = casRedisTemplates.getSessionsRedisTemplate().boundZSetOps(redisPrincipalKey).range(0, Long.MAX_VALUE);
-
-                return Objects.requireNonNull(members)
-                    .parallelStream()
-                    .filter(Objects::nonNull)
-                    .map(ticketId -> {
-                        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(TicketGrantingTicket.PREFIX).orElseThrow();
-                        val redisTicketsKey = redisKeyGenerator.forPrefixAndId(redisKeyGenerator.getPrefix(), ticketId);
-                        return getTicketFromRedis(ticket -> !ticket.isExpired(), redisTicketsKey, redisKeyGenerator);
-                    })
-                    .map(this::decodeTicket)
+                val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(TicketGrantingTicket.PREFIX).orElseThrow();
+                val redisKeys = Objects.requireNonNull(members)
+                    .stream()
                     .filter(Objects::nonNull)
-                    .filter(ticket -> !ticket.isExpired());
+                    .map(ticketId -> redisKeyGenerator.forPrefixAndId(redisKeyGenerator.getPrefix(), ticketId));
+                return getTicketsFromRedis(redisKeys).filter(ticket -> !ticket.isExpired());
             })
             .orElseGet(Stream::empty);
     }
@@ -342,35 +350,11 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
         if (queryCriteria.isDecode()) {
             try (val scanResults = casRedisTemplates.getTicketsRedisTemplate().scan(redisTicketsKey, queryCriteria.getCount())) {
-                return scanResults
-                    .parallel()
-                    .map(key -> {
-                        val ticket = ticketCache.stream().parallel()
-                            .map(cache -> cache.getIfPresent(redisKeyGenerator.rawKey(key)))
-                            .filter(Objects::nonNull);
-                        return ticket.findFirst().orElseGet(() -> {
-                            val keyspace = redisKeyGenerator.getKeyspace();
-                            val entryId = redisKeyGenerator.rawKey(key);
-                            val redisDocument = redisKeyValueAdapter.get(entryId, keyspace, RedisTicketDocument.class);
-                            return Stream.ofNullable(redisDocument)
-                                .parallel()
-                                .filter(Objects::nonNull)
-                                .map(document -> deserializeTicket(document.json(), document.type()))
-                                .filter(Objects::nonNull)
-                                .findFirst()
-                                .orElse(null);
-                        });
-                    })
-                    .filter(Objects::nonNull)
-                    .map(this::decodeTicket)
+                return getTicketsFromRedis(scanResults)
                     .filter(ticket -> StringUtils.isBlank(queryCriteria.getPrincipal())
                         || (ticket instanceof final AuthenticationAwareTicket aat
                         && StringUtils.equalsIgnoreCase(queryCriteria.getPrincipal(), aat.getAuthentication().getPrincipal().getId())))
                     .filter(ticket -> !ticket.isExpired())
-                    .peek(ticket -> {
-                        val cacheKey = redisKeyGenerator.forPrefixAndId(ticket.getPrefix(), digestIdentifier(ticket.getId()));
-                        ticketCache.ifAvailable(c -> c.put(redisKeyGenerator.rawKey(cacheKey), ticket));
-                    })
                     .collect(Collectors.toList());
             }
         }
@@ -392,7 +376,119 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     private Stream<String> fetchKeysForTickets(final String key) {
         LOGGER.debug("Loading keys for pattern [{}]", key);
-        return Objects.requireNonNull(casRedisTemplates.getTicketsRedisTemplate().keys(key)).parallelStream();
+        val redis = casProperties.getTicket().getRegistry().getRedis();
+        val options = ScanOptions.scanOptions()
+            .match(key)
+            .count(redis.getScanCount() > 0 ? redis.getScanCount() : getReadBatchSize())
+            .build();
+        try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
+            return result.stream().distinct().toList().stream();
+        }
+    }
+
+    /**
+     * Load tickets for the given redis keys. Keys are grouped into batches,
+     * and documents for each batch that are not found in the cache are fetched
+     * in a single pipelined round trip and then deserialized in parallel.
+     *
+     * @param redisKeys the redis keys
+     * @return the tickets
+     */
+    protected Stream<Ticket> getTicketsFromRedis(final Stream<String> redisKeys) {
+        return getTicketsFromRedis(redisKeys, false);
+    }
+
+    /**
+     * Load tickets for the given redis keys, and optionally remove keys
+     * for which no ticket document can be found.
+     *
+     * @param redisKeys     the redis keys
+     * @param deleteOrphans whether keys without a ticket document should be removed
+     * @return the tickets
+     */
+    protected Stream<Ticket> getTicketsFromRedis(final Stream<String> redisKeys, final boolean deleteOrphans) {
+        return Streams.stream(Iterators.partition(redisKeys.iterator(), getReadBatchSize()))
+            .flatMap(batch -> getTicketsFromRedis(batch, deleteOrphans).stream());
+    }
+
+    private List<Ticket> getTicketsFromRedis(final List<String> redisKeys, final boolean deleteOrphans) {
+        val tickets = new ArrayList<Ticket>(redisKeys.size());
+        val keysToFetch = new ArrayList<String>(redisKeys.size());
+        redisKeys.forEach(redisKey -> {
+            val rawTicketId = getRedisKeyGenerator(redisKey).rawKey(redisKey);
+            ticketCache.stream()
+                .map(cache -> cache.getIfPresent(rawTicketId))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .map(this::decodeTicket)
+                .ifPresentOrElse(tickets::add, () -> keysToFetch.add(redisKey));
+        });
+        if (!keysToFetch.isEmpty()) {
+            val documents = fetchTicketDocuments(keysToFetch);
+            LOGGER.trace("Fetched [{}] ticket document(s) in a single round trip", keysToFetch.size());
+            val orphanKeys = ConcurrentHashMap.<String>newKeySet();
+            IntStream.range(0, keysToFetch.size())
+                .parallel()
+                .mapToObj(index -> {
+                    val redisKey = keysToFetch.get(index);
+                    val redisKeyGenerator = getRedisKeyGenerator(redisKey);
+                    val document = toTicketDocument(redisKeyGenerator, redisKey, (Map<byte[], byte[]>) documents.get(index));
+                    if (document == null) {
+                        orphanKeys.add(redisKey);
+                        return null;
+                    }
+                    val ticket = decodeTicket(deserializeTicket(document.json(), document.type()));
+                    if (ticket != null && !ticket.isExpired()) {
+                        ticketCache.ifAvailable(cache -> cache.put(redisKeyGenerator.rawKey(redisKey), ticket));
+                    }
+                    return ticket;
+                })
+                .filter(Objects::nonNull)
+                .forEachOrdered(tickets::add);
+            if (deleteOrphans && !orphanKeys.isEmpty()) {
+                LOGGER.debug("Removing [{}] key(s) with no ticket document", orphanKeys.size());
+                casRedisTemplates.getTicketsRedisTemplate().delete(orphanKeys);
+            }
+        }
+        return tickets;
+    }
+
+    /**
+     * Fetch ticket documents as raw hashes in a single pipelined round trip.
+     * The pipeline runs on the connection directly so that results are not passed
+     * through the hash serializers of the template, which cannot read the UTF-8 fields
+     * written by the key-value adapter.
+     *
+     * @param redisKeys the redis keys
+     * @return the raw hashes, in the order of the given keys
+     */
+    private List<Object> fetchTicketDocuments(final List<String> redisKeys) {
+        return casRedisTemplates.getTicketsRedisTemplate().execute((RedisCallback<List<Object>>) connection -> {
+            connection.openPipeline();
+            redisKeys.forEach(redisKey -> connection.hashCommands().hGetAll(redisKey.getBytes(StandardCharsets.UTF_8)));
+            return connection.closePipeline();
+        });
+    }
+
+    private RedisTicketDocument toTicketDocument(final RedisKeyGenerator redisKeyGenerator,
+                                                 final String redisKey, final Map<byte[], byte[]> hash) {
+        if (hash == null || hash.isEmpty()) {
+            LOGGER.trace("No ticket document could be found for [{}]", redisKey);
+            return null;
+        }
+        val redisDataItem = new RedisData(hash);
+        redisDataItem.setKeyspace(redisKeyGenerator.getKeyspace());
+        redisDataItem.setId(redisKeyGenerator.rawKey(redisKey));
+        return redisKeyValueAdapter.getConverter().read(RedisTicketDocument.class, redisDataItem);
+    }
+
+    private RedisKeyGenerator getRedisKeyGenerator(final String redisKey) {
+        val compositeKey = RedisKeyGenerator.parse(redisKey);
+        return redisKeyGeneratorFactory.getRedisKeyGenerator(compositeKey.getPrefix()).orElseThrow();
+    }
+
+    private int getReadBatchSize() {
+        return Math.max(1, casProperties.getTicket().getRegistry().getRedis().getReadBatchSize());
     }
 
     protected RedisTicketDocument buildTicketAsDocument(final Ticket ticket) {
@@ -163,6 +163,84 @@ class RedisServerTicketRegistryTests {
 
     }
 
+    @Nested
+    @TestPropertySource(properties = {
+        "cas.ticket.registry.redis.queue-identifier=cas-node-100",
+        "cas.ticket.registry.redis.host=localhost",
+        "cas.ticket.registry.redis.port=6379",
+        "cas.ticket.registry.redis.read-batch-size=3",
+        "cas.ticket.registry.redis.enable-redis-search=false",
+        "cas.ticket.registry.redis.crypto.encryption.key=AZ5y4I9qzKPYUVNL2Td4RMbpg6Z-ldui8VEFg8hsj1M",
+        "cas.ticket.registry.redis.crypto.signing.key=cAPyoHMrOMWrwydOXzBA-ufZQM-TilnLjbRgMQWlUlwFmy07bOtAgCIdNBma3c5P4ae_JV6n1OpOAYqSh2NkmQ"
+    })
+    class BatchReadTests extends BaseRedisSentinelTicketRegistryTests {
+        @RepeatedTest(2)
+        void verifyTicketsReadInBatches() throws Throwable {
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            val ticketGrantingTickets = Stream.generate(() -> {
+                    val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
+                        .getNewTicketId(TicketGrantingTicket.PREFIX);
+                    return new TicketGrantingTicketImpl(tgtId, authentication, NeverExpiresExpirationPolicy.INSTANCE);
+                })
+                .limit(10)
+                .toList();
+            getNewTicketRegistry().addTicket(ticketGrantingTickets.stream());
+            ((Cleanable) getNewTicketRegistry()).clean();
+
+            val sessions = getNewTicketRegistry().getSessionsFor(authentication.getPrincipal().getId()).toList();
+            assertEquals(ticketGrantingTickets.size(), sessions.size());
+            assertTrue(sessions.stream().allMatch(TicketGrantingTicket.class::isInstance));
+
+            val ticketIds = getNewTicketRegistry().getTickets().stream().map(Ticket::getId).toList();
+            ticketGrantingTickets.forEach(ticket -> assertTrue(ticketIds.contains(ticket.getId())));
+
+            val criteria = new TicketRegistryQueryCriteria()
+                .setCount(7L)
+                .setDecode(Boolean.TRUE)
+                .setType(TicketGrantingTicket.PREFIX);
+            assertEquals(criteria.getCount(), getNewTicketRegistry().query(criteria).size());
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = {
+        "cas.ticket.registry.redis.queue-identifier=cas-node-101",
+        "cas.ticket.registry.redis.host=localhost",
+        "cas.ticket.registry.redis.port=6379",
+        "cas.ticket.registry.redis.read-batch-size=4",
+        "cas.ticket.registry.redis.cache.cache-size=0",
+        "cas.ticket.registry.redis.enable-redis-search=false",
+        "cas.ticket.registry.redis.crypto.encryption.key=AZ5y4I9qzKPYUVNL2Td4RMbpg6Z-ldui8VEFg8hsj1M",
+        "cas.ticket.registry.redis.crypto.signing.key=cAPyoHMrOMWrwydOXzBA-ufZQM-TilnLjbRgMQWlUlwFmy07bOtAgCIdNBma3c5P4ae_JV6n1OpOAYqSh2NkmQ"
+    })
+    class PipelinedReadTests extends BaseRedisSentinelTicketRegistryTests {
+        @RepeatedTest(2)
+        void verifyTicketsDecodedFromPipelinedReads() throws Throwable {
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            val ticketGrantingTickets = Stream.generate(() -> {
+                    val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
+                        .getNewTicketId(TicketGrantingTicket.PREFIX);
+                    return new TicketGrantingTicketImpl(tgtId, authentication, NeverExpiresExpirationPolicy.INSTANCE);
+                })
+                .limit(9)
+                .toList();
+            getNewTicketRegistry().addTicket(ticketGrantingTickets.stream());
+
+            val expectedIds = ticketGrantingTickets.stream().map(Ticket::getId).toList();
+            val sessions = getNewTicketRegistry().getSessionsFor(authentication.getPrincipal().getId()).toList();
+            assertEquals(expectedIds.size(), sessions.size());
+            sessions.forEach(session -> {
+                assertInstanceOf(TicketGrantingTicket.class, session);
+                assertTrue(expectedIds.contains(session.getId()));
+                assertEquals(authentication.getPrincipal().getId(),
+                    ((TicketGrantingTicket) session).getAuthentication().getPrincipal().getId());
+            });
+
+            val streamedIds = getNewTicketRegistry().stream().map(Ticket::getId).toList();
+            assertTrue(streamedIds.containsAll(expectedIds));
+        }
+    }
+
     @Nested
     @TestPropertySource(properties = {
         "cas.ticket.registry.redis.protocol-version=RESP2",
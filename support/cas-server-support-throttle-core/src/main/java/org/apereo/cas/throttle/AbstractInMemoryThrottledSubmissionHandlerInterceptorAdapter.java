@@ -49,9 +49,11 @@ public abstract class AbstractInMemoryThrottledSubmissionHandlerInterceptorAdapt
             .clientIpAddress(ClientInfoHolder.getClientInfo().getClientIpAddress())
             .build();
         LOGGER.info("Recording submission failure entry [{}]", submission);
-        getConfigurationContext().getThrottledSubmissionStore().put(submission);
+        val throttled = getConfigurationContext().getThrottledSubmissionStore().recordAndCheck(submission, getThresholdRate());
         throttledSubmissionReceivers.forEach(Unchecked.consumer(receiver -> receiver.receive(submission)));
         LOGGER.info("Recorded submission failure [{}] for [{}]", submission, key);
+        throttled.ifPresent(entry -> LOGGER.warn("Submission failures for [{}] now exceed the failure threshold; "
+            + "subsequent submissions will be throttled", key));
     }
 
     @Override
@@ -59,19 +61,10 @@ public abstract class AbstractInMemoryThrottledSubmissionHandlerInterceptorAdapt
         val key = constructKey(request);
         LOGGER.trace("Throttling threshold key is [{}] with calculated threshold [{}]", key, getThresholdRate());
         val store = getConfigurationContext().getThrottledSubmissionStore();
-
-        if (store.contains(key)) {
-            val submission = store.get(key);
-            LOGGER.trace("Found existing throttled submission [{}] for key [{}]", submission, key);
-            if (!submission.hasExpiredAlready()) {
-                LOGGER.warn("Throttled submission [{}] remains throttled; submission expires at [{}]", key, submission.getExpiration());
-                request.setAttribute(ThrottledSubmission.class.getSimpleName(), submission);
-                return true;
-            }
-        }
-        if (store.exceedsThreshold(key, getThresholdRate())) {
-            val submission = store.get(key);
-            request.setAttribute(ThrottledSubmission.class.getSimpleName(), submission);
+        val submission = store.findThrottledSubmission(key, getThresholdRate());
+        if (submission.isPresent()) {
+            LOGGER.warn("Throttled submission [{}] remains throttled; submission expires at [{}]", key, submission.get().getExpiration());
+            request.setAttribute(ThrottledSubmission.class.getSimpleName(), submission.get());
             return true;
         }
         return false;
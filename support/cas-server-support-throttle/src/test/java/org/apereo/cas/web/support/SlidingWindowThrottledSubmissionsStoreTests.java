@@ -0,0 +1,177 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.test.CasTestExtension;
+import org.apereo.cas.throttle.SlidingWindowThrottledSubmissionsStore;
+import lombok.val;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link SlidingWindowThrottledSubmissionsStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("AuthenticationThrottling")
+class SlidingWindowThrottledSubmissionsStoreTests {
+
+    private static CasConfigurationProperties getCasProperties(final int threshold, final int rangeSeconds) {
+        val casProperties = new CasConfigurationProperties();
+        casProperties.getAuthn().getThrottle().getFailure().setThreshold(threshold).setRangeSeconds(rangeSeconds);
+        return casProperties;
+    }
+
+    private static ThrottledSubmission submission(final String key) {
+        return ThrottledSubmission.builder().id(UUID.randomUUID().toString()).key(key).build();
+    }
+
+    @Nested
+    class DefaultTests {
+        private final AtomicLong now = new AtomicLong(Instant.now().toEpochMilli());
+
+        private final SlidingWindowThrottledSubmissionsStore store;
+
+        DefaultTests() {
+            val clock = mock(Clock.class);
+            when(clock.millis()).thenAnswer(invocation -> now.get());
+            store = new SlidingWindowThrottledSubmissionsStore(getCasProperties(3, 10), clock);
+        }
+
+        @Test
+        void verifyThresholdWithinRange() {
+            val key = UUID.randomUUID().toString();
+            store.record(submission(key));
+            now.addAndGet(1000);
+            store.record(submission(key));
+            assertFalse(store.exceedsThreshold(key, 0));
+            assertTrue(store.findThrottledSubmission(key, 0).isEmpty());
+            now.addAndGet(1000);
+            store.record(submission(key));
+            assertTrue(store.exceedsThreshold(key, 0));
+            assertTrue(store.findThrottledSubmission(key, 0).isPresent());
+
+            now.addAndGet(TimeUnit.SECONDS.toMillis(9));
+            assertFalse(store.exceedsThreshold(key, 0));
+            assertTrue(store.contains(key));
+        }
+
+        @Test
+        void verifyIdleExpiration() {
+            val key = UUID.randomUUID().toString();
+            store.record(submission(key));
+            assertEquals(1, store.entries().count());
+            now.addAndGet(TimeUnit.SECONDS.toMillis(11));
+            assertNull(store.get(key));
+            assertFalse(store.contains(key));
+            assertEquals(0, store.entries().count());
+            store.release(0);
+            store.record(submission(key));
+            assertTrue(store.contains(key));
+        }
+
+        @Test
+        void verifyRecordAndCheck() {
+            val key = UUID.randomUUID().toString();
+            assertTrue(store.recordAndCheck(submission(key), 0).isEmpty());
+            assertTrue(store.recordAndCheck(submission(key), 0).isEmpty());
+            val third = submission(key);
+            assertEquals(third, store.recordAndCheck(third, 0).orElseThrow());
+            assertTrue(store.exceedsThreshold(key, 0));
+            now.addAndGet(TimeUnit.SECONDS.toMillis(11));
+            assertTrue(store.recordAndCheck(submission(key), 0).isEmpty());
+        }
+
+        @Test
+        void verifyExpirationWindow() {
+            val key = UUID.randomUUID().toString();
+            store.record(submission(key));
+            val submission = store.get(key);
+            submission.setExpiration(ZonedDateTime.ofInstant(Instant.ofEpochMilli(now.get()), ZoneOffset.UTC).plusSeconds(30));
+            store.put(submission);
+            now.addAndGet(TimeUnit.SECONDS.toMillis(20));
+            store.release(0);
+            assertTrue(store.findThrottledSubmission(key, 0).isPresent());
+            assertFalse(store.exceedsThreshold(key, 0));
+            now.addAndGet(TimeUnit.SECONDS.toMillis(20));
+            store.release(0);
+            assertEquals(0, store.entries().count());
+        }
+
+        @Test
+        void verifyOperation() {
+            val key = UUID.randomUUID().toString();
+            store.put(ThrottledSubmission.builder().key(key)
+                .value(ZonedDateTime.ofInstant(Instant.ofEpochMilli(now.get()), ZoneOffset.UTC)).build());
+            assertNotNull(store.get(key));
+            assertEquals(1, store.entries().count());
+            store.removeIf(entry -> entry.getKey().equals(key));
+            assertEquals(0, store.entries().count());
+            store.record(submission(key));
+            store.remove(key);
+            assertFalse(store.contains(key));
+            store.record(submission(key));
+            store.clear();
+            assertEquals(0, store.entries().count());
+        }
+    }
+
+    @Nested
+    class LoadTests {
+        @Test
+        void verifyConcurrentFailures() throws Throwable {
+            val store = new SlidingWindowThrottledSubmissionsStore(getCasProperties(5, 60));
+            val keys = 10_000;
+            val failures = 50_000;
+            try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                IntStream.range(0, failures).forEach(i -> executor.execute(() -> {
+                    val key = "192.168.1." + (i % keys) + ";casuser";
+                    if (store.findThrottledSubmission(key, 0).isEmpty()) {
+                        store.recordAndCheck(submission(key), 0);
+                    }
+                }));
+            }
+            assertEquals(keys, store.entries().count());
+            IntStream.range(0, keys).forEach(i -> assertTrue(store.exceedsThreshold("192.168.1." + i + ";casuser", 0)));
+        }
+    }
+
+    @Nested
+    @ExtendWith(CasTestExtension.class)
+    @SpringBootTest(classes = BaseThrottledSubmissionHandlerInterceptorAdapterTests.SharedTestConfiguration.class,
+        properties = {
+            "cas.authn.throttle.core.store-type=SLIDING_WINDOW",
+            "cas.authn.throttle.failure.range-seconds=5",
+            "cas.authn.throttle.failure.threshold=2"
+        })
+    class ConfigurationTests {
+        @Autowired
+        @Qualifier(ThrottledSubmissionsStore.BEAN_NAME)
+        private ThrottledSubmissionsStore<ThrottledSubmission> throttleSubmissionStore;
+
+        @Test
+        void verifyOperation() {
+            val key = UUID.randomUUID().toString();
+            throttleSubmissionStore.record(submission(key));
+            assertFalse(throttleSubmissionStore.exceedsThreshold(key, 0));
+            throttleSubmissionStore.record(submission(key));
+            assertTrue(throttleSubmissionStore.exceedsThreshold(key, 0));
+        }
+    }
+}
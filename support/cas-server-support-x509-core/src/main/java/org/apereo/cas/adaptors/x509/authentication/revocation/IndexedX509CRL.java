@@ -0,0 +1,368 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation;
+
+import lombok.Getter;
+import lombok.val;
+
+import javax.security.auth.x500.X500Principal;
+import java.math.BigInteger;
+import java.security.Principal;
+import java.security.PublicKey;
+import java.security.cert.CRLException;
+import java.security.cert.CRLReason;
+import java.security.cert.Certificate;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * This is {@link IndexedX509CRL}. A compact, read-only view of a CRL that retains the
+ * CRL header along with the serial numbers, revocation dates and reasons of revoked
+ * certificates, sorted by serial number so that revocation status can be looked up
+ * with a binary search. The encoded form of the CRL is not retained, and so this view
+ * cannot be encoded or verified; signature verification, if any, must take place
+ * on the original CRL before it is indexed.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+public class IndexedX509CRL extends X509CRL {
+    private static final Comparator<byte[]> SERIAL_NUMBER_COMPARATOR = IndexedX509CRL::compareSerialNumbers;
+
+    private static final byte NO_REASON = -1;
+
+    @Getter
+    private final X500Principal issuerX500Principal;
+
+    @Getter
+    private final int version;
+
+    @Getter
+    private final Date thisUpdate;
+
+    @Getter
+    private final Date nextUpdate;
+
+    @Getter
+    private final String sigAlgName;
+
+    @Getter
+    private final String sigAlgOID;
+
+    @Getter
+    private final byte[] sigAlgParams;
+
+    @Getter
+    private final byte[] signature;
+
+    @Getter
+    private final Instant indexedAt;
+
+    private final byte[][] serialNumbers;
+
+    private final long[] revocationDates;
+
+    private final byte[] revocationReasons;
+
+    /**
+     * Issuers of entries, in case of indirect CRLs; null if all entries belong to the CRL issuer.
+     */
+    private final X500Principal[] certificateIssuers;
+
+    private IndexedX509CRL(final X509CRL crl, final byte[][] serialNumbers, final long[] revocationDates,
+                           final byte[] revocationReasons, final X500Principal[] certificateIssuers) {
+        this.issuerX500Principal = crl.getIssuerX500Principal();
+        this.version = crl.getVersion();
+        this.thisUpdate = crl.getThisUpdate();
+        this.nextUpdate = crl.getNextUpdate();
+        this.sigAlgName = crl.getSigAlgName();
+        this.sigAlgOID = crl.getSigAlgOID();
+        this.sigAlgParams = crl.getSigAlgParams();
+        this.signature = crl.getSignature();
+        this.indexedAt = Instant.now();
+        this.serialNumbers = serialNumbers;
+        this.revocationDates = revocationDates;
+        this.revocationReasons = revocationReasons;
+        this.certificateIssuers = certificateIssuers;
+    }
+
+    /**
+     * Build an index from the given CRL.
+     *
+     * @param crl the crl
+     * @return the indexed crl
+     */
+    public static IndexedX509CRL of(final X509CRL crl) {
+        if (crl instanceof final IndexedX509CRL indexed) {
+            return indexed;
+        }
+        val revoked = Objects.requireNonNullElseGet(crl.getRevokedCertificates(), Set::<X509CRLEntry>of);
+        val entries = new ArrayList<IndexedEntry>(revoked.size());
+        var indirect = false;
+        for (val entry : revoked) {
+            val issuer = Objects.requireNonNullElse(entry.getCertificateIssuer(), crl.getIssuerX500Principal());
+            indirect |= !issuer.equals(crl.getIssuerX500Principal());
+            val reason = entry.getRevocationReason();
+            entries.add(new IndexedEntry(entry.getSerialNumber().toByteArray(), entry.getRevocationDate().getTime(),
+                reason == null ? NO_REASON : (byte) reason.ordinal(), issuer));
+        }
+        entries.sort(Comparator.comparing(IndexedEntry::serialNumber, SERIAL_NUMBER_COMPARATOR));
+
+        val size = entries.size();
+        val serialNumbers = new byte[size][];
+        val revocationDates = new long[size];
+        val revocationReasons = new byte[size];
+        val certificateIssuers = indirect ? new X500Principal[size] : null;
+        for (var i = 0; i < size; i++) {
+            val entry = entries.get(i);
+            serialNumbers[i] = entry.serialNumber();
+            revocationDates[i] = entry.revocationDate();
+            revocationReasons[i] = entry.reason();
+            if (certificateIssuers != null) {
+                certificateIssuers[i] = entry.issuer();
+            }
+        }
+        return new IndexedX509CRL(crl, serialNumbers, revocationDates, revocationReasons, certificateIssuers);
+    }
+
+    /**
+     * Gets the number of revoked certificates in this CRL.
+     *
+     * @return the count
+     */
+    public int getRevokedCertificateCount() {
+        return serialNumbers.length;
+    }
+
+    @Override
+    public X509CRLEntry getRevokedCertificate(final BigInteger serialNumber) {
+        return findEntry(serialNumber, issuerX500Principal);
+    }
+
+    @Override
+    public X509CRLEntry getRevokedCertificate(final X509Certificate certificate) {
+        return findEntry(certificate.getSerialNumber(), certificate.getIssuerX500Principal());
+    }
+
+    @Override
+    public boolean isRevoked(final Certificate certificate) {
+        return certificate instanceof final X509Certificate x509 && getRevokedCertificate(x509) != null;
+    }
+
+    @Override
+    public Set<? extends X509CRLEntry> getRevokedCertificates() {
+        if (serialNumbers.length == 0) {
+            return null;
+        }
+        val entries = new HashSet<X509CRLEntry>(serialNumbers.length);
+        IntStream.range(0, serialNumbers.length).mapToObj(this::toEntry).forEach(entries::add);
+        return entries;
+    }
+
+    @Override
+    public Principal getIssuerDN() {
+        return issuerX500Principal;
+    }
+
+    @Override
+    public byte[] getEncoded() throws CRLException {
+        throw new CRLException("Encoded form of the CRL is not retained by the index");
+    }
+
+    @Override
+    public byte[] getTBSCertList() throws CRLException {
+        throw new CRLException("Encoded form of the CRL is not retained by the index");
+    }
+
+    @Override
+    public void verify(final PublicKey key) throws CRLException {
+        throw new CRLException("CRL index cannot be verified; verify the CRL before it is indexed");
+    }
+
+    @Override
+    public void verify(final PublicKey key, final String sigProvider) throws CRLException {
+        verify(key);
+    }
+
+    @Override
+    public boolean hasUnsupportedCriticalExtension() {
+        return false;
+    }
+
+    @Override
+    public Set<String> getCriticalExtensionOIDs() {
+        return null;
+    }
+
+    @Override
+    public Set<String> getNonCriticalExtensionOIDs() {
+        return null;
+    }
+
+    @Override
+    public byte[] getExtensionValue(final String oid) {
+        return null;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedX509CRL[issuer=%s, thisUpdate=%s, nextUpdate=%s, revoked=%s]"
+            .formatted(issuerX500Principal, thisUpdate, nextUpdate, serialNumbers.length);
+    }
+
+    private X509CRLEntry findEntry(final BigInteger serialNumber, final X500Principal issuer) {
+        val key = serialNumber.toByteArray();
+        var index = Arrays.binarySearch(serialNumbers, key, SERIAL_NUMBER_COMPARATOR);
+        if (index < 0) {
+            return null;
+        }
+        if (certificateIssuers == null) {
+            return issuerX500Principal.equals(issuer) ? toEntry(index) : null;
+        }
+        while (index > 0 && SERIAL_NUMBER_COMPARATOR.compare(serialNumbers[index - 1], key) == 0) {
+            index--;
+        }
+        for (; index < serialNumbers.length && SERIAL_NUMBER_COMPARATOR.compare(serialNumbers[index], key) == 0; index++) {
+            if (certificateIssuers[index].equals(issuer)) {
+                return toEntry(index);
+            }
+        }
+        return null;
+    }
+
+    private X509CRLEntry toEntry(final int index) {
+        val reason = revocationReasons[index] == NO_REASON ? null : CRLReason.values()[revocationReasons[index]];
+        val issuer = certificateIssuers == null ? null : certificateIssuers[index];
+        return new IndexedX509CRLEntry(new BigInteger(serialNumbers[index]),
+            new Date(revocationDates[index]), reason, issuer);
+    }
+
+    /**
+     * Compare serial numbers in their minimal two's-complement encoding,
+     * without converting them back to numbers.
+     *
+     * @param first  the first
+     * @param second the second
+     * @return the comparison result
+     */
+    private static int compareSerialNumbers(final byte[] first, final byte[] second) {
+        val firstNegative = first[0] < 0;
+        val secondNegative = second[0] < 0;
+        if (firstNegative != secondNegative) {
+            return firstNegative ? -1 : 1;
+        }
+        if (first.length != second.length) {
+            return firstNegative
+                ? Integer.compare(second.length, first.length)
+                : Integer.compare(first.length, second.length);
+        }
+        return Arrays.compareUnsigned(first, second);
+    }
+
+    private record IndexedEntry(byte[] serialNumber, long revocationDate, byte reason, X500Principal issuer) {
+    }
+
+    private static final class IndexedX509CRLEntry extends X509CRLEntry {
+        private final BigInteger serialNumber;
+
+        private final Date revocationDate;
+
+        private final CRLReason revocationReason;
+
+        private final X500Principal certificateIssuer;
+
+        IndexedX509CRLEntry(final BigInteger serialNumber, final Date revocationDate,
+                            final CRLReason revocationReason, final X500Principal certificateIssuer) {
+            this.serialNumber = serialNumber;
+            this.revocationDate = revocationDate;
+            this.revocationReason = revocationReason;
+            this.certificateIssuer = certificateIssuer;
+        }
+
+        @Override
+        public byte[] getEncoded() throws CRLException {
+            throw new CRLException("Encoded form of the CRL entry is not retained by the index");
+        }
+
+        @Override
+        public BigInteger getSerialNumber() {
+            return serialNumber;
+        }
+
+        @Override
+        public X500Principal getCertificateIssuer() {
+            return certificateIssuer;
+        }
+
+        @Override
+        public Date getRevocationDate() {
+            return new Date(revocationDate.getTime());
+        }
+
+        @Override
+        public CRLReason getRevocationReason() {
+            return revocationReason;
+        }
+
+        @Override
+        public boolean hasExtensions() {
+            return false;
+        }
+
+        @Override
+        public boolean hasUnsupportedCriticalExtension() {
+            return false;
+        }
+
+        @Override
+        public Set<String> getCriticalExtensionOIDs() {
+            return null;
+        }
+
+        @Override
+        public Set<String> getNonCriticalExtensionOIDs() {
+            return null;
+        }
+
+        @Override
+        public byte[] getExtensionValue(final String oid) {
+            return null;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof final IndexedX509CRLEntry entry
+                && serialNumber.equals(entry.serialNumber)
+                && Objects.equals(certificateIssuer, entry.certificateIssuer);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serialNumber, certificateIssuer);
+        }
+
+        @Override
+        public String toString() {
+            return "IndexedX509CRLEntry[serialNumber=%s, revocationDate=%s, reason=%s]"
+                .formatted(serialNumber, revocationDate, revocationReason);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.apereo.cas.adaptors.x509.authentication.revocation.checker;
 
 import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.revocation.IndexedX509CRL;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationPolicy;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
@@ -9,6 +10,7 @@ import org.apereo.cas.util.crypto.CertUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.bouncycastle.asn1.ASN1IA5String;
@@ -16,7 +18,7 @@ import org.bouncycastle.asn1.ASN1Sequence;
 import org.bouncycastle.asn1.x509.DistributionPoint;
 import org.bouncycastle.asn1.x509.GeneralName;
 import org.cryptacular.x509.ExtensionReader;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -25,10 +27,18 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.IntStream;
 
 /**
@@ -38,27 +48,48 @@ import java.util.stream.IntStream;
  * expects the name to define an absolute URL, which is the most common
  * implementation.  This implementation caches CRL resources fetched from remote
  * URLs to improve performance by avoiding CRL fetching on every revocation
- * check.
+ * check. CRLs are cached as {@link IndexedX509CRL} indexes of revoked serial numbers,
+ * and are fetched again in the background as they approach their cache expiration or
+ * their next update, while the current index continues to serve revocation checks.
+ * Refreshes run on a dedicated executor; when a refresh fails, or returns a CRL that
+ * has not been reissued yet, further attempts back off exponentially.
  *
  * @author Marvin S. Addison
  * @since 3.4.6
  */
 @Slf4j
-public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocationChecker {
+public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocationChecker implements DisposableBean {
+    private static final double REFRESH_AHEAD_RATIO = 0.75;
 
-    private final Cache<URI, byte[]> crlCache;
+    private static final Duration MINIMUM_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private static final Duration MAXIMUM_REFRESH_INTERVAL = Duration.ofHours(1);
+
+    /**
+     * Executor responsible for refreshing CRL data in the background.
+     */
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(Thread.ofVirtual().factory());
+
+    private final Cache<URI, X509CRL> crlCache;
+
+    private final Set<URI> refreshingCrls = ConcurrentHashMap.newKeySet();
+
+    private final Map<URI, RefreshBackoff> refreshBackoffs = new ConcurrentHashMap<>();
 
     private final CRLFetcher fetcher;
 
     private final boolean throwOnFetchFailure;
 
-    public CRLDistributionPointRevocationChecker(final Cache<URI, byte[]> crlCache,
+    @Setter
+    private Clock clock = Clock.systemUTC();
+
+    public CRLDistributionPointRevocationChecker(final Cache<URI, X509CRL> crlCache,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
                                                  final RevocationPolicy<Void> unavailableCRLPolicy) {
         this(crlCache, expiredCRLPolicy, unavailableCRLPolicy, false);
     }
 
-    public CRLDistributionPointRevocationChecker(final Cache<URI, byte[]> crlCache,
+    public CRLDistributionPointRevocationChecker(final Cache<URI, X509CRL> crlCache,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
                                                  final RevocationPolicy<Void> unavailableCRLPolicy,
                                                  final boolean throwOnFetchFailure) {
@@ -67,7 +98,7 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
     public CRLDistributionPointRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
-                                                 final Cache<URI, byte[]> crlCache,
+                                                 final Cache<URI, X509CRL> crlCache,
                                                  final CRLFetcher fetcher, final boolean throwOnFetchFailure) {
         super(checkAll, unavailableCRLPolicy, expiredCRLPolicy);
         this.crlCache = crlCache;
@@ -143,16 +174,13 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
         for (var index = 0; !stopFetching && index < urls.length; index++) {
             val url = urls[index];
-            val item = this.crlCache.asMap().get(url);
+            val item = this.crlCache.getIfPresent(url);
 
             if (item != null) {
                 LOGGER.debug("Found CRL in cache for [{}]", CertUtils.toString(cert));
-                val crlFetched = FunctionUtils.doUnchecked(() -> this.fetcher.fetch(new ByteArrayResource(item)));
-
-                if (crlFetched != null) {
-                    listOfLocations.add(crlFetched);
-                } else {
-                    LOGGER.warn("Could fetch X509 CRL for [{}]. Returned value is null", url);
+                listOfLocations.add(item);
+                if (item instanceof final IndexedX509CRL indexed && isRefreshDue(url, indexed)) {
+                    refreshInBackground(url);
                 }
             } else {
                 LOGGER.debug("CRL for [{}] is not cached. Fetching and caching...", CertUtils.toString(cert));
@@ -192,8 +220,98 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
                 return false;
             }
 
-            this.crlCache.put(uri, crl.getEncoded());
+            this.crlCache.put(uri, IndexedX509CRL.of(crl));
             return this.crlCache.asMap().containsKey(uri);
         });
     }
+
+    private boolean isRefreshDue(final URI uri, final IndexedX509CRL crl) {
+        val now = Instant.now(clock);
+        val age = Duration.between(crl.getIndexedAt(), now);
+        if (age.compareTo(MINIMUM_REFRESH_INTERVAL) < 0 || !isExpiring(uri, crl, age, now)) {
+            return false;
+        }
+        val backoff = refreshBackoffs.get(uri);
+        if (backoff != null && backoff.thisUpdate() == getThisUpdate(crl) && now.isBefore(backoff.notBefore())) {
+            LOGGER.trace("Refreshing CRL for [{}] is backing off until [{}]", uri, backoff.notBefore());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isExpiring(final URI uri, final IndexedX509CRL crl, final Duration age, final Instant now) {
+        val expiringInCache = crlCache.policy().expireAfterWrite()
+            .map(expiration -> age.toMillis() >= expiration.getExpiresAfter().toMillis() * REFRESH_AHEAD_RATIO)
+            .orElse(Boolean.FALSE);
+        if (expiringInCache) {
+            LOGGER.debug("Cached CRL for [{}] is approaching its cache expiration", uri);
+            return true;
+        }
+        if (crl.getNextUpdate() != null && crl.getThisUpdate() != null) {
+            val validity = crl.getNextUpdate().getTime() - crl.getThisUpdate().getTime();
+            val refreshAt = crl.getThisUpdate().getTime() + (long) (validity * REFRESH_AHEAD_RATIO);
+            return now.toEpochMilli() >= refreshAt;
+        }
+        return false;
+    }
+
+    private void recordRefresh(final URI uri, final X509CRL previous, final X509CRL refreshed) {
+        val unchanged = previous != null && previous.getThisUpdate() != null && refreshed.getThisUpdate() != null
+            && previous.getThisUpdate().equals(refreshed.getThisUpdate());
+        if (unchanged) {
+            LOGGER.debug("CRL for [{}] has not been reissued", uri);
+            backOff(uri, refreshed);
+        } else {
+            refreshBackoffs.remove(uri);
+        }
+    }
+
+    private void backOff(final URI uri, final X509CRL crl) {
+        val thisUpdate = getThisUpdate(crl);
+        val backoff = refreshBackoffs.compute(uri, (key, current) -> {
+            val interval = current == null || current.thisUpdate() != thisUpdate
+                ? MINIMUM_REFRESH_INTERVAL.multipliedBy(2)
+                : current.interval().multipliedBy(2);
+            val bounded = interval.compareTo(MAXIMUM_REFRESH_INTERVAL) > 0 ? MAXIMUM_REFRESH_INTERVAL : interval;
+            return new RefreshBackoff(thisUpdate, bounded, Instant.now(clock).plus(bounded));
+        });
+        LOGGER.debug("Backing off refreshing CRL for [{}] until [{}]", uri, backoff.notBefore());
+    }
+
+    private static long getThisUpdate(final X509CRL crl) {
+        return crl != null && crl.getThisUpdate() != null ? crl.getThisUpdate().getTime() : 0;
+    }
+
+    private void refreshInBackground(final URI uri) {
+        if (refreshingCrls.add(uri)) {
+            LOGGER.debug("Refreshing CRL for [{}] in the background", uri);
+            refreshExecutor.execute(() -> {
+                val cached = crlCache.getIfPresent(uri);
+                try {
+                    val crl = this.fetcher.fetch(uri);
+                    if (crl != null) {
+                        recordRefresh(uri, cached, crl);
+                        addCRLbyURI(uri, crl);
+                    } else {
+                        LOGGER.warn("No CRL could be fetched to refresh [{}]; continuing to use the cached CRL", uri);
+                        backOff(uri, cached);
+                    }
+                } catch (final Exception e) {
+                    LOGGER.warn("Unable to refresh CRL for [{}]; continuing to use the cached CRL", uri);
+                    LoggingUtils.warn(LOGGER, e);
+                    backOff(uri, cached);
+                } finally {
+                    refreshingCrls.remove(uri);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private record RefreshBackoff(long thisUpdate, Duration interval, Instant notBefore) {
+    }
 }
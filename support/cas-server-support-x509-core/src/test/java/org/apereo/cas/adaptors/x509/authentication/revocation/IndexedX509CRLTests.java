@@ -0,0 +1,53 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation;
+
+import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
+import org.apereo.cas.util.crypto.CertUtils;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import java.math.BigInteger;
+import java.security.cert.CRLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link IndexedX509CRLTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("X509")
+class IndexedX509CRLTests {
+    @Test
+    void verifyIndexMatchesCRL() throws Throwable {
+        val crl = new ResourceCRLFetcher().fetch(new ClassPathResource("userCA-valid.crl"));
+        val indexed = IndexedX509CRL.of(crl);
+        assertSame(indexed, IndexedX509CRL.of(indexed));
+        assertEquals(crl.getIssuerX500Principal(), indexed.getIssuerX500Principal());
+        assertEquals(crl.getNextUpdate(), indexed.getNextUpdate());
+        assertEquals(crl.getThisUpdate(), indexed.getThisUpdate());
+        assertEquals(crl.getRevokedCertificates().size(), indexed.getRevokedCertificateCount());
+        assertEquals(crl.getRevokedCertificates().size(), indexed.getRevokedCertificates().size());
+
+        for (val name : new String[]{"user-revoked.crt", "user-valid.crt"}) {
+            val cert = CertUtils.readCertificate(new ClassPathResource(name));
+            val expected = crl.getRevokedCertificate(cert);
+            val actual = indexed.getRevokedCertificate(cert);
+            if (expected == null) {
+                assertNull(actual);
+                assertFalse(indexed.isRevoked(cert));
+            } else {
+                assertNotNull(actual);
+                assertTrue(indexed.isRevoked(cert));
+                assertEquals(expected.getSerialNumber(), actual.getSerialNumber());
+                assertEquals(expected.getRevocationDate(), actual.getRevocationDate());
+                assertEquals(expected.getRevocationReason(), actual.getRevocationReason());
+            }
+        }
+        assertNull(indexed.getRevokedCertificate(BigInteger.valueOf(Long.MAX_VALUE)));
+        assertNull(indexed.getRevokedCertificate(BigInteger.valueOf(-1)));
+        assertThrows(CRLException.class, indexed::getEncoded);
+        assertNotNull(indexed.toString());
+    }
+}
@@ -0,0 +1,121 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation.checker;
+
+import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.ThresholdExpiredCRLRevocationPolicy;
+import org.apereo.cas.util.crypto.CertUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import java.net.URI;
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CRLDistributionPointRevocationCheckerRefreshTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.3.0
+ */
+@Tag("X509")
+class CRLDistributionPointRevocationCheckerRefreshTests {
+    private static final URI CRL_URI = URI.create("http://localhost:8085/ca.crl");
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.now());
+
+    private final Cache<URI, X509CRL> cache = Caffeine.newBuilder()
+        .maximumSize(10)
+        .expireAfterWrite(Duration.ofHours(1))
+        .build();
+
+    private final CRLFetcher fetcher = mock(CRLFetcher.class);
+
+    private final X509Certificate certificate = CertUtils.readCertificate(new ClassPathResource("user-valid-distcrl.crt"));
+
+    private final CRLDistributionPointRevocationChecker checker = new CRLDistributionPointRevocationChecker(false, null,
+        new ThresholdExpiredCRLRevocationPolicy(0), cache, fetcher, false);
+
+    CRLDistributionPointRevocationCheckerRefreshTests() {
+        val clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        checker.setClock(clock);
+    }
+
+    private static X509CRL readCRL(final String name) throws Exception {
+        return new ResourceCRLFetcher().fetch(new ClassPathResource(name));
+    }
+
+    @AfterEach
+    void afterEach() {
+        checker.destroy();
+    }
+
+    @Test
+    void verifyRefreshAheadOfCacheExpiration() throws Throwable {
+        val reissued = readCRL("userCA-valid.crl");
+        when(fetcher.fetch(CRL_URI)).thenReturn(readCRL("userCA-expired.crl"), reissued);
+        assertEquals(1, checker.getCRLs(certificate).size());
+        checker.getCRLs(certificate);
+        verify(fetcher, after(200).times(1)).fetch(CRL_URI);
+
+        now.set(now.get().plus(Duration.ofMinutes(50)));
+        checker.getCRLs(certificate);
+        verify(fetcher, timeout(5000).times(2)).fetch(CRL_URI);
+        waitForRefresh(reissued);
+        assertEquals(reissued.getThisUpdate(), cache.getIfPresent(CRL_URI).getThisUpdate());
+    }
+
+    @Test
+    void verifyBackoffWhenRefreshFails() throws Throwable {
+        when(fetcher.fetch(CRL_URI)).thenReturn(readCRL("userCA-valid.crl")).thenThrow(new IllegalStateException("unavailable"));
+        checker.getCRLs(certificate);
+        now.set(now.get().plus(Duration.ofMinutes(50)));
+        checker.getCRLs(certificate);
+        verify(fetcher, timeout(5000).times(2)).fetch(CRL_URI);
+
+        assertEquals(1, checker.getCRLs(certificate).size());
+        verify(fetcher, after(200).times(2)).fetch(CRL_URI);
+
+        now.set(now.get().plus(Duration.ofMinutes(3)));
+        checker.getCRLs(certificate);
+        verify(fetcher, timeout(5000).times(3)).fetch(CRL_URI);
+    }
+
+    @Test
+    void verifyBackoffUntilReissued() throws Throwable {
+        val current = readCRL("userCA-expired.crl");
+        val reissued = readCRL("userCA-valid.crl");
+        when(fetcher.fetch(CRL_URI)).thenReturn(current, current, reissued);
+        checker.getCRLs(certificate);
+        now.set(now.get().plus(Duration.ofMinutes(50)));
+        checker.getCRLs(certificate);
+        verify(fetcher, timeout(5000).times(2)).fetch(CRL_URI);
+
+        checker.getCRLs(certificate);
+        verify(fetcher, after(200).times(2)).fetch(CRL_URI);
+        assertEquals(current.getThisUpdate(), cache.getIfPresent(CRL_URI).getThisUpdate());
+
+        now.set(now.get().plus(Duration.ofMinutes(3)));
+        checker.getCRLs(certificate);
+        verify(fetcher, timeout(5000).times(3)).fetch(CRL_URI);
+        waitForRefresh(reissued);
+        assertEquals(reissued.getThisUpdate(), cache.getIfPresent(CRL_URI).getThisUpdate());
+    }
+
+    private void waitForRefresh(final X509CRL expected) throws Exception {
+        val deadline = System.currentTimeMillis() + 5000;
+        while (!expected.getThisUpdate().equals(cache.getIfPresent(CRL_URI).getThisUpdate()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}